@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.connection.jdbc.config;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.naming.Named;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The connection configuration of a data source: the read replicas opening the read-only connections
+ * and the lazy acquisition of the connections.
+ *
+ * @since 4.12
+ */
+@EachProperty(value = DataSourceConnectionConfiguration.PREFIX, primary = "default")
+public class DataSourceConnectionConfiguration implements Named {
+
+    /**
+     * The prefix to use.
+     */
+    public static final String PREFIX = "datasources";
+
+    private final String name;
+    private List<String> readReplicas = new ArrayList<>(3);
+    private ReplicaSelection readReplicaSelection = ReplicaSelection.ROUND_ROBIN;
+    @Nullable
+    private Duration readYourWritesWindow;
+    private boolean lazyConnection = false;
+
+    /**
+     * The configuration.
+     * @param name The name of the data source
+     */
+    public DataSourceConnectionConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The names of the replica data sources
+     */
+    @NonNull
+    public List<String> getReadReplicas() {
+        return readReplicas;
+    }
+
+    /**
+     * Sets the names of the data sources reading the replicas of this data source.
+     * @param readReplicas The names of the replica data sources
+     */
+    public void setReadReplicas(@Nullable List<String> readReplicas) {
+        if (readReplicas != null) {
+            this.readReplicas = readReplicas;
+        }
+    }
+
+    /**
+     * @return The strategy selecting the replica of a read-only connection
+     */
+    @NonNull
+    public ReplicaSelection getReadReplicaSelection() {
+        return readReplicaSelection;
+    }
+
+    /**
+     * Sets the strategy selecting the replica of a read-only connection. Default value ({@link ReplicaSelection#ROUND_ROBIN}).
+     * @param readReplicaSelection The replica selection
+     */
+    public void setReadReplicaSelection(@Nullable ReplicaSelection readReplicaSelection) {
+        if (readReplicaSelection != null) {
+            this.readReplicaSelection = readReplicaSelection;
+        }
+    }
+
+    /**
+     * @return The duration the read-only connections stay on the data source after a read-write connection
+     */
+    @Nullable
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    /**
+     * Sets the duration the read-only connections of a thread stay on the data source after the thread closed a read-write connection,
+     * the reads following a write are not exposed to the replication lag. Not set by default.
+     * @param readYourWritesWindow The read-your-writes window
+     */
+    public void setReadYourWritesWindow(@Nullable Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    /**
+     * @return Whether the connections are acquired from the data source by the first statement
+     */
+    public boolean isLazyConnection() {
+        return lazyConnection;
+    }
+
+    /**
+     * Sets whether the connections and the transactions are opened without acquiring a connection from the data source.
+     * The connection is acquired by the first statement, the auto-commit, read-only and isolation settings
+     * are applied to the acquired connection and a transaction without a statement is completed without a connection.
+     * Default value ({@code false}).
+     * @param lazyConnection Whether the connections are acquired lazily
+     */
+    public void setLazyConnection(boolean lazyConnection) {
+        this.lazyConnection = lazyConnection;
+    }
+
+    /**
+     * The strategy selecting the replica of a read-only connection.
+     */
+    public enum ReplicaSelection {
+        /**
+         * The replicas are selected in turns.
+         */
+        ROUND_ROBIN,
+        /**
+         * The replica with the least open connections is selected.
+         */
+        LEAST_IN_FLIGHT
+    }
+}
@@ -15,9 +15,13 @@
  */
 package io.micronaut.data.connection.jdbc.operations;
 
+import io.micronaut.context.BeanLocator;
 import io.micronaut.context.annotation.EachBean;
+import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.connection.exceptions.ConnectionException;
+import io.micronaut.data.connection.jdbc.config.DataSourceConnectionConfiguration;
 import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource;
 import io.micronaut.data.connection.jdbc.exceptions.CannotGetJdbcConnectionException;
 import io.micronaut.data.connection.ConnectionDefinition;
@@ -25,17 +29,24 @@ import io.micronaut.data.connection.ConnectionStatus;
 import io.micronaut.data.connection.ConnectionSynchronization;
 import io.micronaut.data.connection.support.AbstractConnectionOperations;
 import io.micronaut.data.connection.support.JdbcConnectionUtils;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The {@link DataSource} connection operations.
+ * The read-only connections are opened by the read replicas of {@link DataSourceConnectionConfiguration} if configured,
+ * the lazy connections acquire the connection from the data source by the first statement.
  *
  * @author Denis Stepanov
  * @since 4.0.0
@@ -46,13 +57,42 @@ public final class DefaultDataSourceConnectionOperations extends AbstractConnect
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultDataSourceConnectionOperations.class);
     private final DataSource dataSource;
+    @Nullable
+    private final DataSourceConnectionConfiguration readReplicaConfiguration;
+    private final BeanLocator beanLocator;
+    private final long readYourWritesWindowNanos;
+    private final boolean lazyConnection;
+    private final ThreadLocal<Long> lastWrite = new ThreadLocal<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Map<Connection, Replica> replicaConnections = new ConcurrentHashMap<>(10);
+    private volatile List<Replica> replicas;
 
-    DefaultDataSourceConnectionOperations(DataSource dataSource) {
+    DefaultDataSourceConnectionOperations(DataSource dataSource,
+                                          @Parameter @Nullable DataSourceConnectionConfiguration configuration,
+                                          BeanLocator beanLocator) {
         this.dataSource = DelegatingDataSource.unwrapDataSource(dataSource);
+        this.readReplicaConfiguration = configuration == null || configuration.getReadReplicas().isEmpty() ? null : configuration;
+        this.lazyConnection = configuration != null && configuration.isLazyConnection();
+        this.beanLocator = beanLocator;
+        Duration readYourWritesWindow = this.readReplicaConfiguration == null ? null : this.readReplicaConfiguration.getReadYourWritesWindow();
+        this.readYourWritesWindowNanos = readYourWritesWindow == null ? 0 : readYourWritesWindow.toNanos();
     }
 
     @Override
     protected Connection openConnection(ConnectionDefinition definition) {
+        if (!lazyConnection) {
+            return openTargetConnection(definition);
+        }
+        return new LazyConnection(() -> openTargetConnection(definition));
+    }
+
+    private Connection openTargetConnection(ConnectionDefinition definition) {
+        if (readReplicaConfiguration != null && definition.isReadOnly().orElse(false) && !isReadYourWritesWindow()) {
+            Connection connection = openReplicaConnection();
+            if (connection != null) {
+                return connection;
+            }
+        }
         try {
             return dataSource.getConnection();
         } catch (SQLException e) {
@@ -60,6 +100,67 @@ public final class DefaultDataSourceConnectionOperations extends AbstractConnect
         }
     }
 
+    @Nullable
+    private Connection openReplicaConnection() {
+        Replica replica = selectReplica();
+        replica.inFlight.incrementAndGet();
+        try {
+            Connection connection = replica.dataSource.getConnection();
+            replicaConnections.put(connection, replica);
+            return connection;
+        } catch (SQLException e) {
+            replica.inFlight.decrementAndGet();
+            LOG.warn("Failed to obtain JDBC Connection from the read replica [{}], using the primary data source", replica.name, e);
+            return null;
+        }
+    }
+
+    private Replica selectReplica() {
+        List<Replica> replicas = getReplicas();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        Replica selected = replicas.get(start);
+        if (readReplicaConfiguration.getReadReplicaSelection() == DataSourceConnectionConfiguration.ReplicaSelection.LEAST_IN_FLIGHT) {
+            // Starting at the next replica in turn spreads the connections between the replicas with the same number of connections
+            for (int i = 1; i < replicas.size(); i++) {
+                Replica replica = replicas.get((start + i) % replicas.size());
+                if (replica.inFlight.get() < selected.inFlight.get()) {
+                    selected = replica;
+                }
+            }
+        }
+        return selected;
+    }
+
+    private List<Replica> getReplicas() {
+        List<Replica> replicas = this.replicas;
+        if (replicas == null) {
+            // The replica data sources are resolved lazily to not depend on the initialization order of the data sources
+            List<Replica> newReplicas = new ArrayList<>(readReplicaConfiguration.getReadReplicas().size());
+            for (String name : readReplicaConfiguration.getReadReplicas()) {
+                DataSource replicaDataSource = beanLocator.getBean(DataSource.class, Qualifiers.byName(name));
+                newReplicas.add(new Replica(name, DelegatingDataSource.unwrapDataSource(replicaDataSource), new AtomicInteger()));
+            }
+            replicas = List.copyOf(newReplicas);
+            this.replicas = replicas;
+        }
+        return replicas;
+    }
+
+    private boolean isReadYourWritesWindow() {
+        if (readYourWritesWindowNanos == 0) {
+            return false;
+        }
+        Long writtenAt = lastWrite.get();
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < readYourWritesWindowNanos) {
+            return true;
+        }
+        lastWrite.remove();
+        return false;
+    }
+
     @Override
     protected void setupConnection(ConnectionStatus<Connection> connectionStatus) {
         connectionStatus.getDefinition().isReadOnly().ifPresent(readOnly -> {
@@ -80,11 +181,23 @@ public final class DefaultDataSourceConnectionOperations extends AbstractConnect
 
     @Override
     protected void closeConnection(ConnectionStatus<Connection> connectionStatus) {
+        Connection connection = connectionStatus.getConnection();
+        Connection targetConnection = connection instanceof LazyConnection lazy ? lazy.getTargetConnection() : connection;
+        Replica replica = targetConnection == null || replicaConnections.isEmpty() ? null : replicaConnections.remove(targetConnection);
         try {
-            connectionStatus.getConnection().close();
+            connection.close();
         } catch (SQLException e) {
             throw new ConnectionException("Failed to close the connection: " + e.getMessage(), e);
+        } finally {
+            if (replica != null) {
+                replica.inFlight.decrementAndGet();
+            } else if (readYourWritesWindowNanos != 0 && targetConnection != null && !connectionStatus.getDefinition().isReadOnly().orElse(false)) {
+                lastWrite.set(System.nanoTime());
+            }
         }
     }
 
+    private record Replica(String name, DataSource dataSource, AtomicInteger inFlight) {
+    }
+
 }
@@ -0,0 +1,416 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.connection.jdbc.operations;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * The connection acquiring the target connection by the first statement.
+ * The auto-commit, read-only and isolation settings set before the target connection is acquired are recorded
+ * and only those are applied to the acquired connection, the other settings keep the defaults of the pool.
+ * The commit and the rollback of a connection without a statement do nothing.
+ *
+ * @since 4.12
+ */
+@Internal
+final class LazyConnection implements Connection {
+
+    private final Supplier<Connection> connectionOpener;
+    @Nullable
+    private Boolean autoCommit;
+    @Nullable
+    private Boolean readOnly;
+    @Nullable
+    private Integer transactionIsolation;
+    @Nullable
+    private Connection target;
+    private boolean closed;
+
+    /**
+     * @param connectionOpener The opener of the target connection
+     */
+    LazyConnection(Supplier<Connection> connectionOpener) {
+        this.connectionOpener = connectionOpener;
+    }
+
+    /**
+     * @return The target connection or null if not acquired
+     */
+    @Nullable
+    Connection getTargetConnection() {
+        return target;
+    }
+
+    private Connection target() throws SQLException {
+        if (target == null) {
+            if (closed) {
+                throw new SQLException("The connection is closed");
+            }
+            Connection connection = connectionOpener.get();
+            // The connection is closed by the close method even if the settings fail
+            target = connection;
+            if (readOnly != null && connection.isReadOnly() != readOnly) {
+                connection.setReadOnly(readOnly);
+            }
+            if (transactionIsolation != null && connection.getTransactionIsolation() != transactionIsolation) {
+                connection.setTransactionIsolation(transactionIsolation);
+            }
+            if (autoCommit != null && connection.getAutoCommit() != autoCommit) {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+        return target;
+    }
+
+    @Override
+    public void setAutoCommit(boolean autoCommit) throws SQLException {
+        if (target == null) {
+            this.autoCommit = autoCommit;
+        } else {
+            target.setAutoCommit(autoCommit);
+        }
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        if (target == null) {
+            // A new JDBC connection is in the auto-commit mode
+            return autoCommit == null || autoCommit;
+        }
+        return target.getAutoCommit();
+    }
+
+    @Override
+    public void setReadOnly(boolean readOnly) throws SQLException {
+        if (target == null) {
+            this.readOnly = readOnly;
+        } else {
+            target.setReadOnly(readOnly);
+        }
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        if (target == null) {
+            return readOnly != null && readOnly;
+        }
+        return target.isReadOnly();
+    }
+
+    @Override
+    public void setTransactionIsolation(int level) throws SQLException {
+        if (target == null) {
+            this.transactionIsolation = level;
+        } else {
+            target.setTransactionIsolation(level);
+        }
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        if (target == null && transactionIsolation != null) {
+            return transactionIsolation;
+        }
+        // The default isolation depends on the database, only read by a transaction defining the isolation
+        return target().getTransactionIsolation();
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        if (target != null) {
+            target.commit();
+        }
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        if (target != null) {
+            target.rollback();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        closed = true;
+        if (target != null) {
+            target.close();
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return target == null ? closed : target.isClosed();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return target == null ? null : target.getWarnings();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        if (target != null) {
+            target.clearWarnings();
+        }
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        return target().createStatement();
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        return target().prepareStatement(sql);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql) throws SQLException {
+        return target().prepareCall(sql);
+    }
+
+    @Override
+    public String nativeSQL(String sql) throws SQLException {
+        return target().nativeSQL(sql);
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        return target().getMetaData();
+    }
+
+    @Override
+    public void setCatalog(String catalog) throws SQLException {
+        target().setCatalog(catalog);
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        return target().getCatalog();
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+        return target().createStatement(resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return target().prepareStatement(sql, resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return target().prepareCall(sql, resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        return target().getTypeMap();
+    }
+
+    @Override
+    public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+        target().setTypeMap(map);
+    }
+
+    @Override
+    public void setHoldability(int holdability) throws SQLException {
+        target().setHoldability(holdability);
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return target().getHoldability();
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        return target().setSavepoint();
+    }
+
+    @Override
+    public Savepoint setSavepoint(String name) throws SQLException {
+        return target().setSavepoint(name);
+    }
+
+    @Override
+    public void rollback(Savepoint savepoint) throws SQLException {
+        target().rollback(savepoint);
+    }
+
+    @Override
+    public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+        target().releaseSavepoint(savepoint);
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return target().createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return target().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return target().prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        return target().prepareStatement(sql, autoGeneratedKeys);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+        return target().prepareStatement(sql, columnIndexes);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+        return target().prepareStatement(sql, columnNames);
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+        return target().createClob();
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+        return target().createBlob();
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+        return target().createNClob();
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        return target().createSQLXML();
+    }
+
+    @Override
+    public boolean isValid(int timeout) throws SQLException {
+        return target == null ? !closed : target.isValid(timeout);
+    }
+
+    @Override
+    public void setClientInfo(String name, String value) throws SQLClientInfoException {
+        clientInfoTarget().setClientInfo(name, value);
+    }
+
+    @Override
+    public void setClientInfo(Properties properties) throws SQLClientInfoException {
+        clientInfoTarget().setClientInfo(properties);
+    }
+
+    private Connection clientInfoTarget() throws SQLClientInfoException {
+        try {
+            return target();
+        } catch (SQLClientInfoException e) {
+            throw e;
+        } catch (SQLException e) {
+            throw new SQLClientInfoException(e.getMessage(), Map.of(), e);
+        }
+    }
+
+    @Override
+    public String getClientInfo(String name) throws SQLException {
+        return target().getClientInfo(name);
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        return target().getClientInfo();
+    }
+
+    @Override
+    public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+        return target().createArrayOf(typeName, elements);
+    }
+
+    @Override
+    public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+        return target().createStruct(typeName, attributes);
+    }
+
+    @Override
+    public void setSchema(String schema) throws SQLException {
+        target().setSchema(schema);
+    }
+
+    @Override
+    public String getSchema() throws SQLException {
+        return target().getSchema();
+    }
+
+    @Override
+    public void abort(Executor executor) throws SQLException {
+        closed = true;
+        if (target != null) {
+            target.abort(executor);
+        }
+    }
+
+    @Override
+    public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+        target().setNetworkTimeout(executor, milliseconds);
+    }
+
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+        return target().getNetworkTimeout();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return target().unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || target().isWrapperFor(iface);
+    }
+}
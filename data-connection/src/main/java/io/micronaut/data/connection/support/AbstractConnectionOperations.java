@@ -93,6 +93,23 @@ public abstract class AbstractConnectionOperations<C> implements ConnectionOpera
             .map(ConnectionPropagatedContextElement::status);
     }
 
+    /**
+     * Removes the connections of all the connection operations from the propagated context.
+     * The operations executed in the returned context open new connections.
+     *
+     * @param propagatedContext The propagated context
+     * @return The propagated context without the connections
+     * @since 4.12
+     */
+    @NonNull
+    public static PropagatedContext withoutConnections(@NonNull PropagatedContext propagatedContext) {
+        List<ConnectionPropagatedContextElement> elements = propagatedContext.findAll(ConnectionPropagatedContextElement.class).toList();
+        for (ConnectionPropagatedContextElement<?> element : elements) {
+            propagatedContext = propagatedContext.minus(element);
+        }
+        return propagatedContext;
+    }
+
     private Optional<ConnectionPropagatedContextElement<C>> findContextElement() {
         return PropagatedContext.getOrEmpty()
             .findAll(ConnectionPropagatedContextElement.class)
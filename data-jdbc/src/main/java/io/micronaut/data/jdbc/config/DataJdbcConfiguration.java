@@ -40,8 +40,25 @@ public class DataJdbcConfiguration implements Named, Toggleable {
      */
     public static final String PREFIX = "datasources";
 
+    /**
+     * The name of the {@link io.micronaut.data.annotation.QueryHint} that overrides the batch size for a method.
+     * @since 4.12
+     */
+    public static final String BATCH_SIZE_HINT = "micronaut.data.jdbc.batch-size";
+
     private SchemaGenerate schemaGenerate = SchemaGenerate.NONE;
     private boolean batchGenerate = false;
+    private int batchSize = 0;
+    private boolean bindPagination = false;
+    private boolean bindInListAsArray = false;
+    private boolean padInList = false;
+    private long deferredJoinOffset = 0;
+    private int inListChunkSize = 0;
+    private int dirtyTrackingMaxSnapshots = 0;
+    private boolean virtualThreads = false;
+    private int maxConcurrentOperations = 0;
+    private boolean multiRowInsert = false;
+    private boolean transactionIdentityMap = false;
     private Dialect dialect = Dialect.ANSI;
     private List<String> packages = new ArrayList<>(3);
     private final String name;
@@ -95,6 +112,225 @@ public class DataJdbcConfiguration implements Named, Toggleable {
         this.batchGenerate = batchGenerate;
     }
 
+    /**
+     * @return The maximum number of rows sent in a single JDBC batch, {@code 0} or less means unbounded.
+     * @since 4.12
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the maximum number of rows sent in a single JDBC batch. Batch operations
+     * ({@code saveAll}, {@code updateAll}, {@code deleteAll}) are flushed every {@code batchSize} rows.
+     * A value of {@code 0} or less (default) sends all the rows in one batch.
+     *
+     * @param batchSize The batch size
+     * @since 4.12
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return Whether the limit and the offset of a pageable are bound as query parameters.
+     * @since 4.12
+     */
+    public boolean isBindPagination() {
+        return bindPagination;
+    }
+
+    /**
+     * Sets whether the limit and the offset of a pageable are bound as query parameters instead of being
+     * rendered as literals. Every page of a repository method then uses the same SQL, which can be reused
+     * by the driver and server statement caches.
+     *
+     * @param bindPagination Whether to bind the pagination
+     * @since 4.12
+     */
+    public void setBindPagination(boolean bindPagination) {
+        this.bindPagination = bindPagination;
+    }
+
+    /**
+     * @return Whether an IN list parameter is bound as a single array parameter.
+     * @since 4.12
+     */
+    public boolean isBindInListAsArray() {
+        return bindInListAsArray;
+    }
+
+    /**
+     * Sets whether an IN list parameter is bound as a single array parameter. When enabled, and the dialect
+     * supports it (Postgres and H2), {@code col IN (?, ?, ...)} is rendered as {@code col = ANY (?)} so that
+     * the SQL is the same regardless of the number of values.
+     *
+     * @param bindInListAsArray Whether to bind the IN list as an array
+     * @since 4.12
+     */
+    public void setBindInListAsArray(boolean bindInListAsArray) {
+        this.bindInListAsArray = bindInListAsArray;
+    }
+
+    /**
+     * @return Whether the size of an expanded IN list is padded to the next power of two.
+     * @since 4.12
+     */
+    public boolean isPadInList() {
+        return padInList;
+    }
+
+    /**
+     * Sets whether the size of an expanded IN list is padded to the next power of two by repeating the last value.
+     * This limits the number of different statements produced by the different sizes of the list.
+     *
+     * @param padInList Whether to pad the IN list
+     * @since 4.12
+     */
+    public void setPadInList(boolean padInList) {
+        this.padInList = padInList;
+    }
+
+    /**
+     * @return The minimal offset of the pages selected by a deferred join, {@code 0} or less disables the deferred join.
+     * @since 4.12
+     */
+    public long getDeferredJoinOffset() {
+        return deferredJoinOffset;
+    }
+
+    /**
+     * Sets the minimal offset of the pages selected by a deferred join. The identities of such page are selected first
+     * with the order and the pagination, the rows of the page are then joined back by the identity. The database skips
+     * the offset rows by reading the identities only. A value of {@code 0} or less (default) disables the deferred join.
+     *
+     * @param deferredJoinOffset The minimal offset
+     * @since 4.12
+     */
+    public void setDeferredJoinOffset(long deferredJoinOffset) {
+        this.deferredJoinOffset = deferredJoinOffset;
+    }
+
+    /**
+     * @return The maximum size of an IN list executed by a single statement, {@code 0} or less uses the limits of the dialect only.
+     * @since 4.12
+     */
+    public int getInListChunkSize() {
+        return inListChunkSize;
+    }
+
+    /**
+     * Sets the maximum size of an IN list executed by a single statement. The queries with a larger IN list filtering the root entity
+     * are executed by a statement per chunk of the list and the results are merged. The IN lists exceeding the bind parameter limit
+     * of the dialect are always split. A value of {@code 0} or less (default) uses the limits of the dialect only.
+     *
+     * @param inListChunkSize The maximum size of an IN list
+     * @since 4.12
+     */
+    public void setInListChunkSize(int inListChunkSize) {
+        this.inListChunkSize = inListChunkSize;
+    }
+
+    /**
+     * @return The maximum number of the entity snapshots kept for the dirty tracking, {@code 0} or less disables the dirty tracking.
+     * @since 4.12
+     */
+    public int getDirtyTrackingMaxSnapshots() {
+        return dirtyTrackingMaxSnapshots;
+    }
+
+    /**
+     * Enables the dirty tracking of the entities read by the repository operations. The snapshots of the read entities are kept
+     * up to the given number, the least recently used snapshots are evicted. An entity updated by {@code updateChanged} updates
+     * only the columns changed since its snapshot, the entities without a snapshot update all the columns.
+     * A value of {@code 0} or less (default) disables the dirty tracking.
+     *
+     * @param dirtyTrackingMaxSnapshots The maximum number of the entity snapshots
+     * @since 4.12
+     */
+    public void setDirtyTrackingMaxSnapshots(int dirtyTrackingMaxSnapshots) {
+        this.dirtyTrackingMaxSnapshots = dirtyTrackingMaxSnapshots;
+    }
+
+    /**
+     * @return Whether the asynchronous and reactive operations are executed on virtual threads.
+     * @since 4.12
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets whether the asynchronous and reactive operations are executed on virtual threads instead of the IO executor.
+     * Requires Java 21 or above, the IO executor is used otherwise.
+     *
+     * @param virtualThreads Whether to use virtual threads
+     * @since 4.12
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * @return The maximum number of the asynchronous and reactive operations running at the same time, {@code 0} or less means unbounded.
+     * @since 4.12
+     */
+    public int getMaxConcurrentOperations() {
+        return maxConcurrentOperations;
+    }
+
+    /**
+     * Sets the maximum number of the asynchronous and reactive operations running at the same time.
+     * The additional operations wait for a running operation to complete, it should be aligned with
+     * the maximum size of the connection pool. A value of {@code 0} or less (default) doesn't limit the operations.
+     *
+     * @param maxConcurrentOperations The maximum number of the concurrent operations
+     * @since 4.12
+     */
+    public void setMaxConcurrentOperations(int maxConcurrentOperations) {
+        this.maxConcurrentOperations = maxConcurrentOperations;
+    }
+
+    /**
+     * @return Whether the batch inserts are executed as multi-row {@code INSERT ... VALUES} statements.
+     * @since 4.12
+     */
+    public boolean isMultiRowInsert() {
+        return multiRowInsert;
+    }
+
+    /**
+     * Sets whether the batch inserts ({@code saveAll}) are executed as a single {@code INSERT ... VALUES (...), (...)} statement
+     * per batch instead of a JDBC batch. This doesn't depend on the driver rewriting the batches and the generated identities
+     * are still returned. The number of rows of a statement is limited by the batch size, the dialect limits and 1000 rows.
+     *
+     * @param multiRowInsert Whether to use multi-row inserts
+     * @since 4.12
+     */
+    public void setMultiRowInsert(boolean multiRowInsert) {
+        this.multiRowInsert = multiRowInsert;
+    }
+
+    /**
+     * @return Whether the entities read by the id and written in a transaction are kept by the transaction.
+     * @since 4.12
+     */
+    public boolean isTransactionIdentityMap() {
+        return transactionIdentityMap;
+    }
+
+    /**
+     * Sets whether the entities read by the id and written in a transaction are kept until the transaction completes.
+     * The repeated selections of the entity by the id in the transaction return the kept instance without a query
+     * and the associations read as the id only are replaced by the kept instances.
+     *
+     * @param transactionIdentityMap Whether to enable the transaction identity map
+     * @since 4.12
+     */
+    public void setTransactionIdentityMap(boolean transactionIdentityMap) {
+        this.transactionIdentityMap = transactionIdentityMap;
+    }
+
     /**
      * @return The packages to include use for the purposes of schema generation.
      */
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.mapper;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.model.DataType;
+import io.micronaut.data.runtime.mapper.ColumnIndexResultReader;
+import io.micronaut.data.runtime.mapper.ResultReader;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The column name {@link ResultReader} that reads the values using the column index.
+ * The column labels are resolved once from the {@link ResultSetMetaData} of the result set,
+ * the values are read by the index avoiding the column lookup of the driver for every cell.
+ * The mappers resolve the indexes of their columns once per result set with {@link #resolveColumnIndexes(ResultSet, String[])}.
+ * The columns missing in the result are read by the name.
+ *
+ * <p>The instance is stateful and is supposed to be used by one mapper.</p>
+ *
+ * @since 4.12
+ */
+@Internal
+public final class ColumnIndexResolvingResultSetReader implements ColumnIndexResultReader<ResultSet> {
+
+    private final ResultReader<ResultSet, String> columnNameReader;
+    private final ResultReader<ResultSet, Integer> columnIndexReader;
+    @Nullable
+    private ResultSet resolvedResultSet;
+    private Map<String, Integer> columnIndexes;
+
+    /**
+     * @param columnNameReader  The column name reader
+     * @param columnIndexReader The column index reader
+     */
+    public ColumnIndexResolvingResultSetReader(@NonNull ResultReader<ResultSet, String> columnNameReader,
+                                               @NonNull ResultReader<ResultSet, Integer> columnIndexReader) {
+        this.columnNameReader = columnNameReader;
+        this.columnIndexReader = columnIndexReader;
+    }
+
+    @Override
+    public ConversionService getConversionService() {
+        return columnNameReader.getConversionService();
+    }
+
+    @Override
+    public <T> T convertRequired(@NonNull Object value, Class<T> type) {
+        return columnNameReader.convertRequired(value, type);
+    }
+
+    @Override
+    public <T> T convertRequired(@NonNull Object value, Argument<T> type) {
+        return columnNameReader.convertRequired(value, type);
+    }
+
+    @Override
+    public boolean next(ResultSet resultSet) {
+        return columnNameReader.next(resultSet);
+    }
+
+    @Override
+    public int[] resolveColumnIndexes(ResultSet resultSet, String[] columns) {
+        int[] indexes = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            Integer index = findColumnIndex(resultSet, columns[i]);
+            indexes[i] = index == null ? 0 : index;
+        }
+        return indexes;
+    }
+
+    @Nullable
+    @Override
+    public Object readDynamic(ResultSet resultSet, int index, DataType dataType) {
+        return columnIndexReader.readDynamic(resultSet, index, dataType);
+    }
+
+    @Nullable
+    @Override
+    public Object readDynamic(@NonNull ResultSet resultSet, @NonNull String name, @NonNull DataType dataType) {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.readDynamic(resultSet, name, dataType);
+        }
+        return columnIndexReader.readDynamic(resultSet, index, dataType);
+    }
+
+    @Override
+    public <T> T getRequiredValue(ResultSet resultSet, String name, Class<T> type) throws DataAccessException {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.getRequiredValue(resultSet, name, type);
+        }
+        return columnIndexReader.getRequiredValue(resultSet, index, type);
+    }
+
+    @Override
+    public long readLong(ResultSet resultSet, String name) {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.readLong(resultSet, name);
+        }
+        return columnIndexReader.readLong(resultSet, index);
+    }
+
+    @Override
+    public char readChar(ResultSet resultSet, String name) {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.readChar(resultSet, name);
+        }
+        return columnIndexReader.readChar(resultSet, index);
+    }
+
+    @Override
+    public Date readDate(ResultSet resultSet, String name) {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.readDate(resultSet, name);
+        }
+        return columnIndexReader.readDate(resultSet, index);
+    }
+
+    @Override
+    public Date readTimestamp(ResultSet resultSet, String name) {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.readTimestamp(resultSet, name);
+        }
+        return columnIndexReader.readTimestamp(resultSet, index);
+    }
+
+    @Override
+    public Time readTime(ResultSet resultSet, String name) {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.readTime(resultSet, name);
+        }
+        return columnIndexReader.readTime(resultSet, index);
+    }
+
+    @Nullable
+    @Override
+    public String readString(ResultSet resultSet, String name) {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.readString(resultSet, name);
+        }
+        return columnIndexReader.readString(resultSet, index);
+    }
+
+    @Nullable
+    @Override
+    public UUID readUUID(ResultSet resultSet, String name) {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.readUUID(resultSet, name);
+        }
+        return columnIndexReader.readUUID(resultSet, index);
+    }
+
+    @Override
+    public int readInt(ResultSet resultSet, String name) {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.readInt(resultSet, name);
+        }
+        return columnIndexReader.readInt(resultSet, index);
+    }
+
+    @Override
+    public boolean readBoolean(ResultSet resultSet, String name) {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.readBoolean(resultSet, name);
+        }
+        return columnIndexReader.readBoolean(resultSet, index);
+    }
+
+    @Override
+    public float readFloat(ResultSet resultSet, String name) {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.readFloat(resultSet, name);
+        }
+        return columnIndexReader.readFloat(resultSet, index);
+    }
+
+    @Override
+    public byte readByte(ResultSet resultSet, String name) {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.readByte(resultSet, name);
+        }
+        return columnIndexReader.readByte(resultSet, index);
+    }
+
+    @Override
+    public short readShort(ResultSet resultSet, String name) {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.readShort(resultSet, name);
+        }
+        return columnIndexReader.readShort(resultSet, index);
+    }
+
+    @Override
+    public double readDouble(ResultSet resultSet, String name) {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.readDouble(resultSet, name);
+        }
+        return columnIndexReader.readDouble(resultSet, index);
+    }
+
+    @Override
+    public BigDecimal readBigDecimal(ResultSet resultSet, String name) {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.readBigDecimal(resultSet, name);
+        }
+        return columnIndexReader.readBigDecimal(resultSet, index);
+    }
+
+    @Override
+    public byte[] readBytes(ResultSet resultSet, String name) {
+        Integer index = findColumnIndex(resultSet, name);
+        if (index == null) {
+            return columnNameReader.readBytes(resultSet, name);
+        }
+        return columnIndexReader.readBytes(resultSet, index);
+    }
+
+    @Nullable
+    private Integer findColumnIndex(ResultSet resultSet, String name) {
+        if (resultSet != resolvedResultSet) {
+            columnIndexes = resolveColumnIndexes(resultSet);
+            resolvedResultSet = resultSet;
+        }
+        Integer index = columnIndexes.get(name);
+        if (index == null) {
+            index = columnIndexes.get(name.toLowerCase(Locale.ENGLISH));
+        }
+        return index;
+    }
+
+    private static Map<String, Integer> resolveColumnIndexes(ResultSet resultSet) {
+        try {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            int columnCount = metaData.getColumnCount();
+            Map<String, Integer> indexes = CollectionUtils.newHashMap(columnCount * 2);
+            for (int i = 1; i <= columnCount; i++) {
+                String label = metaData.getColumnLabel(i);
+                if (label != null) {
+                    // The same as the driver, the first column with the label wins
+                    String lowerCaseLabel = label.toLowerCase(Locale.ENGLISH);
+                    if (!indexes.containsKey(lowerCaseLabel)) {
+                        indexes.put(lowerCaseLabel, i);
+                        // The exact label is found without converting the name
+                        indexes.putIfAbsent(label, i);
+                    }
+                }
+            }
+            return indexes;
+        } catch (SQLException e) {
+            throw new DataAccessException("Error reading the result set metadata: " + e.getMessage(), e);
+        }
+    }
+}
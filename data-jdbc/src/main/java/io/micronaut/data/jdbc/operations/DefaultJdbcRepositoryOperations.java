@@ -26,16 +26,22 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanProperty;
 import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.data.annotation.Relation;
 import io.micronaut.data.connection.ConnectionDefinition;
 import io.micronaut.data.connection.ConnectionOperations;
+import io.micronaut.data.connection.ConnectionStatus;
+import io.micronaut.data.connection.ConnectionSynchronization;
 import io.micronaut.data.connection.annotation.Connectable;
+import io.micronaut.data.connection.jdbc.config.DataSourceConnectionConfiguration;
 import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.jdbc.config.DataJdbcConfiguration;
 import io.micronaut.data.jdbc.convert.JdbcConversionContext;
 import io.micronaut.data.jdbc.mapper.ColumnIndexCallableResultReader;
+import io.micronaut.data.jdbc.mapper.ColumnIndexResolvingResultSetReader;
 import io.micronaut.data.jdbc.mapper.ColumnIndexResultSetReader;
 import io.micronaut.data.jdbc.mapper.ColumnNameExistenceAwareResultSetReader;
 import io.micronaut.data.jdbc.mapper.ColumnNameResultSetReader;
@@ -47,8 +53,11 @@ import io.micronaut.data.jdbc.runtime.PreparedStatementCallback;
 import io.micronaut.data.model.DataType;
 import io.micronaut.data.model.JsonDataType;
 import io.micronaut.data.model.Page;
-import io.micronaut.data.model.query.JoinPath;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.model.query.builder.QueryResult;
+import io.micronaut.data.model.query.builder.sql.SqlEstimatedCountQueryBuilder;
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2;
 import io.micronaut.data.model.runtime.AttributeConverterRegistry;
 import io.micronaut.data.model.runtime.DeleteBatchOperation;
 import io.micronaut.data.model.runtime.DeleteOperation;
@@ -69,6 +78,7 @@ import io.micronaut.data.model.runtime.UpdateBatchOperation;
 import io.micronaut.data.model.runtime.UpdateOperation;
 import io.micronaut.data.model.runtime.convert.AttributeConverter;
 import io.micronaut.data.operations.DeleteReturningRepositoryOperations;
+import io.micronaut.data.operations.EstimatedCountCapableRepository;
 import io.micronaut.data.operations.async.AsyncCapableRepository;
 import io.micronaut.data.operations.reactive.ReactiveCapableRepository;
 import io.micronaut.data.operations.reactive.ReactiveRepositoryOperations;
@@ -82,6 +92,7 @@ import io.micronaut.data.runtime.mapper.TypeMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlResultEntityTypeMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlTypeMapper;
 import io.micronaut.data.runtime.multitenancy.SchemaTenantResolver;
+import io.micronaut.data.runtime.operations.ConcurrencyLimitingExecutor;
 import io.micronaut.data.runtime.operations.ExecutorAsyncOperations;
 import io.micronaut.data.runtime.operations.ExecutorReactiveOperations;
 import io.micronaut.data.runtime.operations.internal.AbstractSyncEntitiesOperations;
@@ -90,15 +101,27 @@ import io.micronaut.data.runtime.operations.internal.OperationContext;
 import io.micronaut.data.runtime.operations.internal.SyncCascadeOperations;
 import io.micronaut.data.runtime.operations.internal.query.BindableParametersStoredQuery;
 import io.micronaut.data.runtime.operations.internal.sql.AbstractSqlRepositoryOperations;
+import io.micronaut.data.runtime.operations.internal.sql.DefaultSqlStoredQuery;
+import io.micronaut.data.runtime.operations.internal.sql.EntitySnapshots;
 import io.micronaut.data.runtime.operations.internal.sql.SqlJsonColumnMapperProvider;
 import io.micronaut.data.runtime.operations.internal.sql.SqlPreparedQuery;
+import io.micronaut.data.runtime.operations.internal.sql.SqlQueryOptions;
 import io.micronaut.data.runtime.operations.internal.sql.SqlStoredQuery;
+import io.micronaut.data.runtime.query.internal.QueryResultStoredQuery;
 import io.micronaut.data.runtime.support.AbstractConversionContext;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.json.JsonMapper;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.transaction.TransactionDefinition;
 import io.micronaut.transaction.TransactionOperations;
+import io.micronaut.transaction.TransactionStatus;
+import io.micronaut.transaction.impl.InternalTransaction;
+import io.micronaut.transaction.support.TransactionSynchronization;
 import jakarta.annotation.PreDestroy;
 import jakarta.inject.Named;
 import jakarta.persistence.Tuple;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
 import java.sql.CallableStatement;
@@ -110,20 +133,25 @@ import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -142,13 +170,22 @@ import java.util.stream.StreamSupport;
 public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperations<ResultSet, PreparedStatement, SQLException> implements
     JdbcRepositoryOperations,
     DeleteReturningRepositoryOperations,
+    EstimatedCountCapableRepository,
     AsyncCapableRepository,
     ReactiveCapableRepository,
     AutoCloseable,
     SyncCascadeOperations.SyncCascadeOperationsHelper<DefaultJdbcRepositoryOperations.JdbcOperationContext> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultJdbcRepositoryOperations.class);
+    private static final boolean POSTGRES_DRIVER_PRESENT = ClassUtils.isPresent("org.postgresql.PGConnection", DefaultJdbcRepositoryOperations.class.getClassLoader());
+    private static final int DEFAULT_COPY_CHUNK_SIZE = 1000;
+    private static final int DEFAULT_MULTI_ROW_INSERT_ROWS = 1000;
+
     private final ConnectionOperations<Connection> connectionOperations;
     private final TransactionOperations<Connection> transactionOperations;
+    @Nullable
+    private final Map<Object, TransactionIdentityMap> transactionIdentityMaps;
+    private final boolean readReplicas;
     private final DataSource dataSource;
     private ExecutorAsyncOperations asyncOperations;
     private ExecutorService executorService;
@@ -160,6 +197,11 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
 
     private final ColumnIndexCallableResultReader columnIndexCallableResultReader;
     private final Map<Dialect, List<SqlExceptionMapper>> sqlExceptionMappers = new EnumMap<>(Dialect.class);
+    private final SqlQueryOptions sqlQueryOptions;
+    @Nullable
+    private final EntitySnapshots entitySnapshots;
+    private final BeanContext beanContext;
+    private final Map<Class<?>, SqlStoredQuery<?, ?>> copyInserts = new ConcurrentHashMap<>(10);
 
     /**
      * Default constructor.
@@ -219,9 +261,17 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         this.dataSource = dataSource;
         this.transactionOperations = transactionOperations;
         this.executorService = executorService;
+        this.beanContext = beanContext;
         this.cascadeOperations = new SyncCascadeOperations<>(conversionService, this);
         this.jdbcConfiguration = jdbcConfiguration;
         this.columnIndexCallableResultReader = new ColumnIndexCallableResultReader(conversionService);
+        this.sqlQueryOptions = new SqlQueryOptions(jdbcConfiguration.isBindPagination(), jdbcConfiguration.isBindInListAsArray(),
+            jdbcConfiguration.isPadInList(), jdbcConfiguration.getDeferredJoinOffset(), jdbcConfiguration.getInListChunkSize());
+        this.entitySnapshots = jdbcConfiguration.getDirtyTrackingMaxSnapshots() > 0 ? new EntitySnapshots(jdbcConfiguration.getDirtyTrackingMaxSnapshots()) : null;
+        this.transactionIdentityMaps = jdbcConfiguration.isTransactionIdentityMap() ? new ConcurrentHashMap<>(10) : null;
+        this.readReplicas = beanContext.findBean(DataSourceConnectionConfiguration.class, Qualifiers.byName(dataSourceName))
+            .map(configuration -> !configuration.getReadReplicas().isEmpty())
+            .orElse(false);
         if (CollectionUtils.isNotEmpty(sqlExceptionMapperList)) {
             for (SqlExceptionMapper sqlExceptionMapper : sqlExceptionMapperList) {
                 Dialect dialect = sqlExceptionMapper.getDialect();
@@ -235,11 +285,56 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         }
     }
 
+    @Override
+    protected SqlQueryOptions getSqlQueryOptions() {
+        return sqlQueryOptions;
+    }
+
+    @Override
+    protected EntitySnapshots getEntitySnapshots() {
+        return entitySnapshots;
+    }
+
+    @Override
+    protected boolean isEntityCacheSupported() {
+        return schemaTenantResolver == null;
+    }
+
+    @Override
+    protected BiFunction<RuntimePersistentEntity<Object>, Object, Object> getIdOnlyEntityResolver() {
+        TransactionIdentityMap identityMap = findTransactionIdentityMap(false);
+        return identityMap == null ? null : identityMap::get;
+    }
+
     @Override
     protected ResultReader<ResultSet, String> createColumnNameResultSetReaderWithColumnExistenceAware() {
         return new ColumnNameExistenceAwareResultSetReader();
     }
 
+    @Override
+    protected ResultReader<ResultSet, String> createEntityResultReader() {
+        return new ColumnIndexResolvingResultSetReader(columnNameResultSetReader, columnIndexResultSetReader);
+    }
+
+    @NonNull
+    private Executor newAsyncExecutor() {
+        Executor executor = null;
+        if (jdbcConfiguration.isVirtualThreads()) {
+            executor = beanContext.findBean(ExecutorService.class, Qualifiers.byName(TaskExecutors.VIRTUAL)).orElse(null);
+            if (executor == null) {
+                LOG.warn("Virtual threads are not supported by the JVM, the asynchronous operations of the data source [{}] are using platform threads", dataSourceName);
+            }
+        }
+        if (executor == null) {
+            executor = executorService != null ? executorService : newLocalThreadPool();
+        }
+        int maxConcurrentOperations = jdbcConfiguration.getMaxConcurrentOperations();
+        if (maxConcurrentOperations > 0) {
+            executor = new ConcurrencyLimitingExecutor(executor, maxConcurrentOperations);
+        }
+        return executor;
+    }
+
     @NonNull
     private ExecutorService newLocalThreadPool() {
         this.executorService = Executors.newCachedThreadPool();
@@ -324,10 +419,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             synchronized (this) { // double check
                 asyncOperations = this.asyncOperations;
                 if (asyncOperations == null) {
-                    asyncOperations = new ExecutorAsyncOperations(
-                        this,
-                        executorService != null ? executorService : newLocalThreadPool()
-                    );
+                    asyncOperations = new ExecutorAsyncOperations(this, newAsyncExecutor());
                     this.asyncOperations = asyncOperations;
                 }
             }
@@ -345,9 +437,108 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     @Override
     public <T, R> R findOne(@NonNull PreparedQuery<T, R> pq) {
         SqlPreparedQuery<T, R> sqlPreparedQuery = getSqlPreparedQuery(pq);
+        Object id = transactionIdentityMaps == null ? null : findSelectedIdentity(sqlPreparedQuery);
+        TransactionIdentityMap identityMap = id == null ? null : findTransactionIdentityMap(true);
+        if (identityMap != null) {
+            RuntimePersistentEntity<R> persistentEntity = getEntity(sqlPreparedQuery.getResultType());
+            R loaded = identityMap.get(persistentEntity, id);
+            if (loaded != null) {
+                return loaded;
+            }
+            // The entity kept and modified by the transaction is not shared with the caches
+            return identityMap.put(persistentEntity, id,
+                executeRead(connection -> findOne(connection, getSqlPreparedQuery(pq)), sqlPreparedQuery.getInvocationContext()));
+        }
+        return findOneCached(pq, sqlPreparedQuery);
+    }
+
+    private <T, R> R findOneCached(PreparedQuery<T, R> pq, SqlPreparedQuery<T, R> sqlPreparedQuery) {
+        EntityCacheLookup<R> cacheLookup = findEntityCacheLookup(sqlPreparedQuery);
+        if (cacheLookup != null) {
+            Connection existingConnection = connectionOperations.findConnectionStatus().map(ConnectionStatus::getConnection).orElse(null);
+            if (!cacheLookup.isWritten(existingConnection)) {
+                R cached = cacheLookup.get();
+                if (cached != null) {
+                    return cached;
+                }
+                if (existingConnection != null) {
+                    // The entity read by an existing connection might not be visible to the other connections
+                    return executeRead(connection -> findOne(connection, getSqlPreparedQuery(pq)), sqlPreparedQuery.getInvocationContext());
+                }
+                return cacheLookup.put(executeCachedRead(connection -> findOne(connection, getSqlPreparedQuery(pq)), sqlPreparedQuery.getInvocationContext()));
+            }
+        }
+        QueryResultCacheLookup queryCacheLookup = findQueryResultCacheLookup(sqlPreparedQuery);
+        if (queryCacheLookup != null) {
+            return findCachedResult(queryCacheLookup, connection -> findOne(connection, getSqlPreparedQuery(pq)), sqlPreparedQuery.getInvocationContext());
+        }
         return executeRead(connection -> findOne(connection, getSqlPreparedQuery(pq)), sqlPreparedQuery.getInvocationContext());
     }
 
+    private <R> R findCachedResult(QueryResultCacheLookup cacheLookup, Function<Connection, R> read, AnnotationMetadata annotationMetadata) {
+        Connection existingConnection = connectionOperations.findConnectionStatus().map(ConnectionStatus::getConnection).orElse(null);
+        if (cacheLookup.isWritten(existingConnection)) {
+            return executeRead(read, annotationMetadata);
+        }
+        R cached = cacheLookup.get();
+        if (cached != null) {
+            return cached;
+        }
+        if (existingConnection != null) {
+            // The result read by an existing connection might not be visible to the other connections
+            return executeRead(read, annotationMetadata);
+        }
+        return cacheLookup.put(executeCachedRead(read, annotationMetadata));
+    }
+
+    @Override
+    public EstimatedCount estimateCount(@NonNull PreparedQuery<?, ?> countQuery, long cap) {
+        SqlPreparedQuery<?, ?> sqlPreparedQuery = getSqlPreparedQuery(countQuery);
+        if (!SqlEstimatedCountQueryBuilder.isSupported(sqlPreparedQuery.getQuery())) {
+            return null;
+        }
+        return executeRead(connection -> estimateCount(connection, sqlPreparedQuery, cap), sqlPreparedQuery.getInvocationContext());
+    }
+
+    private EstimatedCount estimateCount(Connection connection, SqlPreparedQuery<?, ?> preparedQuery, long cap) {
+        Dialect dialect = preparedQuery.getDialect();
+        try {
+            if (SqlEstimatedCountQueryBuilder.supportsExplain(dialect)) {
+                String plan = readFirstColumn(connection, preparedQuery, query -> SqlEstimatedCountQueryBuilder.buildExplainQuery(dialect, query), String.class);
+                Long estimate = plan == null ? null : SqlEstimatedCountQueryBuilder.parseExplainResult(dialect, plan);
+                if (estimate != null && estimate > cap) {
+                    return new EstimatedCount(estimate, true);
+                }
+                // The estimates of the small results are not reliable, the capped count is exact
+            }
+            Long count = readFirstColumn(connection, preparedQuery, query -> SqlEstimatedCountQueryBuilder.buildCappedCountQuery(dialect, query, cap), Long.class);
+            if (count == null) {
+                return null;
+            }
+            if (count > cap) {
+                return new EstimatedCount(cap, true);
+            }
+            return new EstimatedCount(count, false);
+        } catch (SQLException e) {
+            throw new DataAccessException("Error executing SQL Query: " + e.getMessage(), e);
+        }
+    }
+
+    private <T> T readFirstColumn(Connection connection,
+                                  SqlPreparedQuery<?, ?> preparedQuery,
+                                  Function<String, String> queryFunction,
+                                  Class<T> type) throws SQLException {
+        try (PreparedStatement ps = prepareStatement(query -> connection.prepareStatement(queryFunction.apply(query)), preparedQuery, false, true)) {
+            preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return columnIndexResultSetReader.getRequiredValue(rs, 1, type);
+                }
+                return null;
+            }
+        }
+    }
+
     private <T, R> R findOne(Connection connection, SqlPreparedQuery<T, R> preparedQuery) {
         try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, false, true)) {
             preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
@@ -370,10 +561,19 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                 } else {
                     result = null;
                 }
+                if (result != null) {
+                    List<AssociationFetch> associationFetches = getAssociationFetches(preparedQuery);
+                    if (!associationFetches.isEmpty()) {
+                        result = loadAssociations(connection, preparedQuery, associationFetches, List.of(result)).get(0);
+                    }
+                }
                 if (result != null && preparedQuery.hasResultConsumer()) {
                     preparedQuery.getParameterInRole(SqlResultConsumer.ROLE, SqlResultConsumer.class)
                         .ifPresent(consumer -> consumer.accept(result, newMappingContext(rs)));
                 }
+                if (result != null) {
+                    trackEntities(findSnapshotScope(), preparedQuery, List.of(result));
+                }
                 return result;
             }
         } catch (SQLException e) {
@@ -382,14 +582,57 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     }
 
     private <T, R> List<R> findAll(Connection connection, SqlPreparedQuery<T, R> preparedQuery, boolean applyPageable) {
+        List<SqlPreparedQuery<T, R>> chunks = preparedQuery.splitInList();
+        if (!chunks.isEmpty()) {
+            List<List<R>> chunkResults = new ArrayList<>(chunks.size());
+            for (SqlPreparedQuery<T, R> chunk : chunks) {
+                chunkResults.add(findAll(connection, chunk, applyPageable));
+            }
+            return mergeInListChunks(preparedQuery, chunkResults);
+        }
         try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, !applyPageable, false)) {
             preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
-            return findAll(preparedQuery, ps);
+            List<R> results = findAll(preparedQuery, ps);
+            List<AssociationFetch> associationFetches = getAssociationFetches(preparedQuery);
+            if (!associationFetches.isEmpty()) {
+                results = loadAssociations(connection, preparedQuery, associationFetches, results);
+            }
+            trackEntities(findSnapshotScope(), preparedQuery, results);
+            return results;
         } catch (Throwable e) {
             throw new DataAccessException("Error executing SQL Query: " + preparedQuery.getQuery() + " " + e.getMessage(), e);
         }
     }
 
+    private <R> List<R> loadAssociations(Connection connection,
+                                         SqlStoredQuery<?, R> storedQuery,
+                                         List<AssociationFetch> associationFetches,
+                                         List<R> results) throws SQLException {
+        RuntimePersistentEntity<R> persistentEntity = getEntity(storedQuery.getResultType());
+        for (AssociationFetch associationFetch : associationFetches) {
+            results = loadAssociation(connection, persistentEntity, storedQuery.getQueryBuilder(), associationFetch, results);
+        }
+        return results;
+    }
+
+    private <R> List<R> loadAssociation(Connection connection,
+                                        RuntimePersistentEntity<R> persistentEntity,
+                                        SqlQueryBuilder2 queryBuilder,
+                                        AssociationFetch associationFetch,
+                                        List<R> results) throws SQLException {
+        for (AssociationQuery<R> associationQuery : buildAssociationQueries(persistentEntity, queryBuilder, associationFetch, results)) {
+            SqlStoredQuery<?, ?> query = associationQuery.storedQuery();
+            if (QUERY_LOG.isDebugEnabled()) {
+                QUERY_LOG.debug("Executing Query: {}", query.getQuery());
+            }
+            try (PreparedStatement ps = connection.prepareStatement(query.getQuery())) {
+                query.bindParameters(new JdbcParameterBinder(connection, ps, query), null, null, null);
+                results = applyAssociationQuery(associationQuery, results, findAll(query, ps));
+            }
+        }
+        return results;
+    }
+
     private <T, R> List<R> findAll(SqlStoredQuery<T, R> sqlStoredQuery, PreparedStatement ps) throws SQLException {
         try (ResultSet rs = ps.executeQuery()) {
             return findAll(sqlStoredQuery, rs);
@@ -451,13 +694,28 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
 
     private <T, R> Stream<R> findStream(@NonNull PreparedQuery<T, R> pq, Connection connection, boolean closeConnection) {
         SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
+        if (!getAssociationFetches(preparedQuery).isEmpty() || !preparedQuery.splitInList().isEmpty()) {
+            // The associations are loaded and the chunks of the IN list are merged after all the results are read
+            try {
+                return findAll(connection, preparedQuery, true).stream();
+            } finally {
+                closeResultSet(connection, null, null, new AtomicBoolean(), closeConnection);
+            }
+        }
         RuntimePersistentEntity<T> persistentEntity = preparedQuery.getPersistentEntity();
         Class<R> resultType = preparedQuery.getResultType();
         AtomicBoolean finished = new AtomicBoolean();
+        boolean onlySingleEndedJoins = isOnlySingleEndedJoins(persistentEntity, preparedQuery.getJoinPaths());
+        // The rows of a "many" joined query can be streamed if they are ordered by the root entity
+        Pageable rootGroupingPageable = onlySingleEndedJoins ? null : resolveRootGroupingPageable(preparedQuery);
 
         PreparedStatement ps;
         try {
-            ps = prepareStatement(connection::prepareStatement, preparedQuery, false, false);
+            if (rootGroupingPageable != null) {
+                ps = prepareStatement(connection::prepareStatement, preparedQuery, rootGroupingPageable, false, false);
+            } else {
+                ps = prepareStatement(connection::prepareStatement, preparedQuery, false, false);
+            }
             preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
         } catch (Exception e) {
             throw new DataAccessException("SQL Error preparing Query: " + e.getMessage(), e);
@@ -470,20 +728,49 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             rs = openedRs;
             SqlResultConsumer<R> sqlMappingConsumer = preparedQuery.hasResultConsumer() ? preparedQuery.getParameterInRole(SqlResultConsumer.ROLE, SqlResultConsumer.class).orElse(null) : null;
             SqlTypeMapper<ResultSet, R> resultMapper = createMapper(preparedQuery, ResultSet.class);
-            if (resultMapper instanceof SqlResultEntityTypeMapper<ResultSet, R> entityTypeMapper) {
-                Set<JoinPath> joinFetchPaths = preparedQuery.getJoinPaths();
-                boolean onlySingleEndedJoins = isOnlySingleEndedJoins(persistentEntity, joinFetchPaths);
-                // Cannot stream ResultSet for "many" joined query
-                if (!onlySingleEndedJoins) {
-                    try {
-                        SqlResultEntityTypeMapper.PushingMapper<ResultSet, List<R>> manyMapper = entityTypeMapper.readManyMapper();
-                        while (rs.next()) {
-                            manyMapper.processRow(rs);
+            if (resultMapper instanceof SqlResultEntityTypeMapper<ResultSet, R> entityTypeMapper && !onlySingleEndedJoins) {
+                if (rootGroupingPageable != null) {
+                    SqlResultEntityTypeMapper.IncrementalPushingMapper<ResultSet, R> incrementalMapper = entityTypeMapper.readManyIncrementalMapper();
+                    Spliterator<R> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                        Spliterator.ORDERED | Spliterator.IMMUTABLE) {
+                        @Override
+                        public boolean tryAdvance(Consumer<? super R> action) {
+                            if (finished.get()) {
+                                return false;
+                            }
+                            try {
+                                while (rs.next()) {
+                                    R completed = incrementalMapper.processRow(rs);
+                                    if (completed != null) {
+                                        action.accept(completed);
+                                        return true;
+                                    }
+                                }
+                            } catch (SQLException e) {
+                                closeResultSet(connection, ps, rs, finished, closeConnection);
+                                throw new DataAccessException("SQL Error executing Query: " + e.getMessage(), e);
+                            }
+                            R last = incrementalMapper.complete();
+                            closeResultSet(connection, ps, rs, finished, closeConnection);
+                            if (last != null) {
+                                action.accept(last);
+                                return true;
+                            }
+                            return false;
                         }
-                        return manyMapper.getResult().stream();
-                    } finally {
-                        closeResultSet(connection, ps, rs, finished, closeConnection);
+                    };
+                    return StreamSupport.stream(spliterator, false)
+                        .onClose(() -> closeResultSet(connection, ps, rs, finished, closeConnection));
+                }
+                // Cannot stream ResultSet for "many" joined query not ordered by the root entity
+                try {
+                    SqlResultEntityTypeMapper.PushingMapper<ResultSet, List<R>> manyMapper = entityTypeMapper.readManyMapper();
+                    while (rs.next()) {
+                        manyMapper.processRow(rs);
                     }
+                    return manyMapper.getResult().stream();
+                } finally {
+                    closeResultSet(connection, ps, rs, finished, closeConnection);
                 }
             }
 
@@ -537,6 +824,11 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     @Override
     public <T, R> Iterable<R> findAll(@NonNull PreparedQuery<T, R> preparedQuery) {
         SqlPreparedQuery<T, R> sqlPreparedQuery = getSqlPreparedQuery(preparedQuery);
+        QueryResultCacheLookup queryCacheLookup = findQueryResultCacheLookup(sqlPreparedQuery);
+        if (queryCacheLookup != null) {
+            return findCachedResult(queryCacheLookup,
+                connection -> Collections.unmodifiableList(findAll(connection, sqlPreparedQuery, true)), sqlPreparedQuery.getInvocationContext());
+        }
         return executeRead(connection -> findAll(connection, sqlPreparedQuery, true), sqlPreparedQuery.getInvocationContext());
     }
 
@@ -544,16 +836,37 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     @Override
     public Optional<Number> executeUpdate(@NonNull PreparedQuery<?, Number> pq) {
         SqlPreparedQuery<?, Number> preparedQuery = getSqlPreparedQuery(pq);
+        List<? extends SqlPreparedQuery<?, Number>> chunks = preparedQuery.splitInList();
+        if (!chunks.isEmpty() && transactionOperations.findTransactionStatus().isEmpty()
+            && (jdbcConfiguration.isAllowConnectionPerOperation() || connectionOperations.findConnectionStatus().isPresent())) {
+            // The statements of the chunks are executed atomically
+            return transactionOperations.execute(TransactionDefinition.DEFAULT, status -> executeUpdate(preparedQuery, chunks));
+        }
+        return executeUpdate(preparedQuery, chunks);
+    }
+
+    private Optional<Number> executeUpdate(SqlPreparedQuery<?, Number> preparedQuery, List<? extends SqlPreparedQuery<?, Number>> chunks) {
         return executeWrite(connection -> {
-            try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, true, false)) {
-                preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
-                int result = ps.executeUpdate();
+            try {
+                int result = 0;
+                if (chunks.isEmpty()) {
+                    result = executeUpdate(connection, preparedQuery);
+                } else {
+                    for (SqlPreparedQuery<?, Number> chunk : chunks) {
+                        result += executeUpdate(connection, chunk);
+                    }
+                }
                 if (QUERY_LOG.isTraceEnabled()) {
                     QUERY_LOG.trace("Update operation updated {} records", result);
                 }
                 if (preparedQuery.isOptimisticLock()) {
                     checkOptimisticLocking(1, result);
                 }
+                invalidateEntityCache(preparedQuery.getPersistentEntity());
+                TransactionIdentityMap identityMap = findTransactionIdentityMap(false);
+                if (identityMap != null) {
+                    identityMap.removeAll(preparedQuery.getPersistentEntity());
+                }
                 return Optional.of(result);
             } catch (SQLException e) {
                 throw sqlExceptionToDataAccessException(e, preparedQuery.getDialect(), sqlException -> new DataAccessException("Error executing SQL UPDATE: " + sqlException.getMessage(), sqlException));
@@ -561,6 +874,13 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         }, preparedQuery.getInvocationContext());
     }
 
+    private int executeUpdate(Connection connection, SqlPreparedQuery<?, Number> preparedQuery) throws SQLException {
+        try (PreparedStatement ps = prepareStatement(connection::prepareStatement, preparedQuery, true, false)) {
+            preparedQuery.bindParameters(new JdbcParameterBinder(connection, ps, preparedQuery));
+            return ps.executeUpdate();
+        }
+    }
+
     @Override
     public <R> List<R> execute(PreparedQuery<?, R> pq) {
         SqlPreparedQuery<?, R> preparedQuery = getSqlPreparedQuery(pq);
@@ -613,6 +933,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
             RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
+            forgetDeletedEntities(persistentEntity, operation);
             if (isSupportsBatchDelete(persistentEntity, storedQuery.getDialect())) {
                 JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery);
                 op.delete();
@@ -634,6 +955,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return executeWrite(connection -> {
             SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
+            forgetDeletedEntities(storedQuery.getPersistentEntity(), List.of(operation.getEntity()));
             JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, storedQuery.getPersistentEntity(), operation.getEntity(), storedQuery);
             op.delete();
             return op;
@@ -645,6 +967,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return executeWrite(connection -> {
             SqlStoredQuery<E, R> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
+            forgetDeletedEntities(storedQuery.getPersistentEntity(), List.of(operation.getEntity()));
             JdbcEntityOperations<E> op = new JdbcEntityOperations<>(ctx, storedQuery.getPersistentEntity(), operation.getEntity(), storedQuery);
             op.delete();
             return (R) op.getEntity();
@@ -657,6 +980,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             SqlStoredQuery<E, R> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
             RuntimePersistentEntity<E> persistentEntity = storedQuery.getPersistentEntity();
+            forgetDeletedEntities(persistentEntity, operation);
             if (isSupportsBatchDelete(persistentEntity, storedQuery.getDialect())) {
                 JdbcEntitiesOperations<E> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery);
                 op.delete();
@@ -679,7 +1003,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
             JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, storedQuery.getPersistentEntity(), operation.getEntity(), storedQuery);
             op.update();
-            return op.getEntity();
+            return trackWrittenEntity(storedQuery.getPersistentEntity(), op.getEntity());
         }, operation.getInvocationContext());
     }
 
@@ -696,13 +1020,15 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                     .map(updateOp -> {
                         JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, persistentEntity, updateOp.getEntity(), storedQuery);
                         op.update();
-                        return op.getEntity();
+                        return trackWrittenEntity(persistentEntity, op.getEntity());
                     })
                     .toList();
             }
             JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery);
             op.update();
-            return op.getEntities();
+            List<T> entities = op.getEntities();
+            entities.forEach(entity -> trackWrittenEntity(persistentEntity, entity));
+            return entities;
         }, operation.getInvocationContext());
     }
 
@@ -714,8 +1040,8 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             JdbcOperationContext ctx = createContext(operation, connection, storedQuery);
             JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, storedQuery, storedQuery.getPersistentEntity(), operation.getEntity(), true);
             op.persist();
-            return op;
-        }, operation.getInvocationContext()).getEntity();
+            return trackWrittenEntity(storedQuery.getPersistentEntity(), op.getEntity());
+        }, operation.getInvocationContext());
     }
 
     @Nullable
@@ -758,18 +1084,139 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
                     .map(persistOp -> {
                         JdbcEntityOperations<T> op = new JdbcEntityOperations<>(ctx, storedQuery, persistentEntity, persistOp.getEntity(), true);
                         op.persist();
-                        return op.getEntity();
+                        return trackWrittenEntity(persistentEntity, op.getEntity());
                     })
                     .toList();
             } else {
                 JdbcEntitiesOperations<T> op = new JdbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery, true);
                 op.persist();
-                return op.getEntities();
+                List<T> entities = op.getEntities();
+                entities.forEach(entity -> trackWrittenEntity(persistentEntity, entity));
+                return entities;
             }
 
         }, operation.getInvocationContext());
     }
 
+    @Override
+    public <E> List<E> batchFetch(@NonNull Class<E> entityType, @NonNull List<E> entities, @NonNull String associationPath, int batchSize) {
+        ArgumentUtils.requireNonNull("entityType", entityType);
+        ArgumentUtils.requireNonNull("entities", entities);
+        ArgumentUtils.requireNonNull("associationPath", associationPath);
+        if (entities.isEmpty()) {
+            return entities;
+        }
+        RuntimePersistentEntity<E> persistentEntity = getEntity(entityType);
+        SqlQueryBuilder2 queryBuilder = getQueryBuilder(jdbcConfiguration.getDialect());
+        AssociationFetch associationFetch = new AssociationFetch(associationPath, List.of(), batchSize, false);
+        return executeRead(connection -> {
+            try {
+                return loadAssociation(connection, persistentEntity, queryBuilder, associationFetch, entities);
+            } catch (SQLException e) {
+                throw new DataAccessException("Error executing SQL Query: " + e.getMessage(), e);
+            }
+        }, AnnotationMetadata.EMPTY_METADATA);
+    }
+
+    @Override
+    public <E> E updateChanged(@NonNull E entity) {
+        ArgumentUtils.requireNonNull("entity", entity);
+        RuntimePersistentEntity<E> persistentEntity = getEntity((Class<E>) entity.getClass());
+        BitSet changedProperties = entitySnapshots == null ? null : entitySnapshots.findChangedProperties(findSnapshotScope(), persistentEntity, entity);
+        if (changedProperties == null) {
+            changedProperties = new BitSet();
+            changedProperties.set(0, EntitySnapshots.getUpdatableProperties(persistentEntity).size());
+        } else if (changedProperties.isEmpty()) {
+            return entity;
+        }
+        SqlStoredQuery<E, E> storedQuery = resolveEntityUpdate(getQueryBuilder(jdbcConfiguration.getDialect()),
+            persistentEntity.getIntrospection().getBeanType(), persistentEntity, changedProperties);
+        return executeWrite(connection -> {
+            JdbcOperationContext ctx = new JdbcOperationContext(AnnotationMetadata.EMPTY_METADATA, null, null, storedQuery.getDialect(), connection);
+            markEntityCacheWritten(persistentEntity, findWrittenIds(persistentEntity, List.of(entity)));
+            JdbcEntityOperations<E> op = new JdbcEntityOperations<>(ctx, persistentEntity, entity, storedQuery);
+            op.update();
+            return trackWrittenEntity(persistentEntity, op.getEntity());
+        }, AnnotationMetadata.EMPTY_METADATA);
+    }
+
+    @Override
+    public <E> long copyAll(@NonNull Class<E> entityType, @NonNull Iterable<E> entities) {
+        ArgumentUtils.requireNonNull("entityType", entityType);
+        ArgumentUtils.requireNonNull("entities", entities);
+        RuntimePersistentEntity<E> persistentEntity = getEntity(entityType);
+        SqlStoredQuery<E, E> storedQuery = resolveCopyInsert(entityType, persistentEntity);
+        return executeWrite(connection -> {
+            JdbcOperationContext ctx = new JdbcOperationContext(AnnotationMetadata.EMPTY_METADATA, null, null, storedQuery.getDialect(), connection);
+            markEntityCacheWritten(persistentEntity, List.of());
+            try {
+                String copySql = resolveCopySql(connection, storedQuery);
+                if (copySql != null) {
+                    if (QUERY_LOG.isDebugEnabled()) {
+                        QUERY_LOG.debug("Executing SQL query: {}", copySql);
+                    }
+                    try (PostgresCopyWriter copyWriter = PostgresCopyWriter.open(connection, copySql)) {
+                        copyChunks(ctx, persistentEntity, entities, storedQuery, copyWriter, null);
+                        return copyWriter.complete();
+                    }
+                }
+                if (QUERY_LOG.isDebugEnabled()) {
+                    QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
+                }
+                try (PreparedStatement ps = connection.prepareStatement(storedQuery.getQuery())) {
+                    return copyChunks(ctx, persistentEntity, entities, storedQuery, null, ps);
+                }
+            } catch (SQLException e) {
+                throw sqlExceptionToDataAccessException(e, ctx.dialect, sqlException -> new DataAccessException("Error executing SQL COPY: " + sqlException.getMessage(), sqlException));
+            }
+        }, AnnotationMetadata.EMPTY_METADATA);
+    }
+
+    private <E> SqlStoredQuery<E, E> resolveCopyInsert(Class<E> entityType, RuntimePersistentEntity<E> persistentEntity) {
+        //noinspection unchecked
+        return (SqlStoredQuery<E, E>) copyInserts.computeIfAbsent(entityType, type -> {
+            SqlQueryBuilder2 queryBuilder = getQueryBuilder(jdbcConfiguration.getDialect());
+            QueryResult queryResult = queryBuilder.buildInsert(AnnotationMetadata.EMPTY_METADATA, new SqlQueryBuilder2.InsertQueryDefinitionImpl(persistentEntity));
+            return new DefaultSqlStoredQuery<>(QueryResultStoredQuery.single(StoredQuery.OperationType.INSERT, "Copy insert", AnnotationMetadata.EMPTY_METADATA, queryResult, entityType), persistentEntity, queryBuilder);
+        });
+    }
+
+    @Nullable
+    private String resolveCopySql(Connection connection, SqlStoredQuery<?, ?> storedQuery) throws SQLException {
+        if (storedQuery.getDialect() != Dialect.POSTGRES || !POSTGRES_DRIVER_PRESENT || !PostgresCopyWriter.isSupported(connection)) {
+            return null;
+        }
+        for (QueryParameterBinding binding : storedQuery.getQueryBindings()) {
+            if (!PostgresCopyWriter.isSupported(binding.getDataType())) {
+                return null;
+            }
+        }
+        return SqlQueryBuilder2.buildCopyFromStdin(storedQuery.getQuery());
+    }
+
+    private <E> long copyChunks(JdbcOperationContext ctx,
+                                RuntimePersistentEntity<E> persistentEntity,
+                                Iterable<E> entities,
+                                SqlStoredQuery<E, E> storedQuery,
+                                @Nullable PostgresCopyWriter copyWriter,
+                                @Nullable PreparedStatement ps) {
+        int chunkSize = jdbcConfiguration.getBatchSize() > 0 ? jdbcConfiguration.getBatchSize() : DEFAULT_COPY_CHUNK_SIZE;
+        long rows = 0;
+        // Only a chunk of the entities is kept in the memory
+        List<E> chunk = new ArrayList<>(chunkSize);
+        Iterator<E> iterator = entities.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                JdbcCopyEntitiesOperations<E> op = new JdbcCopyEntitiesOperations<>(ctx, persistentEntity, chunk, storedQuery, copyWriter, ps);
+                op.persist();
+                rows += op.rowsUpdated;
+                chunk.clear();
+            }
+        }
+        return rows;
+    }
+
     private <I> I executeRead(Function<Connection, I> fn, AnnotationMetadata annotationMetadata) {
         if (!jdbcConfiguration.isAllowConnectionPerOperation() && connectionOperations.findConnectionStatus().isEmpty()) {
             throw connectionNotFoundAndNewNotAllowed();
@@ -781,6 +1228,22 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         });
     }
 
+    /**
+     * Reads the entity or the query result to be cached. A replica can return the rows preceding a write already invalidating
+     * the cache, the cached values are read by the primary data source if the data source has read replicas.
+     *
+     * @param fn                 The read
+     * @param annotationMetadata The annotation metadata
+     * @param <I>                The result type
+     * @return The result
+     */
+    private <I> I executeCachedRead(Function<Connection, I> fn, AnnotationMetadata annotationMetadata) {
+        if (readReplicas) {
+            return executeWrite(fn, annotationMetadata);
+        }
+        return executeRead(fn, annotationMetadata);
+    }
+
     private <I> I executeWrite(Function<Connection, I> fn, AnnotationMetadata annotationMetadata) {
         if (!jdbcConfiguration.isAllowConnectionPerOperation() && connectionOperations.findConnectionStatus().isEmpty()) {
             throw connectionNotFoundAndNewNotAllowed();
@@ -915,7 +1378,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     public <T> Stream<T> entityStream(@NonNull ResultSet resultSet, @Nullable String prefix, @NonNull Class<T> rootEntity) {
         ArgumentUtils.requireNonNull("resultSet", resultSet);
         ArgumentUtils.requireNonNull("rootEntity", rootEntity);
-        TypeMapper<ResultSet, T> mapper = new SqlResultEntityTypeMapper<>(prefix, getEntity(rootEntity), columnNameResultSetReader,
+        TypeMapper<ResultSet, T> mapper = new SqlResultEntityTypeMapper<>(prefix, getEntity(rootEntity), createEntityResultReader(),
             jsonMapper != null ? () -> jsonMapper : null, conversionService);
         Iterable<T> iterable = () -> new Iterator<>() {
             boolean fetched = false;
@@ -1016,9 +1479,142 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
     }
 
     private <T> JdbcOperationContext createContext(EntityOperation<T> operation, Connection connection, SqlStoredQuery<T, ?> storedQuery) {
+        RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
+        markEntityCacheWritten(persistentEntity, findWrittenIds(persistentEntity, operation));
         return new JdbcOperationContext(operation.getAnnotationMetadata(), operation.getInvocationContext(), operation.getRepositoryType(), storedQuery.getDialect(), connection);
     }
 
+    /**
+     * Finds the identity map of the current transaction if enabled.
+     *
+     * @param create Whether to create the identity map if the transaction doesn't have one
+     * @return The identity map or null
+     */
+    @Nullable
+    private TransactionIdentityMap findTransactionIdentityMap(boolean create) {
+        if (transactionIdentityMaps == null) {
+            return null;
+        }
+        TransactionStatus<?> transactionStatus = transactionOperations.findTransactionStatus().orElse(null);
+        if (transactionStatus == null) {
+            return null;
+        }
+        TransactionIdentityMap identityMap;
+        if (create) {
+            identityMap = transactionIdentityMaps.computeIfAbsent(transactionStatus.getConnection(), connection -> {
+                TransactionIdentityMap newIdentityMap = new TransactionIdentityMap(transactionIdentityMaps, connection);
+                transactionStatus.registerSynchronization(newIdentityMap);
+                return newIdentityMap;
+            });
+        } else {
+            identityMap = transactionIdentityMaps.get(transactionStatus.getConnection());
+        }
+        // The synchronizations of the nested and the participating transactions are registered to the outer transaction,
+        // the rollback of the invocation is observed by the invocation synchronization
+        if (identityMap != null
+            && !transactionStatus.isNewTransaction()
+            && transactionStatus instanceof InternalTransaction<?> invocation
+            && identityMap.watch(invocation)) {
+            invocation.registerInvocationSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(@NonNull Status status) {
+                    identityMap.completed(invocation, status);
+                }
+            });
+        }
+        return identityMap;
+    }
+
+    private <E> E trackWrittenEntity(RuntimePersistentEntity<E> persistentEntity, E entity) {
+        TransactionIdentityMap identityMap = findTransactionIdentityMap(true);
+        if (identityMap != null) {
+            identityMap.put(persistentEntity, entity);
+        }
+        return trackEntity(findSnapshotScope(), persistentEntity, entity);
+    }
+
+    private <E> void forgetDeletedEntities(RuntimePersistentEntity<E> persistentEntity, Iterable<E> entities) {
+        TransactionIdentityMap identityMap = findTransactionIdentityMap(false);
+        for (E entity : entities) {
+            if (identityMap != null) {
+                identityMap.remove(persistentEntity, entity);
+            }
+            forgetEntity(entity);
+        }
+    }
+
+    /**
+     * Finds the scope of the snapshots taken in the current transaction, the snapshots are dropped after the transaction completes.
+     *
+     * @return The scope or null if the dirty tracking is disabled or there is no transaction
+     */
+    @Nullable
+    private Object findSnapshotScope() {
+        if (entitySnapshots == null) {
+            return null;
+        }
+        TransactionStatus<?> transactionStatus = transactionOperations.findTransactionStatus().orElse(null);
+        if (transactionStatus == null) {
+            return null;
+        }
+        Object connection = transactionStatus.getConnection();
+        if (entitySnapshots.openScope(connection)) {
+            transactionStatus.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(@NonNull Status status) {
+                    entitySnapshots.closeScope(connection);
+                }
+            });
+        }
+        return connection;
+    }
+
+    /**
+     * Invalidates the cache of the entity updated or deleted by a query.
+     *
+     * @param persistentEntity The persistent entity
+     */
+    private void invalidateEntityCache(RuntimePersistentEntity<?> persistentEntity) {
+        if (entityCacheRegistry != null && entityCacheRegistry.isTracked(persistentEntity)) {
+            markEntityCacheWritten(persistentEntity, null);
+            if (entityCacheRegistry.isCached(persistentEntity)) {
+                entityCacheRegistry.invalidate(dataSourceName, persistentEntity, null);
+            }
+        }
+    }
+
+    /**
+     * Bypasses the caches of the entity written in a transaction, the written entities are invalidated again after the transaction completes.
+     * Without a transaction the cached query results are invalidated after the execution of the write is complete.
+     *
+     * @param persistentEntity The persistent entity
+     * @param ids              The identities of the written entities or null if all the entities of the type can be written
+     */
+    private void markEntityCacheWritten(RuntimePersistentEntity<?> persistentEntity, @Nullable Collection<?> ids) {
+        if (entityCacheRegistry == null || !entityCacheRegistry.isTracked(persistentEntity)) {
+            return;
+        }
+        TransactionStatus<?> transactionStatus = transactionOperations.findTransactionStatus().orElse(null);
+        if (transactionStatus != null) {
+            Object connection = transactionStatus.getConnection();
+            if (entityCacheRegistry.markWritten(dataSourceName, connection, persistentEntity, ids)) {
+                transactionStatus.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(@NonNull Status completionStatus) {
+                        entityCacheRegistry.completed(connection);
+                    }
+                });
+            }
+        } else if (entityCacheRegistry.isQueried(persistentEntity)) {
+            connectionOperations.findConnectionStatus().ifPresent(status -> status.registerSynchronization(new ConnectionSynchronization() {
+                @Override
+                public void afterClosed() {
+                    entityCacheRegistry.invalidateQueries(persistentEntity);
+                }
+            }));
+        }
+    }
+
     /**
      * Gets the generated id on record insert.
      *
@@ -1057,7 +1653,7 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
         return isSupportsBatchInsert(persistentEntity, jdbcOperationContext.dialect);
     }
 
-    private final class JdbcParameterBinder implements BindableParametersStoredQuery.Binder {
+    private class JdbcParameterBinder implements BindableParametersStoredQuery.Binder {
 
         private final SqlStoredQuery<?, ?> sqlStoredQuery;
         private final Connection connection;
@@ -1130,6 +1726,33 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
 
     }
 
+    /**
+     * Collects the converted values of a row instead of binding them to a statement.
+     */
+    private final class CopyRowBinder extends JdbcParameterBinder {
+
+        private final List<DataType> dataTypes;
+        private final List<Object> values;
+
+        private CopyRowBinder(Connection connection, SqlStoredQuery<?, ?> sqlStoredQuery) {
+            super(connection, null, sqlStoredQuery);
+            int size = sqlStoredQuery.getQueryBindings().size();
+            this.dataTypes = new ArrayList<>(size);
+            this.values = new ArrayList<>(size);
+        }
+
+        @Override
+        public void bindOne(QueryParameterBinding binding, Object value) {
+            dataTypes.add(binding.getDataType());
+            values.add(value);
+        }
+
+        @Override
+        public int currentIndex() {
+            return values.size() + 1;
+        }
+    }
+
     private final class JdbcEntityOperations<T> extends AbstractSyncEntityOperations<JdbcOperationContext, T, SQLException> {
 
         private final SqlStoredQuery<T, ?> storedQuery;
@@ -1153,6 +1776,20 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             previousValues = storedQuery.collectAutoPopulatedPreviousValues(entity);
         }
 
+        @Override
+        protected boolean triggerPrePersist() {
+            UpsertValues<T> upsertValues = collectUpsertValues(storedQuery, persistentEntity, entity);
+            if (upsertValues == null) {
+                return super.triggerPrePersist();
+            }
+            previousValues = upsertValues.previousValues();
+            if (super.triggerPrePersist()) {
+                return true;
+            }
+            entity = upsertValues.populate(entity);
+            return false;
+        }
+
         private PreparedStatement prepare(Connection connection, SqlStoredQuery<T, ?> storedQuery) throws SQLException {
             if (storedQuery instanceof SqlPreparedQuery<T, ?> sqlPreparedQuery) {
                 sqlPreparedQuery.prepare(entity);
@@ -1269,80 +1906,251 @@ public final class DefaultJdbcRepositoryOperations extends AbstractSqlRepository
             }
         }
 
-        private PreparedStatement prepare(Connection connection) throws SQLException {
+        @Override
+        protected boolean triggerPrePersist() {
+            Map<Data, UpsertValues<T>> upsertValues = new IdentityHashMap<>();
+            for (Data d : entities) {
+                if (d.vetoed) {
+                    continue;
+                }
+                UpsertValues<T> values = collectUpsertValues(storedQuery, persistentEntity, d.entity);
+                if (values == null) {
+                    return super.triggerPrePersist();
+                }
+                d.previousValues = values.previousValues();
+                upsertValues.put(d, values);
+            }
+            boolean vetoed = super.triggerPrePersist();
+            for (Data d : entities) {
+                UpsertValues<T> values = upsertValues.get(d);
+                if (values != null && !d.vetoed) {
+                    d.entity = values.populate(d.entity);
+                }
+            }
+            return vetoed;
+        }
+
+        private PreparedStatement prepare(Connection connection, String query) throws SQLException {
             if (insert) {
                 Dialect dialect = storedQuery.getDialect();
                 if (hasGeneratedId && (dialect == Dialect.ORACLE || dialect == Dialect.SQL_SERVER)) {
                     if (isJsonEntityGeneratedId(storedQuery, persistentEntity)) {
                         // This is being closed in try with resources from where it is being called
                         @SuppressWarnings({"java:S2095"})
-                        CallableStatement callableStatement = connection.prepareCall(this.storedQuery.getQuery());
+                        CallableStatement callableStatement = connection.prepareCall(query);
                         // expected auto generated value in insert will be numeric
                         callableStatement.registerOutParameter(storedQuery.getQueryBindings().size() + 1, Types.NUMERIC);
                         return callableStatement;
                     }
-                    return connection.prepareStatement(storedQuery.getQuery(), new String[]{persistentEntity.getIdentity().getPersistedName()});
+                    return connection.prepareStatement(query, new String[]{persistentEntity.getIdentity().getPersistedName()});
                 } else {
-                    return connection.prepareStatement(storedQuery.getQuery(), hasGeneratedId ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS);
+                    return connection.prepareStatement(query, hasGeneratedId ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS);
                 }
             } else {
-                return connection.prepareStatement(storedQuery.getQuery());
+                return connection.prepareStatement(query);
             }
         }
 
-        private void setParameters(PreparedStatement stmt, SqlStoredQuery<T, ?> storedQuery) throws SQLException {
-            for (Data d : entities) {
-                if (d.vetoed) {
-                    continue;
-                }
-                storedQuery.bindParameters(new JdbcParameterBinder(ctx.connection, stmt, storedQuery), ctx.invocationContext, d.entity, d.previousValues);
-                stmt.addBatch();
+        private int resolveBatchSize() {
+            Object hint = storedQuery.getQueryHints().get(DataJdbcConfiguration.BATCH_SIZE_HINT);
+            if (hint != null) {
+                return conversionService.convertRequired(hint, Integer.class);
             }
+            return jdbcConfiguration.getBatchSize();
+        }
+
+        /**
+         * Resolves the number of the rows inserted by a single multi-row insert statement.
+         *
+         * @param batchSize The batch size
+         * @return The number of the rows or {@code 0} if the multi-row insert cannot be used
+         */
+        private int resolveMultiRowInsertSize(int batchSize) {
+            Dialect dialect = storedQuery.getDialect();
+            if (!insert || !jdbcConfiguration.isMultiRowInsert() || !dialect.supportsMultiRowInsert()
+                || isJsonEntityGeneratedId(storedQuery, persistentEntity)
+                // SQL Server returns only the last generated key of a multi-row insert
+                || hasGeneratedId && dialect == Dialect.SQL_SERVER
+                || SqlQueryBuilder2.buildMultiRowInsert(storedQuery.getQuery(), 1) == null) {
+                return 0;
+            }
+            int parametersPerRow = storedQuery.getQueryBindings().size();
+            if (parametersPerRow == 0) {
+                return 0;
+            }
+            int rows = batchSize;
+            int maxParameters = dialect.getMaxParameters();
+            if (maxParameters > 0) {
+                rows = Math.min(rows, maxParameters / parametersPerRow);
+            }
+            int maxRows = dialect.getMaxInsertValuesRows();
+            return Math.min(rows, maxRows > 0 ? maxRows : DEFAULT_MULTI_ROW_INSERT_ROWS);
         }
 
         @Override
         protected void execute() {
-            if (QUERY_LOG.isDebugEnabled()) {
-                QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
-            }
             if (storedQuery.getOperationType() == StoredQuery.OperationType.INSERT_RETURNING
                 || storedQuery.getOperationType() == StoredQuery.OperationType.UPDATE_RETURNING) {
                 throw new IllegalStateException("Batch operations don't support returning operations");
             }
-            try (PreparedStatement ps = prepare(ctx.connection)) {
-                setParameters(ps, storedQuery);
-                rowsUpdated = Arrays.stream(ps.executeBatch()).sum();
-                if (hasGeneratedId) {
-                    RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
-                    List<Object> ids = new ArrayList<>();
-                    try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
-                        Dialect dialect = storedQuery.getDialect();
-                        while (generatedKeys.next()) {
-                            ids.add(getGeneratedIdentity(generatedKeys, identity, dialect));
-                        }
-                    }
-                    Iterator<Object> iterator = ids.iterator();
-                    for (Data d : entities) {
-                        if (d.vetoed) {
-                            continue;
+            List<Data> pending = entities.stream().filter(d -> !d.vetoed).toList();
+            if (pending.isEmpty()) {
+                return;
+            }
+            int batchSize = resolveBatchSize();
+            if (batchSize <= 0) {
+                batchSize = pending.size();
+            }
+            int multiRowInsertSize = resolveMultiRowInsertSize(batchSize);
+            if (multiRowInsertSize > 1) {
+                executeMultiRowInsert(pending, multiRowInsertSize);
+                return;
+            }
+            if (QUERY_LOG.isDebugEnabled()) {
+                QUERY_LOG.debug("Executing SQL query: {}", storedQuery.getQuery());
+            }
+            try (PreparedStatement ps = prepare(ctx.connection, storedQuery.getQuery())) {
+                for (int from = 0; from < pending.size(); from += batchSize) {
+                    executeChunk(ps, pending.subList(from, Math.min(from + batchSize, pending.size())));
+                }
+            } catch (SQLException e) {
+                throw sqlExceptionToDataAccessException(e, ctx.dialect, sqlException -> new DataAccessException("Error executing batch SQL UPDATE: " + sqlException.getMessage(), sqlException));
+            }
+        }
+
+        private void executeMultiRowInsert(List<Data> pending, int rowsPerStatement) {
+            PreparedStatement ps = null;
+            int statementRows = 0;
+            try {
+                for (int from = 0; from < pending.size(); from += rowsPerStatement) {
+                    List<Data> chunk = pending.subList(from, Math.min(from + rowsPerStatement, pending.size()));
+                    if (ps == null || statementRows != chunk.size()) {
+                        if (ps != null) {
+                            ps.close();
                         }
-                        if (!iterator.hasNext()) {
-                            throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
-                        } else {
-                            Object id = iterator.next();
-                            d.entity = updateEntityId(identity.getProperty(), d.entity, id);
+                        String query = SqlQueryBuilder2.buildMultiRowInsert(storedQuery.getQuery(), chunk.size());
+                        if (QUERY_LOG.isDebugEnabled()) {
+                            QUERY_LOG.debug("Executing SQL query: {}", query);
                         }
+                        ps = prepare(ctx.connection, query);
+                        statementRows = chunk.size();
                     }
-                }
-                if (storedQuery.isOptimisticLock()) {
-                    int expected = (int) entities.stream().filter(d -> !d.vetoed).count();
-                    checkOptimisticLocking(expected, rowsUpdated);
+                    // The parameters of all the rows are bound sequentially
+                    JdbcParameterBinder binder = new JdbcParameterBinder(ctx.connection, ps, storedQuery);
+                    for (Data d : chunk) {
+                        storedQuery.bindParameters(binder, ctx.invocationContext, d.entity, d.previousValues);
+                    }
+                    completeChunk(ps, chunk, ps.executeUpdate());
                 }
             } catch (SQLException e) {
-                throw sqlExceptionToDataAccessException(e, ctx.dialect, sqlException -> new DataAccessException("Error executing batch SQL UPDATE: " + sqlException.getMessage(), sqlException));
+                throw sqlExceptionToDataAccessException(e, ctx.dialect, sqlException -> new DataAccessException("Error executing SQL INSERT: " + sqlException.getMessage(), sqlException));
+            } finally {
+                if (ps != null) {
+                    try {
+                        ps.close();
+                    } catch (SQLException e) {
+                        LOG.warn("Failed to close the statement: {}", e.getMessage(), e);
+                    }
+                }
+            }
+        }
+
+        private void executeChunk(PreparedStatement ps, List<Data> chunk) throws SQLException {
+            for (Data d : chunk) {
+                storedQuery.bindParameters(new JdbcParameterBinder(ctx.connection, ps, storedQuery), ctx.invocationContext, d.entity, d.previousValues);
+                ps.addBatch();
             }
+            completeChunk(ps, chunk, Arrays.stream(ps.executeBatch()).sum());
         }
 
+        private void completeChunk(PreparedStatement ps, List<Data> chunk, int chunkRowsUpdated) throws SQLException {
+            rowsUpdated += chunkRowsUpdated;
+            if (hasGeneratedId) {
+                RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
+                List<Object> ids = new ArrayList<>(chunk.size());
+                try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                    Dialect dialect = storedQuery.getDialect();
+                    while (generatedKeys.next()) {
+                        ids.add(getGeneratedIdentity(generatedKeys, identity, dialect));
+                    }
+                }
+                Iterator<Object> iterator = ids.iterator();
+                for (Data d : chunk) {
+                    if (!iterator.hasNext()) {
+                        throw new DataAccessException("Failed to generate ID for entity: " + d.entity);
+                    } else {
+                        Object id = iterator.next();
+                        d.entity = updateEntityId(identity.getProperty(), d.entity, id);
+                    }
+                }
+            }
+            if (storedQuery.isOptimisticLock()) {
+                checkOptimisticLocking(chunk.size(), chunkRowsUpdated);
+            }
+        }
+
+    }
+
+    /**
+     * Bulk loads the entities with a Postgres copy or a JDBC batch, the associations are not cascaded
+     * and the generated identities are not read.
+     *
+     * @param <T> The entity type
+     */
+    private final class JdbcCopyEntitiesOperations<T> extends AbstractSyncEntitiesOperations<JdbcOperationContext, T, SQLException> {
+
+        private final SqlStoredQuery<T, ?> storedQuery;
+        @Nullable
+        private final PostgresCopyWriter copyWriter;
+        @Nullable
+        private final PreparedStatement ps;
+        private int rowsUpdated;
+
+        private JdbcCopyEntitiesOperations(JdbcOperationContext ctx,
+                                           RuntimePersistentEntity<T> persistentEntity,
+                                           Iterable<T> entities,
+                                           SqlStoredQuery<T, ?> storedQuery,
+                                           @Nullable PostgresCopyWriter copyWriter,
+                                           @Nullable PreparedStatement ps) {
+            super(ctx,
+                DefaultJdbcRepositoryOperations.this.cascadeOperations,
+                DefaultJdbcRepositoryOperations.this.conversionService,
+                entityEventRegistry, persistentEntity, entities, true);
+            this.storedQuery = storedQuery;
+            this.copyWriter = copyWriter;
+            this.ps = ps;
+        }
+
+        @Override
+        protected void cascadePre(Relation.Cascade cascadeType) {
+            // Not cascaded
+        }
+
+        @Override
+        protected void cascadePost(Relation.Cascade cascadeType) {
+            // Not cascaded
+        }
+
+        @Override
+        protected void execute() throws SQLException {
+            for (Data d : entities) {
+                if (d.vetoed) {
+                    continue;
+                }
+                if (copyWriter != null) {
+                    CopyRowBinder binder = new CopyRowBinder(ctx.connection, storedQuery);
+                    storedQuery.bindParameters(binder, null, d.entity, null);
+                    copyWriter.writeRow(binder.dataTypes, binder.values);
+                    rowsUpdated++;
+                } else {
+                    storedQuery.bindParameters(new JdbcParameterBinder(ctx.connection, ps, storedQuery), null, d.entity, null);
+                    ps.addBatch();
+                }
+            }
+            if (ps != null) {
+                rowsUpdated = Arrays.stream(ps.executeBatch()).sum();
+            }
+        }
     }
 
     @SuppressWarnings("VisibilityModifier")
@@ -15,9 +15,13 @@
  */
 package io.micronaut.data.jdbc.operations;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.data.jdbc.runtime.JdbcOperations;
 import io.micronaut.data.operations.RepositoryOperations;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Sub-interface for {@link RepositoryOperations} specific to JDBC implementations.
  *
@@ -25,4 +29,79 @@ import io.micronaut.data.operations.RepositoryOperations;
  * @since 1.0.0
  */
 public interface JdbcRepositoryOperations extends RepositoryOperations, JdbcOperations {
+
+    /**
+     * Loads the association of the entities by the separate queries instead of a query per entity.
+     * The referenced entities are selected by their ids, the collections are selected with the entities by the ids of the entities.
+     * The ids are chunked by the batch size and the limits of the dialect.
+     *
+     * @param entityType      The entity type
+     * @param entities        The entities
+     * @param associationPath The path of the association
+     * @param batchSize       The maximum number of the ids selected by one query, zero to use the limits of the dialect only
+     * @param <E>             The entity type
+     * @return The entities with the loaded association, the immutable entities are replaced by the new instances
+     * @since 4.12
+     */
+    @NonNull
+    <E> List<E> batchFetch(@NonNull Class<E> entityType, @NonNull List<E> entities, @NonNull String associationPath, int batchSize);
+
+    /**
+     * Loads the association of the entities by the separate queries chunked by the limits of the dialect.
+     *
+     * @param entityType      The entity type
+     * @param entities        The entities
+     * @param associationPath The path of the association
+     * @param <E>             The entity type
+     * @return The entities with the loaded association, the immutable entities are replaced by the new instances
+     * @see #batchFetch(Class, List, String, int)
+     * @since 4.12
+     */
+    @NonNull
+    default <E> List<E> batchFetch(@NonNull Class<E> entityType, @NonNull List<E> entities, @NonNull String associationPath) {
+        return batchFetch(entityType, entities, associationPath, 0);
+    }
+
+    /**
+     * Updates the columns of the entity changed since it was read or written by the repository operations.
+     * The changes are found by the snapshots of the dirty tracking enabled by the data source property {@code dirty-tracking-max-snapshots},
+     * an entity without a snapshot updates all the columns. Nothing is executed if no column has changed.
+     *
+     * @param entity The entity
+     * @param <E>    The entity type
+     * @return The updated entity, the immutable entities are replaced by the new instances
+     * @since 4.12
+     */
+    @NonNull
+    <E> E updateChanged(@NonNull E entity);
+
+    /**
+     * Bulk loads the entities into the table of the entity. On Postgres the entities are streamed
+     * with a {@code COPY ... FROM STDIN} statement, other databases use batched inserts.
+     * The entity events are triggered but the associations are not cascaded and the generated identities
+     * are not set on the entities.
+     *
+     * @param entityType The entity type
+     * @param entities   The entities
+     * @param <E>        The entity type
+     * @return The number of the inserted rows
+     * @since 4.12
+     */
+    <E> long copyAll(@NonNull Class<E> entityType, @NonNull Iterable<E> entities);
+
+    /**
+     * Bulk loads the entities of the stream into the table of the entity without collecting the stream.
+     *
+     * @param entityType The entity type
+     * @param entities   The entities
+     * @param <E>        The entity type
+     * @return The number of the inserted rows
+     * @see #copyAll(Class, Iterable)
+     * @since 4.12
+     */
+    default <E> long copyAll(@NonNull Class<E> entityType, @NonNull Stream<E> entities) {
+        try (entities) {
+            return copyAll(entityType, (Iterable<E>) entities::iterator);
+        }
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.operations;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.data.model.DataType;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Streams the rows to a Postgres {@code COPY ... FROM STDIN} statement using the text format.
+ * The rows are buffered up to {@link #BUFFER_SIZE} characters before being sent to the driver.
+ *
+ * @since 4.12
+ */
+@Internal
+final class PostgresCopyWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 65536;
+    private static final Set<DataType> SUPPORTED_TYPES = EnumSet.of(
+        DataType.BIGDECIMAL,
+        DataType.BOOLEAN,
+        DataType.BYTE,
+        DataType.BYTE_ARRAY,
+        DataType.CHARACTER,
+        DataType.DATE,
+        DataType.TIMESTAMP,
+        DataType.TIME,
+        DataType.DOUBLE,
+        DataType.FLOAT,
+        DataType.INTEGER,
+        DataType.LONG,
+        DataType.SHORT,
+        DataType.STRING,
+        DataType.UUID
+    );
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(BUFFER_SIZE);
+    private boolean completed;
+
+    private PostgresCopyWriter(CopyIn copyIn) {
+        this.copyIn = copyIn;
+    }
+
+    /**
+     * @param connection The connection
+     * @return true if the connection is a Postgres connection
+     * @throws SQLException If the connection cannot be inspected
+     */
+    static boolean isSupported(@NonNull Connection connection) throws SQLException {
+        return connection.isWrapperFor(PGConnection.class);
+    }
+
+    /**
+     * @param dataType The data type
+     * @return true if the values of the data type can be written
+     */
+    static boolean isSupported(@NonNull DataType dataType) {
+        return SUPPORTED_TYPES.contains(dataType);
+    }
+
+    /**
+     * Starts the copy.
+     *
+     * @param connection The connection
+     * @param sql        The {@code COPY ... FROM STDIN} statement
+     * @return The writer
+     * @throws SQLException If the copy cannot be started
+     */
+    static PostgresCopyWriter open(@NonNull Connection connection, @NonNull String sql) throws SQLException {
+        return new PostgresCopyWriter(connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql));
+    }
+
+    /**
+     * Writes a row.
+     *
+     * @param dataTypes The data types of the columns
+     * @param values    The values of the columns
+     * @throws SQLException If the buffered rows cannot be sent
+     */
+    void writeRow(@NonNull List<DataType> dataTypes, @NonNull List<Object> values) throws SQLException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                buffer.append('\t');
+            }
+            Object value = values.get(i);
+            if (value == null) {
+                buffer.append("\\N");
+            } else {
+                appendEscaped(format(dataTypes.get(i), value));
+            }
+        }
+        buffer.append('\n');
+        if (buffer.length() >= BUFFER_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Completes the copy.
+     *
+     * @return The number of the copied rows
+     * @throws SQLException If the copy fails
+     */
+    long complete() throws SQLException {
+        flush();
+        completed = true;
+        return copyIn.endCopy();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (!completed && copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private void appendEscaped(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> buffer.append("\\\\");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                case '\t' -> buffer.append("\\t");
+                default -> buffer.append(c);
+            }
+        }
+    }
+
+    private static String format(DataType dataType, Object value) {
+        return switch (dataType) {
+            case BOOLEAN -> value instanceof Boolean b ? (b ? "t" : "f") : value.toString();
+            case BYTE_ARRAY -> "\\x" + HexFormat.of().formatHex((byte[]) value);
+            case TIMESTAMP -> {
+                if (value instanceof ZonedDateTime zonedDateTime) {
+                    yield zonedDateTime.toOffsetDateTime().toString();
+                }
+                if (value instanceof Date date && !(value instanceof java.sql.Timestamp)) {
+                    yield date.toInstant().toString();
+                }
+                yield value.toString();
+            }
+            case DATE -> value instanceof Date date && !(value instanceof java.sql.Date)
+                ? new java.sql.Date(date.getTime()).toString()
+                : value.toString();
+            default -> value instanceof Enum<?> e ? e.name() : value.toString();
+        };
+    }
+}
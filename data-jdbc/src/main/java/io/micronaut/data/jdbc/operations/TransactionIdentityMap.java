@@ -0,0 +1,160 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.operations;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+import io.micronaut.transaction.support.TransactionSynchronization;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The entities read by the id and written in a transaction, keyed by the entity type and the identity.
+ * The map is registered as a synchronization of the transaction and removed when the transaction completes.
+ * The map is cleared when a nested or a participating transaction is rolled back, the entities written by the rolled back
+ * transaction are not kept.
+ *
+ * @since 4.12
+ */
+@Internal
+final class TransactionIdentityMap implements TransactionSynchronization {
+
+    private final Map<Object, TransactionIdentityMap> identityMaps;
+    private final Object connection;
+    private final Map<EntityKey, Object> entities = new HashMap<>();
+    private final Set<Object> invocations = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * @param identityMaps The identity maps of the active transactions keyed by the connection
+     * @param connection   The connection of the transaction
+     */
+    TransactionIdentityMap(Map<Object, TransactionIdentityMap> identityMaps, Object connection) {
+        this.identityMaps = identityMaps;
+        this.connection = connection;
+    }
+
+    /**
+     * @param persistentEntity The persistent entity
+     * @param id               The identity
+     * @param <E>              The entity type
+     * @return The entity or null if not loaded by the transaction
+     */
+    @Nullable
+    <E> E get(RuntimePersistentEntity<E> persistentEntity, Object id) {
+        return (E) entities.get(new EntityKey(persistentEntity.getIntrospection().getBeanType(), id));
+    }
+
+    /**
+     * Remembers the entity read by the id.
+     *
+     * @param persistentEntity The persistent entity
+     * @param id               The identity
+     * @param entity           The entity
+     * @param <E>              The entity type
+     * @return The entity
+     */
+    <E> E put(RuntimePersistentEntity<E> persistentEntity, Object id, @Nullable E entity) {
+        if (entity != null) {
+            entities.put(new EntityKey(persistentEntity.getIntrospection().getBeanType(), id), entity);
+        }
+        return entity;
+    }
+
+    /**
+     * Remembers the written entity.
+     *
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <E>              The entity type
+     * @return The entity
+     */
+    <E> E put(RuntimePersistentEntity<E> persistentEntity, E entity) {
+        Object id = getId(persistentEntity, entity);
+        if (id != null) {
+            put(persistentEntity, id, entity);
+        }
+        return entity;
+    }
+
+    /**
+     * Removes the deleted entity.
+     *
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <E>              The entity type
+     */
+    <E> void remove(RuntimePersistentEntity<E> persistentEntity, E entity) {
+        Object id = getId(persistentEntity, entity);
+        if (id != null) {
+            entities.remove(new EntityKey(persistentEntity.getIntrospection().getBeanType(), id));
+        }
+    }
+
+    /**
+     * Removes all the entities of the type updated or deleted by a query.
+     *
+     * @param persistentEntity The persistent entity
+     */
+    void removeAll(RuntimePersistentEntity<?> persistentEntity) {
+        Class<?> entityType = persistentEntity.getIntrospection().getBeanType();
+        entities.keySet().removeIf(key -> key.entityType == entityType);
+    }
+
+    /**
+     * Remembers the invocation of a nested or a participating transaction using the map.
+     *
+     * @param invocation The transaction status of the invocation
+     * @return true if it's the first use of the map by the invocation and the caller should call {@link #completed(Object, Status)}
+     * once the invocation is completed
+     */
+    boolean watch(Object invocation) {
+        return invocations.add(invocation);
+    }
+
+    /**
+     * Clears the map if the invocation of a nested or a participating transaction is rolled back.
+     *
+     * @param invocation The transaction status of the invocation
+     * @param status     The completion status of the invocation
+     */
+    void completed(Object invocation, Status status) {
+        invocations.remove(invocation);
+        if (status != Status.COMMITTED) {
+            entities.clear();
+        }
+    }
+
+    @Override
+    public void afterCompletion(@NonNull Status status) {
+        identityMaps.remove(connection);
+    }
+
+    @Nullable
+    private static <E> Object getId(RuntimePersistentEntity<E> persistentEntity, E entity) {
+        RuntimePersistentProperty<E> identity = persistentEntity.getIdentity();
+        return identity == null ? null : identity.getProperty().get(entity);
+    }
+
+    private record EntityKey(Class<?> entityType, Object id) {
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.jdbc.operations.JdbcRepositoryOperations
+import io.micronaut.data.tck.entities.Author
+import io.micronaut.data.tck.entities.Book
+import io.micronaut.data.tck.entities.Page
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import javax.sql.DataSource
+
+@MicronautTest
+@H2DBProperties
+class H2BatchFetchSpec extends Specification {
+
+    @Inject
+    H2BookRepository bookRepository
+
+    @Inject
+    H2AuthorRepository authorRepository
+
+    @Inject
+    JdbcRepositoryOperations operations
+
+    @Inject
+    DataSource dataSource
+
+    void cleanup() {
+        dataSource.getConnection().withCloseable { connection ->
+            connection.createStatement().withCloseable { statement ->
+                ["page", "chapter", "book", "author"].each { statement.executeUpdate("DELETE FROM " + it) }
+            }
+        }
+    }
+
+    void "test the associations are batch fetched by the repository method"() {
+        given:
+            def author1 = authorRepository.save(new Author(name: "Batch author 1"))
+            def author2 = authorRepository.save(new Author(name: "Batch author 2"))
+            def author3 = authorRepository.save(new Author(name: "Batch author 3"))
+            bookRepository.save(newBook("Batch 1", author1, [1, 2]))
+            bookRepository.save(newBook("Batch 2", author2, []))
+            bookRepository.save(newBook("Batch 3", author3, [1]))
+            bookRepository.save(newBook("Batch 4", null, [3]))
+
+        when:
+            def books = bookRepository.queryByTitleInOrderByTitle(["Batch 1", "Batch 2", "Batch 3", "Batch 4"])
+
+        then:
+            books*.title == ["Batch 1", "Batch 2", "Batch 3", "Batch 4"]
+            books*.author*.name == ["Batch author 1", "Batch author 2", "Batch author 3", null]
+            books[0].pages*.num.sort() == [1L, 2L]
+            books[1].pages.isEmpty()
+            books[2].pages*.num == [1L]
+            books[3].pages*.num == [3L]
+    }
+
+    void "test the association is batch fetched by the operations"() {
+        given:
+            def author = authorRepository.save(new Author(name: "Fetched author"))
+            bookRepository.save(newBook("Fetched 1", author, []))
+            bookRepository.save(newBook("Fetched 2", author, []))
+
+        when:
+            def books = bookRepository.findByTitleInOrderByTitle(["Fetched 1", "Fetched 2"])
+
+        then: "The author is not joined"
+            books*.author*.name == [null, null]
+
+        when:
+            books = operations.batchFetch(Book, books, "author")
+
+        then:
+            books*.author*.name == ["Fetched author", "Fetched author"]
+    }
+
+    void "test the association queries are reused"() {
+        given:
+            (1..4).each {
+                bookRepository.save(newBook("Reused " + it, authorRepository.save(new Author(name: "Reused author " + it)), []))
+            }
+            def books = bookRepository.findByTitleInOrderByTitle(["Reused 1", "Reused 2", "Reused 3", "Reused 4"])
+            def statistics = new H2QueryStatistics(dataSource)
+            statistics.reset()
+
+        when: "The ids of three authors are padded to four"
+            def three = operations.batchFetch(Book, books.subList(0, 3), "author")
+            def four = operations.batchFetch(Book, books, "author")
+
+        then: "The same query selects the authors"
+            three*.author*.name == ["Reused author 1", "Reused author 2", "Reused author 3"]
+            four*.author*.name == ["Reused author 1", "Reused author 2", "Reused author 3", "Reused author 4"]
+            statistics.statements.size() == 1
+            statistics.statements.values().first() == 2L
+    }
+
+    private static Book newBook(String title, Author author, List<Integer> pages) {
+        def book = new Book(title: title, totalPages: pages.size(), author: author)
+        pages.each { book.pages.add(new Page(num: it)) }
+        return book
+    }
+}
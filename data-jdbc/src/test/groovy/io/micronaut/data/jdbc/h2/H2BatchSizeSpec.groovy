@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest
+@H2DBProperties
+@Property(name = "datasources.default.batch-size", value = "3")
+class H2BatchSizeSpec extends Specification {
+
+    @Inject
+    H2PersonRepository personRepository
+
+    void cleanup() {
+        personRepository.deleteAll()
+    }
+
+    void "test saveAll, updateAll and deleteAll are executed in chunks"() {
+        given:
+            def people = (1..10).collect { new Person(name: "Person $it", age: it) }
+
+        when:
+            def saved = personRepository.saveAll(people).toList()
+
+        then:
+            saved.size() == 10
+            saved.every { it.id != null }
+            saved*.id.toSet().size() == 10
+            saved.collect { personRepository.findById(it.id).get().name } == saved*.name
+
+        when:
+            saved.each { it.age = it.age + 100 }
+            personRepository.updateAll(saved)
+
+        then:
+            personRepository.findAll().every { it.age > 100 }
+
+        when:
+            personRepository.deleteAll(saved)
+
+        then:
+            personRepository.count() == 0
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.model.Sort
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+
+@MicronautTest
+@H2DBProperties
+@Property(name = "datasources.default.bind-pagination", value = "true")
+class H2BindPaginationSpec extends H2PaginationSpec {
+
+    void "test the pagination of the query with expanded parameters is bound"() {
+        given:
+            def statistics = new H2QueryStatistics(dataSource)
+            def names = ["AAAAA0", "AAAAA1", "BBBBB0", "BBBBB1", "CCCCC0", "CCCCC1"]
+            statistics.reset()
+
+        when:
+            def pages = (0..2).collect {
+                pr.findAllByNameIn(names, Pageable.from(it, 2, Sort.of(Sort.Order.asc("name"))))*.name
+            }
+
+        then:
+            pages == [["AAAAA0", "AAAAA1"], ["BBBBB0", "BBBBB1"], ["CCCCC0", "CCCCC1"]]
+            statistics.statements.findAll { it.key.startsWith("SELECT") }.values().toList() == [3L]
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.exceptions.DataAccessException
+import io.micronaut.data.jdbc.mapper.ColumnIndexResolvingResultSetReader
+import io.micronaut.data.jdbc.mapper.ColumnIndexResultSetReader
+import io.micronaut.data.jdbc.mapper.ColumnNameResultSetReader
+import io.micronaut.data.jdbc.operations.JdbcRepositoryOperations
+import io.micronaut.data.model.DataType
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import javax.sql.DataSource
+
+@MicronautTest
+@H2DBProperties
+class H2ColumnIndexResolvingResultSetReaderSpec extends Specification {
+
+    @Inject
+    DataSource dataSource
+
+    @Inject
+    H2PersonRepository personRepository
+
+    @Inject
+    JdbcRepositoryOperations operations
+
+    void cleanup() {
+        personRepository.deleteAll()
+    }
+
+    void "test read the columns by the resolved index"() {
+        given:
+            def reader = new ColumnIndexResolvingResultSetReader(new ColumnNameResultSetReader(), new ColumnIndexResultSetReader(null))
+            def connection = dataSource.getConnection()
+            def resultSet = connection.createStatement().executeQuery("SELECT 1 AS id, 'abc' AS name, NULL AS \"Nick\", 2 AS id FROM DUAL")
+
+        when:
+            resultSet.next()
+
+        then:
+            reader.readLong(resultSet, "id") == 1
+            reader.readLong(resultSet, "ID") == 1
+            reader.readString(resultSet, "name") == "abc"
+            reader.readDynamic(resultSet, "nick", DataType.STRING) == null
+            reader.readDynamic(resultSet, "Nick", DataType.INTEGER) == null
+
+        when:
+            reader.readString(resultSet, "missing")
+
+        then:
+            thrown(DataAccessException)
+
+        cleanup:
+            connection.close()
+    }
+
+    void "test resolve the column indexes once per result set"() {
+        given:
+            def reader = new ColumnIndexResolvingResultSetReader(new ColumnNameResultSetReader(), new ColumnIndexResultSetReader(null))
+            def connection = dataSource.getConnection()
+            def resultSet = connection.createStatement().executeQuery("SELECT 1 AS id, 'abc' AS name, 2 AS id FROM DUAL")
+
+        when:
+            resultSet.next()
+            int[] indexes = reader.resolveColumnIndexes(resultSet, ["name", "ID", "missing"] as String[])
+
+        then:
+            indexes == [2, 1, 0] as int[]
+            reader.readDynamic(resultSet, indexes[0], DataType.STRING) == "abc"
+            reader.readDynamic(resultSet, indexes[1], DataType.LONG) == 1L
+
+        cleanup:
+            connection.close()
+    }
+
+    void "test read the entities of a result set"() {
+        given:
+            personRepository.saveAll([new Person(name: "Fred", age: 30), new Person(name: "Bob", age: 40)])
+            def connection = dataSource.getConnection()
+            def resultSet = connection.createStatement().executeQuery("SELECT * FROM person ORDER BY name")
+
+        when:
+            def people = operations.entityStream(resultSet, Person).toList()
+
+        then:
+            people*.name == ["Bob", "Fred"]
+            people*.age == [40, 30]
+
+        cleanup:
+            connection.close()
+    }
+}
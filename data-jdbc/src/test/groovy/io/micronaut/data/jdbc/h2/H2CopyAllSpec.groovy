@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.jdbc.operations.JdbcRepositoryOperations
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.util.stream.IntStream
+
+@MicronautTest
+@H2DBProperties
+@Property(name = "datasources.default.batch-size", value = "3")
+class H2CopyAllSpec extends Specification {
+
+    @Inject
+    H2PersonRepository personRepository
+
+    @Inject
+    JdbcRepositoryOperations operations
+
+    void cleanup() {
+        personRepository.deleteAll()
+    }
+
+    void "test copyAll falls back to batched inserts"() {
+        when:
+            def copied = operations.copyAll(Person, (1..10).collect { new Person(name: "Person $it", age: it) })
+
+        then:
+            copied == 10
+            personRepository.count() == 10
+            personRepository.findAll()*.name.toSet() == (1..10).collect { "Person $it".toString() }.toSet()
+    }
+
+    void "test copyAll of a stream"() {
+        when:
+            def copied = operations.copyAll(Person, IntStream.rangeClosed(1, 7).mapToObj { new Person(name: "Person $it", age: it) })
+
+        then:
+            copied == 7
+            personRepository.count() == 7
+    }
+}
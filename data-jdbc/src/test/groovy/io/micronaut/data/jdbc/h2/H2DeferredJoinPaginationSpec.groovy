@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.model.PersistentEntity
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+
+@MicronautTest
+@H2DBProperties
+@Property(name = "datasources.default.deferred-join-offset", value = "1")
+class H2DeferredJoinPaginationSpec extends H2PaginationSpec {
+
+    void "test build the deferred join query"() {
+        given:
+            SqlQueryBuilder2 builder = new SqlQueryBuilder2(Dialect.H2)
+            def entity = PersistentEntity.of(Person)
+
+        expect:
+            builder.buildDeferredJoinQuery(entity,
+                    'SELECT person_.`id`,person_.`name` FROM `person` person_ WHERE (person_.`name` LIKE ?)',
+                    ' ORDER BY person_.`name` ASC LIMIT 10 OFFSET 100') ==
+                    'SELECT person_.`id`,person_.`name` FROM `person` person_ INNER JOIN (SELECT person_.`id` FROM `person` person_ WHERE (person_.`name` LIKE ?) ORDER BY person_.`name` ASC LIMIT 10 OFFSET 100) person_page_ ON person_.`id` = person_page_.`id` ORDER BY person_.`name` ASC'
+            builder.buildDeferredJoinQuery(entity,
+                    'SELECT DISTINCT person_.`name` FROM `person` person_',
+                    ' LIMIT 10 OFFSET 100') == null
+    }
+}
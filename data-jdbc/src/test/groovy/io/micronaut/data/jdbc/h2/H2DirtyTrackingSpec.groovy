@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.exceptions.OptimisticLockException
+import io.micronaut.data.jdbc.operations.JdbcRepositoryOperations
+import io.micronaut.data.tck.entities.Book
+import io.micronaut.data.tck.entities.Student
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.TransactionOperations
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import javax.sql.DataSource
+import java.sql.Connection
+
+@MicronautTest(transactional = false)
+@H2DBProperties
+@Property(name = "datasources.default.dirty-tracking-max-snapshots", value = "100")
+class H2DirtyTrackingSpec extends Specification {
+
+    @Inject
+    H2BookRepository bookRepository
+
+    @Inject
+    H2StudentRepository studentRepository
+
+    @Inject
+    JdbcRepositoryOperations operations
+
+    @Inject
+    TransactionOperations<Connection> transactionOperations
+
+    @Inject
+    DataSource dataSource
+
+    void cleanup() {
+        bookRepository.deleteAll()
+        studentRepository.deleteAll()
+    }
+
+    void "test only the changed columns are updated"() {
+        given:
+            def id = bookRepository.save(new Book(title: "Dirty", totalPages: 100)).id
+            def book = bookRepository.findById(id).get()
+
+        when: "The pages are changed by another statement"
+            bookRepository.setPages(200, "Dirty")
+            book.title = "Dirty changed"
+            book = operations.updateChanged(book)
+            def updated = bookRepository.findById(id).get()
+
+        then: "The pages are not overwritten"
+            book.title == "Dirty changed"
+            updated.title == "Dirty changed"
+            updated.totalPages == 200
+
+        when: "Nothing is changed"
+            bookRepository.setPages(300, "Dirty changed")
+            operations.updateChanged(updated)
+
+        then:
+            bookRepository.findById(id).get().totalPages == 300
+
+        when: "A new instance has no snapshot"
+            operations.updateChanged(new Book(id: id, title: "Dirty detached", totalPages: 50))
+            updated = bookRepository.findById(id).get()
+
+        then: "All the columns are updated"
+            updated.title == "Dirty detached"
+            updated.totalPages == 50
+    }
+
+    void "test the snapshot is dropped when the transaction is rolled back"() {
+        given:
+            def id = bookRepository.save(new Book(title: "Rollback", totalPages: 100)).id
+            def book = bookRepository.findById(id).get()
+
+        when: "The update is rolled back"
+            transactionOperations.executeWrite { status ->
+                book.title = "Rollback changed"
+                operations.updateChanged(book)
+                status.setRollbackOnly()
+            }
+
+        then:
+            bookRepository.findById(id).get().title == "Rollback"
+
+        when: "The entity is updated again"
+            operations.updateChanged(book)
+
+        then: "The change of the rolled back transaction is written"
+            bookRepository.findById(id).get().title == "Rollback changed"
+    }
+
+    void "test the snapshot is removed when the entity is deleted"() {
+        given:
+            def book = bookRepository.save(new Book(title: "Deleted", totalPages: 100))
+            book = bookRepository.findById(book.id).get()
+            def statistics = new H2QueryStatistics(dataSource)
+
+        when:
+            bookRepository.delete(book)
+            statistics.reset()
+            operations.updateChanged(book)
+
+        then: "The entity has no snapshot and all the columns are updated"
+            statistics.count("UPDATE ") == 1
+    }
+
+    void "test the version is checked by the partial update"() {
+        given:
+            def id = studentRepository.save(new Student("Versioned")).id
+            def student = studentRepository.findById(id).get()
+            def stale = studentRepository.findById(id).get()
+            def version = student.version
+
+        when:
+            student.name = "Versioned changed"
+            student = operations.updateChanged(student)
+
+        then:
+            student.version == version + 1
+            studentRepository.findById(id).get().version == version + 1
+
+        when: "The entity read before the update is changed"
+            stale.name = "Versioned stale"
+            operations.updateChanged(stale)
+
+        then:
+            thrown(OptimisticLockException)
+            studentRepository.findById(id).get().name == "Versioned changed"
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.jdbc.DataSourceTransactionManager
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import javax.sql.DataSource
+
+@MicronautTest(transactional = false)
+@H2DBProperties
+@Property(name = "datasources.other.name", value = "othercachedb")
+@Property(name = "datasources.other.schema-generate", value = "CREATE_DROP")
+@Property(name = "datasources.other.dialect", value = "H2")
+@Property(name = "datasources.other.packages", value = "io.micronaut.data.jdbc.h2")
+@Property(name = "datasources.other.driverClassName", value = "org.h2.Driver")
+@Property(name = "datasources.other.url", value = "jdbc:h2:mem:othercachedb;LOCK_TIMEOUT=10000;DB_CLOSE_ON_EXIT=FALSE")
+@Property(name = "datasources.other.username", value = "")
+@Property(name = "datasources.other.password", value = "")
+class H2EntityCacheSpec extends Specification {
+
+    @Inject
+    H2CachedCountryRepository countryRepository
+
+    @Inject
+    OtherCachedCountryRepository otherCountryRepository
+
+    @Inject
+    DataSource dataSource
+
+    @Inject
+    DataSourceTransactionManager transactionManager
+
+    void "test the entity is cached by the id"() {
+        given:
+            def id = countryRepository.save(new CachedCountry(name: "Czechia")).id
+            countryRepository.findById(id).get()
+
+        when: "The row is changed bypassing the repositories"
+            updateName(id, "Czech Republic")
+
+        then: "The cached entity is returned"
+            countryRepository.findById(id).get().name == "Czechia"
+
+        when: "The entity is updated by the repository"
+            countryRepository.update(new CachedCountry(id: id, name: "Czech Republic"))
+
+        then:
+            countryRepository.findById(id).get().name == "Czech Republic"
+
+        when: "The entity is updated by a query"
+            countryRepository.update(id, "Bohemia")
+
+        then:
+            countryRepository.findById(id).get().name == "Bohemia"
+
+        when: "The entity is deleted"
+            countryRepository.deleteById(id)
+
+        then:
+            !countryRepository.findById(id).isPresent()
+
+        cleanup:
+            countryRepository.deleteAll()
+    }
+
+    void "test the cache is bypassed by the transaction writing the entity"() {
+        given:
+            def id = countryRepository.save(new CachedCountry(name: "Austria")).id
+            countryRepository.findById(id).get()
+
+        when:
+            def names = transactionManager.executeWrite {
+                def before = countryRepository.findById(id).get().name
+                countryRepository.update(id, "Österreich")
+                [before, countryRepository.findById(id).get().name]
+            }
+
+        then:
+            names == ["Austria", "Österreich"]
+            countryRepository.findById(id).get().name == "Österreich"
+
+        cleanup:
+            countryRepository.deleteAll()
+    }
+
+    void "test the cached entity is copied"() {
+        given:
+            def id = countryRepository.save(new CachedCountry(name: "Hungary")).id
+            def loaded = countryRepository.findById(id).get()
+
+        when: "The returned entity is modified"
+            def cached = countryRepository.findById(id).get()
+            cached.name = "Magyarország"
+            loaded.name = "Magyar"
+
+        then: "The cached entity is not changed"
+            !cached.is(countryRepository.findById(id).get())
+            countryRepository.findById(id).get().name == "Hungary"
+
+        cleanup:
+            countryRepository.deleteAll()
+    }
+
+    void "test only the entities written by the transaction are removed after the commit"() {
+        given:
+            def slovakia = countryRepository.save(new CachedCountry(name: "Slovakia")).id
+            def slovenia = countryRepository.save(new CachedCountry(name: "Slovenia")).id
+            countryRepository.findById(slovakia).get()
+            countryRepository.findById(slovenia).get()
+            updateName(slovenia, "Slovenija")
+
+        when:
+            transactionManager.executeWrite {
+                countryRepository.update(new CachedCountry(id: slovakia, name: "Slovensko"))
+            }
+
+        then: "The entity not written by the transaction stays cached"
+            countryRepository.findById(slovakia).get().name == "Slovensko"
+            countryRepository.findById(slovenia).get().name == "Slovenia"
+
+        when: "The entities are updated by a query in the transaction"
+            transactionManager.executeWrite {
+                countryRepository.update(slovakia, "Slovak Republic")
+            }
+
+        then: "All the entities of the type are removed"
+            countryRepository.findById(slovenia).get().name == "Slovenija"
+
+        cleanup:
+            countryRepository.deleteAll()
+    }
+
+    void "test the entities are cached by the data source"() {
+        given:
+            def id = countryRepository.save(new CachedCountry(name: "Norway")).id
+            countryRepository.findById(id).get()
+
+        expect: "The entity cached by the default data source is not returned by the other data source"
+            !otherCountryRepository.findById(id).isPresent()
+            countryRepository.findById(id).get().name == "Norway"
+
+        cleanup:
+            countryRepository.deleteAll()
+    }
+
+    private void updateName(Long id, String name) {
+        dataSource.getConnection().withCloseable { connection ->
+            connection.prepareStatement("UPDATE cached_country SET name = ? WHERE id = ?").withCloseable { statement ->
+                statement.setString(1, name)
+                statement.setLong(2, id)
+                statement.executeUpdate()
+            }
+        }
+    }
+
+    @JdbcRepository(dataSource = "other", dialect = Dialect.H2)
+    static interface OtherCachedCountryRepository extends CrudRepository<CachedCountry, Long> {
+    }
+}
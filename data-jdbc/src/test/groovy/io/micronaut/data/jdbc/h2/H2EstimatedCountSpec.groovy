@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.model.query.builder.sql.SqlEstimatedCountQueryBuilder
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest
+@H2DBProperties
+class H2EstimatedCountSpec extends Specification {
+
+    @Inject
+    H2PersonRepository personRepository
+
+    @Inject
+    H2AsyncPersonRepository asyncPersonRepository
+
+    void setup() {
+        personRepository.saveAll((1..50).collect { new Person(name: "A" + it, age: it) })
+        personRepository.save(new Person(name: "B", age: 1))
+    }
+
+    void cleanup() {
+        personRepository.deleteAll()
+    }
+
+    void "test the count above the cap is estimated"() {
+        when:
+            def page = personRepository.searchByNameLike("A%", Pageable.from(0, 10))
+
+        then:
+            page.numberOfElements == 10
+            page.totalSize == 20
+            page.totalSizeEstimated
+            page.hasNext()
+
+        when:
+            page = personRepository.searchByNameLike("A%", Pageable.from(3, 10))
+
+        then: "The next page is resolved from the content"
+            page.numberOfElements == 10
+            page.totalSizeEstimated
+            page.hasNext()
+    }
+
+    void "test the count of an async page is estimated"() {
+        when:
+            def page = asyncPersonRepository.searchByNameLike("A%", Pageable.from(0, 10)).get()
+
+        then:
+            page.numberOfElements == 10
+            page.totalSize == 20
+            page.totalSizeEstimated
+            page.hasNext()
+
+        when: "The total size is known from the last page"
+            page = asyncPersonRepository.searchByNameLike("A%", Pageable.from(4, 12)).get()
+
+        then:
+            page.numberOfElements == 2
+            page.totalSize == 50
+            !page.totalSizeEstimated
+    }
+
+    void "test the count below the cap is exact"() {
+        when:
+            def page = personRepository.readByNameLike("A%", Pageable.from(0, 10))
+
+        then:
+            page.numberOfElements == 10
+            page.totalSize == 50
+            !page.totalSizeEstimated
+            page.totalPages == 5
+    }
+
+    void "test the estimated count queries"() {
+        expect:
+            SqlEstimatedCountQueryBuilder.buildCappedCountQuery(dialect, countQuery, 100) == cappedQuery
+
+        where:
+            dialect            | countQuery                                                                  | cappedQuery
+            Dialect.H2         | "SELECT COUNT(*) FROM person person_ WHERE (person_.name LIKE ?)"           | "SELECT COUNT(*) FROM (SELECT 1 AS count_row_ FROM person person_ WHERE (person_.name LIKE ?) LIMIT 101) estimated_count_"
+            Dialect.ORACLE     | "SELECT COUNT(*) FROM person person_"                                       | "SELECT COUNT(*) FROM (SELECT 1 AS count_row_ FROM person person_ FETCH NEXT 101 ROWS ONLY) estimated_count_"
+            Dialect.SQL_SERVER | "SELECT COUNT(DISTINCT(person_.id)) FROM person person_ JOIN book b ON 1=1" | "SELECT COUNT(*) FROM (SELECT DISTINCT TOP 101 (person_.id) AS count_row_ FROM person person_ JOIN book b ON 1=1) estimated_count_"
+    }
+
+    void "test the row estimates of the query plans"() {
+        expect:
+            SqlEstimatedCountQueryBuilder.buildExplainQuery(Dialect.POSTGRES, "SELECT COUNT(*) FROM person person_") == "EXPLAIN SELECT 1 AS count_row_ FROM person person_"
+            SqlEstimatedCountQueryBuilder.parseExplainResult(Dialect.POSTGRES, "Seq Scan on person person_  (cost=0.00..22.70 rows=1270 width=4)") == 1270
+            SqlEstimatedCountQueryBuilder.parseExplainResult(Dialect.MYSQL, '{"table": {"rows_produced_per_join": 10}, "nested_loop": [{"table": {"rows_produced_per_join": 300}}]}') == 300
+            !SqlEstimatedCountQueryBuilder.isSupported("SELECT MAX(person_.age) FROM person person_")
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.core.annotation.AnnotationMetadata
+import io.micronaut.data.model.jpa.criteria.impl.QueryResultPersistentEntityCriteriaQuery
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2
+import io.micronaut.data.model.runtime.RuntimeEntityRegistry
+import io.micronaut.data.runtime.criteria.RuntimeCriteriaBuilder
+import io.micronaut.data.runtime.operations.internal.sql.DefaultSqlPreparedQuery
+import io.micronaut.data.runtime.operations.internal.sql.DefaultSqlStoredQuery
+import io.micronaut.data.runtime.operations.internal.sql.SqlQueryOptions
+import io.micronaut.data.runtime.query.internal.QueryResultStoredQuery
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest(transactional = false)
+@H2DBProperties
+class H2ExpandedQueryCacheSpec extends Specification {
+
+    @Inject
+    RuntimeEntityRegistry runtimeEntityRegistry
+
+    void "test the IN lists padded to the same size share the expanded query"() {
+        given:
+            def names = []
+            def criteriaBuilder = new RuntimeCriteriaBuilder(runtimeEntityRegistry)
+            def criteriaQuery = criteriaBuilder.createQuery(Person)
+            def root = criteriaQuery.from(Person)
+            criteriaQuery.where(root.get("name").in(criteriaBuilder.parameter(List, null, names)))
+            def queryBuilder = new SqlQueryBuilder2(Dialect.H2)
+            def queryResult = ((QueryResultPersistentEntityCriteriaQuery) criteriaQuery).buildQuery(AnnotationMetadata.EMPTY_METADATA, queryBuilder)
+            def storedQuery = new DefaultSqlStoredQuery(
+                    QueryResultStoredQuery.many("In list", AnnotationMetadata.EMPTY_METADATA, queryResult, Person, Person, false, queryResult.joinPaths),
+                    runtimeEntityRegistry.getEntity(Person),
+                    queryBuilder
+            )
+            def queryOptions = new SqlQueryOptions(false, false, true, 0, 0)
+
+        when:
+            def queries = (5..8).collect { size ->
+                names.clear()
+                (1..size).each { names << "Name " + it }
+                def preparedQuery = new DefaultSqlPreparedQuery(storedQuery, queryOptions)
+                preparedQuery.prepare(null)
+                preparedQuery.query
+            }
+
+        then:
+            queries.unique().size() == 1
+            queries[0].count("?") == 8
+            storedQuery.@expandedQueries.size() == 1
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.model.Sort
+import io.micronaut.data.tck.entities.Book
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import javax.sql.DataSource
+
+@MicronautTest
+@H2DBProperties
+@Property(name = "datasources.default.in-list-chunk-size", value = "2")
+class H2InListChunkSpec extends Specification {
+
+    @Inject
+    H2BookRepository bookRepository
+
+    @Inject
+    DataSource dataSource
+
+    void "test the chunks of an IN list are merged"() {
+        given:
+            ["Chunk C", "Chunk A", "Chunk E", "Chunk B", "Chunk D"].each {
+                bookRepository.save(new Book(title: it, totalPages: it.charAt(6) as int))
+            }
+            def statistics = new H2QueryStatistics(dataSource)
+            statistics.reset()
+
+        when: "The unordered query is split"
+            def books = bookRepository.findByTitleIn(["Chunk A", "Chunk B", "Chunk C", "Chunk D", "Chunk E", "Chunk A"], Sort.unsorted())
+
+        then: "Every entity is returned once"
+            books*.title.sort() == ["Chunk A", "Chunk B", "Chunk C", "Chunk D", "Chunk E"]
+            statistics.count("SELECT ") == 3
+
+        when: "The ordered query is executed as a single statement"
+            statistics.reset()
+            books = bookRepository.findByTitleIn(["Chunk A", "Chunk B", "Chunk C", "Chunk D", "Chunk E"], Sort.of(Sort.Order.desc("title")))
+
+        then:
+            books*.title == ["Chunk E", "Chunk D", "Chunk C", "Chunk B", "Chunk A"]
+            statistics.count("SELECT ") == 1
+
+        when:
+            statistics.reset()
+            def deleted = bookRepository.deleteByTitleIn(["Chunk A", "Chunk B", "Chunk C", "Chunk D", "Chunk E"])
+
+        then:
+            deleted == 5
+            statistics.count("DELETE ") == 3
+            bookRepository.findByTitleIn(["Chunk A", "Chunk B", "Chunk C", "Chunk D", "Chunk E"], Sort.unsorted()).isEmpty()
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.data.event.EntityEventContext
+import io.micronaut.data.event.EntityEventListener
+import io.micronaut.data.tck.entities.Author
+import io.micronaut.data.tck.entities.Book
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import spock.lang.Specification
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+@MicronautTest
+@H2DBProperties
+@Property(name = "spec.name", value = "H2JoinFetchStreamSpec")
+class H2JoinFetchStreamSpec extends Specification {
+
+    @Inject
+    H2AuthorRepository authorRepository
+
+    @Inject
+    H2BookRepository bookRepository
+
+    @Inject
+    AuthorLoadListener authorLoadListener
+
+    void "test the rows of the joined collection are grouped by the streamed root"() {
+        given:
+            saveAuthor("Stream author 1", 3)
+            saveAuthor("Stream author 2", 0)
+            saveAuthor("Stream author 3", 1)
+            saveAuthor("Stream author 4", 2)
+            authorLoadListener.loaded.clear()
+
+        when:
+            def authors = []
+            def loadedWithFirst = null
+            authorRepository.queryByIdIsNotNull().withCloseable { stream ->
+                def iterator = stream.iterator()
+                authors << iterator.next()
+                loadedWithFirst = new ArrayList<>(authorLoadListener.loaded)
+                iterator.forEachRemaining { authors << it }
+            }
+
+        then: "The first author is emitted before the following rows are mapped"
+            loadedWithFirst == ["Stream author 1"]
+
+        and: "Every author is emitted once with all its books"
+            authors*.name == ["Stream author 1", "Stream author 2", "Stream author 3", "Stream author 4"]
+            authors*.books*.size() == [3, 0, 1, 2]
+            authors.every { author -> author.books.every { it.title.startsWith(author.name) } }
+            authorLoadListener.loaded == authors*.name
+    }
+
+    private void saveAuthor(String name, int books) {
+        def author = authorRepository.save(new Author(name: name))
+        (1..<books + 1).each {
+            bookRepository.save(new Book(title: name + " book " + it, totalPages: it, author: author))
+        }
+    }
+}
+
+@Requires(property = "spec.name", value = "H2JoinFetchStreamSpec")
+@Singleton
+class AuthorLoadListener implements EntityEventListener<Author> {
+
+    final List<String> loaded = new CopyOnWriteArrayList<>()
+
+    @Override
+    void postLoad(EntityEventContext<Author> context) {
+        loaded.add(context.entity.name)
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.jdbc.DataSourceTransactionManager
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import javax.sql.DataSource
+
+@MicronautTest(transactional = false)
+@H2DBProperties
+@Property(name = "datasources.default.lazy-connection", value = "true")
+class H2LazyConnectionSpec extends Specification {
+
+    @Inject
+    H2PersonRepository personRepository
+
+    @Inject
+    DataSource dataSource
+
+    @Inject
+    DataSourceTransactionManager transactionManager
+
+    void cleanup() {
+        personRepository.deleteAll()
+    }
+
+    void "test the transaction without a statement doesn't acquire a connection"() {
+        when:
+            def active = transactionManager.executeWrite { activeConnections() }
+
+        then:
+            active == 0
+    }
+
+    void "test the connection is acquired by the first statement"() {
+        when:
+            def result = transactionManager.executeWrite { status ->
+                def before = activeConnections()
+                personRepository.save(new Person(name: "Fred"))
+                [before, activeConnections(), status.connection.autoCommit]
+            }
+
+        then:
+            result == [0, 1, false]
+            activeConnections() == 0
+            personRepository.count() == 1
+    }
+
+    void "test the rollback of the acquired connection"() {
+        when:
+            transactionManager.executeWrite { status ->
+                personRepository.save(new Person(name: "Fred"))
+                status.setRollbackOnly()
+            }
+
+        then:
+            personRepository.count() == 0
+    }
+
+    void "test only the settings of the transaction are applied to the acquired connection"() {
+        when:
+            def readOnly = transactionManager.executeRead { status ->
+                personRepository.count()
+                status.connection.readOnly
+            }
+            def readWrite = transactionManager.executeWrite { status ->
+                personRepository.save(new Person(name: "Fred"))
+                [status.connection.readOnly, status.connection.autoCommit]
+            }
+
+        then:
+            readOnly
+            readWrite == [false, false]
+            personRepository.count() == 1
+    }
+
+    private int activeConnections() {
+        // The active connections of the Tomcat pool
+        return DelegatingDataSource.unwrapDataSource(dataSource).active
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.tck.entities.Person
+
+import javax.sql.DataSource
+
+class H2MultiRowInsertRepositorySpec extends H2RepositorySpec {
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'datasources.default.multi-row-insert': "true"
+        ]
+    }
+
+    void "test the rows of a multi-row insert are limited without a batch size"() {
+        given:
+            def statistics = new H2QueryStatistics(context.getBean(DataSource))
+            statistics.reset()
+
+        when:
+            def people = pr.saveAll((0..1000).collect { new Person(name: "Multi row " + it) })
+
+        then:
+            people.every { it.id != null }
+            people*.id.toSet().size() == 1001
+            statistics.statements.findAll { it.key.startsWith("INSERT") }.values().sum() == 2L
+    }
+}
@@ -15,6 +15,9 @@
  */
 package io.micronaut.data.jdbc.h2
 
+import io.micronaut.data.model.Page
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.tck.entities.Person
 import io.micronaut.data.tck.repositories.BookRepository
 import io.micronaut.data.tck.repositories.PersonRepository
 import io.micronaut.data.tck.tests.AbstractPageSpec
@@ -23,6 +26,8 @@ import spock.lang.Shared
 
 import jakarta.inject.Inject
 
+import javax.sql.DataSource
+
 @MicronautTest
 @H2DBProperties
 class H2PaginationSpec extends AbstractPageSpec {
@@ -34,6 +39,11 @@ class H2PaginationSpec extends AbstractPageSpec {
     @Shared
     H2BookRepository br
 
+    @Inject
+    DataSource dataSource
+
+    H2QueryStatistics statistics
+
     @Override
     PersonRepository getPersonRepository() {
         return pr
@@ -48,4 +58,37 @@ class H2PaginationSpec extends AbstractPageSpec {
     void init() {
         pr.deleteAll()
     }
+
+    @Override
+    boolean resetCountQueries() {
+        statistics = new H2QueryStatistics(dataSource)
+        statistics.reset()
+        return true
+    }
+
+    @Override
+    long getExecutedCountQueries() {
+        return statistics.count("SELECT COUNT(")
+    }
+
+    void "test count the total size concurrently"() {
+        given:
+        resetCountQueries()
+
+        when: "A page is retrieved with the concurrent count"
+        Page<Person> page = pr.queryByNameLike("A%", Pageable.from(0, 12))
+
+        then: "The count query is executed with the data query"
+        page.numberOfElements == 12
+        page.totalSize == 50
+        page.totalPages == 5
+        executedCountQueries == 1
+
+        when: "The last page is retrieved"
+        page = pr.queryByNameLike("A%", Pageable.from(4, 12))
+
+        then: "The total size is resolved from the results without waiting for the count query"
+        page.numberOfElements == 2
+        page.totalSize == 50
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.model.Sort
+import io.micronaut.data.model.runtime.RuntimeEntityRegistry
+import io.micronaut.data.runtime.support.EntityCacheRegistry
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.jdbc.DataSourceTransactionManager
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import javax.sql.DataSource
+
+@MicronautTest(transactional = false)
+@H2DBProperties
+class H2QueryResultCacheSpec extends Specification {
+
+    @Inject
+    H2CachedCityRepository cityRepository
+
+    @Inject
+    H2CachedCountryRepository countryRepository
+
+    @Inject
+    DataSource dataSource
+
+    @Inject
+    DataSourceTransactionManager transactionManager
+
+    @Inject
+    EntityCacheRegistry entityCacheRegistry
+
+    @Inject
+    RuntimeEntityRegistry runtimeEntityRegistry
+
+    void "test the entities read by the cached queries are tracked before the first execution"() {
+        expect:
+            entityCacheRegistry.isQueried(runtimeEntityRegistry.getEntity(CachedCity))
+            entityCacheRegistry.isQueried(runtimeEntityRegistry.getEntity(CachedCountry))
+    }
+
+    void "test the query results are cached by the parameters"() {
+        given:
+            def czechia = countryRepository.save(new CachedCountry(name: "Czechia"))
+            def prague = cityRepository.save(new CachedCity(name: "Prague", country: czechia))
+            cityRepository.save(new CachedCity(name: "Brno", country: czechia))
+
+        expect:
+            cityRepository.findByCountryNameOrderByName("Czechia")*.name == ["Brno", "Prague"]
+            cityRepository.countByName("Prague") == 1
+
+        when: "The rows are changed bypassing the repositories"
+            executeUpdate("UPDATE cached_city SET name = 'Praha' WHERE id = " + prague.id)
+
+        then: "The cached results are returned"
+            cityRepository.findByCountryNameOrderByName("Czechia")*.name == ["Brno", "Prague"]
+            cityRepository.countByName("Prague") == 1
+            cityRepository.countByName("Praha") == 1
+
+        when: "The root entity is written by the repository"
+            cityRepository.save(new CachedCity(name: "Ostrava", country: czechia))
+
+        then:
+            cityRepository.findByCountryNameOrderByName("Czechia")*.name == ["Brno", "Ostrava", "Praha"]
+            cityRepository.countByName("Prague") == 0
+
+        when: "The joined entity is updated by a query"
+            countryRepository.update(czechia.id, "Czech Republic")
+
+        then:
+            cityRepository.findByCountryNameOrderByName("Czechia").isEmpty()
+            cityRepository.findByCountryNameOrderByName("Czech Republic").size() == 3
+
+        cleanup:
+            cityRepository.deleteAll()
+            countryRepository.deleteAll()
+    }
+
+    void "test the slice query results are cached"() {
+        given:
+            def slovakia = countryRepository.save(new CachedCountry(name: "Slovakia"))
+            def bratislava = cityRepository.save(new CachedCity(name: "Bratislava", country: slovakia))
+            cityRepository.save(new CachedCity(name: "Kosice", country: slovakia))
+            cityRepository.save(new CachedCity(name: "Nitra", country: slovakia))
+            def pageable = Pageable.from(0, 2, Sort.of(Sort.Order.asc("name")))
+            def slice = cityRepository.findByCountryName("Slovakia", pageable)
+
+        when: "The rows are changed bypassing the repositories"
+            executeUpdate("UPDATE cached_city SET name = 'Presporok' WHERE id = " + bratislava.id)
+            def cached = cityRepository.findByCountryName("Slovakia", Pageable.from(0, 2, Sort.of(Sort.Order.asc("name"))))
+
+        then: "The second call is a cache hit"
+            slice.content*.name == ["Bratislava", "Kosice"]
+            slice.hasNext()
+            cached.content*.name == ["Bratislava", "Kosice"]
+            cached.hasNext()
+
+        cleanup:
+            cityRepository.deleteAll()
+            countryRepository.deleteAll()
+    }
+
+    void "test the cache is bypassed by the transaction writing the entity"() {
+        given:
+            def austria = countryRepository.save(new CachedCountry(name: "Austria"))
+            cityRepository.save(new CachedCity(name: "Vienna", country: austria))
+            cityRepository.findByCountryNameOrderByName("Austria")
+
+        when:
+            def names = transactionManager.executeWrite {
+                def before = cityRepository.findByCountryNameOrderByName("Austria")*.name
+                cityRepository.save(new CachedCity(name: "Graz", country: austria))
+                [before, cityRepository.findByCountryNameOrderByName("Austria")*.name]
+            }
+
+        then:
+            names == [["Vienna"], ["Graz", "Vienna"]]
+            cityRepository.findByCountryNameOrderByName("Austria")*.name == ["Graz", "Vienna"]
+
+        cleanup:
+            cityRepository.deleteAll()
+            countryRepository.deleteAll()
+    }
+
+    private void executeUpdate(String sql) {
+        dataSource.getConnection().withCloseable { connection ->
+            connection.prepareStatement(sql).withCloseable { statement ->
+                statement.executeUpdate()
+            }
+        }
+    }
+}
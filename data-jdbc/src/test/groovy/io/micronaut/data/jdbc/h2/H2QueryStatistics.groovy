@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource
+
+import javax.sql.DataSource
+
+/**
+ * The statements executed by the H2 database, recorded by the query statistics of the database.
+ */
+class H2QueryStatistics {
+
+    private final DataSource dataSource
+
+    H2QueryStatistics(DataSource dataSource) {
+        this.dataSource = DelegatingDataSource.unwrapDataSource(dataSource)
+    }
+
+    /**
+     * Starts recording the statements from scratch.
+     */
+    void reset() {
+        dataSource.getConnection().withCloseable { connection ->
+            connection.createStatement().withCloseable { statement ->
+                statement.execute("SET QUERY_STATISTICS FALSE")
+                statement.execute("SET QUERY_STATISTICS TRUE")
+            }
+        }
+    }
+
+    /**
+     * @return The number of the executions of the recorded statements
+     */
+    Map<String, Long> getStatements() {
+        Map<String, Long> statements = [:]
+        dataSource.getConnection().withCloseable { connection ->
+            connection.createStatement().withCloseable { statement ->
+                statement.executeQuery("SELECT SQL_STATEMENT, EXECUTION_COUNT FROM INFORMATION_SCHEMA.QUERY_STATISTICS").withCloseable { resultSet ->
+                    while (resultSet.next()) {
+                        String sql = resultSet.getString(1)
+                        if (!sql.contains("QUERY_STATISTICS")) {
+                            statements[sql] = resultSet.getLong(2)
+                        }
+                    }
+                }
+            }
+        }
+        return statements
+    }
+
+    /**
+     * @param prefix The prefix of the statements
+     * @return The number of the executions of the statements starting with the prefix
+     */
+    long count(String prefix) {
+        return getStatements().findAll { it.key.startsWith(prefix) }.values().sum(0L) as long
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.TransactionDefinition
+import io.micronaut.transaction.jdbc.DataSourceTransactionManager
+import io.micronaut.transaction.support.DefaultTransactionDefinition
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest(packages = "io.micronaut.data.tck.entities", transactional = false)
+@H2DBProperties
+@Property(name = "datasources.default.read-replicas", value = "replica")
+@Property(name = "datasources.replica.name", value = "replicadb")
+@Property(name = "datasources.replica.schema-generate", value = "CREATE_DROP")
+@Property(name = "datasources.replica.dialect", value = "H2")
+@Property(name = "datasources.replica.packages", value = "io.micronaut.data.tck.entities,io.micronaut.data.jdbc.h2")
+@Property(name = "datasources.replica.driverClassName", value = "org.h2.Driver")
+@Property(name = "datasources.replica.url", value = "jdbc:h2:mem:replica;LOCK_TIMEOUT=10000;DB_CLOSE_ON_EXIT=FALSE")
+@Property(name = "datasources.replica.username", value = "")
+@Property(name = "datasources.replica.password", value = "")
+class H2ReadReplicaSpec extends Specification {
+
+    @Inject
+    H2PersonRepository personRepository
+
+    @Inject
+    ReplicaPersonRepository replicaPersonRepository
+
+    @Inject
+    H2CachedCountryRepository countryRepository
+
+    @Inject
+    DataSourceTransactionManager transactionManager
+
+    void cleanup() {
+        personRepository.deleteAll()
+        replicaPersonRepository.deleteAll()
+        countryRepository.deleteAll()
+    }
+
+    void "test the read-only connections are opened by the replica"() {
+        when:
+            personRepository.save(new Person(name: "Fred"))
+            replicaPersonRepository.save(new Person(name: "Joe"))
+            replicaPersonRepository.save(new Person(name: "Bob"))
+
+        then: "The finders outside of a transaction read the replica"
+            personRepository.count() == 2
+            personRepository.findAll()*.name.sort() == ["Bob", "Joe"]
+
+        and: "The read-only transactions read the replica"
+            transactionManager.executeRead { personRepository.count() } == 2
+
+        and: "The read-write transactions read the primary"
+            transactionManager.executeWrite { personRepository.count() } == 1
+    }
+
+    @Property(name = "datasources.default.read-your-writes-window", value = "1m")
+    void "test the reads following a write read the primary"() {
+        when:
+            replicaPersonRepository.save(new Person(name: "Joe"))
+
+        then:
+            personRepository.count() == 1
+
+        when:
+            personRepository.save(new Person(name: "Fred"))
+            personRepository.save(new Person(name: "Bob"))
+
+        then:
+            personRepository.count() == 2
+            transactionManager.executeRead { personRepository.count() } == 2
+    }
+
+    void "test the cached entities are read by the primary"() {
+        given: "The entity is not replicated yet"
+            def id = countryRepository.save(new CachedCountry(name: "Finland")).id
+
+        expect: "The entity is read from the primary and cached"
+            countryRepository.findById(id).get().name == "Finland"
+            countryRepository.findById(id).get().name == "Finland"
+    }
+
+    @Property(name = "datasources.default.read-replicas", value = "replica,replica2")
+    @Property(name = "datasources.default.read-replica-selection", value = "LEAST_IN_FLIGHT")
+    @Property(name = "datasources.replica2.name", value = "replica2db")
+    @Property(name = "datasources.replica2.schema-generate", value = "CREATE_DROP")
+    @Property(name = "datasources.replica2.dialect", value = "H2")
+    @Property(name = "datasources.replica2.packages", value = "io.micronaut.data.tck.entities")
+    @Property(name = "datasources.replica2.driverClassName", value = "org.h2.Driver")
+    @Property(name = "datasources.replica2.url", value = "jdbc:h2:mem:replica2;LOCK_TIMEOUT=10000;DB_CLOSE_ON_EXIT=FALSE")
+    @Property(name = "datasources.replica2.username", value = "")
+    @Property(name = "datasources.replica2.password", value = "")
+    void "test the replica with the least connections in flight is selected"() {
+        given: "The first replica has one row and the second replica is empty"
+            replicaPersonRepository.save(new Person(name: "Joe"))
+
+        when: "New connections are opened while the connection of the transaction is open"
+            def requiresNew = new DefaultTransactionDefinition(TransactionDefinition.Propagation.REQUIRES_NEW)
+            requiresNew.setReadOnly(true)
+            def counts = transactionManager.executeRead {
+                def outer = personRepository.count()
+                def inner = (1..3).collect {
+                    transactionManager.execute(requiresNew) { personRepository.count() }
+                }
+                [outer, inner]
+            }
+
+        then: "The new connections are opened by the other replica"
+            counts[1] == [1 - counts[0]] * 3
+    }
+
+    @Property(name = "datasources.default.read-replicas", value = "broken")
+    @Property(name = "datasources.broken.driverClassName", value = "org.h2.Driver")
+    @Property(name = "datasources.broken.url", value = "jdbc:h2:tcp://localhost:1/broken")
+    @Property(name = "datasources.broken.username", value = "")
+    @Property(name = "datasources.broken.password", value = "")
+    void "test the primary is used if the replica connection fails"() {
+        when:
+            personRepository.save(new Person(name: "Fred"))
+
+        then: "The read-only connections are opened by the primary"
+            personRepository.count() == 1
+            transactionManager.executeRead { personRepository.count() } == 1
+    }
+
+    @JdbcRepository(dataSource = "replica", dialect = Dialect.H2)
+    static interface ReplicaPersonRepository extends CrudRepository<Person, Long> {
+    }
+}
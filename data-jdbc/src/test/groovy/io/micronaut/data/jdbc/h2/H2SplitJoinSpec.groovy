@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.tck.entities.Author
+import io.micronaut.data.tck.entities.Book
+import io.micronaut.data.tck.entities.Chapter
+import io.micronaut.data.tck.entities.Page
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import javax.sql.DataSource
+
+@MicronautTest
+@H2DBProperties
+class H2SplitJoinSpec extends Specification {
+
+    @Inject
+    H2BookRepository bookRepository
+
+    @Inject
+    H2AuthorRepository authorRepository
+
+    @Inject
+    DataSource dataSource
+
+    void cleanup() {
+        dataSource.getConnection().withCloseable { connection ->
+            connection.createStatement().withCloseable { statement ->
+                ["page", "chapter", "book", "author"].each { statement.executeUpdate("DELETE FROM " + it) }
+            }
+        }
+    }
+
+    void "test the collections are loaded by the split queries"() {
+        given:
+            bookRepository.save(newBook("Split 1", [1, 2, 3], ["Ch1", "Ch2"]))
+            bookRepository.save(newBook("Split 2", [], ["Ch1"]))
+            bookRepository.save(newBook("Split 3", [1], []))
+            def statistics = new H2QueryStatistics(dataSource)
+            statistics.reset()
+
+        when:
+            def books = bookRepository.findByTitleInOrderByTitle(["Split 1", "Split 2", "Split 3"])
+            def selects = statistics.statements.findAll { it.key.startsWith("SELECT") }
+
+        then: "The rows of the collections aren't multiplied"
+            books*.title == ["Split 1", "Split 2", "Split 3"]
+            selects.size() == 3
+            selects.values().every { it == 1L }
+            selects.keySet().count { it.contains(" JOIN ") } == 2
+            books[0].pages*.num.sort() == [1L, 2L, 3L]
+            books[0].chapters*.title.sort() == ["Ch1", "Ch2"]
+            books[1].pages.isEmpty()
+            books[1].chapters*.title == ["Ch1"]
+            books[2].pages*.num == [1L]
+            books[2].chapters.isEmpty()
+    }
+
+    void "test the split queries are reused by the chunks of the same size"() {
+        given:
+            (1..4).each { bookRepository.save(newBook("Reused " + it, [it], ["Ch" + it])) }
+            def statistics = new H2QueryStatistics(dataSource)
+            statistics.reset()
+
+        when: "The three ids are padded to four"
+            def three = bookRepository.findByTitleInOrderByTitle(["Reused 1", "Reused 2", "Reused 3"])
+            def four = bookRepository.findByTitleInOrderByTitle(["Reused 1", "Reused 2", "Reused 3", "Reused 4"])
+            def splitQueries = statistics.statements.findAll { it.key.startsWith("SELECT") && it.key.contains(" JOIN ") }
+
+        then:
+            three*.pages*.num == [[1L], [2L], [3L]]
+            four*.chapters*.title == [["Ch1"], ["Ch2"], ["Ch3"], ["Ch4"]]
+            splitQueries.size() == 2
+            splitQueries.values().every { it == 2L }
+    }
+
+    void "test the split join of a single result"() {
+        given:
+            def author = authorRepository.save(new Author(name: "Split author"))
+            def book = newBook("Split single", [1, 2], [])
+            book.author = author
+            bookRepository.save(book)
+
+        when:
+            def loaded = bookRepository.searchByTitle("Split single")
+
+        then:
+            loaded.author.name == "Split author"
+            loaded.pages*.num.sort() == [1L, 2L]
+    }
+
+    private static Book newBook(String title, List<Integer> pages, List<String> chapters) {
+        def book = new Book(title: title, totalPages: pages.size())
+        pages.each { book.pages.add(new Page(num: it)) }
+        chapters.each { book.chapters.add(new Chapter(title: it, pages: 1)) }
+        return book
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.transaction.TransactionDefinition
+import io.micronaut.transaction.jdbc.DataSourceTransactionManager
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import javax.sql.DataSource
+
+@MicronautTest(transactional = false)
+@H2DBProperties
+@Property(name = "datasources.default.transaction-identity-map", value = "true")
+class H2TransactionIdentityMapSpec extends Specification {
+
+    @Inject
+    H2CachedCityRepository cityRepository
+
+    @Inject
+    H2CachedCountryRepository countryRepository
+
+    @Inject
+    DataSource dataSource
+
+    @Inject
+    DataSourceTransactionManager transactionManager
+
+    void "test the entity read by the id is kept by the transaction"() {
+        given:
+            def country = countryRepository.save(new CachedCountry(name: "Poland"))
+            def city = cityRepository.save(new CachedCity(name: "Krakow", country: country))
+
+        when:
+            def result = transactionManager.executeWrite {
+                def first = cityRepository.findById(city.id).get()
+                executeUpdate("UPDATE cached_city SET name = 'Kraków' WHERE id = " + city.id)
+                [first, cityRepository.findById(city.id).get()]
+            }
+
+        then:
+            result[0].is(result[1])
+            result[1].name == "Krakow"
+            cityRepository.findById(city.id).get().name == "Kraków"
+
+        cleanup:
+            cityRepository.deleteAll()
+            countryRepository.deleteAll()
+    }
+
+    void "test the association read as the id is resolved by the transaction"() {
+        given:
+            def country = countryRepository.save(new CachedCountry(name: "Poland"))
+            def city = cityRepository.save(new CachedCity(name: "Warsaw", country: country))
+
+        when:
+            def result = transactionManager.executeWrite {
+                [countryRepository.findById(country.id).get(), cityRepository.findById(city.id).get()]
+            }
+
+        then:
+            result[1].country.is(result[0])
+            result[1].country.name == "Poland"
+
+        when: "The association is read without a transaction"
+            def loaded = cityRepository.findById(city.id).get()
+
+        then:
+            loaded.country.id == country.id
+            loaded.country.name == null
+
+        cleanup:
+            cityRepository.deleteAll()
+            countryRepository.deleteAll()
+    }
+
+    void "test the identity map is updated by the writes of the transaction"() {
+        given:
+            def country = countryRepository.save(new CachedCountry(name: "Poland"))
+            def city = cityRepository.save(new CachedCity(name: "Gdansk", country: country))
+
+        when:
+            def result = transactionManager.executeWrite {
+                cityRepository.findById(city.id).get()
+                cityRepository.update(new CachedCity(id: city.id, name: "Gdańsk", country: country))
+                def updated = cityRepository.findById(city.id).get().name
+                cityRepository.deleteById(city.id)
+                [updated, cityRepository.findById(city.id).isPresent()]
+            }
+
+        then:
+            result == ["Gdańsk", false]
+
+        cleanup:
+            cityRepository.deleteAll()
+            countryRepository.deleteAll()
+    }
+
+    void "test the entities written by a rolled back nested transaction are not kept"() {
+        given:
+            def country = countryRepository.save(new CachedCountry(name: "Poland"))
+            def city = cityRepository.save(new CachedCity(name: "Lodz", country: country))
+
+        when:
+            def result = transactionManager.executeWrite {
+                def before = cityRepository.findById(city.id).get()
+                transactionManager.execute(TransactionDefinition.of(TransactionDefinition.Propagation.NESTED)) { status ->
+                    cityRepository.update(new CachedCity(id: city.id, name: "Łódź", country: country))
+                    status.setRollbackOnly()
+                }
+                [before, cityRepository.findById(city.id).get()]
+            }
+
+        then: "The entity is read again after the rollback to the savepoint"
+            !result[0].is(result[1])
+            result[1].name == "Lodz"
+
+        cleanup:
+            cityRepository.deleteAll()
+            countryRepository.deleteAll()
+    }
+
+    void "test the entity kept by the transaction is not the cached entity"() {
+        given:
+            def country = countryRepository.save(new CachedCountry(name: "Germany"))
+            countryRepository.findById(country.id).get()
+
+        when: "The entity kept by the transaction is modified"
+            transactionManager.executeWrite {
+                countryRepository.findById(country.id).get().name = "Deutschland"
+            }
+
+        then:
+            countryRepository.findById(country.id).get().name == "Germany"
+
+        cleanup:
+            countryRepository.deleteAll()
+    }
+
+    private void executeUpdate(String sql) {
+        dataSource.getConnection().withCloseable { connection ->
+            connection.prepareStatement(sql).withCloseable { statement ->
+                statement.executeUpdate()
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.data.jdbc.operations.JdbcRepositoryOperations
+import io.micronaut.data.operations.async.AsyncCapableRepository
+import io.micronaut.data.runtime.operations.ConcurrencyLimitingExecutor
+import io.micronaut.data.runtime.operations.ExecutorAsyncOperations
+import io.micronaut.data.tck.entities.Person
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CompletableFuture
+
+class H2VirtualThreadsAsyncRepositorySpec extends H2AsyncRepositorySpec {
+
+    @Override
+    Map<String, String> getProperties() {
+        return super.getProperties() + [
+                'datasources.default.virtual-threads'          : "true",
+                'datasources.default.max-concurrent-operations': "2"
+        ]
+    }
+
+    void "test concurrent operations are limited"() {
+        given:
+            def operations = (ExecutorAsyncOperations) ((AsyncCapableRepository) context.getBean(JdbcRepositoryOperations)).async()
+            def executor = (ConcurrencyLimitingExecutor) operations.getExecutor()
+
+        when:
+            def futures = (1..20).collect { personRepository.save(new Person(name: "Person $it")).toCompletableFuture() }
+            CompletableFuture.allOf(futures as CompletableFuture[]).get()
+
+        then:
+            executor.maxConcurrency == 2
+            executor.peakActiveCount > 0
+            executor.peakActiveCount <= 2
+            new PollingConditions(timeout: 5).eventually {
+                assert executor.activeCount == 0
+            }
+            executor.queueDepth == 0
+            executor.executedCount >= 20
+            personRepository.count().get() >= 20
+
+        cleanup:
+            personRepository.deleteAll().get()
+    }
+}
@@ -0,0 +1,90 @@
+package io.micronaut.data.jdbc.h2.upsert
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.exceptions.OptimisticLockException
+import io.micronaut.data.jdbc.h2.H2DBProperties
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@H2DBProperties
+@Property(name = "datasources.default.packages", value = "io.micronaut.data.jdbc.h2.upsert")
+@MicronautTest
+class H2UpsertSpec extends Specification {
+
+    @Inject
+    SettingRepository settingRepository
+
+    void cleanup() {
+        settingRepository.deleteAll()
+    }
+
+    void "test upsert inserts and updates"() {
+        when:
+            def saved = settingRepository.upsert(new Setting(name: "theme", content: "dark"))
+            def inserted = settingRepository.findById("theme").get()
+
+        then:
+            saved.version == 0
+            saved.created != null
+            inserted.content == "dark"
+            inserted.created != null
+            inserted.version == 0
+
+        when:
+            inserted.content = "light"
+            def returned = settingRepository.upsert(inserted)
+            def updated = settingRepository.findById("theme").get()
+
+        then:
+            settingRepository.count() == 1
+            returned.version == 1
+            returned.created == updated.created
+            updated.content == "light"
+            updated.created == inserted.created
+            updated.version == 1
+    }
+
+    void "test upsert of a stale version fails"() {
+        given:
+            settingRepository.upsert(new Setting(name: "theme", content: "dark"))
+            def first = settingRepository.findById("theme").get()
+            def second = settingRepository.findById("theme").get()
+            first.content = "light"
+            settingRepository.upsert(first)
+
+        when:
+            second.content = "blue"
+            settingRepository.upsert(second)
+
+        then:
+            thrown(OptimisticLockException)
+            settingRepository.findById("theme").get().content == "light"
+            settingRepository.findById("theme").get().version == 1
+
+        when: "A new instance doesn't have the version of the existing row"
+            settingRepository.upsert(new Setting(name: "theme", content: "red"))
+
+        then:
+            thrown(OptimisticLockException)
+            settingRepository.findById("theme").get().content == "light"
+    }
+
+    void "test upsertAll"() {
+        given:
+            settingRepository.upsert(new Setting(name: "a", content: "1"))
+            def existing = settingRepository.findById("a").get()
+            existing.content = "2"
+
+        when:
+            def saved = settingRepository.upsertAll([existing, new Setting(name: "b", content: "3")]).toList()
+
+        then:
+            saved*.version == [1L, 0L]
+            saved[0].created == existing.created
+            settingRepository.count() == 2
+            settingRepository.findById("a").get().content == "2"
+            settingRepository.findById("a").get().version == 1
+            settingRepository.findById("b").get().content == "3"
+    }
+}
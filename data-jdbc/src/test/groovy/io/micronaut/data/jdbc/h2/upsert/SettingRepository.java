@@ -0,0 +1,13 @@
+package io.micronaut.data.jdbc.h2.upsert;
+
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.CrudRepository;
+
+@JdbcRepository(dialect = Dialect.H2)
+public interface SettingRepository extends CrudRepository<Setting, String> {
+
+    Setting upsert(Setting setting);
+
+    Iterable<Setting> upsertAll(Iterable<Setting> settings);
+}
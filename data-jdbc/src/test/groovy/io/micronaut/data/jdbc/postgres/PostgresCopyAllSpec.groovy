@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.postgres
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.data.annotation.GeneratedValue
+import io.micronaut.data.annotation.Id
+import io.micronaut.data.annotation.MappedEntity
+import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource
+import io.micronaut.data.jdbc.annotation.JdbcRepository
+import io.micronaut.data.jdbc.operations.JdbcRepositoryOperations
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.repository.CrudRepository
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.sql.DataSource
+import java.math.RoundingMode
+import java.time.LocalDate
+import java.time.LocalDateTime
+import java.util.stream.IntStream
+
+class PostgresCopyAllSpec extends Specification implements PostgresTestPropertyProvider {
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext context = ApplicationContext.run(properties)
+
+    @Shared
+    JdbcRepositoryOperations operations = context.getBean(JdbcRepositoryOperations)
+
+    @Shared
+    CopyItemRepository repository = context.getBean(CopyItemRepository)
+
+    @Shared
+    DataSource dataSource = DelegatingDataSource.unwrapDataSource(context.getBean(DataSource))
+
+    def setupSpec() {
+        // Records the top-level statement inserting the rows to verify the COPY is used
+        execute('CREATE TABLE IF NOT EXISTS copy_item_statement (query TEXT)')
+        execute('''CREATE OR REPLACE FUNCTION record_copy_item_statement() RETURNS trigger AS $$
+                   BEGIN
+                       INSERT INTO copy_item_statement VALUES (current_query());
+                       RETURN NULL;
+                   END $$ LANGUAGE plpgsql''')
+        execute('DROP TRIGGER IF EXISTS copy_item_statement ON copy_item')
+        execute('''CREATE TRIGGER copy_item_statement AFTER INSERT ON copy_item
+                   FOR EACH STATEMENT EXECUTE FUNCTION record_copy_item_statement()''')
+    }
+
+    def cleanup() {
+        repository.deleteAll()
+        execute('DELETE FROM copy_item_statement')
+    }
+
+    void "test copyAll streams the rows with a COPY statement"() {
+        given:
+            def created = LocalDateTime.of(2024, 2, 29, 13, 45, 30, 123_000_000)
+            def items = [
+                    new CopyItem(name: "Plain", note: "Note", active: true, amount: 10.5, data: [1, 2, 3] as byte[], created: created, day: created.toLocalDate()),
+                    new CopyItem(name: "Tab\tnew line\nreturn\r back slash \\ end", note: null, active: false, amount: 0.0, data: [] as byte[], created: created.plusDays(1), day: LocalDate.of(1999, 12, 31)),
+                    new CopyItem(name: "\\N", note: "", active: true, amount: -1.25, data: [-1, 0, 127] as byte[], created: created.minusYears(30), day: LocalDate.of(2000, 1, 1))
+            ]
+
+        when:
+            def copied = operations.copyAll(CopyItem, items)
+
+        then: "A single COPY statement inserted the rows"
+            copied == 3
+            statements().size() == 1
+            statements()[0].startsWith("COPY")
+
+        and: "The values are escaped"
+            def loaded = repository.findAll().sort { it.name }
+            def expected = items.sort { it.name }
+            loaded*.name == expected*.name
+            loaded*.note == expected*.note
+            loaded*.active == expected*.active
+            loaded*.amount*.setScale(2, RoundingMode.UNNECESSARY) == expected*.amount*.setScale(2, RoundingMode.UNNECESSARY)
+            loaded*.data*.toList() == expected*.data*.toList()
+            loaded*.created == expected*.created
+            loaded*.day == expected*.day
+            loaded.every { it.id != null }
+    }
+
+    void "test copyAll of a stream larger than the buffer"() {
+        when:
+            def copied = operations.copyAll(CopyItem, IntStream.range(0, 5000).mapToObj {
+                new CopyItem(name: "Item " + it + " " + "x" * 50, active: it % 2 == 0, amount: it as BigDecimal, data: [it % 128] as byte[], created: LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(it), day: LocalDate.of(2024, 1, 1))
+            })
+
+        then:
+            copied == 5000
+            repository.count() == 5000
+            statements().size() == 1
+            statements()[0].startsWith("COPY")
+    }
+
+    private List<String> statements() {
+        List<String> statements = []
+        dataSource.getConnection().withCloseable { connection ->
+            connection.createStatement().withCloseable { statement ->
+                statement.executeQuery("SELECT query FROM copy_item_statement").withCloseable { resultSet ->
+                    while (resultSet.next()) {
+                        statements << resultSet.getString(1).trim()
+                    }
+                }
+            }
+        }
+        return statements
+    }
+
+    private void execute(String sql) {
+        dataSource.getConnection().withCloseable { connection ->
+            connection.createStatement().withCloseable { statement -> statement.execute(sql) }
+        }
+    }
+}
+
+@MappedEntity("copy_item")
+class CopyItem {
+    @Id
+    @GeneratedValue
+    Long id
+    String name
+    @Nullable
+    String note
+    boolean active
+    BigDecimal amount
+    byte[] data
+    LocalDateTime created
+    LocalDate day
+}
+
+@JdbcRepository(dialect = Dialect.POSTGRES)
+interface CopyItemRepository extends CrudRepository<CopyItem, Long> {
+}
@@ -0,0 +1,43 @@
+package io.micronaut.data.jdbc.h2;
+
+import io.micronaut.data.annotation.GeneratedValue;
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.annotation.MappedEntity;
+import io.micronaut.data.annotation.Relation;
+
+@MappedEntity
+public class CachedCity {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    private String name;
+
+    @Relation(Relation.Kind.MANY_TO_ONE)
+    private CachedCountry country;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public CachedCountry getCountry() {
+        return country;
+    }
+
+    public void setCountry(CachedCountry country) {
+        this.country = country;
+    }
+}
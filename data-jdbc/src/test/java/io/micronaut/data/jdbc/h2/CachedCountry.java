@@ -0,0 +1,33 @@
+package io.micronaut.data.jdbc.h2;
+
+import io.micronaut.data.annotation.EntityCache;
+import io.micronaut.data.annotation.GeneratedValue;
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.annotation.MappedEntity;
+
+@EntityCache(maxSize = 10)
+@MappedEntity
+public class CachedCountry {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    private String name;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
@@ -15,10 +15,19 @@
  */
 package io.micronaut.data.jdbc.h2;
 
+import io.micronaut.data.annotation.QueryHint;
 import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.tck.entities.Person;
 import io.micronaut.data.tck.repositories.PersonAsyncRepository;
 
+import java.util.concurrent.CompletableFuture;
+
 @JdbcRepository(dialect = Dialect.H2)
 public interface H2AsyncPersonRepository extends PersonAsyncRepository {
+
+    @QueryHint(name = "micronaut.data.estimated-count", value = "20")
+    CompletableFuture<Page<Person>> searchByNameLike(String name, Pageable pageable);
 }
@@ -15,9 +15,12 @@
  */
 package io.micronaut.data.jdbc.h2;
 
+import io.micronaut.data.annotation.BatchFetch;
+import io.micronaut.data.annotation.Join;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.annotation.Where;
 import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.tck.entities.Book;
 
@@ -41,4 +44,19 @@ public abstract class H2BookRepository extends io.micronaut.data.tck.repositorie
 
     @Query(value = "select count(*) from book b where b.title like :title and b.total_pages > :pages", nativeQuery = true)
     abstract int countNativeByTitleWithPagesGreaterThan(String title, int pages);
+
+    @Join(value = "pages", type = Join.Type.LEFT_FETCH, split = true)
+    @Join(value = "chapters", type = Join.Type.LEFT_FETCH, split = true)
+    abstract List<Book> findByTitleInOrderByTitle(List<String> titles);
+
+    @Join(value = "author", type = Join.Type.LEFT_FETCH)
+    @Join(value = "pages", type = Join.Type.LEFT_FETCH, split = true)
+    abstract Book searchByTitle(String title);
+
+    @BatchFetch(value = {"author", "pages"}, size = 2)
+    abstract List<Book> queryByTitleInOrderByTitle(List<String> titles);
+
+    abstract List<Book> findByTitleIn(List<String> titles, Sort sort);
+
+    abstract int deleteByTitleIn(List<String> titles);
 }
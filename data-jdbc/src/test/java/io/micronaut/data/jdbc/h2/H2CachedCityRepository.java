@@ -0,0 +1,23 @@
+package io.micronaut.data.jdbc.h2;
+
+import io.micronaut.data.annotation.CacheQueryResult;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Slice;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.CrudRepository;
+
+import java.util.List;
+
+@JdbcRepository(dialect = Dialect.H2)
+public interface H2CachedCityRepository extends CrudRepository<CachedCity, Long> {
+
+    @CacheQueryResult(ttl = "10m")
+    List<CachedCity> findByCountryNameOrderByName(String countryName);
+
+    @CacheQueryResult
+    Slice<CachedCity> findByCountryName(String countryName, Pageable pageable);
+
+    @CacheQueryResult
+    long countByName(String name);
+}
@@ -0,0 +1,12 @@
+package io.micronaut.data.jdbc.h2;
+
+import io.micronaut.data.annotation.Id;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.CrudRepository;
+
+@JdbcRepository(dialect = Dialect.H2)
+public interface H2CachedCountryRepository extends CrudRepository<CachedCountry, Long> {
+
+    void update(@Id Long id, String name);
+}
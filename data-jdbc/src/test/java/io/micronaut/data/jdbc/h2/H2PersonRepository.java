@@ -16,14 +16,18 @@
 package io.micronaut.data.jdbc.h2;
 
 import io.micronaut.data.annotation.Query;
+import io.micronaut.data.annotation.QueryHint;
 import io.micronaut.data.jdbc.annotation.JdbcRepository;
 import io.micronaut.data.jdbc.runtime.JdbcOperations;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.tck.entities.Person;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -47,6 +51,17 @@ public abstract class H2PersonRepository implements io.micronaut.data.tck.reposi
     @Query("INSERT INTO person(name, age, enabled) VALUES (:name, :age, TRUE)")
     public abstract int saveCustom(String name, int age);
 
+    @QueryHint(name = "micronaut.data.estimated-count", value = "20")
+    public abstract Page<Person> searchByNameLike(String name, Pageable pageable);
+
+    @QueryHint(name = "micronaut.data.estimated-count", value = "true")
+    public abstract Page<Person> readByNameLike(String name, Pageable pageable);
+
+    @QueryHint(name = "micronaut.data.concurrent-count", value = "true")
+    public abstract Page<Person> queryByNameLike(String name, Pageable pageable);
+
+    public abstract List<Person> findAllByNameIn(List<String> names, Pageable pageable);
+
     public Stream<Map<String, Object>> findAllAndStream() {
         return jdbcOperations.prepareStatement("SELECT * from person order by name asc", statement -> {
             statement.setFetchSize(5000);
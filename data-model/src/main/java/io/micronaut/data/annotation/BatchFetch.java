@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Loads the associations of the results of a repository method by the separate queries after the results are read.
+ * The referenced entities of all the results are selected by their ids with one query per batch instead of a query per result.
+ * The associations joined by the query of the method are not loaded again.
+ * Supported by the JDBC and R2DBC repositories.
+ *
+ * @since 4.12
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface BatchFetch {
+
+    /**
+     * @return The paths of the associations to load
+     */
+    String[] value();
+
+    /**
+     * @return The maximum number of the ids selected by one query, zero to use the limits of the dialect only
+     */
+    int size() default 0;
+}
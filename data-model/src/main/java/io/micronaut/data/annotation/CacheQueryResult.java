@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the results of a repository query method by the values of its parameters. The cached results are removed
+ * when the root entity of the query, the joined entities or the additional {@link #entities()} are inserted, updated
+ * or deleted by the repositories.
+ * The cached instances are shared by the callers and should not be modified.
+ * Supported by the JDBC and R2DBC repositories.
+ *
+ * @since 4.12
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface CacheQueryResult {
+
+    /**
+     * @return The duration after which the cached result expires, for example {@code 10m}. Empty for no expiration
+     */
+    String ttl() default "";
+
+    /**
+     * @return The maximum number of the cached results of the method, the least recently used results are evicted
+     */
+    int maxSize() default 1000;
+
+    /**
+     * The entities read by the query. The root entity and the joined entities are added by the annotation processor,
+     * the entities read by the subqueries of custom queries should be added explicitly.
+     *
+     * @return The entities invalidating the cached results when written
+     */
+    Class<?>[] entities() default {};
+}
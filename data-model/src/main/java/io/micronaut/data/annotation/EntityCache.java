@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the entities selected by their id. A repository method selecting the entity by the id only is answered from the cache,
+ * the entity is removed from the cache when it's updated or deleted by the repositories and all the entities are removed
+ * by the batch updates and deletes of the entity.
+ * Every data source has its own cache, the callers receive the shallow copies of the cached entities.
+ * Supported by the JDBC and R2DBC repositories.
+ *
+ * @since 4.12
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface EntityCache {
+
+    /**
+     * @return The maximum number of the cached entities, the least recently used entities are evicted
+     */
+    int maxSize() default 1000;
+
+    /**
+     * @return The duration after which the cached entity expires, for example {@code 10m}. Empty for no expiration
+     */
+    String expireAfterWrite() default "";
+}
@@ -46,6 +46,17 @@ public @interface Join {
      */
     String alias() default "";
 
+    /**
+     * Whether the association should be loaded by a separate query after the results of the query are read.
+     * The separate query selects the results by their ids, the joins nested in the association path are loaded by the same query.
+     * Splitting the collection associations avoids the cartesian product of the rows of multiple collection joins.
+     * Supported by the JDBC and R2DBC repositories.
+     *
+     * @return true if the association is loaded by a separate query
+     * @since 4.12
+     */
+    boolean split() default false;
+
     /**
      * The type of join.
      */
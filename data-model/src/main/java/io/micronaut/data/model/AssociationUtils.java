@@ -16,10 +16,14 @@
 package io.micronaut.data.model;
 
 import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.data.annotation.Join;
 import io.micronaut.data.model.query.JoinPath;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -56,12 +60,63 @@ public final class AssociationUtils {
      * @return the join paths
      */
     public static Set<JoinPath> getJoinPaths(AnnotationMetadata annotationMetadata) {
-        return annotationMetadata.getAnnotationValuesByType(Join.class).stream().map(av -> {
-            String path = av.stringValue().orElseThrow(() -> new IllegalStateException("Should not include annotations without a value definition"));
-            Join.Type joinType = av.get("type", Join.Type.class).orElse(Join.Type.DEFAULT);
-            String alias = av.stringValue("alias").orElse(null);
-            return new JoinPath(path, new Association[0], joinType, alias);
-        }).collect(Collectors.toSet());
+        List<AnnotationValue<Join>> joins = annotationMetadata.getAnnotationValuesByType(Join.class);
+        Set<String> splitJoinPaths = findSplitJoinPaths(joins);
+        return joins.stream()
+            .filter(av -> !splitJoinPaths.contains(av.stringValue().orElse(null)))
+            .map(AssociationUtils::toJoinPath)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Gets the join paths loaded by the split queries from the annotation metadata.
+     * @param annotationMetadata the annotation metadata
+     * @return the split join paths and the join paths nested in them
+     * @since 4.12
+     */
+    public static Set<JoinPath> getSplitJoinPaths(AnnotationMetadata annotationMetadata) {
+        List<AnnotationValue<Join>> joins = annotationMetadata.getAnnotationValuesByType(Join.class);
+        Set<String> splitJoinPaths = findSplitJoinPaths(joins);
+        if (splitJoinPaths.isEmpty()) {
+            return Set.of();
+        }
+        return joins.stream()
+            .filter(av -> splitJoinPaths.contains(av.stringValue().orElse(null)))
+            .map(AssociationUtils::toJoinPath)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Finds the paths of the joins loaded by the split queries: the joins marked as split and the joins nested in them.
+     * @param joins the join annotations
+     * @return the paths
+     * @since 4.12
+     */
+    public static Set<String> findSplitJoinPaths(Collection<AnnotationValue<Join>> joins) {
+        Set<String> splitPaths = new HashSet<>();
+        for (AnnotationValue<Join> join : joins) {
+            if (join.booleanValue("split").orElse(false)) {
+                join.stringValue().ifPresent(splitPaths::add);
+            }
+        }
+        if (splitPaths.isEmpty()) {
+            return splitPaths;
+        }
+        Set<String> paths = new HashSet<>(splitPaths);
+        for (AnnotationValue<Join> join : joins) {
+            String path = join.stringValue().orElse(null);
+            if (path != null && splitPaths.stream().anyMatch(splitPath -> path.startsWith(splitPath + "."))) {
+                paths.add(path);
+            }
+        }
+        return paths;
+    }
+
+    private static JoinPath toJoinPath(AnnotationValue<Join> av) {
+        String path = av.stringValue().orElseThrow(() -> new IllegalStateException("Should not include annotations without a value definition"));
+        Join.Type joinType = av.get("type", Join.Type.class).orElse(Join.Type.DEFAULT);
+        String alias = av.stringValue("alias").orElse(null);
+        return new JoinPath(path, new Association[0], joinType, alias);
     }
 
 }
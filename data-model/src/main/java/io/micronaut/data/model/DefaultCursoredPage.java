@@ -75,6 +75,11 @@ class DefaultCursoredPage<T> extends DefaultPage<T> implements CursoredPage<T> {
         return Objects.equals(cursors, that.cursors) && super.equals(o);
     }
 
+    @Override
+    public boolean hasNext() {
+        return CursoredPage.super.hasNext();
+    }
+
     @Override
     public Optional<Cursor> getCursor(int i) {
         return i >= cursors.size() || i < 0 ? Optional.empty() : Optional.of(cursors.get(i));
@@ -35,6 +35,7 @@ import java.util.Objects;
 class DefaultPage<T> extends DefaultSlice<T> implements Page<T> {
 
     private final Long totalSize;
+    private final boolean totalSizeEstimated;
 
     /**
      * Default constructor.
@@ -52,8 +53,25 @@ class DefaultPage<T> extends DefaultSlice<T> implements Page<T> {
             Pageable pageable,
             @JsonProperty("totalSize")
             Long totalSize) {
+        this(content, pageable, totalSize, false);
+    }
+
+    /**
+     * @param content            The content
+     * @param pageable           The pageable
+     * @param totalSize          The total size
+     * @param totalSizeEstimated Whether the total size is estimated
+     * @since 4.12
+     */
+    DefaultPage(List<T> content, Pageable pageable, Long totalSize, boolean totalSizeEstimated) {
         super(content, pageable);
         this.totalSize = totalSize;
+        this.totalSizeEstimated = totalSizeEstimated;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return Page.super.hasNext();
     }
 
     @Override
@@ -71,6 +89,11 @@ class DefaultPage<T> extends DefaultSlice<T> implements Page<T> {
         return totalSize;
     }
 
+    @Override
+    public boolean isTotalSizeEstimated() {
+        return totalSizeEstimated;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -79,18 +102,19 @@ class DefaultPage<T> extends DefaultSlice<T> implements Page<T> {
         if (!(o instanceof DefaultPage<?> that)) {
             return false;
         }
-        return totalSize == that.totalSize && super.equals(o);
+        return totalSize == that.totalSize && totalSizeEstimated == that.totalSizeEstimated && super.equals(o);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(totalSize, super.hashCode());
+        return Objects.hash(totalSize, totalSizeEstimated, super.hashCode());
     }
 
     @Override
     public String toString() {
         return "DefaultPage{" +
                 "totalSize=" + totalSize +
+                ",totalSizeEstimated=" + totalSizeEstimated +
                 ",content=" + getContent() +
                 ",pageable=" + getPageable() +
                 '}';
@@ -19,6 +19,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Creator;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.annotation.ReflectiveAccess;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.CollectionUtils;
@@ -40,6 +41,8 @@ class DefaultSlice<T> implements Slice<T> {
 
     private final List<T> content;
     private final Pageable pageable;
+    @Nullable
+    private final Boolean hasNext;
 
     /**
      * Default constructor.
@@ -54,9 +57,21 @@ class DefaultSlice<T> implements Slice<T> {
             List<T> content,
             @JsonProperty("pageable")
             Pageable pageable) {
+        this(content, pageable, null);
+    }
+
+    /**
+     * Constructor with the known next slice existence.
+     * @param content The content
+     * @param pageable The pageable
+     * @param hasNext Whether there is a next slice or null to derive it from the content size
+     * @since 4.12
+     */
+    DefaultSlice(List<T> content, Pageable pageable, @Nullable Boolean hasNext) {
         ArgumentUtils.requireNonNull("pageable", pageable);
         this.content = CollectionUtils.isEmpty(content) ? Collections.emptyList() : content;
         this.pageable = pageable;
+        this.hasNext = hasNext;
     }
 
     @NonNull
@@ -73,6 +88,14 @@ class DefaultSlice<T> implements Slice<T> {
         return pageable;
     }
 
+    @Override
+    public boolean hasNext() {
+        if (hasNext != null) {
+            return hasNext;
+        }
+        return Slice.super.hasNext();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -68,6 +68,18 @@ public interface Page<T> extends Slice<T> {
      */
     long getTotalSize();
 
+    /**
+     * Whether the total size is an estimate and not the exact count of the records.
+     * The estimated total size is either the row estimate of the database statistics
+     * or the cap of a count that stopped counting, in both cases there might be more records.
+     *
+     * @return true if the total size is estimated
+     * @since 4.12
+     */
+    default boolean isTotalSizeEstimated() {
+        return false;
+    }
+
     /**
      * Get the total count of pages that can be given by this query.
      * The method may produce a {@link IllegalStateException} if the {@link Pageable} request
@@ -82,7 +94,7 @@ public interface Page<T> extends Slice<T> {
 
     @Override
     default boolean hasNext() {
-        return hasTotalSize()
+        return hasTotalSize() && !isTotalSizeEstimated()
             ? getOffset() + getSize() < getTotalSize()
             : getContent().size() == getSize();
     }
@@ -100,7 +112,7 @@ public interface Page<T> extends Slice<T> {
             return (Page<T2>) EMPTY;
         }
         List<T2> content = getContent().stream().map(function).toList();
-        return new DefaultPage<>(content, getPageable(), hasTotalSize() ? getTotalSize() : null);
+        return new DefaultPage<>(content, getPageable(), hasTotalSize() ? getTotalSize() : null, isTotalSizeEstimated());
     }
 
     /**
@@ -121,6 +133,26 @@ public interface Page<T> extends Slice<T> {
         return new DefaultPage<>(content, pageable, totalSize);
     }
 
+    /**
+     * Creates a page from the given content, pageable and the estimated totalSize.
+     *
+     * @param content The content
+     * @param pageable The pageable
+     * @param totalSize The total size
+     * @param totalSizeEstimated Whether the total size is estimated
+     * @param <T> The generic type
+     * @return The page
+     * @since 4.12
+     */
+    static @NonNull <T> Page<T> of(
+            @NonNull List<T> content,
+            @NonNull Pageable pageable,
+            @Nullable Long totalSize,
+            boolean totalSizeEstimated
+    ) {
+        return new DefaultPage<>(content, pageable, totalSize, totalSizeEstimated);
+    }
+
     /**
      * Creates a page from the given content, pageable, cursors and totalSize.
      * This method is for JSON deserialization. Please use {@link CursoredPage#of} instead.
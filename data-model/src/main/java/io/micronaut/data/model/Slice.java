@@ -157,7 +157,7 @@ public interface Slice<T> extends Iterable<T> {
      */
     default @NonNull <T2> Slice<T2> map(Function<T, T2> function) {
         List<T2> content = getContent().stream().map(function).toList();
-        return new DefaultSlice<>(content, getPageable());
+        return new DefaultSlice<>(content, getPageable(), hasNext());
     }
 
     /**
@@ -171,4 +171,17 @@ public interface Slice<T> extends Iterable<T> {
     static @NonNull <T2> Slice<T2> of(@NonNull List<T2> content, @NonNull Pageable pageable) {
         return new DefaultSlice<>(content, pageable);
     }
+
+    /**
+     * Creates a slice from the given content and pageable with the known next slice existence.
+     * @param content The content
+     * @param pageable The pageable
+     * @param hasNext Whether there is a next slice
+     * @param <T2> The generic type
+     * @return The slice
+     * @since 4.12
+     */
+    static @NonNull <T2> Slice<T2> of(@NonNull List<T2> content, @NonNull Pageable pageable, boolean hasNext) {
+        return new DefaultSlice<>(content, pageable, hasNext);
+    }
 }
@@ -68,6 +68,18 @@ public interface QueryBuilder {
         throw new IllegalStateException("Query builder: " + getClass().getSimpleName() + " doesn't support an insert with a returning clause");
     }
 
+    /**
+     * Builds an upsert statement inserting the entity or updating the existing entity with the same identity.
+     * @param repositoryMetadata The repository annotation metadata
+     * @param entity The entity
+     * @return The upsert statement
+     * @since 4.12
+     */
+    @NonNull
+    default QueryResult buildUpsert(AnnotationMetadata repositoryMetadata, PersistentEntity entity) {
+        throw new IllegalStateException("Query builder: " + getClass().getSimpleName() + " doesn't support an upsert");
+    }
+
     /**
      * Encode the given query for the passed annotation metadata and query.
      * @param annotationMetadata The annotation metadata
@@ -1353,8 +1353,26 @@ public abstract class AbstractSqlLikeQueryBuilder2 implements QueryBuilder2 {
      * @param builder The builder
      */
     protected void appendLimitAndOffset(Dialect dialect, long limit, long offset, StringBuilder builder) {
-        boolean hasLimit = limit > 0;
-        boolean hasOffset = offset > 0;
+        appendLimitAndOffset(
+            dialect,
+            limit > 0 ? String.valueOf(limit) : null,
+            offset > 0 ? String.valueOf(offset) : null,
+            builder
+        );
+    }
+
+    /**
+     * Append limit and offset expressions. The expressions can be literal values or parameter placeholders.
+     *
+     * @param dialect The dialect
+     * @param limit   The limit expression or null if not limited
+     * @param offset  The offset expression or null if there is no offset
+     * @param builder The builder
+     * @since 4.12
+     */
+    protected final void appendLimitAndOffset(Dialect dialect, @Nullable String limit, @Nullable String offset, StringBuilder builder) {
+        boolean hasLimit = limit != null;
+        boolean hasOffset = offset != null;
         if (!hasLimit && !hasOffset) {
             return;
         }
@@ -213,4 +213,49 @@ public enum Dialect {
     public boolean supportsDeleteReturning() {
         return supportsDeleteReturning;
     }
+
+    /**
+     * The maximum number of values in a single IN list.
+     *
+     * @return The maximum size or {@code -1} if not limited
+     * @since 4.12
+     */
+    public int getMaxInListSize() {
+        return this == ORACLE ? 1000 : -1;
+    }
+
+    /**
+     * The maximum number of bind parameters of a single statement.
+     *
+     * @return The maximum number of parameters or {@code -1} if not limited
+     * @since 4.12
+     */
+    public int getMaxParameters() {
+        return switch (this) {
+            case SQL_SERVER -> 2100;
+            case POSTGRES -> Short.MAX_VALUE;
+            case MYSQL, ORACLE -> 65535;
+            default -> -1;
+        };
+    }
+
+    /**
+     * Whether the dialect supports inserting multiple rows with a single {@code INSERT ... VALUES (...), (...)} statement.
+     *
+     * @return true if it does support
+     * @since 4.12
+     */
+    public boolean supportsMultiRowInsert() {
+        return this != ORACLE;
+    }
+
+    /**
+     * The maximum number of rows of a single {@code INSERT ... VALUES} statement.
+     *
+     * @return The maximum number of rows or {@code -1} if not limited
+     * @since 4.12
+     */
+    public int getMaxInsertValuesRows() {
+        return this == SQL_SERVER ? 1000 : -1;
+    }
 }
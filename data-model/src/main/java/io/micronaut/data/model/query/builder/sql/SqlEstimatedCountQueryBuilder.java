@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.model.query.builder.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Builds the SQL estimating the result of a count query produced by {@link SqlQueryBuilder2}.
+ *
+ * <p>The row estimate of the query plan is used for {@link Dialect#POSTGRES} and {@link Dialect#MYSQL}.
+ * The count capped by a limit can be used for all the dialects, the count is exact below the cap.</p>
+ *
+ * @since 4.12
+ */
+@Internal
+public final class SqlEstimatedCountQueryBuilder {
+
+    private static final Pattern COUNT_QUERY = Pattern.compile("^SELECT COUNT\\((\\*|DISTINCT\\((.+?)\\))\\) (FROM .+)$", Pattern.DOTALL);
+    private static final Pattern POSTGRES_PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+    private static final Pattern MYSQL_PLAN_ROWS = Pattern.compile("\"rows_produced_per_join\"\\s*:\\s*(\\d+)");
+    private static final String COUNTED_ROW = "count_row_";
+    private static final String COUNTED_TABLE = "estimated_count_";
+
+    private SqlEstimatedCountQueryBuilder() {
+    }
+
+    /**
+     * @param countQuery The count query
+     * @return true if the count query is a count of the rows that can be estimated
+     */
+    public static boolean isSupported(@NonNull String countQuery) {
+        return COUNT_QUERY.matcher(countQuery).matches();
+    }
+
+    /**
+     * @param dialect The dialect
+     * @return true if the dialect provides a row estimate of the query plan
+     */
+    public static boolean supportsExplain(@NonNull Dialect dialect) {
+        return dialect == Dialect.POSTGRES || dialect == Dialect.MYSQL;
+    }
+
+    /**
+     * Builds the query returning the query plan of the counted rows, the plan is returned as the first column of the first row.
+     *
+     * @param dialect    The dialect
+     * @param countQuery The count query
+     * @return The explain query
+     */
+    @NonNull
+    public static String buildExplainQuery(@NonNull Dialect dialect, @NonNull String countQuery) {
+        String rowsQuery = buildRowsQuery(dialect, countQuery, -1);
+        return switch (dialect) {
+            case POSTGRES -> "EXPLAIN " + rowsQuery;
+            case MYSQL -> "EXPLAIN FORMAT=JSON " + rowsQuery;
+            default -> throw new IllegalArgumentException("Dialect " + dialect + " doesn't support the row estimates");
+        };
+    }
+
+    /**
+     * Reads the row estimate from the query plan.
+     *
+     * @param dialect The dialect
+     * @param plan    The plan returned by the query built by {@link #buildExplainQuery(Dialect, String)}
+     * @return The row estimate or null if the plan doesn't contain it
+     */
+    @Nullable
+    public static Long parseExplainResult(@NonNull Dialect dialect, @NonNull String plan) {
+        Matcher matcher;
+        switch (dialect) {
+            case POSTGRES -> {
+                // The first line of the plan is the root node producing the rows
+                matcher = POSTGRES_PLAN_ROWS.matcher(plan);
+                return matcher.find() ? Long.parseLong(matcher.group(1)) : null;
+            }
+            case MYSQL -> {
+                // The last joined table produces the rows of the query
+                matcher = MYSQL_PLAN_ROWS.matcher(plan);
+                Long rows = null;
+                while (matcher.find()) {
+                    rows = Long.parseLong(matcher.group(1));
+                }
+                return rows;
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Builds the query counting the rows up to the cap, the count is exact when it's not greater than the cap.
+     *
+     * @param dialect    The dialect
+     * @param countQuery The count query
+     * @param cap        The cap
+     * @return The capped count query returning the count up to the cap plus one
+     */
+    @NonNull
+    public static String buildCappedCountQuery(@NonNull Dialect dialect, @NonNull String countQuery, long cap) {
+        return "SELECT COUNT(*) FROM (" + buildRowsQuery(dialect, countQuery, cap + 1) + ") " + COUNTED_TABLE;
+    }
+
+    private static String buildRowsQuery(Dialect dialect, String countQuery, long limit) {
+        Matcher matcher = COUNT_QUERY.matcher(countQuery);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Unsupported count query: " + countQuery);
+        }
+        String distinctExpression = matcher.group(2);
+        String from = matcher.group(3);
+        StringBuilder query = new StringBuilder("SELECT ");
+        if (distinctExpression != null) {
+            query.append("DISTINCT ");
+        }
+        if (limit > 0 && dialect == Dialect.SQL_SERVER) {
+            // SQL Server requires ORDER BY for OFFSET and FETCH
+            query.append("TOP ").append(limit).append(' ');
+        }
+        if (distinctExpression != null) {
+            query.append('(').append(distinctExpression).append(')');
+        } else {
+            query.append('1');
+        }
+        query.append(" AS ").append(COUNTED_ROW).append(' ').append(from);
+        if (limit > 0 && dialect != Dialect.SQL_SERVER) {
+            if (dialect == Dialect.ORACLE) {
+                query.append(" FETCH NEXT ").append(limit).append(" ROWS ONLY");
+            } else {
+                query.append(" LIMIT ").append(limit);
+            }
+        }
+        return query.toString();
+    }
+}
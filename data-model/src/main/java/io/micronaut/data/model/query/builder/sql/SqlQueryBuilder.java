@@ -26,6 +26,7 @@ import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.annotation.DateCreated;
 import io.micronaut.data.annotation.EntityRepresentation;
 import io.micronaut.data.annotation.GeneratedValue;
 import io.micronaut.data.annotation.Index;
@@ -965,6 +966,95 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
         return buildInsert(repositoryMetadata, entity, true);
     }
 
+    @NonNull
+    @Override
+    public QueryResult buildUpsert(AnnotationMetadata repositoryMetadata, PersistentEntity entity) {
+        if (isJsonEntity(repositoryMetadata, entity)) {
+            throw new IllegalStateException("Upsert is not supported for JSON entities");
+        }
+        if (entity.getIdentityProperties().isEmpty() || entity.getIdentityProperties().stream().anyMatch(PersistentProperty::isGenerated)) {
+            throw new IllegalStateException("Upsert requires an entity with an assigned identity: " + entity.getName());
+        }
+        QueryResult insert = buildInsert(repositoryMetadata, entity, false);
+        NamingStrategy namingStrategy = getNamingStrategy(entity);
+        boolean escape = shouldEscape(entity);
+        List<String> keyColumns = new ArrayList<>();
+        for (PersistentProperty identity : entity.getIdentityProperties()) {
+            traversePersistentProperties(identity, (associations, property) -> {
+                String columnName = getMappedName(namingStrategy, associations, property);
+                keyColumns.add(escape ? quote(columnName) : columnName);
+            });
+        }
+        // The creation date is kept when the existing row is updated
+        List<String> insertOnlyColumns = new ArrayList<>();
+        for (PersistentProperty prop : entity.getPersistentProperties()) {
+            if (prop.getAnnotationMetadata().hasAnnotation(DateCreated.class)) {
+                String columnName = getMappedName(namingStrategy, prop);
+                insertOnlyColumns.add(escape ? quote(columnName) : columnName);
+            }
+        }
+        String versionColumn = null;
+        String versionParameter = null;
+        List<QueryParameterBinding> parameterBindings = insert.getParameterBindings();
+        PersistentProperty version = entity.getVersion();
+        if (version != null && !version.isGenerated()) {
+            if (getDialect() == Dialect.MYSQL) {
+                throw new IllegalStateException("Upsert of an entity with a version is not supported by MySQL: " + entity.getName());
+            }
+            versionColumn = getMappedName(namingStrategy, version);
+            if (escape) {
+                versionColumn = quote(versionColumn);
+            }
+            // The existing row is updated only if it has the version of the entity before the persist events
+            String key = String.valueOf(parameterBindings.size() + 1);
+            versionParameter = formatParameter(parameterBindings.size() + 1).getName();
+            parameterBindings = new ArrayList<>(parameterBindings);
+            parameterBindings.add(new QueryParameterBinding() {
+
+                @Override
+                public String getName() {
+                    return key;
+                }
+
+                @Override
+                public String getKey() {
+                    return key;
+                }
+
+                @Override
+                public DataType getDataType() {
+                    return version.getDataType();
+                }
+
+                @Override
+                public JsonDataType getJsonDataType() {
+                    return null;
+                }
+
+                @Override
+                public String[] getPropertyPath() {
+                    return new String[]{version.getName()};
+                }
+
+                @Override
+                public boolean isAutoPopulated() {
+                    return true;
+                }
+
+                @Override
+                public boolean isRequiresPreviousPopulatedValue() {
+                    return true;
+                }
+            });
+        }
+        return QueryResult.of(
+            SqlQueryBuilder2.buildUpsert(getDialect(), insert.getQuery(), keyColumns, insertOnlyColumns, versionColumn, versionParameter),
+            insert.getQueryParts(),
+            parameterBindings,
+            insert.getAdditionalRequiredParameters()
+        );
+    }
+
     @NonNull
     private QueryResult buildInsert(AnnotationMetadata repositoryMetadata, PersistentEntity entity, boolean isReturning) {
         boolean escape = shouldEscape(entity);
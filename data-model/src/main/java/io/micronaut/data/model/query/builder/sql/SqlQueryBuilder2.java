@@ -69,6 +69,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -1035,6 +1036,209 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
         );
     }
 
+    /**
+     * Builds a multi-row {@code INSERT INTO t (...) VALUES (...), (...)} statement out of a single row insert
+     * produced by {@link #buildInsert(AnnotationMetadata, InsertQueryDefinition)}.
+     * The parameters of the rows are expected to be bound sequentially.
+     *
+     * @param insertQuery The single row insert query
+     * @param rows        The number of the rows
+     * @return The multi-row insert query or null if the query is not a plain {@code INSERT ... VALUES (...)} statement
+     * @since 4.12
+     */
+    @Nullable
+    public static String buildMultiRowInsert(@NonNull String insertQuery, int rows) {
+        ArgumentUtils.requirePositive("rows", rows);
+        if (!insertQuery.regionMatches(true, 0, INSERT_INTO, 0, INSERT_INTO.length())) {
+            return null;
+        }
+        int valuesIndex = insertQuery.lastIndexOf(") VALUES (");
+        if (valuesIndex == -1) {
+            return null;
+        }
+        int tupleStart = valuesIndex + ") VALUES ".length();
+        int tupleEnd = findClosingBracket(insertQuery, tupleStart);
+        if (tupleEnd != insertQuery.length() - 1) {
+            // RETURNING or other trailing clauses
+            return null;
+        }
+        if (rows == 1) {
+            return insertQuery;
+        }
+        String tuple = insertQuery.substring(tupleStart);
+        StringBuilder builder = new StringBuilder(insertQuery.length() + (tuple.length() + 1) * (rows - 1));
+        builder.append(insertQuery);
+        for (int i = 1; i < rows; i++) {
+            builder.append(COMMA).append(tuple);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Builds a Postgres {@code COPY t (...) FROM STDIN} statement loading the columns of a single row insert
+     * produced by {@link #buildInsert(AnnotationMetadata, InsertQueryDefinition)}.
+     *
+     * @param insertQuery The single row insert query
+     * @return The copy statement or null if a value of the insert is not a plain parameter
+     * @since 4.12
+     */
+    @Nullable
+    public static String buildCopyFromStdin(@NonNull String insertQuery) {
+        if (!insertQuery.regionMatches(true, 0, INSERT_INTO, 0, INSERT_INTO.length())) {
+            return null;
+        }
+        int valuesIndex = insertQuery.lastIndexOf(") VALUES (");
+        if (valuesIndex == -1) {
+            return null;
+        }
+        String values = insertQuery.substring(valuesIndex + ") VALUES (".length());
+        if (!values.matches("\\?(,\\?)*\\)")) {
+            // Sequences, write transformers or trailing clauses cannot be copied
+            return null;
+        }
+        return "COPY " + insertQuery.substring(INSERT_INTO.length(), valuesIndex + 1) + " FROM STDIN";
+    }
+
+    /**
+     * Builds an upsert statement out of a single row insert produced by {@link #buildInsert(AnnotationMetadata, InsertQueryDefinition)}.
+     * The statement inserts the row or updates the existing row with the same key using
+     * {@code INSERT ... ON CONFLICT DO UPDATE} on Postgres, {@code INSERT ... ON DUPLICATE KEY UPDATE} on MySQL
+     * and {@code MERGE} on the other dialects. The parameters are the parameters of the insert followed by the version parameter.
+     * With a version column, the existing row is updated to the inserted version only if it has the version of the parameter,
+     * otherwise no row is modified. MySQL doesn't support the version predicate.
+     *
+     * @param dialect           The dialect
+     * @param insertQuery       The single row insert query
+     * @param keyColumns        The key columns of the conflicting row
+     * @param insertOnlyColumns The columns that are not updated, for example the creation date
+     * @param versionColumn     The version column
+     * @param versionParameter  The parameter of the expected version of the existing row, required with a version column
+     * @return The upsert query
+     * @since 4.12
+     */
+    @NonNull
+    public static String buildUpsert(@NonNull Dialect dialect,
+                                     @NonNull String insertQuery,
+                                     @NonNull List<String> keyColumns,
+                                     @NonNull Collection<String> insertOnlyColumns,
+                                     @Nullable String versionColumn,
+                                     @Nullable String versionParameter) {
+        int columnsStart = insertQuery.indexOf(" (");
+        int valuesIndex = insertQuery.lastIndexOf(") VALUES (");
+        if (!insertQuery.startsWith(INSERT_INTO) || columnsStart == -1 || valuesIndex < columnsStart
+            || findClosingBracket(insertQuery, valuesIndex + ") VALUES ".length()) != insertQuery.length() - 1) {
+            throw new IllegalStateException("Cannot build an upsert out of the insert: " + insertQuery);
+        }
+        String table = insertQuery.substring(INSERT_INTO.length(), columnsStart);
+        List<String> columns = Arrays.asList(insertQuery.substring(columnsStart + 2, valuesIndex).split(String.valueOf(COMMA)));
+        List<String> values = splitValues(insertQuery.substring(valuesIndex + ") VALUES (".length(), insertQuery.length() - 1));
+        if (columns.size() != values.size() || keyColumns.isEmpty() || !columns.containsAll(keyColumns)) {
+            throw new IllegalStateException("Upsert requires an entity with an assigned identity: " + insertQuery);
+        }
+        if (versionColumn != null && (versionParameter == null || dialect == Dialect.MYSQL)) {
+            throw new IllegalStateException("Upsert with a version requires the version predicate: " + insertQuery);
+        }
+        List<String> updatedColumns = columns.stream()
+            .filter(column -> !keyColumns.contains(column) && !insertOnlyColumns.contains(column))
+            .toList();
+        return switch (dialect) {
+            case POSTGRES -> {
+                StringBuilder builder = new StringBuilder(INSERT_INTO).append(table).append(" AS existing_")
+                    .append(insertQuery, columnsStart, insertQuery.length())
+                    .append(" ON CONFLICT (").append(String.join(",", keyColumns)).append(CLOSE_BRACKET);
+                if (updatedColumns.isEmpty()) {
+                    yield builder.append(" DO NOTHING").toString();
+                }
+                StringJoiner set = new StringJoiner(",", " DO UPDATE SET ", "");
+                updatedColumns.forEach(column -> set.add(column + "=EXCLUDED." + column));
+                builder.append(set);
+                if (versionColumn != null) {
+                    builder.append(" WHERE existing_.").append(versionColumn).append('=').append(versionParameter);
+                }
+                yield builder.toString();
+            }
+            case MYSQL -> {
+                StringJoiner set = new StringJoiner(",", insertQuery + " ON DUPLICATE KEY UPDATE ", "");
+                updatedColumns.forEach(column -> set.add(column + "=VALUES(" + column + ")"));
+                if (updatedColumns.isEmpty()) {
+                    // Nothing to update, keep the existing row
+                    set.add(keyColumns.get(0) + "=" + keyColumns.get(0));
+                }
+                yield set.toString();
+            }
+            default -> {
+                StringJoiner source = new StringJoiner(",", "SELECT ", dialect == Dialect.ORACLE ? " FROM DUAL" : "");
+                for (int i = 0; i < columns.size(); i++) {
+                    source.add(values.get(i) + " AS " + columns.get(i));
+                }
+                StringJoiner on = new StringJoiner(" AND ", "(", ")");
+                keyColumns.forEach(column -> on.add("target_." + column + "=source_." + column));
+                StringBuilder builder = new StringBuilder("MERGE INTO ").append(table).append(" target_ USING (")
+                    .append(source).append(") source_ ON ").append(on);
+                if (!updatedColumns.isEmpty()) {
+                    String versionPredicate = versionColumn == null ? null : "target_." + versionColumn + "=" + versionParameter;
+                    // Oracle doesn't support the conditional WHEN MATCHED clause
+                    boolean matchedCondition = versionPredicate != null && dialect != Dialect.ORACLE;
+                    StringJoiner set = new StringJoiner(",", matchedCondition ? " WHEN MATCHED AND " + versionPredicate + " THEN UPDATE SET " : " WHEN MATCHED THEN UPDATE SET ", "");
+                    updatedColumns.forEach(column -> set.add(column + "=source_." + column));
+                    builder.append(set);
+                    if (versionPredicate != null && !matchedCondition) {
+                        builder.append(" WHERE ").append(versionPredicate);
+                    }
+                }
+                builder.append(" WHEN NOT MATCHED THEN INSERT (").append(String.join(",", columns)).append(") VALUES (")
+                    .append(columns.stream().map(column -> "source_." + column).collect(Collectors.joining(","))).append(CLOSE_BRACKET);
+                if (dialect == Dialect.SQL_SERVER) {
+                    // SQL Server requires the MERGE statement to be terminated
+                    builder.append(';');
+                }
+                yield builder.toString();
+            }
+        };
+    }
+
+    private static List<String> splitValues(String values) {
+        List<String> result = new ArrayList<>();
+        int depth = 0;
+        boolean inQuote = false;
+        int start = 0;
+        for (int i = 0; i < values.length(); i++) {
+            char c = values.charAt(i);
+            if (c == '\'') {
+                inQuote = !inQuote;
+            } else if (!inQuote) {
+                if (c == OPEN_BRACKET) {
+                    depth++;
+                } else if (c == CLOSE_BRACKET) {
+                    depth--;
+                } else if (c == COMMA && depth == 0) {
+                    result.add(values.substring(start, i));
+                    start = i + 1;
+                }
+            }
+        }
+        result.add(values.substring(start));
+        return result;
+    }
+
+    private static int findClosingBracket(String query, int openIndex) {
+        int depth = 0;
+        boolean inQuote = false;
+        for (int i = openIndex; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == '\'') {
+                inQuote = !inQuote;
+            } else if (!inQuote) {
+                if (c == OPEN_BRACKET) {
+                    depth++;
+                } else if (c == CLOSE_BRACKET && --depth == 0) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
     private String[] asStringPath(List<Association> associations, PersistentProperty property) {
         if (associations.isEmpty()) {
             return new String[]{property.getName()};
@@ -1474,6 +1678,90 @@ public class SqlQueryBuilder2 extends AbstractSqlLikeQueryBuilder2 {
         return DEFAULT_POSITIONAL_PARAMETER_MARKER;
     }
 
+    /**
+     * Build the limit and offset clause with positional parameters instead of literal values.
+     * The produced SQL doesn't depend on the requested page and can be reused by the statement caches.
+     * Both the limit and the offset parameters are always present, the order of the parameters
+     * is defined by {@link #isOffsetParameterFirst()}.
+     *
+     * @param parameterIndex The index of the first parameter
+     * @return The limit and offset clause
+     * @since 4.12
+     */
+    public String buildLimitAndOffsetParameters(int parameterIndex) {
+        String positionalParameterFormat = positionalParameterFormat();
+        String first = String.format(positionalParameterFormat, parameterIndex);
+        String second = String.format(positionalParameterFormat, parameterIndex + 1);
+        StringBuilder builder = new StringBuilder();
+        if (isOffsetParameterFirst()) {
+            appendLimitAndOffset(dialect, second, first, builder);
+        } else {
+            appendLimitAndOffset(dialect, first, second, builder);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Rewrites a paginated select query of the entity to a deferred join. The identities of the page are selected
+     * first by a derived table with the order and the pagination, the rows of the page are then joined back by the identity.
+     * The database skips the offset rows by reading the identities only, instead of the whole rows and the joined associations.
+     *
+     * @param entity                 The root entity of the query
+     * @param query                  The select query without the order and the pagination
+     * @param orderAndPagination     The order and the pagination clauses of the query
+     * @return The rewritten query or null if the query cannot be rewritten
+     * @since 4.12
+     */
+    @Nullable
+    public String buildDeferredJoinQuery(@NonNull PersistentEntity entity, @NonNull String query, @NonNull String orderAndPagination) {
+        PersistentProperty identity = entity.getIdentity();
+        if (identity == null || identity instanceof Embedded || entity.hasCompositeIdentity()
+            || !query.startsWith(SELECT_CLAUSE) || query.startsWith(SELECT_CLAUSE + DISTINCT)
+            || query.contains(" GROUP BY ")) {
+            return null;
+        }
+        String alias = getAliasName(entity);
+        String from = FROM_CLAUSE + getTableName(entity) + getTableAsKeyword() + alias;
+        int fromIndex = query.indexOf(from);
+        if (fromIndex == -1 || query.indexOf(from, fromIndex + 1) != -1) {
+            return null;
+        }
+        String afterFrom = query.substring(fromIndex + from.length());
+        int whereIndex = afterFrom.indexOf(WHERE_CLAUSE);
+        String joins = whereIndex == -1 ? afterFrom : afterFrom.substring(0, whereIndex);
+        String identityColumn = shouldEscape(entity) ? quote(getColumnName(identity)) : getColumnName(identity);
+        String pageAlias = alias + "page_";
+        return query.substring(0, fromIndex) + from + joins
+            + " INNER JOIN (" + SELECT_CLAUSE + alias + DOT + identityColumn + from + afterFrom + orderAndPagination + ")"
+            + getTableAsKeyword() + pageAlias
+            + " ON " + alias + DOT + identityColumn + " = " + pageAlias + DOT + identityColumn
+            + orderWithoutPagination(orderAndPagination);
+    }
+
+    private static String orderWithoutPagination(String orderAndPagination) {
+        // The order by clause is rendered before the limit and the offset
+        int orderIndex = orderAndPagination.indexOf(ORDER_BY_CLAUSE);
+        if (orderIndex == -1) {
+            return "";
+        }
+        String order = orderAndPagination.substring(orderIndex);
+        for (String pagination : List.of(" LIMIT ", " OFFSET ")) {
+            int paginationIndex = order.indexOf(pagination);
+            if (paginationIndex != -1) {
+                order = order.substring(0, paginationIndex);
+            }
+        }
+        return order;
+    }
+
+    /**
+     * @return true if the offset parameter is placed before the limit parameter in the clause produced by {@link #buildLimitAndOffsetParameters(int)}
+     * @since 4.12
+     */
+    public boolean isOffsetParameterFirst() {
+        return dialect == Dialect.ORACLE || dialect == Dialect.SQL_SERVER;
+    }
+
     @Override
     public QueryResult buildSelect(@NonNull AnnotationMetadata annotationMetadata, @NonNull SelectQueryDefinition definition) {
         if (definition.parametersInRole().isEmpty()) {
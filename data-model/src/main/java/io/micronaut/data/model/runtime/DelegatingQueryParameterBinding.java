@@ -36,6 +36,15 @@ public abstract class DelegatingQueryParameterBinding implements QueryParameterB
         this.delegate = delegate;
     }
 
+    /**
+     * @return The delegate binding
+     * @since 4.12
+     */
+    @NonNull
+    public QueryParameterBinding getDelegate() {
+        return delegate;
+    }
+
     @Override
     @Nullable
     public String getName() {
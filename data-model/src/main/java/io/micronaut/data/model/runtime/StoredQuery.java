@@ -201,6 +201,15 @@ public interface StoredQuery<E, R> extends Named, StoredDataOperation<R> {
         return Collections.emptySet();
     }
 
+    /**
+     * @return The join paths loaded by separate queries after the results of the query are read
+     * @since 4.12
+     */
+    @NonNull
+    default Set<JoinPath> getSplitJoinPaths() {
+        return Collections.emptySet();
+    }
+
     /**
      * Whether the query can be treated as a single result.
      * @return True if it can.
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.operations;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.runtime.PreparedQuery;
+
+/**
+ * A {@link RepositoryOperations} capable of estimating the result of a count query without counting all the records.
+ *
+ * @since 4.12
+ */
+public interface EstimatedCountCapableRepository extends RepositoryOperations {
+
+    /**
+     * Estimates the result of the count query. The records are counted up to the cap,
+     * above the cap the count is either the row estimate of the database statistics or the cap.
+     *
+     * @param countQuery The count query
+     * @param cap        The number of the records counted exactly
+     * @return The estimated count or null if the count query cannot be estimated
+     */
+    @Nullable
+    EstimatedCount estimateCount(@NonNull PreparedQuery<?, ?> countQuery, long cap);
+
+    /**
+     * The estimated count.
+     *
+     * @param count     The count
+     * @param estimated Whether the count is an estimate, otherwise it's the exact count
+     */
+    record EstimatedCount(long count, boolean estimated) {
+    }
+}
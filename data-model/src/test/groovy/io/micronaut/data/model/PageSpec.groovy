@@ -67,6 +67,17 @@ class PageSpec extends Specification {
         newPage.size == 5
     }
 
+    void "test page with an estimated total size"() {
+        def page = Page.of([1, 2, 3, 4, 5], Pageable.from(3, 5), 20, true)
+
+        expect:
+        page.totalSizeEstimated
+        page.totalSize == 20
+        page.hasNext()
+        page.map({ i -> i + 1 }).totalSizeEstimated
+        !Page.of([1, 2, 3, 4, 5], Pageable.from(0, 5), 20).totalSizeEstimated
+    }
+
     void "test serialization and deserialization of a page"() {
         def page = Page.of([new Dummy(
                 propertyOne: "value one",
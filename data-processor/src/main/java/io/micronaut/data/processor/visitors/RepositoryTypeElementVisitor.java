@@ -30,6 +30,7 @@ import io.micronaut.core.order.OrderUtil;
 import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.annotation.CacheQueryResult;
 import io.micronaut.data.annotation.EntityRepresentation;
 import io.micronaut.data.annotation.Join;
 import io.micronaut.data.annotation.ParameterExpression;
@@ -41,6 +42,8 @@ import io.micronaut.data.annotation.sql.Procedure;
 import io.micronaut.data.intercept.annotation.DataMethod;
 import io.micronaut.data.intercept.annotation.DataMethodQuery;
 import io.micronaut.data.intercept.annotation.DataMethodQueryParameter;
+import io.micronaut.data.model.Association;
+import io.micronaut.data.model.AssociationUtils;
 import io.micronaut.data.model.CursoredPage;
 import io.micronaut.data.model.DataType;
 import io.micronaut.data.model.JsonDataType;
@@ -84,6 +87,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -395,6 +399,8 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
                 if (CollectionUtils.isNotEmpty(joinPaths)) {
                     // Only apply the changes if joins aren't empty.
                     // Implementation might choose to return an empty array to skip the modification of existing annotations.
+                    List<AnnotationValue<Join>> joins = element.getAnnotationValuesByType(Join.class);
+                    Set<String> splitJoinPaths = AssociationUtils.findSplitJoinPaths(joins);
                     element.removeAnnotation(Join.class);
                     joinPaths.forEach(joinPath -> element.annotate(Join.class, builder -> {
                         builder.member("value", joinPath.getPath())
@@ -403,12 +409,27 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
                             builder.member("alias", joinPath.getAlias().get());
                         }
                     }));
+                    // The split joins aren't part of the query, they are loaded by separate queries at runtime
+                    joins.stream()
+                        .filter(join -> splitJoinPaths.contains(join.stringValue().orElse(null)))
+                        .forEach(join -> element.annotate(Join.class, builder -> {
+                            builder.member("value", join.stringValue().orElseThrow())
+                                .member("type", join.enumValue("type", Join.Type.class).orElse(Join.Type.FETCH));
+                            join.stringValue("alias").ifPresent(alias -> builder.member("alias", alias));
+                            if (join.booleanValue("split").orElse(false)) {
+                                builder.member("split", true);
+                            }
+                        }));
                 }
             }
         }
 
         annotateQueryResultIfApplicable(element, methodInfo, methodMatchContext.getRootEntity());
 
+        if (element.hasAnnotation(CacheQueryResult.class)) {
+            annotateCachedQueryEntities(element, methodInfo, methodMatchContext.getRootEntity());
+        }
+
         element.annotate(DataMethod.class.getName(), annotationBuilder -> {
 
             ClassElement runtimeInterceptor = methodInfo.getRuntimeInterceptor();
@@ -465,6 +486,33 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
         });
     }
 
+    private void annotateCachedQueryEntities(MethodElement element, MethodMatchInfo methodInfo, SourcePersistentEntity rootEntity) {
+        DataMethod.OperationType operationType = methodInfo.getOperationType();
+        if (operationType != DataMethod.OperationType.QUERY && operationType != DataMethod.OperationType.COUNT) {
+            throw new MatchFailedException("@CacheQueryResult can only be used on the query and count methods", element);
+        }
+        // The writes are tracked by the entities, the tables read by the joins are resolved to the joined entities
+        Set<String> entities = new LinkedHashSet<>();
+        entities.add(rootEntity.getName());
+        addJoinedEntities(entities, methodInfo.getQueryResult());
+        addJoinedEntities(entities, methodInfo.getCountQueryResult());
+        entities.addAll(Arrays.asList(element.stringValues(CacheQueryResult.class, "entities")));
+        element.annotate(CacheQueryResult.class, builder -> builder.member("entities", entities.stream()
+            .map(name -> new AnnotationClassValue<>(name))
+            .toArray(AnnotationClassValue[]::new)));
+    }
+
+    private void addJoinedEntities(Set<String> entities, @Nullable QueryResult queryResult) {
+        if (queryResult == null) {
+            return;
+        }
+        for (JoinPath joinPath : queryResult.getJoinPaths()) {
+            for (Association association : joinPath.getAssociationPath()) {
+                entities.add(association.getAssociatedEntity().getName());
+            }
+        }
+    }
+
     private void addQueryDefinition(MethodMatchContext methodMatchContext,
                                     AnnotationValueBuilder<Annotation> annotationBuilder,
                                     DataMethod.OperationType operationType,
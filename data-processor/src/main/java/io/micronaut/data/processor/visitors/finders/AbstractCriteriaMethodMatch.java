@@ -41,6 +41,7 @@ import io.micronaut.data.annotation.WithoutTenantId;
 import io.micronaut.data.annotation.repeatable.QueryHints;
 import io.micronaut.data.intercept.annotation.DataMethod;
 import io.micronaut.data.model.Association;
+import io.micronaut.data.model.AssociationUtils;
 import io.micronaut.data.model.PersistentEntity;
 import io.micronaut.data.model.PersistentEntityUtils;
 import io.micronaut.data.model.PersistentProperty;
@@ -72,6 +73,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -566,11 +568,18 @@ public abstract class AbstractCriteriaMethodMatch implements MethodMatcher.Metho
     }
 
     protected final void applyJoinSpecs(PersistentEntityRoot<?> root, @NonNull List<AnnotationValue<Join>> joinSpecs) {
+        // The split joins are loaded by separate queries at runtime
+        Set<String> splitJoinPaths = AssociationUtils.findSplitJoinPaths(joinSpecs);
         for (AnnotationValue<Join> joinSpec : joinSpecs) {
             String path = joinSpec.stringValue().orElse(null);
             Join.Type type = joinSpec.enumValue("type", Join.Type.class).orElse(Join.Type.FETCH);
             String alias = joinSpec.stringValue("alias").orElse(null);
-            if (path != null) {
+            if (path != null && splitJoinPaths.contains(path)) {
+                PersistentPropertyPath propertyPath = root.getPersistentEntity().getPropertyPath(path);
+                if (propertyPath == null || !(propertyPath.getProperty() instanceof Association)) {
+                    throw new MatchFailedException("Invalid join spec [" + path + "]. Property is not an association!");
+                }
+            } else if (path != null) {
                 PersistentPropertyPath propertyPath = root.getPersistentEntity().getPropertyPath(path);
                 if (propertyPath == null || !(propertyPath.getProperty() instanceof Association)) {
                     throw new MatchFailedException("Invalid join spec [" + path + "]. Property is not an association!");
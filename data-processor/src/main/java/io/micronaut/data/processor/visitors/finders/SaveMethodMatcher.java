@@ -50,12 +50,14 @@ import java.util.stream.Collectors;
  */
 public class SaveMethodMatcher extends AbstractMethodMatcher {
 
+    private static final String UPSERT = "upsert";
+
     /**
      * The default constructor.
      */
     public SaveMethodMatcher() {
         super(MethodNameParser.builder()
-            .match(QueryMatchId.PREFIX, "save", "persist", "store", "insert")
+            .match(QueryMatchId.PREFIX, "save", "persist", "store", "insert", UPSERT)
             .tryMatch(QueryMatchId.ALL_OR_ONE, ALL_OR_ONE)
             .tryMatchLastOccurrencePrefixed(QueryMatchId.RETURNING, null, RETURNING)
             .takeRest(QueryMatchId.PROJECTION)
@@ -89,13 +91,18 @@ public class SaveMethodMatcher extends AbstractMethodMatcher {
         if (parameters.length == 0) {
             throw new ProcessingException(methodElement, "Save method requires parameters");
         }
-        if (matchContext.getParametersNotInRole().stream().allMatch(p -> TypeUtils.isIterableOfEntity(p.getGenericType()) || TypeUtils.isEntity(p.getGenericType()))) {
-            return saveEntity(isReturning ? DataMethod.OperationType.INSERT_RETURNING : DataMethod.OperationType.INSERT);
+        boolean isUpsert = matches.stream().anyMatch(m -> m.id() == QueryMatchId.PREFIX && m.part().equals(UPSERT));
+        boolean entityParameters = matchContext.getParametersNotInRole().stream().allMatch(p -> TypeUtils.isIterableOfEntity(p.getGenericType()) || TypeUtils.isEntity(p.getGenericType()));
+        if (isUpsert && (isReturning || !entityParameters)) {
+            throw new ProcessingException(methodElement, "Upsert method supports only an entity or entities parameter without a returning clause");
+        }
+        if (entityParameters) {
+            return saveEntity(isReturning ? DataMethod.OperationType.INSERT_RETURNING : DataMethod.OperationType.INSERT, isUpsert);
         }
         return saveProperties();
     }
 
-    private MethodMatch saveEntity(DataMethod.OperationType operationType) {
+    private MethodMatch saveEntity(DataMethod.OperationType operationType, boolean isUpsert) {
         return mc -> {
             ParameterElement[] parameters = mc.getParameters();
             ParameterElement entityParameter = Arrays.stream(parameters).filter(p -> TypeUtils.isEntity(p.getGenericType())).findFirst().orElse(null);
@@ -103,6 +110,9 @@ public class SaveMethodMatcher extends AbstractMethodMatcher {
             if (entityParameter == null && entitiesParameter == null) {
                 throw new MatchFailedException("Cannot implement save method for specified arguments and return type", mc.getMethodElement());
             }
+            if (isUpsert && mc.supportsImplicitQueries()) {
+                throw new MatchFailedException("Upsert method is only supported by SQL repositories", mc.getMethodElement());
+            }
             FindersUtils.InterceptorMatch entry = FindersUtils.resolveInterceptorTypeByOperationType(
                 entityParameter != null,
                 entitiesParameter != null,
@@ -122,6 +132,12 @@ public class SaveMethodMatcher extends AbstractMethodMatcher {
                 QueryResult queryResult;
                 if (operationType == DataMethod.OperationType.INSERT_RETURNING) {
                     queryResult = mc.getQueryBuilder().buildInsertReturning(annotationMetadataHierarchy, mc.getRootEntity());
+                } else if (isUpsert) {
+                    try {
+                        queryResult = mc.getQueryBuilder().buildUpsert(annotationMetadataHierarchy, mc.getRootEntity());
+                    } catch (IllegalStateException e) {
+                        throw new MatchFailedException(e.getMessage(), mc.getMethodElement());
+                    }
                 } else {
                     queryResult = mc.getQueryBuilder().buildInsert(annotationMetadataHierarchy, mc.getRootEntity());
                 }
@@ -130,6 +146,10 @@ public class SaveMethodMatcher extends AbstractMethodMatcher {
                     .queryResult(
                         queryResult
                     );
+                if (isUpsert && mc.getRootEntity().getVersion() != null && !mc.getRootEntity().getVersion().isGenerated()) {
+                    // No row is modified if the existing row has a different version
+                    methodMatchInfo.optimisticLock(true);
+                }
             }
             if (entitiesParameter != null) {
                 methodMatchInfo.addParameterRole(TypeRole.ENTITIES, entitiesParameter.getName());
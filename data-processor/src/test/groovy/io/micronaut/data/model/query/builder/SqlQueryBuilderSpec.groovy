@@ -31,6 +31,7 @@ import io.micronaut.data.model.query.QueryModel
 import io.micronaut.data.model.query.QueryParameter
 import io.micronaut.data.model.query.builder.sql.Dialect
 import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2
 import io.micronaut.data.model.query.factory.Projections
 import io.micronaut.data.model.runtime.RuntimePersistentEntity
 import io.micronaut.data.tck.entities.*
@@ -706,6 +707,37 @@ interface MyRepository {
             insertResult.parameters.equals('1': 'name', '2': 'age', '3': "enabled", '4': 'publicId', '5': "version")
     }
 
+    void "test build limit and offset parameters for #dialect"() {
+        given:
+            def builder = new SqlQueryBuilder2(dialect)
+
+        expect:
+            builder.buildLimitAndOffsetParameters(3) == clause
+            builder.isOffsetParameterFirst() == offsetFirst
+            builder.buildLimitAndOffset(10, 20) == literal
+
+        where:
+            dialect            | clause                                         | offsetFirst | literal
+            Dialect.H2         | ' LIMIT ? OFFSET ?'                            | false       | ' LIMIT 10 OFFSET 20'
+            Dialect.POSTGRES   | ' LIMIT ? OFFSET ?'                            | false       | ' LIMIT 10 OFFSET 20'
+            Dialect.MYSQL      | ' LIMIT ? OFFSET ?'                            | false       | ' LIMIT 10 OFFSET 20'
+            Dialect.ORACLE     | ' OFFSET ? ROWS FETCH NEXT ? ROWS ONLY'        | true        | ' OFFSET 20 ROWS FETCH NEXT 10 ROWS ONLY'
+            Dialect.SQL_SERVER | ' OFFSET ? ROWS FETCH NEXT ? ROWS ONLY'        | true        | ' OFFSET 20 ROWS FETCH NEXT 10 ROWS ONLY'
+    }
+
+    void "test build multi-row insert"() {
+        expect:
+            SqlQueryBuilder2.buildMultiRowInsert(query, rows) == result
+
+        where:
+            query                                                                 | rows | result
+            'INSERT INTO "person" ("name","age") VALUES (?,?)'                    | 1    | 'INSERT INTO "person" ("name","age") VALUES (?,?)'
+            'INSERT INTO "person" ("name","age") VALUES (?,?)'                    | 3    | 'INSERT INTO "person" ("name","age") VALUES (?,?),(?,?),(?,?)'
+            'INSERT INTO "person" ("id","name") VALUES (nextval(\'person_seq\'),?)' | 2    | 'INSERT INTO "person" ("id","name") VALUES (nextval(\'person_seq\'),?),(nextval(\'person_seq\'),?)'
+            'INSERT INTO "person" ("name") VALUES (?) RETURNING "id","name"'      | 2    | null
+            'UPDATE "person" SET "name"=?'                                        | 2    | null
+    }
+
     @Shared
     Map<Class, RuntimePersistentEntity> entities = [:]
 
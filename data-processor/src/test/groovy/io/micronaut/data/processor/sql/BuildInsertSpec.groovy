@@ -1,3 +1,7 @@
+        Dialect.POSTGRES   | 'INSERT INTO "test" AS existing_ ("name","created","version","id") VALUES (?,?,?,?) ON CONFLICT ("id") DO UPDATE SET "name"=EXCLUDED."name","version"=EXCLUDED."version" WHERE existing_."version"=?'
+        Dialect.H2         | 'MERGE INTO `test` target_ USING (SELECT ? AS `name`,? AS `created`,? AS `version`,? AS `id`) source_ ON (target_.`id`=source_.`id`) WHEN MATCHED AND target_.`version`=? THEN UPDATE SET `name`=source_.`name`,`version`=source_.`version` WHEN NOT MATCHED THEN INSERT (`name`,`created`,`version`,`id`) VALUES (source_.`name`,source_.`created`,source_.`version`,source_.`id`)'
+        Dialect.ORACLE     | 'MERGE INTO "TEST" target_ USING (SELECT ? AS "NAME",? AS "CREATED",? AS "VERSION",? AS "ID" FROM DUAL) source_ ON (target_."ID"=source_."ID") WHEN MATCHED THEN UPDATE SET "NAME"=source_."NAME","VERSION"=source_."VERSION" WHERE target_."VERSION"=? WHEN NOT MATCHED THEN INSERT ("NAME","CREATED","VERSION","ID") VALUES (source_."NAME",source_."CREATED",source_."VERSION",source_."ID")'
+        Dialect.SQL_SERVER | 'MERGE INTO [test] target_ USING (SELECT ? AS [name],? AS [created],? AS [version],? AS [id]) source_ ON (target_.[id]=source_.[id]) WHEN MATCHED AND target_.[version]=? THEN UPDATE SET [name]=source_.[name],[version]=source_.[version] WHEN NOT MATCHED THEN INSERT ([name],[created],[version],[id]) VALUES (source_.[name],source_.[created],source_.[version],source_.[id]);'
 /*
  * Copyright 2017-2020 original authors
  *
@@ -619,4 +623,126 @@ interface PersonRepository extends CrudRepository<Person, Long> {
         insertQuery.replace('\n', ' ') == "WITH ids AS (SELECT id FROM person) INSERT INTO person(name, age, enabled) VALUES (:name, :age, TRUE) "
         method.classValue(DataMethod, "interceptor").get() == SaveEntityInterceptor
     }
+
+    @Unroll
+    void "test build upsert for dialect - #dialect"() {
+        given:
+        BeanDefinition beanDefinition = buildRepository('test.MyInterface', """
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.annotation.DateCreated;
+import io.micronaut.data.annotation.Version;
+import java.time.LocalDateTime;
+
+@JdbcRepository(dialect=Dialect.${dialect.name()})
+@io.micronaut.context.annotation.Executable
+interface MyInterface extends GenericRepository<Test, Long> {
+    Test upsert(Test test);
+
+    Iterable<Test> upsertAll(Iterable<Test> tests);
+}
+
+@MappedEntity
+class Test {
+    @Id
+    private Long id;
+    private String name;
+    @DateCreated
+    private LocalDateTime created;
+    @Version
+    private Long version;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDateTime getCreated() {
+        return created;
+    }
+
+    public void setCreated(LocalDateTime created) {
+        this.created = created;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
+
+""")
+        def upsertMethod = beanDefinition.findPossibleMethods("upsert").findFirst().get()
+
+        expect:
+        getQuery(upsertMethod) == query
+        getOperationType(upsertMethod) == DataMethod.OperationType.INSERT
+        getDataInterceptor(upsertMethod) == SaveEntityInterceptor
+        upsertMethod.booleanValue(DataMethod, DataMethod.META_MEMBER_OPTIMISTIC_LOCK).orElse(false)
+
+        where:
+        dialect            | query
+        Dialect.POSTGRES   | 'INSERT INTO "test" AS existing_ ("name","created","version","id") VALUES (?,?,?,?) ON CONFLICT ("id") DO UPDATE SET "name"=EXCLUDED."name","version"=existing_."version"+1'
+        Dialect.MYSQL      | 'INSERT INTO `test` (`name`,`created`,`version`,`id`) VALUES (?,?,?,?) ON DUPLICATE KEY UPDATE `name`=VALUES(`name`),`version`=`version`+1'
+        Dialect.H2         | 'MERGE INTO `test` target_ USING (SELECT ? AS `name`,? AS `created`,? AS `version`,? AS `id`) source_ ON (target_.`id`=source_.`id`) WHEN MATCHED THEN UPDATE SET `name`=source_.`name`,`version`=target_.`version`+1 WHEN NOT MATCHED THEN INSERT (`name`,`created`,`version`,`id`) VALUES (source_.`name`,source_.`created`,source_.`version`,source_.`id`)'
+        Dialect.ORACLE     | 'MERGE INTO "TEST" target_ USING (SELECT ? AS "NAME",? AS "CREATED",? AS "VERSION",? AS "ID" FROM DUAL) source_ ON (target_."ID"=source_."ID") WHEN MATCHED THEN UPDATE SET "NAME"=source_."NAME","VERSION"=target_."VERSION"+1 WHEN NOT MATCHED THEN INSERT ("NAME","CREATED","VERSION","ID") VALUES (source_."NAME",source_."CREATED",source_."VERSION",source_."ID")'
+        Dialect.SQL_SERVER | 'MERGE INTO [test] target_ USING (SELECT ? AS [name],? AS [created],? AS [version],? AS [id]) source_ ON (target_.[id]=source_.[id]) WHEN MATCHED THEN UPDATE SET [name]=source_.[name],[version]=target_.[version]+1 WHEN NOT MATCHED THEN INSERT ([name],[created],[version],[id]) VALUES (source_.[name],source_.[created],source_.[version],source_.[id]);'
+    }
+
+    void "test build upsert of a versioned entity fails for MySQL"() {
+        when:
+        buildRepository('test.MyInterface', """
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.annotation.Version;
+
+@JdbcRepository(dialect=Dialect.MYSQL)
+@io.micronaut.context.annotation.Executable
+interface MyInterface extends GenericRepository<Test, Long> {
+    Test upsert(Test test);
+}
+
+@MappedEntity
+class Test {
+    @Id
+    private Long id;
+    @Version
+    private Long version;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
+""")
+
+        then:
+        def ex = thrown(RuntimeException)
+        ex.message.contains("Upsert of an entity with a version is not supported by MySQL")
+    }
 }
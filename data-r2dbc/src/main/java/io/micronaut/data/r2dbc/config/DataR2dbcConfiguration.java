@@ -41,6 +41,11 @@ public class DataR2dbcConfiguration implements Named {
 
     private SchemaGenerate schemaGenerate = SchemaGenerate.NONE;
     private boolean batchGenerate = false;
+    private boolean bindPagination = false;
+    private boolean padInList = false;
+    private long deferredJoinOffset = 0;
+    private int inListChunkSize = 0;
+    private int dirtyTrackingMaxSnapshots = 0;
     private Dialect dialect = Dialect.ANSI;
     private List<String> packages = new ArrayList<>(3);
     private final String name;
@@ -112,6 +117,106 @@ public class DataR2dbcConfiguration implements Named {
         this.batchGenerate = batchGenerate;
     }
 
+    /**
+     * @return Whether the limit and the offset of a pageable are bound as query parameters.
+     * @since 4.12
+     */
+    public boolean isBindPagination() {
+        return bindPagination;
+    }
+
+    /**
+     * Sets whether the limit and the offset of a pageable are bound as query parameters instead of being
+     * rendered as literals. Every page of a repository method then uses the same SQL, which can be reused
+     * by the statement caches.
+     *
+     * @param bindPagination Whether to bind the pagination
+     * @since 4.12
+     */
+    public void setBindPagination(boolean bindPagination) {
+        this.bindPagination = bindPagination;
+    }
+
+    /**
+     * @return Whether the size of an expanded IN list is padded to the next power of two.
+     * @since 4.12
+     */
+    public boolean isPadInList() {
+        return padInList;
+    }
+
+    /**
+     * Sets whether the size of an expanded IN list is padded to the next power of two by repeating the last value.
+     * This limits the number of different statements produced by the different sizes of the list.
+     *
+     * @param padInList Whether to pad the IN list
+     * @since 4.12
+     */
+    public void setPadInList(boolean padInList) {
+        this.padInList = padInList;
+    }
+
+    /**
+     * @return The minimal offset of the pages selected by a deferred join, {@code 0} or less disables the deferred join.
+     * @since 4.12
+     */
+    public long getDeferredJoinOffset() {
+        return deferredJoinOffset;
+    }
+
+    /**
+     * Sets the minimal offset of the pages selected by a deferred join. The identities of such page are selected first
+     * with the order and the pagination, the rows of the page are then joined back by the identity. The database skips
+     * the offset rows by reading the identities only. A value of {@code 0} or less (default) disables the deferred join.
+     *
+     * @param deferredJoinOffset The minimal offset
+     * @since 4.12
+     */
+    public void setDeferredJoinOffset(long deferredJoinOffset) {
+        this.deferredJoinOffset = deferredJoinOffset;
+    }
+
+    /**
+     * @return The maximum size of an IN list executed by a single statement, {@code 0} or less uses the limits of the dialect only.
+     * @since 4.12
+     */
+    public int getInListChunkSize() {
+        return inListChunkSize;
+    }
+
+    /**
+     * Sets the maximum size of an IN list executed by a single statement. The queries with a larger IN list filtering the root entity
+     * are executed by a statement per chunk of the list and the results are merged. The IN lists exceeding the bind parameter limit
+     * of the dialect are always split. A value of {@code 0} or less (default) uses the limits of the dialect only.
+     *
+     * @param inListChunkSize The maximum size of an IN list
+     * @since 4.12
+     */
+    public void setInListChunkSize(int inListChunkSize) {
+        this.inListChunkSize = inListChunkSize;
+    }
+
+    /**
+     * @return The maximum number of the entity snapshots kept for the dirty tracking, {@code 0} or less disables the dirty tracking.
+     * @since 4.12
+     */
+    public int getDirtyTrackingMaxSnapshots() {
+        return dirtyTrackingMaxSnapshots;
+    }
+
+    /**
+     * Enables the dirty tracking of the entities read by the repository operations. The snapshots of the read entities are kept
+     * up to the given number, the least recently used snapshots are evicted. An entity updated by {@code updateChanged} updates
+     * only the columns changed since its snapshot, the entities without a snapshot update all the columns.
+     * A value of {@code 0} or less (default) disables the dirty tracking.
+     *
+     * @param dirtyTrackingMaxSnapshots The maximum number of the entity snapshots
+     * @since 4.12
+     */
+    public void setDirtyTrackingMaxSnapshots(int dirtyTrackingMaxSnapshots) {
+        this.dirtyTrackingMaxSnapshots = dirtyTrackingMaxSnapshots;
+    }
+
     /**
      * @return The packages to include use for the purposes of schema generation.
      */
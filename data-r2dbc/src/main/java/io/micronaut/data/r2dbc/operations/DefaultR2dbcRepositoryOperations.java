@@ -30,8 +30,11 @@ import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.propagation.PropagatedContext;
 import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.data.connection.ConnectionDefinition;
+import io.micronaut.data.connection.ConnectionStatus;
+import io.micronaut.data.connection.ConnectionSynchronization;
 import io.micronaut.data.connection.reactive.ReactorConnectionOperations;
 import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.exceptions.NonUniqueResultException;
@@ -39,6 +42,7 @@ import io.micronaut.data.model.DataType;
 import io.micronaut.data.model.JsonDataType;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2;
 import io.micronaut.data.model.runtime.AttributeConverterRegistry;
 import io.micronaut.data.model.runtime.DeleteBatchOperation;
 import io.micronaut.data.model.runtime.DeleteOperation;
@@ -53,6 +57,7 @@ import io.micronaut.data.model.runtime.RuntimeAssociation;
 import io.micronaut.data.model.runtime.RuntimeEntityRegistry;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+import io.micronaut.data.model.runtime.StoredQuery;
 import io.micronaut.data.model.runtime.UpdateBatchOperation;
 import io.micronaut.data.model.runtime.UpdateOperation;
 import io.micronaut.data.model.runtime.convert.AttributeConverter;
@@ -81,8 +86,10 @@ import io.micronaut.data.runtime.operations.internal.OperationContext;
 import io.micronaut.data.runtime.operations.internal.ReactiveCascadeOperations;
 import io.micronaut.data.runtime.operations.internal.query.BindableParametersStoredQuery;
 import io.micronaut.data.runtime.operations.internal.sql.AbstractSqlRepositoryOperations;
+import io.micronaut.data.runtime.operations.internal.sql.EntitySnapshots;
 import io.micronaut.data.runtime.operations.internal.sql.SqlJsonColumnMapperProvider;
 import io.micronaut.data.runtime.operations.internal.sql.SqlPreparedQuery;
+import io.micronaut.data.runtime.operations.internal.sql.SqlQueryOptions;
 import io.micronaut.data.runtime.operations.internal.sql.SqlStoredQuery;
 import io.micronaut.data.runtime.support.AbstractConversionContext;
 import io.micronaut.json.JsonMapper;
@@ -106,13 +113,17 @@ import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.context.Context;
+import reactor.util.context.ContextView;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -153,6 +164,9 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
     private final R2dbcSchemaHandler schemaHandler;
     private final DataR2dbcConfiguration configuration;
     private final Map<Dialect, List<R2dbcExceptionMapper>> r2dbcExceptionMappers = new EnumMap<>(Dialect.class);
+    private final SqlQueryOptions sqlQueryOptions;
+    @Nullable
+    private final EntitySnapshots entitySnapshots;
 
     /**
      * Default constructor.
@@ -210,6 +224,9 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         this.schemaTenantResolver = schemaTenantResolver;
         this.schemaHandler = schemaHandler;
         this.configuration = configuration;
+        this.sqlQueryOptions = new SqlQueryOptions(configuration.isBindPagination(), false, configuration.isPadInList(),
+            configuration.getDeferredJoinOffset(), configuration.getInListChunkSize());
+        this.entitySnapshots = configuration.getDirtyTrackingMaxSnapshots() > 0 ? new EntitySnapshots(configuration.getDirtyTrackingMaxSnapshots()) : null;
         this.transactionOperations = transactionOperations;
         this.connectionOperations = connectionOperations;
         this.reactiveOperations = new DefaultR2dbcReactiveRepositoryOperations();
@@ -232,6 +249,21 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         }
     }
 
+    @Override
+    protected SqlQueryOptions getSqlQueryOptions() {
+        return sqlQueryOptions;
+    }
+
+    @Override
+    protected EntitySnapshots getEntitySnapshots() {
+        return entitySnapshots;
+    }
+
+    @Override
+    protected boolean isEntityCacheSupported() {
+        return schemaTenantResolver == null;
+    }
+
     @Override
     protected ResultReader<Row, String> createColumnNameResultSetReaderWithColumnExistenceAware() {
         return new ColumnNameExistenceAwareR2dbcResultSetReader();
@@ -489,6 +521,169 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         };
     }
 
+    @NonNull
+    @Override
+    public <E> Mono<List<E>> batchFetch(@NonNull Class<E> entityType, @NonNull List<E> entities, @NonNull String associationPath, int batchSize) {
+        ArgumentUtils.requireNonNull("entityType", entityType);
+        ArgumentUtils.requireNonNull("entities", entities);
+        ArgumentUtils.requireNonNull("associationPath", associationPath);
+        if (entities.isEmpty()) {
+            return Mono.just(entities);
+        }
+        RuntimePersistentEntity<E> persistentEntity = getEntity(entityType);
+        SqlQueryBuilder2 queryBuilder = getQueryBuilder(configuration.getDialect());
+        AssociationFetch associationFetch = new AssociationFetch(associationPath, List.of(), batchSize, false);
+        return connectionOperations.withConnectionMono(
+            ConnectionDefinition.READ_ONLY,
+            status -> loadAssociation(status.getConnection(), persistentEntity, queryBuilder, associationFetch, entities)
+        );
+    }
+
+    @NonNull
+    @Override
+    public <E> Mono<E> updateChanged(@NonNull E entity) {
+        ArgumentUtils.requireNonNull("entity", entity);
+        RuntimePersistentEntity<E> persistentEntity = getEntity((Class<E>) entity.getClass());
+        return connectionOperations.withConnectionMono(
+            ConnectionDefinition.DEFAULT,
+            status -> Mono.deferContextual(contextView -> {
+                Connection connection = status.getConnection();
+                openSnapshotScope(contextView, status);
+                BitSet changedProperties = entitySnapshots == null ? null : entitySnapshots.findChangedProperties(connection, persistentEntity, entity);
+                if (changedProperties == null) {
+                    changedProperties = new BitSet();
+                    changedProperties.set(0, EntitySnapshots.getUpdatableProperties(persistentEntity).size());
+                } else if (changedProperties.isEmpty()) {
+                    return Mono.just(entity);
+                }
+                SqlStoredQuery<E, E> storedQuery = resolveEntityUpdate(getQueryBuilder(configuration.getDialect()),
+                    persistentEntity.getIntrospection().getBeanType(), persistentEntity, changedProperties);
+                markEntityCacheWritten(persistentEntity, findWrittenIds(persistentEntity, List.of(entity)), connectionOperations.findConnectionStatus(contextView).orElse(status));
+                R2dbcOperationContext ctx = new R2dbcOperationContext(AnnotationMetadata.EMPTY_METADATA, null, null, storedQuery.getDialect(), connection);
+                R2dbcEntityOperations<E> op = new R2dbcEntityOperations<>(ctx, persistentEntity, entity, storedQuery);
+                op.update();
+                return op.getEntity().map(updated -> trackEntity(connection, persistentEntity, updated));
+            })
+        );
+    }
+
+    private <R> Mono<List<R>> loadAssociations(Connection connection,
+                                               SqlStoredQuery<?, R> storedQuery,
+                                               List<AssociationFetch> associationFetches,
+                                               List<R> results) {
+        RuntimePersistentEntity<R> persistentEntity = getEntity(storedQuery.getResultType());
+        Mono<List<R>> loadedResults = Mono.just(results);
+        for (AssociationFetch associationFetch : associationFetches) {
+            loadedResults = loadedResults.flatMap(currentResults -> loadAssociation(connection, persistentEntity, storedQuery.getQueryBuilder(), associationFetch, currentResults));
+        }
+        return loadedResults;
+    }
+
+    private <R> Mono<List<R>> loadAssociation(Connection connection,
+                                              RuntimePersistentEntity<R> persistentEntity,
+                                              SqlQueryBuilder2 queryBuilder,
+                                              AssociationFetch associationFetch,
+                                              List<R> results) {
+        // The queries are built from the results with the associations loaded by the previous fetches
+        Mono<List<R>> loadedResults = Mono.just(results);
+        for (AssociationQuery<R> associationQuery : buildAssociationQueries(persistentEntity, queryBuilder, associationFetch, results)) {
+            loadedResults = loadedResults.flatMap(currentResults -> findAssociation(connection, associationQuery.storedQuery())
+                .map(associations -> applyAssociationQuery(associationQuery, currentResults, associations)));
+        }
+        return loadedResults;
+    }
+
+    private <R> Mono<List<R>> findAssociation(Connection connection, SqlStoredQuery<?, R> query) {
+        if (QUERY_LOG.isDebugEnabled()) {
+            QUERY_LOG.debug("Executing Query: {}", query.getQuery());
+        }
+        Statement statement = connection.createStatement(query.getQuery());
+        query.bindParameters(new R2dbcParameterBinder(connection, statement, query), null, null, null);
+        SqlResultEntityTypeMapper<Row, R> mapper = (SqlResultEntityTypeMapper<Row, R>) createMapper(query, Row.class);
+        SqlResultEntityTypeMapper.PushingMapper<Row, List<R>> rowsMapper = mapper.readManyMapper();
+        return executeAndMapEachRow(statement, row -> {
+            rowsMapper.processRow(row);
+            return "";
+        }).collectList().map(ignore -> {
+            List<R> loadedResults = rowsMapper.getResult();
+            return loadedResults == null ? List.<R>of() : loadedResults;
+        });
+    }
+
+    @Nullable
+    private ConnectionStatus<Connection> findExistingConnectionStatus(PreparedDataOperation<?> operation, ContextView contextView) {
+        @SuppressWarnings("unchecked")
+        ReactiveTransactionStatus<Connection> tx = operation
+                .getParameterInRole(R2dbcRepository.PARAMETER_TX_STATUS_ROLE, ReactiveTransactionStatus.class).orElse(null);
+        if (tx != null) {
+            return tx.getConnectionStatus();
+        }
+        return connectionOperations.findConnectionStatus(contextView).orElse(null);
+    }
+
+    private void markEntityCacheWritten(PreparedDataOperation<?> operation, ConnectionStatus<Connection> status) {
+        if (entityCacheRegistry == null) {
+            return;
+        }
+        if (operation instanceof EntityOperation<?> entityOperation) {
+            RuntimePersistentEntity<?> persistentEntity = getEntity(entityOperation.getRootEntity());
+            markEntityCacheWritten(persistentEntity, findWrittenIds(persistentEntity, entityOperation), status);
+        } else if (operation instanceof StoredQuery<?, ?> storedQuery) {
+            markEntityCacheWritten(getEntity(storedQuery.getRootEntity()), null, status);
+        }
+    }
+
+    /**
+     * Bypasses the caches of the entity written by the connection, the written entities are invalidated again after the connection is closed.
+     *
+     * @param persistentEntity The persistent entity
+     * @param ids              The identities of the written entities or null if all the entities of the type can be written
+     * @param status           The status of the connection
+     */
+    private void markEntityCacheWritten(RuntimePersistentEntity<?> persistentEntity, @Nullable Collection<?> ids, ConnectionStatus<Connection> status) {
+        if (entityCacheRegistry == null || !entityCacheRegistry.isTracked(persistentEntity)) {
+            return;
+        }
+        Connection connection = status.getConnection();
+        if (entityCacheRegistry.markWritten(dataSourceName, connection, persistentEntity, ids)) {
+            status.registerSynchronization(new ConnectionSynchronization() {
+                @Override
+                public void afterClosed() {
+                    entityCacheRegistry.completed(connection);
+                }
+            });
+        }
+    }
+
+    /**
+     * Opens the scope of the snapshots taken in the current transaction.
+     *
+     * @param contextView The context view
+     * @param status      The status of the connection
+     */
+    private void openSnapshotScope(ContextView contextView, ConnectionStatus<Connection> status) {
+        if (entitySnapshots != null && transactionOperations.findTransactionStatus(contextView).isPresent()) {
+            openSnapshotScope(connectionOperations.findConnectionStatus(contextView).orElse(status));
+        }
+    }
+
+    /**
+     * Opens the scope of the snapshots taken in the transaction of the connection, the snapshots are dropped after the connection is closed.
+     *
+     * @param status The status of the connection
+     */
+    private void openSnapshotScope(ConnectionStatus<Connection> status) {
+        Connection connection = status.getConnection();
+        if (entitySnapshots != null && entitySnapshots.openScope(connection)) {
+            status.registerSynchronization(new ConnectionSynchronization() {
+                @Override
+                public void afterClosed() {
+                    entitySnapshots.closeScope(connection);
+                }
+            });
+        }
+    }
+
     /**
      * Reactive operations implementation.
      */
@@ -509,55 +704,143 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
         @Override
         public <T, R> Mono<R> findOne(@NonNull PreparedQuery<T, R> pq) {
             SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
-            return executeReadMono(preparedQuery, connection -> {
-                Statement statement = prepareStatement(connection::createStatement, preparedQuery, false, true);
-                preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery));
-
-                SqlTypeMapper<Row, R> mapper = createMapper(preparedQuery, Row.class);
-                if (mapper instanceof SqlResultEntityTypeMapper<Row, R> entityTypeMapper) {
-                    final boolean hasJoins = !preparedQuery.getJoinPaths().isEmpty();
-                    if (!hasJoins) {
-                        return executeAndMapEachRow(statement, entityTypeMapper::readEntity);
+            EntityCacheLookup<R> cacheLookup = findEntityCacheLookup(preparedQuery);
+            if (cacheLookup != null) {
+                return Mono.deferContextual(contextView -> {
+                    ConnectionStatus<Connection> existingStatus = findExistingConnectionStatus(preparedQuery, contextView);
+                    Connection existingConnection = existingStatus == null ? null : existingStatus.getConnection();
+                    if (cacheLookup.isWritten(existingConnection)) {
+                        return executeReadMono(preparedQuery, connection -> findOne(connection, preparedQuery));
+                    }
+                    R cached = cacheLookup.get();
+                    if (cached != null) {
+                        return Mono.just(cached);
                     }
+                    Mono<R> result = executeReadMono(preparedQuery, connection -> findOne(connection, preparedQuery));
+                    // The entity read by an existing connection might not be visible to the other connections
+                    return existingConnection == null ? result.doOnNext(cacheLookup::put) : result;
+                });
+            }
+            QueryResultCacheLookup queryCacheLookup = findQueryResultCacheLookup(preparedQuery);
+            if (queryCacheLookup != null) {
+                return findCachedResult(preparedQuery, queryCacheLookup, executeReadMono(preparedQuery, connection -> findOne(connection, preparedQuery)));
+            }
+            return executeReadMono(preparedQuery, connection -> findOne(connection, preparedQuery));
+        }
+
+        private <R> Mono<R> findCachedResult(PreparedDataOperation<?> operation, QueryResultCacheLookup cacheLookup, Mono<R> read) {
+            return Mono.deferContextual(contextView -> {
+                ConnectionStatus<Connection> existingStatus = findExistingConnectionStatus(operation, contextView);
+                Connection existingConnection = existingStatus == null ? null : existingStatus.getConnection();
+                if (cacheLookup.isWritten(existingConnection)) {
+                    return read;
+                }
+                R cached = cacheLookup.get();
+                if (cached != null) {
+                    return Mono.just(cached);
+                }
+                // The result read by an existing connection might not be visible to the other connections
+                return existingConnection == null ? read.doOnNext(cacheLookup::put) : read;
+            });
+        }
+
+        private <T, R> Publisher<R> findOne(Connection connection, SqlPreparedQuery<T, R> preparedQuery) {
+            Statement statement = prepareStatement(connection::createStatement, preparedQuery, false, true);
+            preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery));
+
+            SqlTypeMapper<Row, R> mapper = createMapper(preparedQuery, Row.class);
+            if (mapper instanceof SqlResultEntityTypeMapper<Row, R> entityTypeMapper) {
+                final boolean hasJoins = !preparedQuery.getJoinPaths().isEmpty();
+                Mono<R> result;
+                if (!hasJoins) {
+                    result = executeAndMapEachRow(statement, entityTypeMapper::readEntity).next();
+                } else {
                     SqlResultEntityTypeMapper.PushingMapper<Row, R> rowsMapper = entityTypeMapper.readOneMapper();
-                    return executeAndMapEachRow(statement, row -> {
+                    result = executeAndMapEachRow(statement, row -> {
                         rowsMapper.processRow(row);
                         return "";
                     }).collectList().flatMap(ignore -> Mono.justOrEmpty(rowsMapper.getResult()));
                 }
-                return executeAndMapEachRowNullable(statement, row -> mapper.map(row, preparedQuery.getResultType()));
-            });
+                List<AssociationFetch> associationFetches = getAssociationFetches(preparedQuery);
+                if (!associationFetches.isEmpty()) {
+                    result = result.flatMap(r -> loadAssociations(connection, preparedQuery, associationFetches, List.of(r)).map(results -> results.get(0)));
+                }
+                return result.doOnNext(r -> trackEntities(connection, preparedQuery, List.of(r)));
+            }
+            return executeAndMapEachRowNullable(statement, row -> mapper.map(row, preparedQuery.getResultType()));
         }
 
         @NonNull
         @Override
         public <T, R> Flux<R> findAll(@NonNull PreparedQuery<T, R> pq) {
             SqlPreparedQuery<T, R> preparedQuery = getSqlPreparedQuery(pq);
-            return executeReadFlux(preparedQuery, connection -> {
-                Statement statement = prepareStatement(connection::createStatement, preparedQuery, false, false);
-                preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery));
+            QueryResultCacheLookup queryCacheLookup = findQueryResultCacheLookup(preparedQuery);
+            if (queryCacheLookup != null) {
+                Mono<List<R>> read = findAll(preparedQuery).collectList().map(Collections::unmodifiableList);
+                return findCachedResult(preparedQuery, queryCacheLookup, read).flatMapIterable(results -> results);
+            }
+            return findAll(preparedQuery);
+        }
 
-                SqlTypeMapper<Row, R> mapper = createMapper(preparedQuery, Row.class);
-                if (mapper instanceof SqlResultEntityTypeMapper<Row, R> entityTypeMapper) {
-                    SqlResultEntityTypeMapper.PushingMapper<Row, List<R>> rowsMapper = entityTypeMapper.readManyMapper();
-                    return executeAndMapEachRow(statement, row -> {
-                        rowsMapper.processRow(row);
-                        return "";
-                    }).collectList().flatMapIterable(ignore -> rowsMapper.getResult());
+        private <T, R> Flux<R> findAll(SqlPreparedQuery<T, R> preparedQuery) {
+            List<SqlPreparedQuery<T, R>> chunks = preparedQuery.splitInList();
+            if (!chunks.isEmpty()) {
+                // The statements of a connection cannot run concurrently
+                return executeReadFlux(preparedQuery, connection -> Flux.fromIterable(chunks)
+                    .concatMap(chunk -> findAll(connection, chunk).collectList())
+                    .collectList()
+                    .flatMapIterable(chunkResults -> mergeInListChunks(preparedQuery, chunkResults)));
+            }
+            return executeReadFlux(preparedQuery, connection -> findAll(connection, preparedQuery));
+        }
+
+        private <T, R> Flux<R> findAll(Connection connection, SqlPreparedQuery<T, R> preparedQuery) {
+            Statement statement = prepareStatement(connection::createStatement, preparedQuery, false, false);
+            preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery));
+
+            SqlTypeMapper<Row, R> mapper = createMapper(preparedQuery, Row.class);
+            if (mapper instanceof SqlResultEntityTypeMapper<Row, R> entityTypeMapper) {
+                SqlResultEntityTypeMapper.PushingMapper<Row, List<R>> rowsMapper = entityTypeMapper.readManyMapper();
+                Mono<List<R>> results = executeAndMapEachRow(statement, row -> {
+                    rowsMapper.processRow(row);
+                    return "";
+                }).collectList().map(ignore -> {
+                    List<R> result = rowsMapper.getResult();
+                    return result == null ? List.<R>of() : result;
+                });
+                List<AssociationFetch> associationFetches = getAssociationFetches(preparedQuery);
+                if (!associationFetches.isEmpty()) {
+                    results = results.flatMap(r -> loadAssociations(connection, preparedQuery, associationFetches, r));
                 }
-                return executeAndMapEachRowNullable(statement, row -> mapper.map(row, preparedQuery.getResultType()));
-            });
+                return results.doOnNext(r -> trackEntities(connection, preparedQuery, r)).flatMapIterable(r -> r);
+            }
+            return executeAndMapEachRowNullable(statement, row -> mapper.map(row, preparedQuery.getResultType()));
         }
 
         @NonNull
         @Override
         public Mono<Number> executeUpdate(@NonNull PreparedQuery<?, Number> pq) {
             SqlPreparedQuery<?, Number> preparedQuery = getSqlPreparedQuery(pq);
+            List<? extends SqlPreparedQuery<?, Number>> chunks = preparedQuery.splitInList();
+            if (!chunks.isEmpty() && preparedQuery.getParameterInRole(R2dbcRepository.PARAMETER_TX_STATUS_ROLE, ReactiveTransactionStatus.class).isEmpty()) {
+                // The statements of the chunks are executed atomically, an existing transaction is joined
+                return transactionOperations.withTransactionMono(status -> executeUpdate(preparedQuery, chunks));
+            }
+            return executeUpdate(preparedQuery, chunks);
+        }
+
+        private Mono<Number> executeUpdate(SqlPreparedQuery<?, Number> preparedQuery, List<? extends SqlPreparedQuery<?, Number>> chunks) {
             return executeWriteMono(preparedQuery, connection -> {
-                Statement statement = prepareStatement(connection::createStatement, preparedQuery, true, true);
-                Dialect dialect = preparedQuery.getDialect();
-                preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery));
-                return executeAndGetRowsUpdatedSingle(statement, dialect)
+                Mono<Number> result;
+                if (chunks.isEmpty()) {
+                    result = executeUpdate(connection, preparedQuery);
+                } else {
+                    result = Flux.fromIterable(chunks)
+                        .concatMap(chunk -> executeUpdate(connection, chunk))
+                        .reduce(0L, (count, rowsUpdated) -> count + rowsUpdated.longValue())
+                        .cast(Number.class);
+                }
+                return result
                     .flatMap((Number rowsUpdated) -> {
                         if (QUERY_LOG.isTraceEnabled()) {
                             QUERY_LOG.trace("Update operation updated {} records", rowsUpdated);
@@ -565,6 +848,9 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                         if (preparedQuery.isOptimisticLock()) {
                             checkOptimisticLocking(1, rowsUpdated);
                         }
+                        if (entityCacheRegistry != null && entityCacheRegistry.isCached(preparedQuery.getPersistentEntity())) {
+                            entityCacheRegistry.invalidate(dataSourceName, preparedQuery.getPersistentEntity(), null);
+                        }
                         Argument<?> argument = preparedQuery.getResultArgument().getFirstTypeVariable().orElse(null);
                         if (argument != null) {
                             if (argument.isVoid() || argument.getType() == Void.class) {
@@ -580,6 +866,12 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             });
         }
 
+        private Mono<Number> executeUpdate(Connection connection, SqlPreparedQuery<?, Number> preparedQuery) {
+            Statement statement = prepareStatement(connection::createStatement, preparedQuery, true, true);
+            preparedQuery.bindParameters(new R2dbcParameterBinder(connection, statement, preparedQuery));
+            return executeAndGetRowsUpdatedSingle(statement, preparedQuery.getDialect());
+        }
+
         @NonNull
         @Override
         public Mono<Number> executeDelete(@NonNull PreparedQuery<?, Number> preparedQuery) {
@@ -614,6 +906,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             return executeWriteMono(operation, status -> {
                 final SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
                 final R2dbcOperationContext ctx = createContext(operation, status, storedQuery);
+                forgetEntity(operation.getEntity());
                 R2dbcEntityOperations<T> op = new R2dbcEntityOperations<>(ctx, storedQuery.getPersistentEntity(), operation.getEntity(), storedQuery);
                 op.delete();
                 return op.getRowsUpdated();
@@ -633,13 +926,13 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                             .map(persistOp -> {
                                 R2dbcEntityOperations<T> op = new R2dbcEntityOperations<>(ctx, storedQuery, persistentEntity, persistOp.getEntity(), true);
                                 op.persist();
-                                return op.getEntity();
+                                return op.getEntity().map(entity -> trackEntity(status, persistentEntity, entity));
                             })
                     );
                 } else {
                     R2dbcEntitiesOperations<T> op = new R2dbcEntitiesOperations<>(ctx, storedQuery, persistentEntity, operation, true);
                     op.persist();
-                    return op.getEntities();
+                    return op.getEntities().map(entity -> trackEntity(status, persistentEntity, entity));
                 }
             });
         }
@@ -658,7 +951,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                 final R2dbcOperationContext ctx = createContext(operation, status, storedQuery);
                 R2dbcEntityOperations<T> op = new R2dbcEntityOperations<>(ctx, storedQuery, storedQuery.getPersistentEntity(), operation.getEntity(), true);
                 op.persist();
-                return op.getEntity();
+                return op.getEntity().map(entity -> trackEntity(status, storedQuery.getPersistentEntity(), entity));
             });
         }
 
@@ -670,7 +963,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                 final R2dbcOperationContext ctx = createContext(operation, status, storedQuery);
                 R2dbcEntityOperations<T> op = new R2dbcEntityOperations<>(ctx, storedQuery.getPersistentEntity(), operation.getEntity(), storedQuery);
                 op.update();
-                return op.getEntity();
+                return op.getEntity().map(entity -> trackEntity(status, storedQuery.getPersistentEntity(), entity));
             });
         }
 
@@ -703,6 +996,10 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             if (tx != null) {
                 try {
                     return Flux.deferContextual(contextView -> {
+                        if (isWrite) {
+                            markEntityCacheWritten(operation, tx.getConnectionStatus());
+                        }
+                        openSnapshotScope(tx.getConnectionStatus());
                         try (PropagatedContext.Scope ignore = ReactorPropagation.findPropagatedContext(contextView).orElse(PropagatedContext.empty()).propagate()) {
                             return callback.apply(tx.getConnection());
                         }
@@ -714,6 +1011,10 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             return connectionOperations.withConnectionFlux(
                 isWrite ? ConnectionDefinition.DEFAULT : ConnectionDefinition.READ_ONLY,
                 status -> Flux.deferContextual(contextView -> {
+                    if (isWrite) {
+                        markEntityCacheWritten(operation, connectionOperations.findConnectionStatus(contextView).orElse(status));
+                    }
+                    openSnapshotScope(contextView, status);
                     try (PropagatedContext.Scope ignore = ReactorPropagation.findPropagatedContext(contextView).orElse(PropagatedContext.empty()).propagate()) {
                         return callback.apply(status.getConnection());
                     }
@@ -730,6 +1031,10 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             if (tx != null) {
                 try {
                     return Mono.deferContextual(contextView -> {
+                        if (isWrite) {
+                            markEntityCacheWritten(operation, tx.getConnectionStatus());
+                        }
+                        openSnapshotScope(tx.getConnectionStatus());
                         try (PropagatedContext.Scope ignore = ReactorPropagation.findPropagatedContext(contextView).orElse(PropagatedContext.empty()).propagate()) {
                             return callback.apply(tx.getConnection());
                         }
@@ -741,6 +1046,10 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             return connectionOperations.withConnectionMono(
                 isWrite ? ConnectionDefinition.DEFAULT : ConnectionDefinition.READ_ONLY,
                 status -> Mono.deferContextual(contextView -> {
+                    if (isWrite) {
+                        markEntityCacheWritten(operation, connectionOperations.findConnectionStatus(contextView).orElse(status));
+                    }
+                    openSnapshotScope(contextView, status);
                     try (PropagatedContext.Scope ignore = ReactorPropagation.findPropagatedContext(contextView).orElse(PropagatedContext.empty()).propagate()) {
                         return callback.apply(status.getConnection());
                     }
@@ -755,6 +1064,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                 final SqlStoredQuery<T, ?> storedQuery = getSqlStoredQuery(operation.getStoredQuery());
                 RuntimePersistentEntity<T> persistentEntity = storedQuery.getPersistentEntity();
                 final R2dbcOperationContext ctx = createContext(operation, connection, storedQuery);
+                operation.forEach(DefaultR2dbcRepositoryOperations.this::forgetEntity);
                 if (isSupportsBatchDelete(persistentEntity, storedQuery.getDialect())) {
                     R2dbcEntitiesOperations<T> op = new R2dbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery);
                     op.delete();
@@ -784,13 +1094,13 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
                             .map(updateOp -> {
                                 R2dbcEntityOperations<T> op = new R2dbcEntityOperations<>(ctx, persistentEntity, updateOp.getEntity(), storedQuery);
                                 op.update();
-                                return op.getEntity();
+                                return op.getEntity().map(entity -> trackEntity(connection, persistentEntity, entity));
                             })
                     );
                 }
                 R2dbcEntitiesOperations<T> op = new R2dbcEntitiesOperations<>(ctx, persistentEntity, operation, storedQuery);
                 op.update();
-                return op.getEntities();
+                return op.getEntities().map(entity -> trackEntity(connection, persistentEntity, entity));
             });
         }
 
@@ -917,6 +1227,7 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
 
     private final class R2dbcEntityOperations<T> extends AbstractReactiveEntityOperations<R2dbcOperationContext, T, RuntimeException> {
         private final SqlStoredQuery<T, ?> storedQuery;
+        private UpsertValues<T> upsertValues;
 
         private R2dbcEntityOperations(R2dbcOperationContext ctx, RuntimePersistentEntity<T> persistentEntity, T entity, SqlStoredQuery<T, ?> storedQuery) {
             this(ctx, storedQuery, persistentEntity, entity, false);
@@ -942,6 +1253,27 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             });
         }
 
+        @Override
+        protected boolean triggerPrePersist() {
+            data = data.map(d -> {
+                if (!d.vetoed) {
+                    upsertValues = collectUpsertValues(storedQuery, persistentEntity, d.entity);
+                    if (upsertValues != null) {
+                        d.previousValues = upsertValues.previousValues();
+                    }
+                }
+                return d;
+            });
+            boolean vetoed = super.triggerPrePersist();
+            data = data.map(d -> {
+                if (upsertValues != null && !d.vetoed) {
+                    d.entity = upsertValues.populate(d.entity);
+                }
+                return d;
+            });
+            return vetoed;
+        }
+
         private Statement prepare(Connection connection) throws RuntimeException {
             if (storedQuery instanceof SqlPreparedQuery<T, ?> sqlPreparedQuery) {
                 data = data.map(d -> {
@@ -1058,6 +1390,36 @@ final class DefaultR2dbcRepositoryOperations extends AbstractSqlRepositoryOperat
             });
         }
 
+        @Override
+        protected boolean triggerPrePersist() {
+            Map<Data, UpsertValues<T>> upsertValues = new IdentityHashMap<>();
+            entities = entities.map(list -> {
+                for (Data d : list) {
+                    if (d.vetoed) {
+                        continue;
+                    }
+                    UpsertValues<T> values = collectUpsertValues(storedQuery, persistentEntity, d.entity);
+                    if (values == null) {
+                        break;
+                    }
+                    d.previousValues = values.previousValues();
+                    upsertValues.put(d, values);
+                }
+                return list;
+            });
+            boolean vetoed = super.triggerPrePersist();
+            entities = entities.map(list -> {
+                for (Data d : list) {
+                    UpsertValues<T> values = upsertValues.get(d);
+                    if (values != null && !d.vetoed) {
+                        d.entity = values.populate(d.entity);
+                    }
+                }
+                return list;
+            });
+            return vetoed;
+        }
+
         private void setParameters(Statement stmt, SqlStoredQuery<T, ?> storedQuery) {
             AtomicBoolean isFirst = new AtomicBoolean(true);
             entities = entities.map(list -> {
@@ -15,9 +15,13 @@
  */
 package io.micronaut.data.r2dbc.operations;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.data.operations.RepositoryOperations;
 import io.micronaut.data.operations.async.AsyncCapableRepository;
 import io.micronaut.data.operations.reactive.ReactiveCapableRepository;
+import org.reactivestreams.Publisher;
+
+import java.util.List;
 
 /**
  * An interface for R2DBC repository operations.
@@ -26,4 +30,49 @@ import io.micronaut.data.operations.reactive.ReactiveCapableRepository;
  * @since 1.0.0
  */
 public interface R2dbcRepositoryOperations extends RepositoryOperations, ReactiveCapableRepository, AsyncCapableRepository {
+
+    /**
+     * Loads the association of the entities by the separate queries instead of a query per entity.
+     * The referenced entities are selected by their ids, the collections are selected with the entities by the ids of the entities.
+     * The ids are chunked by the batch size and the limits of the dialect.
+     *
+     * @param entityType      The entity type
+     * @param entities        The entities
+     * @param associationPath The path of the association
+     * @param batchSize       The maximum number of the ids selected by one query, zero to use the limits of the dialect only
+     * @param <E>             The entity type
+     * @return A publisher that emits the entities with the loaded association, the immutable entities are replaced by the new instances
+     * @since 4.12
+     */
+    @NonNull
+    <E> Publisher<List<E>> batchFetch(@NonNull Class<E> entityType, @NonNull List<E> entities, @NonNull String associationPath, int batchSize);
+
+    /**
+     * Loads the association of the entities by the separate queries chunked by the limits of the dialect.
+     *
+     * @param entityType      The entity type
+     * @param entities        The entities
+     * @param associationPath The path of the association
+     * @param <E>             The entity type
+     * @return A publisher that emits the entities with the loaded association
+     * @see #batchFetch(Class, List, String, int)
+     * @since 4.12
+     */
+    @NonNull
+    default <E> Publisher<List<E>> batchFetch(@NonNull Class<E> entityType, @NonNull List<E> entities, @NonNull String associationPath) {
+        return batchFetch(entityType, entities, associationPath, 0);
+    }
+
+    /**
+     * Updates the columns of the entity changed since it was read or written by the repository operations.
+     * The changes are found by the snapshots of the dirty tracking enabled by the data source property {@code dirty-tracking-max-snapshots},
+     * an entity without a snapshot updates all the columns. Nothing is executed if no column has changed.
+     *
+     * @param entity The entity
+     * @param <E>    The entity type
+     * @return A publisher that emits the updated entity, the immutable entities are replaced by the new instances
+     * @since 4.12
+     */
+    @NonNull
+    <E> Publisher<E> updateChanged(@NonNull E entity);
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.r2dbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.model.Sort
+import io.micronaut.data.tck.entities.Book
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+@MicronautTest(transactional = false)
+@Property(name = "r2dbc.datasources.default.in-list-chunk-size", value = "2")
+class H2InListChunkSpec extends Specification implements H2TestPropertyProvider {
+
+    @Inject
+    H2ReactiveBookRepository bookRepository
+
+    void cleanup() {
+        bookRepository.deleteAll().block()
+    }
+
+    void "test the chunks of an IN list are executed one after another"() {
+        given:
+            Flux.fromIterable(["Chunk C", "Chunk A", "Chunk E", "Chunk B", "Chunk D"])
+                .concatMap { bookRepository.save(new Book(title: it, totalPages: it.charAt(6) as int)) }
+                .blockLast()
+
+        when: "The unordered query is split"
+            def books = bookRepository.findByTitleIn(["Chunk A", "Chunk B", "Chunk C", "Chunk D", "Chunk E", "Chunk A"], Sort.unsorted()).collectList().block()
+
+        then: "Every entity is returned once"
+            books*.title.sort() == ["Chunk A", "Chunk B", "Chunk C", "Chunk D", "Chunk E"]
+
+        when: "The ordered query is executed as a single statement"
+            books = bookRepository.findByTitleIn(["Chunk E", "Chunk A", "Chunk C"], Sort.of(Sort.Order.desc("totalPages"))).collectList().block()
+
+        then:
+            books*.title == ["Chunk E", "Chunk C", "Chunk A"]
+
+        when: "The chunks of the delete are executed in a transaction"
+            def deleted = bookRepository.deleteByTitleIn(["Chunk A", "Chunk B", "Chunk C", "Chunk D", "Chunk E"]).block()
+
+        then:
+            deleted == 5
+            bookRepository.findByTitleIn(["Chunk A", "Chunk B", "Chunk C", "Chunk D", "Chunk E"], Sort.unsorted()).collectList().block().isEmpty()
+    }
+}
@@ -15,10 +15,20 @@
  */
 package io.micronaut.data.r2dbc.h2;
 
+import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.r2dbc.annotation.R2dbcRepository;
+import io.micronaut.data.tck.entities.Book;
 import io.micronaut.data.tck.repositories.BookReactiveRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @R2dbcRepository(dialect = Dialect.H2)
 public interface H2ReactiveBookRepository extends BookReactiveRepository {
+
+    Flux<Book> findByTitleIn(List<String> titles, Sort sort);
+
+    Mono<Long> deleteByTitleIn(List<String> titles);
 }
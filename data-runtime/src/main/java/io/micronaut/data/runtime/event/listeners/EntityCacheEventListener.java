@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.event.listeners;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.data.annotation.event.PostPersist;
+import io.micronaut.data.annotation.event.PostRemove;
+import io.micronaut.data.annotation.event.PostUpdate;
+import io.micronaut.data.event.EntityEventContext;
+import io.micronaut.data.event.EntityEventListener;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.runtime.support.EntityCacheRegistry;
+import jakarta.inject.Singleton;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Removes the written entities from the cache of the {@link io.micronaut.data.annotation.EntityCache} entities.
+ *
+ * @since 4.12
+ */
+@Singleton
+public class EntityCacheEventListener implements EntityEventListener<Object> {
+
+    private static final List<Class<? extends Annotation>> SUPPORTED_EVENTS = Arrays.asList(PostPersist.class, PostUpdate.class, PostRemove.class);
+
+    private final EntityCacheRegistry entityCacheRegistry;
+
+    public EntityCacheEventListener(EntityCacheRegistry entityCacheRegistry) {
+        this.entityCacheRegistry = entityCacheRegistry;
+    }
+
+    @Override
+    public boolean supports(RuntimePersistentEntity<Object> entity, Class<? extends Annotation> eventType) {
+        return entityCacheRegistry.isCached(entity) && SUPPORTED_EVENTS.contains(eventType);
+    }
+
+    @Override
+    public void postPersist(@NonNull EntityEventContext<Object> context) {
+        invalidate(context);
+    }
+
+    @Override
+    public void postUpdate(@NonNull EntityEventContext<Object> context) {
+        invalidate(context);
+    }
+
+    @Override
+    public void postRemove(@NonNull EntityEventContext<Object> context) {
+        invalidate(context);
+    }
+
+    private void invalidate(EntityEventContext<Object> context) {
+        RuntimePersistentEntity<Object> persistentEntity = context.getPersistentEntity();
+        Object id = persistentEntity.getIdentity().getProperty().get(context.getEntity());
+        entityCacheRegistry.invalidate(persistentEntity, id);
+    }
+
+}
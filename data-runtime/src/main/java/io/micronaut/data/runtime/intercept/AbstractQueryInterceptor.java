@@ -27,6 +27,7 @@ import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.beans.BeanWrapper;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.naming.NameUtils;
+import io.micronaut.core.propagation.PropagatedContext;
 import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.core.type.Argument;
@@ -34,6 +35,7 @@ import io.micronaut.core.type.MutableArgumentValue;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.data.annotation.Query;
+import io.micronaut.data.connection.support.AbstractConnectionOperations;
 import io.micronaut.data.annotation.TypeRole;
 import io.micronaut.data.exceptions.EmptyResultException;
 import io.micronaut.data.intercept.DataInterceptor;
@@ -43,6 +45,7 @@ import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.PersistentEntity;
 import io.micronaut.data.model.PersistentProperty;
 import io.micronaut.data.model.Sort;
+import io.micronaut.data.model.query.JoinPath;
 import io.micronaut.data.model.runtime.AbstractPreparedDataOperation;
 import io.micronaut.data.model.runtime.BatchOperation;
 import io.micronaut.data.model.runtime.DefaultStoredDataOperation;
@@ -61,6 +64,7 @@ import io.micronaut.data.model.runtime.UpdateBatchOperation;
 import io.micronaut.data.model.runtime.UpdateOperation;
 import io.micronaut.data.operations.HintsCapableRepository;
 import io.micronaut.data.operations.RepositoryOperations;
+import io.micronaut.data.operations.async.AsyncRepositoryOperations;
 import io.micronaut.data.runtime.query.DefaultPagedQueryResolver;
 import io.micronaut.data.runtime.query.DefaultPreparedQueryResolver;
 import io.micronaut.data.runtime.query.DefaultStoredQueryResolver;
@@ -70,6 +74,7 @@ import io.micronaut.data.runtime.query.PreparedQueryDecorator;
 import io.micronaut.data.runtime.query.PreparedQueryResolver;
 import io.micronaut.data.runtime.query.StoredQueryDecorator;
 import io.micronaut.data.runtime.query.StoredQueryResolver;
+import io.micronaut.transaction.support.AbstractPropagatedStatusTransactionOperations;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
@@ -80,6 +85,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -96,6 +102,33 @@ import static io.micronaut.data.intercept.annotation.DataMethod.META_MEMBER_PAGE
  * @since 1.0
  */
 public abstract class AbstractQueryInterceptor<T, R> implements DataInterceptor<T, R> {
+
+    /**
+     * The name of the {@link io.micronaut.data.annotation.QueryHint} that executes the count query of a page
+     * concurrently with the data query. The count query is executed by the asynchronous operations using a new
+     * connection outside the current transaction. The reactive interceptors ignore the hint, the queries would share
+     * the connection bound to the reactive context.
+     *
+     * @since 4.12
+     */
+    public static final String CONCURRENT_COUNT_HINT = "micronaut.data.concurrent-count";
+
+    /**
+     * The name of the {@link io.micronaut.data.annotation.QueryHint} that estimates the total size of a page.
+     * The value is the number of the records counted exactly, {@code true} uses the cap of {@value #DEFAULT_ESTIMATED_COUNT_CAP}.
+     *
+     * @see io.micronaut.data.operations.EstimatedCountCapableRepository
+     * @since 4.12
+     */
+    public static final String ESTIMATED_COUNT_HINT = "micronaut.data.estimated-count";
+
+    /**
+     * The default number of the records counted exactly by {@link #ESTIMATED_COUNT_HINT}.
+     *
+     * @since 4.12
+     */
+    public static final long DEFAULT_ESTIMATED_COUNT_CAP = 10_000;
+
     protected final ConversionService conversionService;
     protected final RepositoryOperations operations;
     protected final PreparedQueryResolver preparedQueryResolver;
@@ -426,6 +459,95 @@ public abstract class AbstractQueryInterceptor<T, R> implements DataInterceptor<
         return getParameterInRole(context, TypeRole.PAGEABLE, Pageable.class).orElse(null);
     }
 
+    /**
+     * Resolves the total size of a page from the results of the data query without executing the count query.
+     * The total size is known if the page is not full and the page is not past the last result.
+     * The queries joining a collection association always require the count query.
+     *
+     * @param preparedQuery The data query
+     * @param pageable      The pageable
+     * @param resultsSize   The number of the results
+     * @return The total size or null if the count query needs to be executed
+     * @since 4.12
+     */
+    @Nullable
+    protected final Long resolveTotalSize(@NonNull PreparedQuery<?, ?> preparedQuery, @NonNull Pageable pageable, int resultsSize) {
+        if (pageable.getMode() != Pageable.Mode.OFFSET) {
+            return null;
+        }
+        for (JoinPath joinPath : preparedQuery.getJoinPaths()) {
+            if (!joinPath.getAssociation().getKind().isSingleEnded()) {
+                return null;
+            }
+        }
+        if (pageable.isUnpaged()) {
+            return (long) resultsSize;
+        }
+        long offset = pageable.getOffset();
+        if (resultsSize >= pageable.getSize() || resultsSize == 0 && offset > 0) {
+            return null;
+        }
+        return offset + resultsSize;
+    }
+
+    /**
+     * @param preparedQuery The data query
+     * @return Whether the count query should be executed concurrently with the data query
+     * @see #CONCURRENT_COUNT_HINT
+     * @since 4.12
+     */
+    protected final boolean isConcurrentCount(@NonNull PreparedQuery<?, ?> preparedQuery) {
+        Object hint = preparedQuery.getQueryHints().get(CONCURRENT_COUNT_HINT);
+        return hint != null && Boolean.parseBoolean(hint.toString());
+    }
+
+    /**
+     * @param preparedQuery The data query
+     * @return The number of the records counted exactly by the estimated count or null if the count is not estimated
+     * @see #ESTIMATED_COUNT_HINT
+     * @since 4.12
+     */
+    @Nullable
+    protected final Long findEstimatedCountCap(@NonNull PreparedQuery<?, ?> preparedQuery) {
+        Object hint = preparedQuery.getQueryHints().get(ESTIMATED_COUNT_HINT);
+        if (hint == null) {
+            return null;
+        }
+        String value = hint.toString();
+        if (Boolean.parseBoolean(value)) {
+            return DEFAULT_ESTIMATED_COUNT_CAP;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Invalid value of the query hint " + ESTIMATED_COUNT_HINT + ": " + value);
+        }
+    }
+
+    /**
+     * Starts the count query of a page concurrently with the data query.
+     * The count query is executed without the current connection and transaction to use a new connection.
+     *
+     * @param asyncOperations The async operations
+     * @param countQuery      The count query
+     * @return The completion stage of the count
+     * @see #CONCURRENT_COUNT_HINT
+     * @since 4.12
+     */
+    @NonNull
+    protected final CompletionStage<Number> findCountConcurrently(@NonNull AsyncRepositoryOperations asyncOperations,
+                                                                  @NonNull PreparedQuery<?, Number> countQuery) {
+        PropagatedContext propagatedContext = AbstractPropagatedStatusTransactionOperations.withoutTransactions(
+            AbstractConnectionOperations.withoutConnections(PropagatedContext.getOrEmpty())
+        );
+        try (PropagatedContext.Scope ignore = propagatedContext.propagate()) {
+            return asyncOperations.findOne(countQuery);
+        }
+    }
+
     /**
      * Resolves the offset.
      *
@@ -17,6 +17,7 @@ package io.micronaut.data.runtime.intercept;
 
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.intercept.RepositoryMethodKey;
@@ -28,10 +29,14 @@ import io.micronaut.data.model.Pageable.Cursor;
 import io.micronaut.data.model.Pageable.Mode;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.operations.EstimatedCountCapableRepository;
 import io.micronaut.data.operations.RepositoryOperations;
+import io.micronaut.data.operations.async.AsyncCapableRepository;
 import io.micronaut.data.runtime.operations.internal.sql.DefaultSqlPreparedQuery;
 
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * An abstract base implementation of query interceptor for page interceptors
@@ -58,20 +63,34 @@ public abstract class DefaultAbstractFindPageInterceptor<T, R> extends AbstractQ
         Class<R> returnType = context.getReturnType().getType();
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
+            Pageable pageable = getPageable(context);
+            CompletionStage<Number> concurrentCount = null;
+            if (pageable.requestTotal() && isConcurrentCount(preparedQuery) && operations instanceof AsyncCapableRepository asyncCapableRepository) {
+                concurrentCount = findCountConcurrently(asyncCapableRepository.async(), prepareCountQuery(methodKey, context));
+            }
 
             Iterable<?> iterable = operations.findAll(preparedQuery);
             List<R> results = (List<R>) CollectionUtils.iterableToList(iterable);
-            Pageable pageable = getPageable(context);
             Long totalCount = null;
+            boolean totalCountEstimated = false;
             if (pageable.requestTotal()) {
-                PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
-                Number n = operations.findOne(countQuery);
-                totalCount = n != null ? n.longValue() : null;
+                totalCount = resolveTotalSize(preparedQuery, pageable, results.size());
+                if (totalCount == null && concurrentCount == null) {
+                    EstimatedCountCapableRepository.EstimatedCount estimatedCount = estimateCount(methodKey, context, preparedQuery, pageable);
+                    if (estimatedCount != null) {
+                        totalCount = estimatedCount.count();
+                        totalCountEstimated = estimatedCount.estimated();
+                    }
+                }
+                if (totalCount == null) {
+                    Number n = concurrentCount != null ? await(concurrentCount) : operations.findOne(prepareCountQuery(methodKey, context));
+                    totalCount = n != null ? n.longValue() : null;
+                }
             }
 
             Page<R> page;
             if (pageable.getMode() == Mode.OFFSET) {
-                page = Page.of(results, pageable, totalCount);
+                page = Page.of(results, pageable, totalCount, totalCountEstimated);
             } else if (preparedQuery instanceof DefaultSqlPreparedQuery<?, ?> sqlPreparedQuery) {
                 List<Cursor> cursors;
                 List<Object> resultList = (List<Object>) results;
@@ -104,4 +123,30 @@ public abstract class DefaultAbstractFindPageInterceptor<T, R> extends AbstractQ
             }
         }
     }
+
+    @Nullable
+    private EstimatedCountCapableRepository.EstimatedCount estimateCount(RepositoryMethodKey methodKey,
+                                                                         MethodInvocationContext<T, R> context,
+                                                                         PreparedQuery<?, ?> preparedQuery,
+                                                                         Pageable pageable) {
+        if (pageable.getMode() != Mode.OFFSET || !(operations instanceof EstimatedCountCapableRepository estimatedCountCapableRepository)) {
+            return null;
+        }
+        Long cap = findEstimatedCountCap(preparedQuery);
+        if (cap == null) {
+            return null;
+        }
+        return estimatedCountCapableRepository.estimateCount(prepareCountQuery(methodKey, context), cap);
+    }
+
+    private static Number await(CompletionStage<Number> count) {
+        try {
+            return count.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
 }
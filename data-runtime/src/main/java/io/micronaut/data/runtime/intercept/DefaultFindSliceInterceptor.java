@@ -56,16 +56,21 @@ public class DefaultFindSliceInterceptor<T, R> extends AbstractQueryInterceptor<
             Pageable pageable = preparedQuery.getPageable();
             Iterable<R> iterable = (Iterable<R>) operations.findAll(preparedQuery);
             List<R> results = CollectionUtils.iterableToList(iterable);
-            Slice<R> slice = Slice.of(results, pageable);
+            Slice<R> slice = LookAheadPageable.toSlice(results, pageable);
             return convertOrFail(context, slice);
         } else {
             PagedQuery<Object> pagedQuery = getPagedQuery(context);
             Iterable iterable = operations.findAll(pagedQuery);
-            Slice<R> slice = Slice.of(CollectionUtils.iterableToList(iterable), pagedQuery.getPageable());
+            Slice<R> slice = LookAheadPageable.toSlice(CollectionUtils.iterableToList(iterable), pagedQuery.getPageable());
             return convertOrFail(context, slice);
         }
     }
 
+    @Override
+    protected Pageable getPageable(MethodInvocationContext<?, ?> context) {
+        return LookAheadPageable.of(super.getPageable(context));
+    }
+
     private R convertOrFail(MethodInvocationContext<T, R> context, Slice<R> slice) {
 
         ReturnType<R> returnType = context.getReturnType();
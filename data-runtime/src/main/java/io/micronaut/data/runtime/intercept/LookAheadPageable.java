@@ -0,0 +1,192 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.intercept;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Slice;
+import io.micronaut.data.model.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The pageable of a slice query requesting one more element than the slice size.
+ * The extra element is not returned, it indicates that there is a next slice without counting the results.
+ *
+ * @since 4.12
+ */
+@Internal
+public final class LookAheadPageable implements Pageable {
+
+    private final Pageable pageable;
+
+    private LookAheadPageable(Pageable pageable) {
+        this.pageable = pageable;
+    }
+
+    /**
+     * Creates the look ahead pageable for the given pageable if it's an offset pageable.
+     *
+     * @param pageable The pageable of the slice
+     * @return The look ahead pageable or the given pageable if it's not supported
+     */
+    @NonNull
+    public static Pageable of(@NonNull Pageable pageable) {
+        if (pageable instanceof LookAheadPageable
+            || pageable.isUnpaged()
+            || pageable.getMode() != Mode.OFFSET
+            || pageable.getSize() == Integer.MAX_VALUE) {
+            return pageable;
+        }
+        return new LookAheadPageable(pageable);
+    }
+
+    /**
+     * Creates the slice from the results of the query with the given pageable.
+     *
+     * @param results  The results
+     * @param pageable The pageable used by the query
+     * @param <T>      The result type
+     * @return The slice
+     */
+    @NonNull
+    public static <T> Slice<T> toSlice(@NonNull List<T> results, @NonNull Pageable pageable) {
+        if (pageable instanceof LookAheadPageable lookAheadPageable) {
+            Pageable slicePageable = lookAheadPageable.pageable;
+            int size = slicePageable.getSize();
+            if (results.size() > size) {
+                return Slice.of(new ArrayList<>(results.subList(0, size)), slicePageable, true);
+            }
+            return Slice.of(results, slicePageable, false);
+        }
+        return Slice.of(results, pageable);
+    }
+
+    @Override
+    public int getNumber() {
+        return pageable.getNumber();
+    }
+
+    @Override
+    public int getSize() {
+        return pageable.getSize() + 1;
+    }
+
+    @Override
+    public long getOffset() {
+        return pageable.getOffset();
+    }
+
+    @Override
+    public boolean requestTotal() {
+        return pageable.requestTotal();
+    }
+
+    @NonNull
+    @Override
+    public Sort getSort() {
+        return pageable.getSort();
+    }
+
+    @NonNull
+    @Override
+    public Pageable next() {
+        return pageable.next();
+    }
+
+    @NonNull
+    @Override
+    public Pageable previous() {
+        return pageable.previous();
+    }
+
+    @NonNull
+    @Override
+    public Pageable order(@NonNull String propertyName) {
+        return new LookAheadPageable(pageable.order(propertyName));
+    }
+
+    @NonNull
+    @Override
+    public Pageable order(@NonNull Order order) {
+        return new LookAheadPageable(pageable.order(order));
+    }
+
+    @NonNull
+    @Override
+    public Pageable order(@NonNull String propertyName, @NonNull Order.Direction direction) {
+        return new LookAheadPageable(pageable.order(propertyName, direction));
+    }
+
+    @NonNull
+    @Override
+    public Pageable orders(@NonNull List<Order> orders) {
+        return new LookAheadPageable(pageable.orders(orders));
+    }
+
+    @NonNull
+    @Override
+    public Pageable withoutSort() {
+        return new LookAheadPageable(pageable.withoutSort());
+    }
+
+    @NonNull
+    @Override
+    public Pageable withSort(@NonNull Sort sort) {
+        return new LookAheadPageable(pageable.withSort(sort));
+    }
+
+    @NonNull
+    @Override
+    public Pageable withoutPaging() {
+        return pageable.withoutPaging();
+    }
+
+    @Override
+    public Pageable withTotal() {
+        return new LookAheadPageable(pageable.withTotal());
+    }
+
+    @Override
+    public Pageable withoutTotal() {
+        return new LookAheadPageable(pageable.withoutTotal());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LookAheadPageable that)) {
+            return false;
+        }
+        return pageable.equals(that.pageable);
+    }
+
+    @Override
+    public int hashCode() {
+        return pageable.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "LookAheadPageable{" +
+            "pageable=" + pageable +
+            '}';
+    }
+}
@@ -17,15 +17,19 @@ package io.micronaut.data.runtime.intercept.async;
 
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.propagation.PropagatedContext;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.intercept.async.FindPageAsyncInterceptor;
 import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.runtime.PreparedQuery;
+import io.micronaut.data.operations.EstimatedCountCapableRepository;
 import io.micronaut.data.operations.RepositoryOperations;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -50,14 +54,65 @@ public class DefaultFindPageAsyncInterceptor extends AbstractConvertCompletionSt
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
             PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
-            return asyncDatastoreOperations.findOne(countQuery)
-                .thenCompose(total -> asyncDatastoreOperations.findAll(preparedQuery)
-                    .thenApply(objects -> {
-                        List<Object> resultList = CollectionUtils.iterableToList((Iterable<Object>) objects);
-                        return Page.of(resultList, getPageable(context), total.longValue());
-                    }));
+            Pageable pageable = getPageable(context);
+            CompletionStage<Number> concurrentCount = isConcurrentCount(preparedQuery)
+                ? findCountConcurrently(asyncDatastoreOperations, countQuery)
+                : null;
+            return asyncDatastoreOperations.findAll(preparedQuery)
+                .thenCompose(objects -> {
+                    List<Object> resultList = CollectionUtils.iterableToList((Iterable<Object>) objects);
+                    Long totalSize = resolveTotalSize(preparedQuery, pageable, resultList.size());
+                    if (totalSize != null) {
+                        return CompletableFuture.completedFuture(Page.of(resultList, pageable, totalSize));
+                    }
+                    if (concurrentCount != null) {
+                        return concurrentCount.thenApply(total -> Page.of(resultList, pageable, total.longValue()));
+                    }
+                    return estimateCount(preparedQuery, countQuery, pageable).thenCompose(estimatedCount -> {
+                        if (estimatedCount != null) {
+                            return CompletableFuture.completedFuture(Page.of(resultList, pageable, estimatedCount.count(), estimatedCount.estimated()));
+                        }
+                        return asyncDatastoreOperations.findOne(countQuery)
+                            .thenApply(total -> Page.of(resultList, pageable, total.longValue()));
+                    });
+                });
         }
         return asyncDatastoreOperations.findPage(getPagedQuery(context));
     }
 
+    /**
+     * Estimates the count with the blocking operations on the executor of the asynchronous operations.
+     *
+     * @param preparedQuery The data query
+     * @param countQuery    The count query
+     * @param pageable      The pageable
+     * @return The estimated count or null if the count is not estimated
+     */
+    private CompletionStage<EstimatedCountCapableRepository.EstimatedCount> estimateCount(PreparedQuery<?, ?> preparedQuery,
+                                                                                         PreparedQuery<?, Number> countQuery,
+                                                                                         Pageable pageable) {
+        if (pageable.getMode() != Pageable.Mode.OFFSET || !(operations instanceof EstimatedCountCapableRepository estimatedCountCapableRepository)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Long cap = findEstimatedCountCap(preparedQuery);
+        if (cap == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<EstimatedCountCapableRepository.EstimatedCount> result = new CompletableFuture<>();
+        PropagatedContext propagatedContext = PropagatedContext.getOrEmpty();
+        CompletableFuture.supplyAsync(
+            PropagatedContext.wrapCurrent(() -> estimatedCountCapableRepository.estimateCount(countQuery, cap)),
+            asyncDatastoreOperations.getExecutor()
+        ).whenComplete((value, throwable) -> {
+            try (PropagatedContext.Scope ignore = propagatedContext.propagate()) {
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                } else {
+                    result.complete(value);
+                }
+            }
+        });
+        return result;
+    }
+
 }
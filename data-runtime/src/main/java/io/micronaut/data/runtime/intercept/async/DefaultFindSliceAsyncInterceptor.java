@@ -25,6 +25,7 @@ import io.micronaut.data.operations.RepositoryOperations;
 import io.micronaut.data.intercept.async.FindSliceAsyncInterceptor;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.runtime.PreparedQuery;
+import io.micronaut.data.runtime.intercept.LookAheadPageable;
 import io.micronaut.data.model.Slice;
 
 import java.util.List;
@@ -53,14 +54,17 @@ public class DefaultFindSliceAsyncInterceptor extends AbstractConvertCompletionS
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
             Pageable pageable = preparedQuery.getPageable();
             return asyncDatastoreOperations.findAll(preparedQuery)
-                .thenApply(objects -> Slice.of((List<Object>) CollectionUtils.iterableToList(objects), pageable));
+                .thenApply(objects -> LookAheadPageable.toSlice((List<Object>) CollectionUtils.iterableToList(objects), pageable));
 
         }
         PagedQuery<Object> pagedQuery = getPagedQuery(context);
         return asyncDatastoreOperations.findAll(pagedQuery).thenApply(objects ->
-            Slice.of(CollectionUtils.iterableToList(objects), pagedQuery.getPageable())
+            LookAheadPageable.toSlice(CollectionUtils.iterableToList(objects), pagedQuery.getPageable())
         );
     }
 
+    @Override
+    protected Pageable getPageable(MethodInvocationContext<?, ?> context) {
+        return LookAheadPageable.of(super.getPageable(context));
+    }
 }
-
@@ -29,9 +29,14 @@ import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.operations.RepositoryOperations;
 import io.micronaut.data.runtime.operations.internal.sql.DefaultSqlPreparedQuery;
 import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Default implementation of {@link FindPageReactiveInterceptor}.
@@ -41,6 +46,11 @@ import java.util.List;
  */
 public class DefaultFindPageReactiveInterceptor extends AbstractPublisherInterceptor
     implements FindPageReactiveInterceptor<Object, Object> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultFindPageReactiveInterceptor.class);
+
+    private final Set<RepositoryMethodKey> estimatedCountWarnings = ConcurrentHashMap.newKeySet();
+
     /**
      * Default constructor.
      *
@@ -55,34 +65,41 @@ public class DefaultFindPageReactiveInterceptor extends AbstractPublisherInterce
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
             PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
+            if (findEstimatedCountCap(preparedQuery) != null && estimatedCountWarnings.add(methodKey) && LOG.isWarnEnabled()) {
+                LOG.warn("The query hint {} of the reactive method {} is ignored, the reactive operations count the total size exactly", ESTIMATED_COUNT_HINT, context.getExecutableMethod());
+            }
 
-            return Flux.from(reactiveOperations.findOne(countQuery))
-                .flatMap(total -> {
-                    Flux<Object> resultList = Flux.from(reactiveOperations.findAll(preparedQuery));
-                    return resultList.collectList().map(list -> {
-                            Pageable pageable = preparedQuery.getPageable();
-                            Page page;
-                            if (pageable.getMode() == Pageable.Mode.OFFSET) {
-                                page = Page.of(list, pageable, total.longValue());
-                            } else if (preparedQuery instanceof DefaultSqlPreparedQuery<?, ?> sqlPreparedQuery) {
-                                List<Pageable.Cursor> cursors;
-                                if (preparedQuery.getResultDataType() == DataType.ENTITY) {
-                                    cursors = sqlPreparedQuery.createCursors(list, pageable);
-                                } else if (sqlPreparedQuery.isDtoProjection()) {
-                                    RuntimePersistentEntity<Object> runtimePersistentEntity = (RuntimePersistentEntity<Object>) operations.getEntity(sqlPreparedQuery.getResultType());
-                                    cursors = sqlPreparedQuery.createCursors(list, pageable, runtimePersistentEntity);
-                                } else {
-                                    throw new IllegalStateException("CursoredPage cannot produce projection result");
-                                }
-                                page = CursoredPage.of(list, pageable, cursors, total.longValue());
-                            } else {
-                                throw new UnsupportedOperationException("Only offset pageable mode is supported by this query implementation");
-                            }
-                            return page;
-                        }
-                    );
-                });
+            Flux<Object> resultList = Flux.from(reactiveOperations.findAll(preparedQuery));
+            // The count query isn't executed concurrently, both queries would share the connection of the reactive context
+            return resultList.collectList().flatMap(list -> {
+                Long totalSize = resolveTotalSize(preparedQuery, preparedQuery.getPageable(), list.size());
+                if (totalSize != null) {
+                    return Mono.just(createPage(preparedQuery, list, totalSize));
+                }
+                return Mono.from(reactiveOperations.findOne(countQuery))
+                    .map(total -> createPage(preparedQuery, list, total.longValue()));
+            });
         }
         return reactiveOperations.findPage(getPagedQuery(context));
     }
+
+    private Page<Object> createPage(PreparedQuery<?, ?> preparedQuery, List<Object> list, long total) {
+        Pageable pageable = preparedQuery.getPageable();
+        if (pageable.getMode() == Pageable.Mode.OFFSET) {
+            return Page.of(list, pageable, total);
+        } else if (preparedQuery instanceof DefaultSqlPreparedQuery<?, ?> sqlPreparedQuery) {
+            List<Pageable.Cursor> cursors;
+            if (preparedQuery.getResultDataType() == DataType.ENTITY) {
+                cursors = sqlPreparedQuery.createCursors(list, pageable);
+            } else if (sqlPreparedQuery.isDtoProjection()) {
+                RuntimePersistentEntity<Object> runtimePersistentEntity = (RuntimePersistentEntity<Object>) operations.getEntity(sqlPreparedQuery.getResultType());
+                cursors = sqlPreparedQuery.createCursors(list, pageable, runtimePersistentEntity);
+            } else {
+                throw new IllegalStateException("CursoredPage cannot produce projection result");
+            }
+            return CursoredPage.of(list, pageable, cursors, total);
+        } else {
+            throw new UnsupportedOperationException("Only offset pageable mode is supported by this query implementation");
+        }
+    }
 }
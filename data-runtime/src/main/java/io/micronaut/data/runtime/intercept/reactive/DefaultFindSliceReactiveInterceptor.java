@@ -21,9 +21,9 @@ import io.micronaut.data.annotation.Query;
 import io.micronaut.data.intercept.RepositoryMethodKey;
 import io.micronaut.data.intercept.reactive.FindSliceReactiveInterceptor;
 import io.micronaut.data.model.Pageable;
-import io.micronaut.data.model.Slice;
 import io.micronaut.data.model.runtime.PagedQuery;
 import io.micronaut.data.model.runtime.PreparedQuery;
+import io.micronaut.data.runtime.intercept.LookAheadPageable;
 import io.micronaut.data.operations.RepositoryOperations;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -49,10 +49,15 @@ public class DefaultFindSliceReactiveInterceptor extends AbstractPublisherInterc
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<Object, Object> preparedQuery = (PreparedQuery<Object, Object>) prepareQuery(methodKey, context);
             Pageable pageable = preparedQuery.getPageable();
-            return Flux.from(reactiveOperations.findAll(preparedQuery)).collectList().map(objects -> Slice.of(objects, pageable));
+            return Flux.from(reactiveOperations.findAll(preparedQuery)).collectList().map(objects -> LookAheadPageable.toSlice(objects, pageable));
         }
         PagedQuery<Object> pagedQuery = getPagedQuery(context);
         return Flux.from(reactiveOperations.findAll(pagedQuery))
-                .collectList().map(objects -> Slice.of(objects, pagedQuery.getPageable()));
+                .collectList().map(objects -> LookAheadPageable.toSlice(objects, pagedQuery.getPageable()));
+    }
+
+    @Override
+    protected Pageable getPageable(MethodInvocationContext<?, ?> context) {
+        return LookAheadPageable.of(super.getPageable(context));
     }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.mapper;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.model.DataType;
+
+/**
+ * A column name {@link ResultReader} capable of resolving the indexes of the columns of a result set.
+ * A mapper resolves the indexes of its columns once per result set and reads the values by the index.
+ *
+ * @param <RS> The result set
+ * @since 4.12
+ */
+@Internal
+public interface ColumnIndexResultReader<RS> extends ResultReader<RS, String> {
+
+    /**
+     * Resolves the indexes of the columns in the result set.
+     *
+     * @param resultSet The result set
+     * @param columns   The column names
+     * @return The indexes of the columns, zero if the result set doesn't contain the column
+     */
+    @NonNull
+    int[] resolveColumnIndexes(@NonNull RS resultSet, @NonNull String[] columns);
+
+    /**
+     * Read a value dynamically using the result set and the column index resolved by {@link #resolveColumnIndexes(Object, String[])}.
+     *
+     * @param resultSet The result set
+     * @param index     The column index
+     * @param dataType  The data type
+     * @return The value
+     */
+    @Nullable
+    Object readDynamic(@NonNull RS resultSet, int index, @NonNull DataType dataType);
+}
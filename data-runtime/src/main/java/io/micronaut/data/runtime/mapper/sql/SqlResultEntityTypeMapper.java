@@ -40,11 +40,13 @@ import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 import io.micronaut.data.model.runtime.convert.AttributeConverter;
 import io.micronaut.data.runtime.convert.DataConversionService;
+import io.micronaut.data.runtime.mapper.ColumnIndexResultReader;
 import io.micronaut.data.runtime.mapper.ResultReader;
 
 import java.sql.Array;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -74,6 +76,15 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
     private final SqlJsonColumnReader<RS> jsonColumnReader;
     private final DataConversionService conversionService;
     private final BiFunction<RuntimePersistentEntity<Object>, Object, Object> eventListener;
+    @Nullable
+    private final BiFunction<RuntimePersistentEntity<Object>, Object, Object> idOnlyEntityResolver;
+    @Nullable
+    private final FlatEntityMapping<R> flatEntityMapping;
+    @Nullable
+    private final ColumnIndexResultReader<RS> columnIndexReader;
+    @Nullable
+    private RS indexedResultSet;
+    private int[] flatEntityColumnIndexes;
     private boolean callNext = true;
 
     /**
@@ -90,7 +101,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             @NonNull RuntimePersistentEntity<R> entity,
             @NonNull ResultReader<RS, String> resultReader,
             @Nullable SqlJsonColumnReader<RS> jsonColumnReader, DataConversionService conversionService) {
-        this(entity, resultReader, Collections.emptySet(), prefix, jsonColumnReader, conversionService, null);
+        this(entity, resultReader, Collections.emptySet(), prefix, jsonColumnReader, conversionService, null, null);
     }
 
     /**
@@ -107,7 +118,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             @NonNull ResultReader<RS, String> resultReader,
             @Nullable Set<JoinPath> joinPaths,
             @Nullable SqlJsonColumnReader<RS> jsonColumnReader, DataConversionService conversionService) {
-        this(entity, resultReader, joinPaths, null, jsonColumnReader, conversionService, null);
+        this(entity, resultReader, joinPaths, null, jsonColumnReader, conversionService, null, null);
     }
 
     /**
@@ -126,7 +137,31 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             @Nullable Set<JoinPath> joinPaths,
             @Nullable SqlJsonColumnReader<RS> jsonColumnReader,
             @Nullable BiFunction<RuntimePersistentEntity<Object>, Object, Object> loadListener, DataConversionService conversionService) {
-        this(entity, resultReader, joinPaths, null, jsonColumnReader, conversionService, loadListener);
+        this(entity, resultReader, joinPaths, null, jsonColumnReader, conversionService, loadListener, null);
+    }
+
+    /**
+     * Constructor used to customize the join paths and to resolve the associated entities read as the id only.
+     *
+     * @param entity               The entity
+     * @param resultReader         The result reader
+     * @param joinPaths            The join paths
+     * @param jsonColumnReader     The json column reader
+     * @param loadListener         The event listener
+     * @param idOnlyEntityResolver Resolves the already loaded entity by the entity and the id, the associated entity
+     *                             is read as the id only if it returns null
+     * @param conversionService    The conversion service
+     * @since 4.12
+     */
+    public SqlResultEntityTypeMapper(
+            @NonNull RuntimePersistentEntity<R> entity,
+            @NonNull ResultReader<RS, String> resultReader,
+            @Nullable Set<JoinPath> joinPaths,
+            @Nullable SqlJsonColumnReader<RS> jsonColumnReader,
+            @Nullable BiFunction<RuntimePersistentEntity<Object>, Object, Object> loadListener,
+            @Nullable BiFunction<RuntimePersistentEntity<Object>, Object, Object> idOnlyEntityResolver,
+            DataConversionService conversionService) {
+        this(entity, resultReader, joinPaths, null, jsonColumnReader, conversionService, loadListener, idOnlyEntityResolver);
     }
 
     /**
@@ -138,6 +173,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
      * @param startingPrefix    The starting prefix
      * @param jsonColumnReader  The json column reader
      * @param eventListener     The event listener used for trigger post load if configured
+     * @param idOnlyEntityResolver The resolver of the associated entities read as the id only
      * @param conversionService The conversion service
      */
     private SqlResultEntityTypeMapper(
@@ -146,7 +182,8 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             @Nullable Set<JoinPath> joinPaths,
             String startingPrefix,
             @Nullable SqlJsonColumnReader<RS> jsonColumnReader,
-            DataConversionService conversionService, @Nullable BiFunction<RuntimePersistentEntity<Object>, Object, Object> eventListener) {
+            DataConversionService conversionService, @Nullable BiFunction<RuntimePersistentEntity<Object>, Object, Object> eventListener,
+            @Nullable BiFunction<RuntimePersistentEntity<Object>, Object, Object> idOnlyEntityResolver) {
         this.conversionService = conversionService;
         ArgumentUtils.requireNonNull("entity", entity);
         ArgumentUtils.requireNonNull("resultReader", resultReader);
@@ -154,6 +191,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         this.jsonColumnReader = jsonColumnReader;
         this.resultReader = resultReader;
         this.eventListener = eventListener;
+        this.idOnlyEntityResolver = idOnlyEntityResolver;
         if (CollectionUtils.isNotEmpty(joinPaths)) {
             this.hasJoins = true;
             this.fetchJoinPaths = CollectionUtils.newLinkedHashMap(joinPaths.size());
@@ -168,6 +206,8 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             this.hasJoins = false;
         }
         this.startingPrefix = startingPrefix;
+        this.flatEntityMapping = createFlatEntityMapping(entity, startingPrefix);
+        this.columnIndexReader = flatEntityMapping != null && resultReader instanceof ColumnIndexResultReader<RS> indexReader ? indexReader : null;
     }
 
     @Override
@@ -205,7 +245,12 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
      */
     @NonNull
     public R readEntity(@NonNull RS rs) {
-        R entityInstance = readEntity(rs, MappingContext.of(entity, startingPrefix), null, null);
+        R entityInstance;
+        if (flatEntityMapping != null) {
+            entityInstance = readFlatEntity(rs, flatEntityMapping, null);
+        } else {
+            entityInstance = readEntity(rs, MappingContext.of(entity, startingPrefix), null, null);
+        }
         if (entityInstance == null) {
             throw new DataAccessException("Unable to map result to entity of type [" + entity.getIntrospection().getBeanType() + "]. Missing result data.");
         }
@@ -391,6 +436,69 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         };
     }
 
+    /**
+     * Read multiple entities with a pushing mapper emitting each entity as soon as the rows of the next entity start.
+     * The rows of the same entity are required to be consecutive, for example, by ordering the query by the entity identity.
+     *
+     * @return The incremental pushing mapper
+     * @since 4.12
+     */
+    public IncrementalPushingMapper<RS, R> readManyIncrementalMapper() {
+        if (hasJoins) {
+            return new IncrementalPushingMapper<>() {
+
+                MappingContext<R> currentCtx;
+                Object currentId;
+
+                @Override
+                public R processRow(RS row) {
+                    MappingContext<R> ctx = MappingContext.of(entity, startingPrefix);
+                    Object id = readEntityId(row, ctx);
+                    if (id == null) {
+                        throw new IllegalStateException("Entity needs to have an ID when JOINs are used!");
+                    }
+                    if (currentCtx != null && currentId.equals(id)) {
+                        readChildren(row, currentCtx.entity, null, currentCtx);
+                        return null;
+                    }
+                    R completed = complete();
+                    ctx.entity = readEntity(row, ctx, null, id);
+                    currentCtx = ctx;
+                    currentId = id;
+                    return completed;
+                }
+
+                @Override
+                public R complete() {
+                    MappingContext<R> ctx = currentCtx;
+                    if (ctx == null) {
+                        return null;
+                    }
+                    currentCtx = null;
+                    currentId = null;
+                    if (!fetchJoinPaths.isEmpty()) {
+                        return (R) setChildrenAndTriggerPostLoad(ctx.entity, ctx, null);
+                    }
+                    return triggerPostLoad(ctx.persistentEntity, ctx.entity);
+                }
+            };
+        }
+        return new IncrementalPushingMapper<>() {
+
+            final MappingContext<R> ctx = MappingContext.of(entity, startingPrefix);
+
+            @Override
+            public R processRow(RS row) {
+                return triggerPostLoad(ctx.persistentEntity, readEntity(row, ctx, null, null));
+            }
+
+            @Override
+            public R complete() {
+                return null;
+            }
+        };
+    }
+
     private void readChildren(RS rs, Object instance, Object parent, MappingContext<R> ctx) {
         if (ctx.manyAssociations != null) {
             Object id = readEntityId(rs, ctx);
@@ -468,6 +576,10 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
 
     @Nullable
     private <K> K readEntity(RS rs, MappingContext<K> ctx, @Nullable Object parent, @Nullable Object resolveId) {
+        if (ctx.association == null && flatEntityMapping != null) {
+            // The root entity without associations
+            return (K) readFlatEntity(rs, flatEntityMapping, resolveId);
+        }
         RuntimePersistentEntity<K> persistentEntity = ctx.persistentEntity;
         BeanIntrospection<K> introspection = persistentEntity.getIntrospection();
         RuntimePersistentProperty<K>[] constructorArguments = persistentEntity.getConstructorArguments();
@@ -692,13 +804,33 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
     }
 
     private <K> Object readProperty(RS rs, MappingContext<K> ctx, RuntimePersistentProperty<K> prop) {
-        String columnName = ctx.namingStrategy.mappedName(ctx.embeddedPath, prop);
+        return readColumn(rs, prop, columnName(ctx.namingStrategy, ctx.embeddedPath, ctx.prefix, prop));
+    }
+
+    private static String columnName(NamingStrategy namingStrategy,
+                                     List<Association> embeddedPath,
+                                     @Nullable String prefix,
+                                     RuntimePersistentProperty<?> prop) {
         String columnAlias = prop.getAlias();
         if (StringUtils.isNotEmpty(columnAlias)) {
-            columnName = columnAlias;
-        } else if (ctx.prefix != null && !ctx.prefix.isEmpty()) {
-            columnName = ctx.prefix + columnName;
+            return columnAlias;
         }
+        String columnName = namingStrategy.mappedName(embeddedPath, prop);
+        if (prefix != null && !prefix.isEmpty()) {
+            return prefix + columnName;
+        }
+        return columnName;
+    }
+
+    private Object readColumn(RS rs, RuntimePersistentProperty<?> prop, String columnName, @Nullable int[] indexes, int position) {
+        DataType dataType = prop.getDataType();
+        if (indexes == null || indexes[position] == 0 || dataType == DataType.JSON) {
+            return readColumn(rs, prop, columnName);
+        }
+        return convertToEntityValue(prop, columnIndexReader.readDynamic(rs, indexes[position], dataType));
+    }
+
+    private Object readColumn(RS rs, RuntimePersistentProperty<?> prop, String columnName) {
         DataType dataType = prop.getDataType();
         Object result;
         if (dataType == DataType.JSON && jsonColumnReader != null) {
@@ -707,6 +839,10 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         } else {
             result = resultReader.readDynamic(rs, columnName, dataType);
         }
+        return convertToEntityValue(prop, result);
+    }
+
+    private static Object convertToEntityValue(RuntimePersistentProperty<?> prop, @Nullable Object result) {
         AttributeConverter<Object, Object> converter = prop.getConverter();
         if (converter != null) {
             return converter.convertToEntityValue(result, ConversionContext.of(prop.getArgument()));
@@ -773,6 +909,18 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
     private <K> K buildIdOnlyEntity(RS rs, MappingContext<K> ctx, Object resolvedId) {
         RuntimePersistentProperty<K> identity = ctx.persistentEntity.getIdentity();
         if (identity != null) {
+            if (idOnlyEntityResolver != null) {
+                if (resolvedId == null) {
+                    resolvedId = readEntityId(rs, ctx);
+                }
+                if (resolvedId != null) {
+                    Object loaded = idOnlyEntityResolver.apply((RuntimePersistentEntity<Object>) ctx.persistentEntity,
+                        resultReader.convertRequired(resolvedId, identity.getType()));
+                    if (loaded != null) {
+                        return (K) loaded;
+                    }
+                }
+            }
             BeanIntrospection<K> associatedIntrospection = ctx.persistentEntity.getIntrospection();
             Argument<?>[] constructorArgs = associatedIntrospection.getConstructorArguments();
             if (constructorArgs.length == 0) {
@@ -804,6 +952,198 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         return entity;
     }
 
+    private <K> K readFlatEntity(RS rs, FlatEntityMapping<K> mapping, @Nullable Object resolvedId) {
+        RuntimePersistentEntity<K> persistentEntity = mapping.persistentEntity();
+        RuntimePersistentProperty<K> identity = mapping.identity();
+        int[] indexes = resolveColumnIndexes(rs, mapping);
+        Object id = resolvedId;
+        if (id == null && identity != null) {
+            id = readColumn(rs, identity, mapping.identityColumn(), indexes, mapping.identityIndex());
+        }
+        K instance;
+        try {
+            RuntimePersistentProperty<K>[] constructorArguments = mapping.constructorArguments();
+            String[] constructorColumns = mapping.constructorColumns();
+            int len = constructorArguments.length;
+            if (len == 0) {
+                instance = persistentEntity.getIntrospection().instantiate();
+            } else {
+                Object[] args = new Object[len];
+                for (int i = 0; i < len; i++) {
+                    RuntimePersistentProperty<K> prop = constructorArguments[i];
+                    Object v;
+                    if (id != null && prop.equals(identity)) {
+                        v = id;
+                    } else {
+                        v = readColumn(rs, prop, constructorColumns[i], indexes, i);
+                    }
+                    if (v == null) {
+                        if (!prop.isOptional()) {
+                            throw new DataAccessException("Null value read for non-null constructor argument [" + prop.getName() + "] of type: " + persistentEntity.getName());
+                        }
+                        continue;
+                    }
+                    args[i] = convert(prop, v);
+                }
+                instance = persistentEntity.getIntrospection().instantiate(args);
+            }
+        } catch (InstantiationException e) {
+            throw new DataAccessException("Error instantiating entity [" + persistentEntity.getName() + "]: " + e.getMessage(), e);
+        }
+        if (id != null && identity != null) {
+            instance = convertAndSetWithValue(instance, identity, identity.getProperty(), id);
+        }
+        RuntimePersistentProperty<K> version = mapping.version();
+        if (version != null) {
+            Object v = readColumn(rs, version, mapping.versionColumn(), indexes, mapping.versionIndex());
+            if (v != null) {
+                instance = convertAndSetWithValue(instance, version, version.getProperty(), v);
+            }
+        }
+        List<RuntimePersistentProperty<K>> properties = mapping.properties();
+        String[] propertyColumns = mapping.propertyColumns();
+        int propertyIndexOffset = mapping.constructorColumns().length;
+        for (int i = 0; i < properties.size(); i++) {
+            RuntimePersistentProperty<K> property = properties.get(i);
+            Object v = readColumn(rs, property, propertyColumns[i], indexes, propertyIndexOffset + i);
+            if (v != null) {
+                instance = convertAndSetWithValue(instance, property, property.getProperty(), v);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Resolves the indexes of the flat entity columns once per result set.
+     *
+     * @param rs      The result set
+     * @param mapping The mapping
+     * @return The indexes or null if the reader cannot read the columns by the index
+     */
+    @Nullable
+    private int[] resolveColumnIndexes(RS rs, FlatEntityMapping<?> mapping) {
+        if (columnIndexReader == null) {
+            return null;
+        }
+        if (rs != indexedResultSet) {
+            flatEntityColumnIndexes = columnIndexReader.resolveColumnIndexes(rs, mapping.columns());
+            indexedResultSet = rs;
+        }
+        return flatEntityColumnIndexes;
+    }
+
+    @Nullable
+    private static <K> FlatEntityMapping<K> createFlatEntityMapping(RuntimePersistentEntity<K> persistentEntity, @Nullable String prefix) {
+        AnnotationMetadata annotationMetadata = persistentEntity.getAnnotationMetadata();
+        if (annotationMetadata.hasAnnotation(Embeddable.class) || annotationMetadata.hasAnnotation(EmbeddedId.class)) {
+            return null;
+        }
+        RuntimePersistentProperty<K> identity = persistentEntity.getIdentity();
+        if (identity == null ? !persistentEntity.getIdentityProperties().isEmpty() : identity instanceof Association) {
+            return null;
+        }
+        RuntimePersistentProperty<K> version = persistentEntity.getVersion();
+        if (version instanceof Association) {
+            return null;
+        }
+        RuntimePersistentProperty<K>[] constructorArguments = persistentEntity.getConstructorArguments();
+        if (constructorArguments == null) {
+            constructorArguments = new RuntimePersistentProperty[0];
+        }
+        for (RuntimePersistentProperty<K> constructorArgument : constructorArguments) {
+            if (constructorArgument == null || constructorArgument instanceof Association) {
+                return null;
+            }
+        }
+        List<RuntimePersistentProperty<K>> properties = new ArrayList<>();
+        for (RuntimePersistentProperty<K> property : persistentEntity.getPersistentProperties()) {
+            if (property instanceof Association) {
+                return null;
+            }
+            if (!property.isReadOnly() && !property.isConstructorArgument()) {
+                properties.add(property);
+            }
+        }
+        NamingStrategy namingStrategy = persistentEntity.getNamingStrategy();
+        List<Association> embeddedPath = Collections.emptyList();
+        String[] constructorColumns = new String[constructorArguments.length];
+        for (int i = 0; i < constructorArguments.length; i++) {
+            constructorColumns[i] = columnName(namingStrategy, embeddedPath, prefix, constructorArguments[i]);
+        }
+        String[] propertyColumns = new String[properties.size()];
+        for (int i = 0; i < propertyColumns.length; i++) {
+            propertyColumns[i] = columnName(namingStrategy, embeddedPath, prefix, properties.get(i));
+        }
+        return new FlatEntityMapping<>(
+            persistentEntity,
+            identity,
+            identity == null ? null : columnName(namingStrategy, embeddedPath, prefix, identity),
+            version,
+            version == null ? null : columnName(namingStrategy, embeddedPath, prefix, version),
+            constructorArguments,
+            constructorColumns,
+            properties,
+            propertyColumns
+        );
+    }
+
+    /**
+     * The mapping of an entity without associations and embedded properties.
+     * The column names and the properties to set are resolved once per mapper, the rows are read without
+     * the mapping context and the column names computation.
+     *
+     * @param persistentEntity     The entity
+     * @param identity             The identity
+     * @param identityColumn       The identity column
+     * @param version              The version
+     * @param versionColumn        The version column
+     * @param constructorArguments The constructor arguments
+     * @param constructorColumns   The constructor arguments columns
+     * @param properties           The properties to set
+     * @param propertyColumns      The properties columns
+     * @param <K>                  The entity type
+     */
+    private record FlatEntityMapping<K>(RuntimePersistentEntity<K> persistentEntity,
+                                       @Nullable RuntimePersistentProperty<K> identity,
+                                       @Nullable String identityColumn,
+                                       @Nullable RuntimePersistentProperty<K> version,
+                                       @Nullable String versionColumn,
+                                       RuntimePersistentProperty<K>[] constructorArguments,
+                                       String[] constructorColumns,
+                                       List<RuntimePersistentProperty<K>> properties,
+                                       String[] propertyColumns) {
+
+        /**
+         * @return The columns of the constructor arguments, the properties, the identity and the version
+         */
+        String[] columns() {
+            List<String> columns = new ArrayList<>(constructorColumns.length + propertyColumns.length + 2);
+            columns.addAll(Arrays.asList(constructorColumns));
+            columns.addAll(Arrays.asList(propertyColumns));
+            if (identityColumn != null) {
+                columns.add(identityColumn);
+            }
+            if (versionColumn != null) {
+                columns.add(versionColumn);
+            }
+            return columns.toArray(String[]::new);
+        }
+
+        /**
+         * @return The position of the identity in {@link #columns()}
+         */
+        int identityIndex() {
+            return constructorColumns.length + propertyColumns.length;
+        }
+
+        /**
+         * @return The position of the version in {@link #columns()}
+         */
+        int versionIndex() {
+            return identityColumn == null ? identityIndex() : identityIndex() + 1;
+        }
+    }
+
     private static final class MappingContext<E> {
 
         private final RuntimePersistentEntity<E> rootPersistentEntity;
@@ -1029,4 +1369,32 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
 
     }
 
+    /**
+     * The pushing mapper producing the results incrementally.
+     *
+     * @param <RS> The row type
+     * @param <R>  The result type
+     * @since 4.12
+     */
+    public interface IncrementalPushingMapper<RS, R> {
+
+        /**
+         * Process row.
+         *
+         * @param row The row
+         * @return The result completed by the row or null
+         */
+        @Nullable
+        R processRow(@NonNull RS row);
+
+        /**
+         * Complete the result of the remaining rows.
+         *
+         * @return the last result or null
+         */
+        @Nullable
+        R complete();
+
+    }
+
 }
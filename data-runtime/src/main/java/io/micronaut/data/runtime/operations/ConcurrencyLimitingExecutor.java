@@ -0,0 +1,172 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.ArgumentUtils;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * An {@link Executor} limiting the number of the tasks running at the same time.
+ * The tasks are queued and submitted to the delegate executor as the running tasks complete,
+ * the waiting tasks don't occupy the threads of the delegate executor and the callers are queued
+ * instead of competing for the database connections.
+ *
+ * <p>The queue depth and the wait time statistics can be published as metrics by the application.</p>
+ *
+ * @since 4.12
+ */
+public final class ConcurrencyLimitingExecutor implements Executor {
+
+    private final Executor delegate;
+    private final int maxConcurrency;
+    private final Deque<QueuedTask> queue = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final LongAccumulator peakActiveCount = new LongAccumulator(Math::max, 0);
+    private final AtomicLong executedCount = new AtomicLong();
+    private final AtomicLong totalWaitTimeNanos = new AtomicLong();
+    private final LongAccumulator maxWaitTimeNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param delegate       The executor running the tasks
+     * @param maxConcurrency The maximum number of the tasks running at the same time
+     */
+    public ConcurrencyLimitingExecutor(@NonNull Executor delegate, int maxConcurrency) {
+        ArgumentUtils.requireNonNull("delegate", delegate);
+        ArgumentUtils.requirePositive("maxConcurrency", maxConcurrency);
+        this.delegate = delegate;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        ArgumentUtils.requireNonNull("command", command);
+        queue.offer(new QueuedTask(command, System.nanoTime()));
+        queueDepth.incrementAndGet();
+        dispatch();
+    }
+
+    /**
+     * Submits the queued tasks to the delegate executor while the limit allows.
+     */
+    private void dispatch() {
+        while (!queue.isEmpty()) {
+            int active = activeCount.get();
+            if (active >= maxConcurrency) {
+                // The task completing next dispatches the queued tasks
+                return;
+            }
+            if (!activeCount.compareAndSet(active, active + 1)) {
+                continue;
+            }
+            QueuedTask task = queue.poll();
+            if (task == null) {
+                activeCount.decrementAndGet();
+                continue;
+            }
+            queueDepth.decrementAndGet();
+            peakActiveCount.accumulate(active + 1);
+            try {
+                delegate.execute(() -> run(task));
+            } catch (RejectedExecutionException e) {
+                activeCount.decrementAndGet();
+                queue.offerFirst(task);
+                queueDepth.incrementAndGet();
+                throw e;
+            }
+        }
+    }
+
+    private void run(QueuedTask task) {
+        long waitTime = System.nanoTime() - task.queuedAt;
+        executedCount.incrementAndGet();
+        totalWaitTimeNanos.addAndGet(waitTime);
+        maxWaitTimeNanos.accumulate(waitTime);
+        try {
+            task.command.run();
+        } finally {
+            activeCount.decrementAndGet();
+            try {
+                dispatch();
+            } catch (RejectedExecutionException e) {
+                // The rejected task stays queued and is dispatched by the next execution
+            }
+        }
+    }
+
+    /**
+     * @return The maximum number of the tasks running at the same time
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return The number of the tasks currently running
+     */
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    /**
+     * @return The highest number of the tasks running at the same time
+     */
+    public int getPeakActiveCount() {
+        return (int) peakActiveCount.get();
+    }
+
+    /**
+     * @return The number of the tasks waiting for a running task to complete
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return The number of the tasks that started running
+     */
+    public long getExecutedCount() {
+        return executedCount.get();
+    }
+
+    /**
+     * @return The total time the tasks waited in the queue
+     */
+    @NonNull
+    public Duration getTotalWaitTime() {
+        return Duration.ofNanos(totalWaitTimeNanos.get());
+    }
+
+    /**
+     * @return The longest time a task waited in the queue
+     */
+    @NonNull
+    public Duration getMaxWaitTime() {
+        return Duration.ofNanos(maxWaitTimeNanos.get());
+    }
+
+    private record QueuedTask(Runnable command, long queuedAt) {
+    }
+}
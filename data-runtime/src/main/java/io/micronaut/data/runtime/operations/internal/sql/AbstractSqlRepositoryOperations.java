@@ -20,28 +20,48 @@ import io.micronaut.context.ApplicationContextProvider;
 import io.micronaut.context.BeanContext;
 import io.micronaut.core.annotation.AnnotationClassValue;
 import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanProperty;
 import io.micronaut.core.reflect.ReflectionUtils;
-import io.micronaut.data.annotation.AutoPopulated;
+import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.data.annotation.BatchFetch;
+import io.micronaut.data.annotation.CacheQueryResult;
+import io.micronaut.data.annotation.DateCreated;
+import io.micronaut.data.annotation.IgnoreWhere;
+import io.micronaut.data.annotation.Join;
 import io.micronaut.data.annotation.MappedProperty;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.annotation.TypeDef;
+import io.micronaut.data.annotation.Where;
 import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.model.Association;
 import io.micronaut.data.model.DataType;
+import io.micronaut.data.model.Embedded;
 import io.micronaut.data.model.JsonDataType;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.PersistentEntity;
 import io.micronaut.data.model.PersistentEntityUtils;
 import io.micronaut.data.model.PersistentProperty;
 import io.micronaut.data.model.PersistentPropertyPath;
+import io.micronaut.data.model.jpa.criteria.PersistentEntityCriteriaQuery;
+import io.micronaut.data.model.jpa.criteria.PersistentEntityFrom;
+import io.micronaut.data.model.jpa.criteria.PersistentEntityRoot;
+import io.micronaut.data.model.jpa.criteria.impl.IParameterExpression;
 import io.micronaut.data.model.jpa.criteria.impl.QueryResultPersistentEntityCriteriaQuery;
+import io.micronaut.data.model.query.JoinPath;
 import io.micronaut.data.model.query.builder.QueryResult;
+import io.micronaut.data.model.query.builder.sql.AbstractSqlLikeQueryBuilder2;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2;
 import io.micronaut.data.model.runtime.AttributeConverterRegistry;
+import io.micronaut.data.model.runtime.BatchOperation;
 import io.micronaut.data.model.runtime.BeanPropertyWithAnnotationMetadata;
+import io.micronaut.data.model.runtime.DelegatingQueryParameterBinding;
+import io.micronaut.data.model.runtime.EntityInstanceOperation;
+import io.micronaut.data.model.runtime.EntityOperation;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.QueryParameterBinding;
 import io.micronaut.data.model.runtime.QueryResultInfo;
@@ -61,26 +81,40 @@ import io.micronaut.data.runtime.mapper.sql.JsonQueryResultMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlJsonValueMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlResultEntityTypeMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlTypeMapper;
+import io.micronaut.data.runtime.multitenancy.MultiTenancyMode;
+import io.micronaut.data.runtime.multitenancy.conf.MultiTenancyConfiguration;
 import io.micronaut.data.runtime.operations.internal.AbstractRepositoryOperations;
 import io.micronaut.data.runtime.query.MethodContextAwareStoredQueryDecorator;
 import io.micronaut.data.runtime.query.PreparedQueryDecorator;
 import io.micronaut.data.runtime.query.internal.BasicStoredQuery;
+import io.micronaut.data.runtime.query.internal.DelegateStoredQuery;
 import io.micronaut.data.runtime.query.internal.QueryResultStoredQuery;
+import io.micronaut.data.runtime.support.EntityCacheRegistry;
+import io.micronaut.data.runtime.support.EntityCacheRegistry.QueryRegion;
 import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.inject.annotation.AnnotationMetadataHierarchy;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.json.JsonMapper;
 import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Expression;
 import org.slf4j.Logger;
 
 import java.io.IOException;
 import java.util.AbstractMap;
+import java.util.Arrays;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
@@ -105,6 +139,7 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
     HintsCapableRepository {
 
     protected static final Logger QUERY_LOG = DataSettings.QUERY_LOG;
+    private static final int MAX_PARTIAL_UPDATES = 256;
 
     protected final String dataSourceName;
     @SuppressWarnings("WeakerAccess")
@@ -117,9 +152,19 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
     protected final SqlJsonColumnMapperProvider<RS> sqlJsonColumnMapperProvider;
     protected final Map<Class, SqlQueryBuilder2> queryBuilders = new HashMap<>(10);
     protected final Map<Class, String> repositoriesWithHardcodedDataSource = new HashMap<>(10);
+    @Nullable
+    protected final EntityCacheRegistry entityCacheRegistry;
     private final Map<QueryKey, SqlStoredQuery> entityInserts = new ConcurrentHashMap<>(10);
     private final Map<QueryKey, SqlStoredQuery> entityUpdates = new ConcurrentHashMap<>(10);
     private final Map<Association, String> associationInserts = new ConcurrentHashMap<>(10);
+    private final Map<InQueryKey, InQuery<?>> inQueries = new ConcurrentHashMap<>(10);
+    private final Map<Dialect, SqlQueryBuilder2> dialectQueryBuilders = new ConcurrentHashMap<>(2);
+    private final Map<PartialUpdateKey, SqlStoredQuery> entityPartialUpdates = Collections.synchronizedMap(new LinkedHashMap<PartialUpdateKey, SqlStoredQuery>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<PartialUpdateKey, SqlStoredQuery> eldest) {
+            return size() > MAX_PARTIAL_UPDATES;
+        }
+    });
 
     /**
      * Default constructor.
@@ -155,6 +200,11 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         this.preparedStatementWriter = preparedStatementWriter;
         this.jsonMapper = jsonMapper;
         this.sqlJsonColumnMapperProvider = sqlJsonColumnMapperProvider;
+        // The repositories are shared by the tenants selected by the data source and the tenants could read the cached entities of each other
+        boolean dataSourceTenancy = beanContext.findBean(MultiTenancyConfiguration.class)
+            .map(configuration -> configuration.getMode() == MultiTenancyMode.DATASOURCE)
+            .orElse(false);
+        this.entityCacheRegistry = dataSourceTenancy ? null : beanContext.findBean(EntityCacheRegistry.class).orElse(null);
         Collection<BeanDefinition<Object>> beanDefinitions = beanContext
             .getBeanDefinitions(Object.class, Qualifiers.byStereotype(Repository.class));
         for (BeanDefinition<Object> beanDefinition : beanDefinitions) {
@@ -163,12 +213,29 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
             if (targetDs == null || targetDs.equalsIgnoreCase(dataSourceName)) {
                 SqlQueryBuilder2 queryBuilder = new SqlQueryBuilder2(beanDefinition.getAnnotationMetadata());
                 queryBuilders.put(beanType, queryBuilder);
+                if (entityCacheRegistry != null) {
+                    registerCachedQueries(beanDefinition);
+                }
             } else {
                 repositoriesWithHardcodedDataSource.put(beanType, targetDs);
             }
         }
     }
 
+    /**
+     * Registers the entities read by the cached queries of the repository, a write executed before the first execution
+     * of a cached query has to invalidate the result cached by the query.
+     *
+     * @param beanDefinition The repository bean definition
+     */
+    private void registerCachedQueries(BeanDefinition<Object> beanDefinition) {
+        for (ExecutableMethod<Object, ?> method : beanDefinition.getExecutableMethods()) {
+            if (method.hasAnnotation(CacheQueryResult.class)) {
+                entityCacheRegistry.registerQueriedEntities(method.getAnnotationMetadata());
+            }
+        }
+    }
+
     /**
      * @return The result reader that will check for the column existence and return null for {@link ResultReader#readDynamic(Object, Object, DataType)}
      */
@@ -176,9 +243,30 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         return columnNameResultSetReader;
     }
 
+    /**
+     * Creates the column name reader used by a new entity mapper. The reader is used by one mapper only and can keep
+     * the state resolved from the result set.
+     *
+     * @return The result reader
+     * @since 4.12
+     */
+    @NonNull
+    protected ResultReader<RS, String> createEntityResultReader() {
+        return columnNameResultSetReader;
+    }
+
+    /**
+     * @return The options used to render the SQL of the prepared queries
+     * @since 4.12
+     */
+    @NonNull
+    protected SqlQueryOptions getSqlQueryOptions() {
+        return SqlQueryOptions.DEFAULT;
+    }
+
     @Override
     public <E, R> PreparedQuery<E, R> decorate(PreparedQuery<E, R> preparedQuery) {
-        return new DefaultSqlPreparedQuery<>(preparedQuery);
+        return new DefaultSqlPreparedQuery<>(preparedQuery, getSqlQueryOptions());
     }
 
     @Override
@@ -204,10 +292,31 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
                                          @NonNull PreparedQuery<T, R> preparedQuery,
                                          boolean isUpdate,
                                          boolean isSingleResult) throws Exc {
+        return prepareStatement(statementFunction, preparedQuery, preparedQuery.getPageable(), isUpdate, isSingleResult);
+    }
+
+    /**
+     * Prepare a statement for execution with the given pageable.
+     *
+     * @param statementFunction The statement function
+     * @param preparedQuery     The prepared query
+     * @param pageable          The pageable to attach
+     * @param isUpdate          Is this an update
+     * @param isSingleResult    Is it a single result
+     * @param <T>               The query declaring type
+     * @param <R>               The query result type
+     * @return The prepared statement
+     * @since 4.12
+     */
+    protected <T, R> PS prepareStatement(StatementSupplier<PS> statementFunction,
+                                         @NonNull PreparedQuery<T, R> preparedQuery,
+                                         @NonNull Pageable pageable,
+                                         boolean isUpdate,
+                                         boolean isSingleResult) throws Exc {
         SqlPreparedQuery<T, R> sqlPreparedQuery = getSqlPreparedQuery(preparedQuery);
         sqlPreparedQuery.prepare(null);
         if (!isUpdate) {
-            sqlPreparedQuery.attachPageable(preparedQuery.getPageable(), isSingleResult);
+            sqlPreparedQuery.attachPageable(pageable, isSingleResult);
         }
 
         String query = sqlPreparedQuery.getQuery();
@@ -223,6 +332,68 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         return ps;
     }
 
+    /**
+     * Collects the values of an entity persisted by an upsert of a versioned entity, before the persist events replace them.
+     *
+     * @param storedQuery      The stored query
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <T>              The entity type
+     * @return The values or null if the query isn't an upsert checking the previous version
+     * @since 4.12
+     */
+    @Nullable
+    protected <T> UpsertValues<T> collectUpsertValues(@NonNull SqlStoredQuery<T, ?> storedQuery,
+                                                      @NonNull RuntimePersistentEntity<T> persistentEntity,
+                                                      @NonNull T entity) {
+        RuntimePersistentProperty<T> version = persistentEntity.getVersion();
+        if (version == null || storedQuery.getOperationType() != OperationType.INSERT) {
+            return null;
+        }
+        Map<QueryParameterBinding, Object> previousValues = storedQuery.collectAutoPopulatedPreviousValues(entity);
+        if (previousValues == null) {
+            return null;
+        }
+        Map<RuntimePersistentProperty<T>, Object> createdValues = new HashMap<>(2);
+        for (RuntimePersistentProperty<T> property : persistentEntity.getPersistentProperties()) {
+            if (property.getAnnotationMetadata().hasAnnotation(DateCreated.class)) {
+                Object value = property.getProperty().get(entity);
+                if (value != null) {
+                    createdValues.put(property, value);
+                }
+            }
+        }
+        return new UpsertValues<>(previousValues, version, version.getProperty().get(entity), createdValues);
+    }
+
+    /**
+     * Resolves the pageable ordering the rows of the same root entity consecutively, it allows to map the rows
+     * of a query joining a collection to the entities incrementally.
+     * The sort of the query pageable is extended with the root identity.
+     *
+     * @param preparedQuery The prepared query
+     * @param <T>           The query declaring type
+     * @param <R>           The query result type
+     * @return The pageable or null if the query order cannot be extended
+     * @since 4.12
+     */
+    @Nullable
+    protected <T, R> Pageable resolveRootGroupingPageable(@NonNull SqlPreparedQuery<T, R> preparedQuery) {
+        RuntimePersistentEntity<T> persistentEntity = preparedQuery.getPersistentEntity();
+        RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
+        Pageable pageable = preparedQuery.getPageable();
+        if (preparedQuery.isNative()
+            || identity == null
+            || identity instanceof Embedded
+            || pageable.getMode() != Pageable.Mode.OFFSET
+            || preparedQuery.getQuery().contains(AbstractSqlLikeQueryBuilder2.ORDER_BY_CLAUSE)
+            || pageable.getSort().getOrderBy().stream().anyMatch(order -> order.getProperty().contains("."))
+            || preparedQuery.getQueryBindings().stream().anyMatch(binding -> binding.getRole() != null)) {
+            return null;
+        }
+        return pageable.withSort(DefaultSqlPreparedQuery.enhanceCursoredSort(pageable.getSort(), false, persistentEntity));
+    }
+
     /**
      * Set the parameter value on the given statement.
      *
@@ -362,11 +533,7 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
                 criteriaBuilder.equal(root.id(), criteriaBuilder.parameter(Object.class))
             );
 
-            persistentEntity.getPersistentProperties()
-                .stream().filter(p ->
-                    !(p instanceof Association association && association.isForeignKey()) &&
-                        p.getAnnotationMetadata().booleanValue(AutoPopulated.class, "updateable").orElse(true)
-                )
+            EntitySnapshots.getUpdatableProperties(persistentEntity)
                 .forEach(prop -> criteriaUpdate.set(prop.getName(), criteriaBuilder.parameter(prop.getType())));
 
             final QueryResult queryResult = ((QueryResultPersistentEntityCriteriaQuery) criteriaUpdate).buildQuery(annotationMetadata, queryBuilder);
@@ -377,6 +544,361 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         });
     }
 
+    /**
+     * Resolves a stored update of the given properties of the entity.
+     * The updates are cached by the set of the properties, the least recently used updates are evicted.
+     * The version of a versioned entity is always updated and checked by the optimistic lock predicate.
+     *
+     * @param queryBuilder     The query builder
+     * @param rootEntity       The root entity
+     * @param persistentEntity The persistent entity
+     * @param properties       The indexes of the {@link EntitySnapshots#getUpdatableProperties(RuntimePersistentEntity) updatable properties} to update
+     * @param <E>              The entity type
+     * @return The update
+     * @since 4.12
+     */
+    @NonNull
+    protected <E> SqlStoredQuery<E, E> resolveEntityUpdate(@NonNull SqlQueryBuilder2 queryBuilder,
+                                                           @NonNull Class<E> rootEntity,
+                                                           @NonNull RuntimePersistentEntity<E> persistentEntity,
+                                                           @NonNull BitSet properties) {
+        //noinspection unchecked
+        return entityPartialUpdates.computeIfAbsent(new PartialUpdateKey(rootEntity, (BitSet) properties.clone()), (queryKey) -> {
+            var criteriaBuilder = new RuntimeCriteriaBuilder(runtimeEntityRegistry);
+            var criteriaUpdate = criteriaBuilder.createCriteriaUpdate(rootEntity);
+            var root = criteriaUpdate.getRoot();
+
+            RuntimePersistentProperty<E> version = persistentEntity.getVersion();
+            boolean optimisticLock = version != null && !version.isGenerated();
+            if (optimisticLock) {
+                criteriaUpdate.where(
+                    criteriaBuilder.equal(root.id(), criteriaBuilder.parameter(Object.class)),
+                    criteriaBuilder.equal(root.version(), criteriaBuilder.parameter(version.getType()))
+                );
+            } else {
+                criteriaUpdate.where(
+                    criteriaBuilder.equal(root.id(), criteriaBuilder.parameter(Object.class))
+                );
+            }
+
+            List<RuntimePersistentProperty<E>> updatableProperties = EntitySnapshots.getUpdatableProperties(persistentEntity);
+            properties.stream()
+                .mapToObj(updatableProperties::get)
+                .forEach(prop -> criteriaUpdate.set(prop.getName(), criteriaBuilder.parameter(prop.getType())));
+            if (optimisticLock) {
+                // The incremented version of the entity is set, the version predicate binds the previous version
+                criteriaUpdate.set(version.getName(), criteriaBuilder.parameter(version.getType()));
+            }
+
+            QueryResult queryResult = ((QueryResultPersistentEntityCriteriaQuery) criteriaUpdate).buildQuery(AnnotationMetadata.EMPTY_METADATA, queryBuilder);
+            if (optimisticLock) {
+                queryResult = withPreviousVersionParameter(queryResult, version);
+            }
+            StoredQuery<E, E> storedQuery = QueryResultStoredQuery.single(OperationType.UPDATE, "Partial update", AnnotationMetadata.EMPTY_METADATA, queryResult, rootEntity);
+            if (optimisticLock) {
+                StoredQuery<E, E> delegate = storedQuery;
+                storedQuery = new DelegateStoredQuery<>() {
+                    @Override
+                    public StoredQuery<E, E> getStoredQueryDelegate() {
+                        return delegate;
+                    }
+
+                    @Override
+                    public boolean isOptimisticLock() {
+                        return true;
+                    }
+                };
+            }
+            return new DefaultSqlStoredQuery<>(storedQuery, persistentEntity, queryBuilder);
+        });
+    }
+
+    /**
+     * Marks the parameter of the version predicate, the last parameter of the version, to bind the version of the entity before the update.
+     *
+     * @param queryResult The query result of the update
+     * @param version     The version property
+     * @return The query result binding the previous version
+     */
+    private static QueryResult withPreviousVersionParameter(QueryResult queryResult, RuntimePersistentProperty<?> version) {
+        List<io.micronaut.data.model.query.builder.QueryParameterBinding> parameterBindings = new ArrayList<>(queryResult.getParameterBindings());
+        String[] versionPath = {version.getName()};
+        for (int i = parameterBindings.size() - 1; i >= 0; i--) {
+            io.micronaut.data.model.query.builder.QueryParameterBinding binding = parameterBindings.get(i);
+            if (Arrays.equals(binding.getPropertyPath(), versionPath)) {
+                parameterBindings.set(i, new io.micronaut.data.model.query.builder.QueryParameterBinding() {
+                    @Override
+                    public String getName() {
+                        return binding.getName();
+                    }
+
+                    @Override
+                    public String getKey() {
+                        return binding.getKey();
+                    }
+
+                    @Override
+                    public DataType getDataType() {
+                        return binding.getDataType();
+                    }
+
+                    @Override
+                    public String[] getPropertyPath() {
+                        return binding.getPropertyPath();
+                    }
+
+                    @Override
+                    public boolean isAutoPopulated() {
+                        return true;
+                    }
+
+                    @Override
+                    public boolean isRequiresPreviousPopulatedValue() {
+                        return true;
+                    }
+                });
+                break;
+            }
+        }
+        return QueryResult.of(queryResult.getQuery(), queryResult.getQueryParts(), parameterBindings, queryResult.getAdditionalRequiredParameters());
+    }
+
+    /**
+     * @return The snapshots of the entities used to update the changed properties only or null if the dirty tracking is disabled
+     * @since 4.12
+     */
+    @Nullable
+    protected EntitySnapshots getEntitySnapshots() {
+        return null;
+    }
+
+    /**
+     * Takes the snapshots of the entities read by the query if the dirty tracking is enabled.
+     *
+     * @param scope       The snapshot scope of the current transaction or null
+     * @param storedQuery The query
+     * @param results     The results
+     * @param <R>         The result type
+     * @since 4.12
+     */
+    protected final <R> void trackEntities(@Nullable Object scope, @NonNull SqlStoredQuery<?, R> storedQuery, @NonNull Collection<R> results) {
+        EntitySnapshots entitySnapshots = getEntitySnapshots();
+        if (entitySnapshots == null || results.isEmpty() || storedQuery.getResultDataType() != DataType.ENTITY
+            || storedQuery.isDtoProjection() || storedQuery.getResultType() != storedQuery.getRootEntity()) {
+            return;
+        }
+        RuntimePersistentEntity<R> persistentEntity = getEntity(storedQuery.getResultType());
+        for (R result : results) {
+            entitySnapshots.track(scope, persistentEntity, result);
+        }
+    }
+
+    /**
+     * Takes the snapshot of the written entity if the dirty tracking is enabled.
+     * The entity written in a transaction loses its snapshot until the transaction is committed.
+     *
+     * @param scope            The snapshot scope of the current transaction or null
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <E>              The entity type
+     * @return The entity
+     * @since 4.12
+     */
+    protected final <E> E trackEntity(@Nullable Object scope, @NonNull RuntimePersistentEntity<E> persistentEntity, E entity) {
+        EntitySnapshots entitySnapshots = getEntitySnapshots();
+        if (entitySnapshots != null) {
+            entitySnapshots.trackWritten(scope, persistentEntity, entity);
+        }
+        return entity;
+    }
+
+    /**
+     * Removes the snapshot of the deleted entity if the dirty tracking is enabled.
+     *
+     * @param entity The entity
+     * @since 4.12
+     */
+    protected final void forgetEntity(@Nullable Object entity) {
+        EntitySnapshots entitySnapshots = getEntitySnapshots();
+        if (entitySnapshots != null) {
+            entitySnapshots.remove(entity);
+        }
+    }
+
+    /**
+     * Finds the cache of the entity selected by the query if the query selects an {@link io.micronaut.data.annotation.EntityCache}
+     * entity by its identity only.
+     *
+     * @param preparedQuery The prepared query
+     * @param <T>           The query declaring type
+     * @param <R>           The query result type
+     * @return The cache lookup or null if the query cannot be cached
+     * @since 4.12
+     */
+    @Nullable
+    protected final <T, R> EntityCacheLookup<R> findEntityCacheLookup(@NonNull SqlPreparedQuery<T, R> preparedQuery) {
+        if (entityCacheRegistry == null || !isEntityCacheSupported()) {
+            return null;
+        }
+        Object id = findSelectedIdentity(preparedQuery);
+        if (id == null) {
+            return null;
+        }
+        RuntimePersistentEntity<R> persistentEntity = getEntity(preparedQuery.getResultType());
+        if (!entityCacheRegistry.isCached(persistentEntity)) {
+            return null;
+        }
+        return new EntityCacheLookup<>(entityCacheRegistry, dataSourceName, persistentEntity, id, entityCacheRegistry.getGeneration(dataSourceName, persistentEntity));
+    }
+
+    /**
+     * Finds the identities of the entities written by the operation, the entities are removed from the cache of the entity
+     * once the write is visible to the other connections.
+     *
+     * @param persistentEntity The persistent entity
+     * @param operation        The entity operation
+     * @return The identities of the written entities, empty if the entity is not cached
+     * @since 4.12
+     */
+    @NonNull
+    protected final List<Object> findWrittenIds(@NonNull RuntimePersistentEntity<?> persistentEntity, @NonNull EntityOperation<?> operation) {
+        if (operation instanceof EntityInstanceOperation<?> instanceOperation) {
+            return findWrittenIds(persistentEntity, List.of(instanceOperation.getEntity()));
+        }
+        if (operation instanceof BatchOperation<?> batchOperation) {
+            return findWrittenIds(persistentEntity, batchOperation);
+        }
+        return List.of();
+    }
+
+    /**
+     * Finds the identities of the written entities, the entities are removed from the cache of the entity
+     * once the write is visible to the other connections.
+     *
+     * @param persistentEntity The persistent entity
+     * @param entities         The written entities
+     * @return The identities of the written entities, empty if the entity is not cached
+     * @since 4.12
+     */
+    @NonNull
+    protected final List<Object> findWrittenIds(@NonNull RuntimePersistentEntity<?> persistentEntity, @NonNull Iterable<?> entities) {
+        if (entityCacheRegistry == null || !entityCacheRegistry.isCached(persistentEntity)) {
+            return List.of();
+        }
+        BeanProperty<Object, Object> identity = (BeanProperty<Object, Object>) persistentEntity.getIdentity().getProperty();
+        List<Object> ids = new ArrayList<>();
+        for (Object entity : entities) {
+            Object id = identity.get(entity);
+            // The new entities with the generated identity are not cached
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Finds the identity of the entity selected by the query if the query selects the entity by its identity only.
+     *
+     * @param preparedQuery The prepared query
+     * @param <T>           The query declaring type
+     * @param <R>           The query result type
+     * @return The identity converted to the identity type or null if the query doesn't select the entity by the identity only
+     * @since 4.12
+     */
+    @Nullable
+    protected final <T, R> Object findSelectedIdentity(@NonNull SqlPreparedQuery<T, R> preparedQuery) {
+        if (preparedQuery.getResultType() != preparedQuery.getRootEntity()
+            || preparedQuery.getResultDataType() != DataType.ENTITY
+            || preparedQuery.isDtoProjection()
+            || preparedQuery.isRawQuery()
+            || preparedQuery.isNative()
+            || preparedQuery.hasResultConsumer()
+            || !preparedQuery.getJoinPaths().isEmpty()
+            || preparedQuery.getQueryBindings().size() != 1
+            || preparedQuery.getAnnotationMetadata().hasStereotype(Where.class)
+            || preparedQuery.getAnnotationMetadata().hasStereotype(IgnoreWhere.class)) {
+            return null;
+        }
+        RuntimePersistentEntity<R> persistentEntity = getEntity(preparedQuery.getResultType());
+        RuntimePersistentProperty<R> identity = persistentEntity.getIdentity();
+        if (identity == null
+            || identity instanceof Embedded
+            || persistentEntity.hasStereotype(Where.class)) {
+            return null;
+        }
+        QueryParameterBinding binding = preparedQuery.getQueryBindings().get(0);
+        String[] propertyPath = binding.getPropertyPath();
+        if (binding.getRole() != null
+            || binding.isExpandable()
+            || binding.isExpression()
+            || binding.getParameterIndex() < 0
+            || (binding.getParameterBindingPath() != null && binding.getParameterBindingPath().length > 0)
+            || propertyPath == null
+            || propertyPath.length != 1
+            || !propertyPath[0].equals(identity.getName())) {
+            return null;
+        }
+        Object id = preparedQuery.getParameterArray()[binding.getParameterIndex()];
+        if (id == null) {
+            return null;
+        }
+        return conversionService.convertRequired(id, identity.getType());
+    }
+
+    /**
+     * Finds the cache of the results of a query method annotated with {@link CacheQueryResult}.
+     *
+     * @param preparedQuery The prepared query
+     * @param <T>           The query declaring type
+     * @param <R>           The query result type
+     * @return The cache lookup or null if the query cannot be cached
+     * @since 4.12
+     */
+    @Nullable
+    protected final <T, R> QueryResultCacheLookup findQueryResultCacheLookup(@NonNull SqlPreparedQuery<T, R> preparedQuery) {
+        if (entityCacheRegistry == null
+            || !isEntityCacheSupported()
+            || preparedQuery.hasResultConsumer()
+            || !preparedQuery.getAnnotationMetadata().hasAnnotation(CacheQueryResult.class)) {
+            return null;
+        }
+        for (QueryParameterBinding binding : preparedQuery.getQueryBindings()) {
+            // The values of the roles and the expressions are not the parameters of the method
+            if (binding.getRole() != null || binding.isExpression()) {
+                return null;
+            }
+        }
+        Object method = preparedQuery.getInvocationContext() instanceof MethodInvocationContext<?, ?> methodInvocationContext
+            ? methodInvocationContext.getExecutableMethod() : preparedQuery.getName();
+        QueryRegion queryRegion = entityCacheRegistry.getQueryRegion(
+            new QueryRegionKey(dataSourceName, preparedQuery.getRepositoryType(), method, preparedQuery.isCount()),
+            preparedQuery.getAnnotationMetadata(),
+            preparedQuery.getRootEntity()
+        );
+        QueryResultKey key = new QueryResultKey(preparedQuery.getParameterArray(), preparedQuery.getPageable());
+        return new QueryResultCacheLookup(entityCacheRegistry, queryRegion, key, queryRegion.getGeneration());
+    }
+
+    /**
+     * The resolver of the already loaded entities replacing the associated entities read as the id only.
+     *
+     * @return The resolver or null
+     * @since 4.12
+     */
+    @Nullable
+    protected BiFunction<RuntimePersistentEntity<Object>, Object, Object> getIdOnlyEntityResolver() {
+        return null;
+    }
+
+    /**
+     * @return true if the entities selected by the queries can be cached, the entities are not cached if the tenants are selected by the schema or by the data source
+     * @since 4.12
+     */
+    protected boolean isEntityCacheSupported() {
+        return true;
+    }
+
     /**
      * Resolve SQL insert association operation.
      *
@@ -502,7 +1024,7 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
     protected final <E, R> SqlStoredQuery<E, R> getSqlStoredQuery(StoredQuery<E, R> storedQuery) {
         if (storedQuery instanceof SqlStoredQuery<E, R> sqlStoredQuery) {
             if (sqlStoredQuery.isExpandableQuery() && !(sqlStoredQuery instanceof SqlPreparedQuery)) {
-                return new DefaultSqlPreparedQuery<>(sqlStoredQuery);
+                return new DefaultSqlPreparedQuery<>(sqlStoredQuery, getSqlQueryOptions());
             }
             return sqlStoredQuery;
         }
@@ -713,13 +1235,14 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         }
         if (isEntityResult) {
             ResultReader<RS, String> resultReader =
-                preparedQuery.isDtoProjection() ? createColumnNameResultSetReaderWithColumnExistenceAware() : columnNameResultSetReader;
+                preparedQuery.isDtoProjection() ? createColumnNameResultSetReaderWithColumnExistenceAware() : createEntityResultReader();
             return new SqlResultEntityTypeMapper<>(
                 getEntity(preparedQuery.getResultType()),
                 resultReader,
                 preparedQuery.getJoinPaths(),
                 sqlJsonColumnMapperProvider.getJsonColumnReader(preparedQuery, rsType),
                 loadListener,
+                preparedQuery.isDtoProjection() ? null : getIdOnlyEntityResolver(),
                 conversionService);
         }
         if (preparedQuery.isDtoProjection()) {
@@ -743,7 +1266,7 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
             );
             return new SqlResultEntityTypeMapper<>(
                 dtoPersistentEntity,
-                columnNameResultSetReader,
+                createEntityResultReader(),
                 preparedQuery.getJoinPaths(),
                 sqlJsonColumnMapperProvider.getJsonColumnReader(preparedQuery, rsType),
                 null,
@@ -774,6 +1297,647 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS, Exc extends Except
         };
     }
 
+    /**
+     * Finds the query builder of the queries built by the operations without a repository.
+     *
+     * @param dialect The dialect
+     * @return The query builder shared by the operations
+     * @since 4.12
+     */
+    @NonNull
+    protected final SqlQueryBuilder2 getQueryBuilder(@NonNull Dialect dialect) {
+        return dialectQueryBuilders.computeIfAbsent(dialect, SqlQueryBuilder2::new);
+    }
+
+    /**
+     * Resolves the associations of the results loaded by the separate queries after the results are read.
+     * The split joins are loaded first followed by the paths of {@link BatchFetch} not joined by the query.
+     *
+     * @param storedQuery The query of the results
+     * @return The association fetches or an empty list if the results don't require them
+     * @since 4.12
+     */
+    @NonNull
+    protected final List<AssociationFetch> getAssociationFetches(@NonNull SqlStoredQuery<?, ?> storedQuery) {
+        Set<JoinPath> splitJoinPaths = storedQuery.getSplitJoinPaths();
+        AnnotationValue<BatchFetch> batchFetch = storedQuery.getAnnotationMetadata().getAnnotation(BatchFetch.class);
+        if (splitJoinPaths.isEmpty() && batchFetch == null
+            || storedQuery.getResultDataType() != DataType.ENTITY
+            || storedQuery.isDtoProjection()
+            || storedQuery.getResultType() != storedQuery.getRootEntity()) {
+            return List.of();
+        }
+        List<AssociationFetch> fetches = new ArrayList<>();
+        for (JoinPath splitJoinPath : splitJoinPaths) {
+            String path = splitJoinPath.getPath();
+            if (splitJoinPaths.stream().anyMatch(joinPath -> path.startsWith(joinPath.getPath() + "."))) {
+                // Loaded by the query of the parent split join
+                continue;
+            }
+            List<JoinPath> nestedJoinPaths = splitJoinPaths.stream()
+                .filter(joinPath -> joinPath.getPath().startsWith(path + "."))
+                .toList();
+            fetches.add(new AssociationFetch(path, nestedJoinPaths, 0, true));
+        }
+        if (batchFetch != null) {
+            int batchSize = batchFetch.intValue("size").orElse(0);
+            for (String path : batchFetch.stringValues()) {
+                boolean joined = storedQuery.getJoinPaths().stream().anyMatch(joinPath -> joinPath.getPath().equals(path))
+                    || splitJoinPaths.stream().anyMatch(joinPath -> joinPath.getPath().equals(path));
+                if (!joined) {
+                    fetches.add(new AssociationFetch(path, List.of(), batchSize, false));
+                }
+            }
+        }
+        return fetches;
+    }
+
+    /**
+     * Builds the queries loading the association of the results.
+     * The split joins and the collections are loaded by the queries selecting the results by their ids with the association joined,
+     * other associations are loaded by the queries selecting the associated entities by their ids.
+     * The ids are chunked by the batch size and the limits of the dialect.
+     *
+     * @param persistentEntity The entity of the results
+     * @param queryBuilder     The query builder
+     * @param fetch            The association fetch
+     * @param results          The results
+     * @param <R>              The result type
+     * @return The association queries or an empty list if there is nothing to load
+     * @since 4.12
+     */
+    @NonNull
+    protected final <R> List<AssociationQuery<R>> buildAssociationQueries(@NonNull RuntimePersistentEntity<R> persistentEntity,
+                                                                          @NonNull SqlQueryBuilder2 queryBuilder,
+                                                                          @NonNull AssociationFetch fetch,
+                                                                          @NonNull List<R> results) {
+        if (results.isEmpty()) {
+            return List.of();
+        }
+        String path = fetch.path();
+        PersistentPropertyPath propertyPath = persistentEntity.getPropertyPath(path);
+        if (propertyPath == null || !(propertyPath.getProperty() instanceof Association association) || association instanceof Embedded) {
+            throw new IllegalStateException("Invalid association path [" + path + "] of entity: " + persistentEntity.getName() + ". Property is not an association!");
+        }
+        Dialect dialect = queryBuilder.getDialect();
+        List<AssociationQuery<R>> queries = new ArrayList<>();
+        if (fetch.split() || association.isForeignKey()) {
+            BeanProperty<R, Object> identity = getIdentity(persistentEntity).getProperty();
+            Set<Object> ids = new LinkedHashSet<>(results.size());
+            for (R result : results) {
+                Object id = result == null ? null : identity.get(result);
+                if (id != null) {
+                    ids.add(id);
+                }
+            }
+            for (List<Object> chunk : chunkInListValues(dialect, ids, fetch.batchSize())) {
+                SqlStoredQuery<R, R> query = findInQuery(persistentEntity, queryBuilder, "Association " + path, path, fetch.joinPaths(), chunk, fetch.batchSize());
+                queries.add(new AssociationQuery<>(persistentEntity, propertyPath, query, false));
+            }
+            return queries;
+        }
+        for (Association pathAssociation : propertyPath.getAssociations()) {
+            if (!pathAssociation.getKind().isSingleEnded()) {
+                throw new IllegalStateException("Invalid association path [" + path + "] of entity: " + persistentEntity.getName() + ". The association [" + pathAssociation.getName() + "] is not single ended!");
+            }
+        }
+        RuntimePersistentEntity<Object> associatedEntity = (RuntimePersistentEntity<Object>) association.getAssociatedEntity();
+        BeanProperty<Object, Object> associatedIdentity = getIdentity(associatedEntity).getProperty();
+        Set<Object> ids = new LinkedHashSet<>(results.size());
+        for (R result : results) {
+            Object associated = result == null ? null : propertyPath.getPropertyValue(result);
+            Object id = associated == null ? null : associatedIdentity.get(associated);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        for (List<Object> chunk : chunkInListValues(dialect, ids, fetch.batchSize())) {
+            SqlStoredQuery<Object, Object> query = findInQuery(associatedEntity, queryBuilder, "Association " + path, null, fetch.joinPaths(), chunk, fetch.batchSize());
+            queries.add(new AssociationQuery<>(persistentEntity, propertyPath, query, true));
+        }
+        return queries;
+    }
+
+    /**
+     * Sets the association loaded by the association query to the results.
+     *
+     * @param associationQuery The association query
+     * @param results          The results
+     * @param loadedResults    The results of the association query
+     * @param <R>              The result type
+     * @return The results with the association, the immutable results are replaced by the new instances
+     * @since 4.12
+     */
+    @NonNull
+    protected final <R> List<R> applyAssociationQuery(@NonNull AssociationQuery<R> associationQuery, @NonNull List<R> results, @NonNull List<?> loadedResults) {
+        if (loadedResults.isEmpty()) {
+            return results;
+        }
+        BeanProperty<Object, Object> loadedIdentity = ((RuntimePersistentEntity<Object>) associationQuery.storedQuery().getPersistentEntity()).getIdentity().getProperty();
+        Map<Object, Object> loadedById = CollectionUtils.newHashMap(loadedResults.size());
+        for (Object loadedResult : loadedResults) {
+            loadedById.put(loadedIdentity.get(loadedResult), loadedResult);
+        }
+        BeanProperty<R, Object> identity = associationQuery.persistentEntity().getIdentity().getProperty();
+        PersistentPropertyPath path = associationQuery.path();
+        List<R> joinedResults = new ArrayList<>(results.size());
+        for (R result : results) {
+            if (result != null && isPathReachable(path, result)) {
+                if (associationQuery.associated()) {
+                    Object associated = path.getPropertyValue(result);
+                    Object loadedAssociated = associated == null ? null : loadedById.get(loadedIdentity.get(associated));
+                    if (loadedAssociated != null) {
+                        result = (R) path.setPropertyValue(result, loadedAssociated);
+                    }
+                } else {
+                    Object loadedResult = loadedById.get(identity.get(result));
+                    if (loadedResult != null) {
+                        result = (R) path.setPropertyValue(result, path.getPropertyValue(loadedResult));
+                    }
+                }
+            }
+            joinedResults.add(result);
+        }
+        return joinedResults;
+    }
+
+    /**
+     * Merges the results of the chunks of a query split by {@link SqlPreparedQuery#splitInList()}.
+     * The entities selected by multiple chunks are returned once. The split queries are unordered, the results keep the order of the chunks.
+     *
+     * @param preparedQuery The split query
+     * @param chunkResults  The results of the chunks
+     * @param <R>           The result type
+     * @return The merged results
+     * @since 4.12
+     */
+    @NonNull
+    protected final <R> List<R> mergeInListChunks(@NonNull SqlPreparedQuery<?, R> preparedQuery, @NonNull List<List<R>> chunkResults) {
+        RuntimePersistentEntity<R> persistentEntity = getEntity(preparedQuery.getResultType());
+        RuntimePersistentProperty<R> identity = persistentEntity.getIdentity();
+        List<R> results = new ArrayList<>();
+        Set<Object> ids = identity == null ? null : new HashSet<>();
+        for (List<R> chunk : chunkResults) {
+            for (R result : chunk) {
+                if (ids == null || result == null || ids.add(identity.getProperty().get(result))) {
+                    results.add(result);
+                }
+            }
+        }
+        return results;
+    }
+
+    private static <E> RuntimePersistentProperty<E> getIdentity(RuntimePersistentEntity<E> persistentEntity) {
+        RuntimePersistentProperty<E> identity = persistentEntity.getIdentity();
+        if (identity == null || identity instanceof Embedded) {
+            throw new IllegalStateException("Loading the associations by separate queries requires a single identity of the entity: " + persistentEntity.getName());
+        }
+        return identity;
+    }
+
+    /**
+     * Finds the query selecting the entities by the ids, the query is built once per entity, joined paths and the number of the ids.
+     * The ids are padded by repeating the last id to the next power of two, the chunks of the different sizes share the queries.
+     */
+    private <E> SqlStoredQuery<E, E> findInQuery(RuntimePersistentEntity<E> persistentEntity,
+                                                 SqlQueryBuilder2 queryBuilder,
+                                                 String name,
+                                                 @Nullable String path,
+                                                 List<JoinPath> nestedJoinPaths,
+                                                 List<Object> ids,
+                                                 int batchSize) {
+        List<Object> paddedIds = padInListValues(ids, resolveInListChunkSize(queryBuilder.getDialect(), batchSize));
+        List<String> joins = new ArrayList<>(nestedJoinPaths.size());
+        for (JoinPath nestedJoinPath : nestedJoinPaths) {
+            joins.add(nestedJoinPath.getPath() + " " + nestedJoinPath.getJoinType() + " " + nestedJoinPath.getAlias().orElse(""));
+        }
+        InQueryKey key = new InQueryKey(persistentEntity.getIntrospection().getBeanType(), queryBuilder.getDialect(), path, joins, paddedIds.size());
+        InQuery<E> inQuery = (InQuery<E>) inQueries.computeIfAbsent(key, k -> buildInQuery(persistentEntity, queryBuilder, name, path, nestedJoinPaths, paddedIds));
+        return inQuery.bind(paddedIds);
+    }
+
+    private static List<Object> padInListValues(List<Object> values, int chunkSize) {
+        int size = values.size();
+        int paddedSize = size <= 1 ? size : Integer.highestOneBit(size - 1) << 1;
+        if (chunkSize > 0) {
+            paddedSize = Math.min(paddedSize, chunkSize);
+        }
+        if (paddedSize <= size) {
+            return values;
+        }
+        List<Object> paddedValues = new ArrayList<>(paddedSize);
+        paddedValues.addAll(values);
+        Object last = values.get(size - 1);
+        while (paddedValues.size() < paddedSize) {
+            paddedValues.add(last);
+        }
+        return paddedValues;
+    }
+
+    private <E> InQuery<E> buildInQuery(RuntimePersistentEntity<E> persistentEntity,
+                                        SqlQueryBuilder2 queryBuilder,
+                                        String name,
+                                        @Nullable String path,
+                                        List<JoinPath> nestedJoinPaths,
+                                        List<Object> ids) {
+        Class<E> entityType = persistentEntity.getIntrospection().getBeanType();
+        var criteriaBuilder = new RuntimeCriteriaBuilder(runtimeEntityRegistry);
+        PersistentEntityCriteriaQuery<E> criteriaQuery = criteriaBuilder.createQuery(entityType);
+        PersistentEntityRoot<E> root = criteriaQuery.from(entityType);
+        for (JoinPath nestedJoinPath : nestedJoinPaths) {
+            join(root, nestedJoinPath.getPath(), nestedJoinPath.getJoinType(), nestedJoinPath.getAlias().orElse(null));
+        }
+        if (path != null) {
+            // The results without the association are selected too
+            join(root, path, Join.Type.LEFT_FETCH, null);
+        }
+        // The parameters of the ids record the names of their bindings
+        String[] idParameterNames = new String[ids.size()];
+        Expression<?>[] idParameters = new Expression<?>[ids.size()];
+        for (int i = 0; i < idParameters.length; i++) {
+            Object id = ids.get(i);
+            IParameterExpression<Object> parameter = (IParameterExpression<Object>) criteriaBuilder.parameter((Class<Object>) id.getClass(), null, id);
+            idParameters[i] = new IdParameterExpression(parameter, idParameterNames, i);
+        }
+        criteriaQuery.where(root.id().in(idParameters));
+        QueryResult queryResult = ((QueryResultPersistentEntityCriteriaQuery) criteriaQuery).buildQuery(AnnotationMetadata.EMPTY_METADATA, queryBuilder);
+        StoredQuery<E, E> storedQuery = QueryResultStoredQuery.many(name, AnnotationMetadata.EMPTY_METADATA, queryResult, entityType, entityType, false, queryResult.getJoinPaths());
+        // The bindings of the ids, the values are replaced by the ids of every execution
+        List<QueryParameterBinding> bindings = storedQuery.getQueryBindings();
+        Map<String, Integer> bindingIndexes = CollectionUtils.newHashMap(bindings.size());
+        for (int i = 0; i < bindings.size(); i++) {
+            bindingIndexes.put(bindings.get(i).getName(), i);
+        }
+        int[] idBindings = new int[idParameterNames.length];
+        for (int i = 0; i < idParameterNames.length; i++) {
+            Integer index = idParameterNames[i] == null ? null : bindingIndexes.get(idParameterNames[i]);
+            if (index == null) {
+                throw new IllegalStateException("Cannot resolve the id parameters of the query: " + storedQuery.getQuery());
+            }
+            idBindings[i] = index;
+        }
+        return new InQuery<>(persistentEntity, queryBuilder, storedQuery, idBindings);
+    }
+
+    private static void join(PersistentEntityRoot<?> root, String path, Join.Type joinType, @Nullable String alias) {
+        String[] names = path.split("\\.");
+        PersistentEntityFrom<?, ?> from = root;
+        for (int i = 0; i < names.length - 1; i++) {
+            from = from.join(names[i], joinType);
+        }
+        if (alias != null) {
+            from.join(names[names.length - 1], joinType, alias);
+        } else {
+            from.join(names[names.length - 1], joinType);
+        }
+    }
+
+    private static boolean isPathReachable(PersistentPropertyPath path, Object bean) {
+        Object value = bean;
+        for (Association association : path.getAssociations()) {
+            value = ((RuntimePersistentProperty<Object>) association).getProperty().get(value);
+            if (value == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits the values of an IN list into the chunks respecting the batch size and the limits of the dialect.
+     *
+     * @param dialect   The dialect
+     * @param values    The values
+     * @param batchSize The maximum size of a chunk or zero to use the limits of the dialect only
+     * @param <T>       The value type
+     * @return The chunks
+     */
+    private static <T> List<List<T>> chunkInListValues(Dialect dialect, Collection<T> values, int batchSize) {
+        if (values.isEmpty()) {
+            return List.of();
+        }
+        List<T> list = values instanceof List<T> valuesList ? valuesList : new ArrayList<>(values);
+        int chunkSize = resolveInListChunkSize(dialect, batchSize);
+        if (chunkSize == -1 || list.size() <= chunkSize) {
+            return List.of(list);
+        }
+        List<List<T>> chunks = new ArrayList<>(list.size() / chunkSize + 1);
+        for (int i = 0; i < list.size(); i += chunkSize) {
+            chunks.add(list.subList(i, Math.min(list.size(), i + chunkSize)));
+        }
+        return chunks;
+    }
+
+    private static int resolveInListChunkSize(Dialect dialect, int batchSize) {
+        int chunkSize = -1;
+        for (int limit : new int[]{batchSize, dialect.getMaxInListSize(), dialect.getMaxParameters()}) {
+            if (limit > 0 && (chunkSize == -1 || limit < chunkSize)) {
+                chunkSize = limit;
+            }
+        }
+        return chunkSize;
+    }
+
+    /**
+     * The association of the results loaded by the separate queries.
+     *
+     * @param path      The path of the association
+     * @param joinPaths The joins nested in the association path
+     * @param batchSize The maximum number of the ids selected by a query or zero to use the limits of the dialect only
+     * @param split     Whether the association is a split join, loaded with the results selected by their ids
+     * @since 4.12
+     */
+    protected record AssociationFetch(String path,
+                                      List<JoinPath> joinPaths,
+                                      int batchSize,
+                                      boolean split) {
+    }
+
+    /**
+     * The query loading an association of the results.
+     *
+     * @param persistentEntity The entity of the results
+     * @param path             The path of the association
+     * @param storedQuery      The query selecting either the results with the joined association or the associated entities
+     * @param associated       Whether the query selects the associated entities by their ids, otherwise it selects the results
+     * @param <E>              The entity type
+     * @since 4.12
+     */
+    protected record AssociationQuery<E>(RuntimePersistentEntity<E> persistentEntity,
+                                         PersistentPropertyPath path,
+                                         SqlStoredQuery<?, ?> storedQuery,
+                                         boolean associated) {
+    }
+
+    /**
+     * The values of an entity persisted by an upsert checking the previous version.
+     * The persist events initialize the version and the creation dates, the upsert increments the version
+     * the entity was read with and keeps the creation dates it already has.
+     *
+     * @param <T> The entity type
+     * @since 4.12
+     */
+    protected final class UpsertValues<T> {
+
+        private final Map<QueryParameterBinding, Object> previousValues;
+        private final RuntimePersistentProperty<T> version;
+        private final Object previousVersion;
+        private final Map<RuntimePersistentProperty<T>, Object> createdValues;
+
+        private UpsertValues(Map<QueryParameterBinding, Object> previousValues,
+                             RuntimePersistentProperty<T> version,
+                             @Nullable Object previousVersion,
+                             Map<RuntimePersistentProperty<T>, Object> createdValues) {
+            this.previousValues = previousValues;
+            this.version = version;
+            this.previousVersion = previousVersion;
+            this.createdValues = createdValues;
+        }
+
+        /**
+         * @return The previous values bound by the upsert
+         */
+        @NonNull
+        public Map<QueryParameterBinding, Object> previousValues() {
+            return previousValues;
+        }
+
+        /**
+         * Populates the entity after the persist events with the incremented version and the previous creation dates.
+         *
+         * @param entity The entity
+         * @return The populated entity
+         */
+        @NonNull
+        public T populate(@NonNull T entity) {
+            if (previousVersion != null) {
+                entity = setProperty(version, entity, runtimeEntityRegistry.autoPopulateRuntimeProperty(version, previousVersion));
+            }
+            for (Map.Entry<RuntimePersistentProperty<T>, Object> e : createdValues.entrySet()) {
+                entity = setProperty(e.getKey(), entity, e.getValue());
+            }
+            return entity;
+        }
+
+        private T setProperty(RuntimePersistentProperty<T> property, T entity, Object value) {
+            BeanProperty<T, Object> beanProperty = property.getProperty();
+            if (beanProperty.isReadOnly()) {
+                return beanProperty.withValue(entity, value);
+            }
+            beanProperty.set(entity, value);
+            return entity;
+        }
+    }
+
+    /**
+     * The lookup of an entity selected by the identity in the cache of the entity.
+     *
+     * @param registry         The entity cache registry
+     * @param dataSource       The data source name
+     * @param persistentEntity The persistent entity
+     * @param id               The identity
+     * @param generation       The generation of the cache taken before the entity is read
+     * @param <E>              The entity type
+     * @since 4.12
+     */
+    protected record EntityCacheLookup<E>(EntityCacheRegistry registry,
+                                          String dataSource,
+                                          RuntimePersistentEntity<E> persistentEntity,
+                                          Object id,
+                                          long generation) {
+
+        /**
+         * @return The cached entity or null
+         */
+        @Nullable
+        public E get() {
+            return registry.get(dataSource, persistentEntity, id);
+        }
+
+        /**
+         * Caches the read entity.
+         *
+         * @param entity The entity
+         * @return The entity
+         */
+        public E put(@Nullable E entity) {
+            if (entity != null) {
+                registry.put(dataSource, persistentEntity, id, entity, generation);
+            }
+            return entity;
+        }
+
+        /**
+         * @param connection The connection
+         * @return true if the entity type was written by the connection and the cache should be bypassed
+         */
+        public boolean isWritten(@Nullable Object connection) {
+            return connection != null && registry.isWritten(connection, persistentEntity);
+        }
+    }
+
+    /**
+     * The lookup of the result of a query in the cache of the query method.
+     *
+     * @param registry    The entity cache registry
+     * @param queryRegion The cache of the query method
+     * @param key         The key of the parameters
+     * @param generation  The generation of the cache taken before the result is read
+     * @since 4.12
+     */
+    protected record QueryResultCacheLookup(EntityCacheRegistry registry,
+                                            QueryRegion queryRegion,
+                                            Object key,
+                                            long generation) {
+
+        /**
+         * @param <R> The result type
+         * @return The cached result or null
+         */
+        @Nullable
+        public <R> R get() {
+            return (R) queryRegion.get(key);
+        }
+
+        /**
+         * Caches the read result.
+         *
+         * @param result The result
+         * @param <R>    The result type
+         * @return The result
+         */
+        public <R> R put(@Nullable R result) {
+            if (result != null) {
+                queryRegion.put(key, result, generation);
+            }
+            return result;
+        }
+
+        /**
+         * @param connection The connection
+         * @return true if an entity type read by the query was written by the connection and the cache should be bypassed
+         */
+        public boolean isWritten(@Nullable Object connection) {
+            return connection != null && registry.isWritten(connection, queryRegion);
+        }
+    }
+
+    /**
+     * The key of the cache of a query method.
+     *
+     * @param dataSource     The data source name
+     * @param repositoryType The repository type
+     * @param method         The executable method or the name of the query
+     * @param count          Is the count query of the method
+     */
+    private record QueryRegionKey(String dataSource, Class<?> repositoryType, Object method, boolean count) {
+    }
+
+    /**
+     * The key of the cached result of a query, compared by the values of the parameters.
+     *
+     * @param parameters The values of the parameters
+     * @param pageable   The pageable
+     */
+    private record QueryResultKey(Object[] parameters, Pageable pageable) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof QueryResultKey that
+                && Arrays.deepEquals(parameters, that.parameters)
+                && Objects.equals(pageable, that.pageable);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.deepHashCode(parameters) + Objects.hashCode(pageable);
+        }
+    }
+
+    /**
+     * Used to cache the queries selecting the entities by the ids.
+     *
+     * @param entityType The entity type
+     * @param dialect    The dialect
+     * @param path       The path of the fetched association or null if the entities are selected
+     * @param joins      The joined paths
+     * @param size       The padded number of the ids
+     */
+    private record InQueryKey(Class<?> entityType, Dialect dialect, @Nullable String path, List<String> joins, int size) {
+    }
+
+    /**
+     * The query selecting the entities by the ids, built once and bound to the ids of every execution.
+     *
+     * @param persistentEntity The entity
+     * @param queryBuilder     The query builder
+     * @param storedQuery      The stored query
+     * @param idBindings       The indexes of the id bindings
+     * @param <E>              The entity type
+     */
+    private record InQuery<E>(RuntimePersistentEntity<E> persistentEntity,
+                              SqlQueryBuilder2 queryBuilder,
+                              StoredQuery<E, E> storedQuery,
+                              int[] idBindings) {
+
+        SqlStoredQuery<E, E> bind(List<Object> ids) {
+            List<QueryParameterBinding> bindings = new ArrayList<>(storedQuery.getQueryBindings());
+            for (int i = 0; i < idBindings.length; i++) {
+                Object id = ids.get(i);
+                bindings.set(idBindings[i], new DelegatingQueryParameterBinding(bindings.get(idBindings[i])) {
+                    @Override
+                    public Object getValue() {
+                        return id;
+                    }
+                });
+            }
+            return new DefaultSqlStoredQuery<>(new DelegateStoredQuery<E, E>() {
+                @Override
+                public StoredQuery<E, E> getStoredQueryDelegate() {
+                    return storedQuery;
+                }
+
+                @Override
+                public List<QueryParameterBinding> getQueryBindings() {
+                    return bindings;
+                }
+            }, persistentEntity, queryBuilder);
+        }
+    }
+
+    /**
+     * The parameter of an id of the query selecting the entities by the ids, recording the name of its binding.
+     */
+    private static final class IdParameterExpression extends IParameterExpression<Object> {
+
+        private final IParameterExpression<Object> parameter;
+        private final String[] names;
+        private final int index;
+
+        IdParameterExpression(IParameterExpression<Object> parameter, String[] names, int index) {
+            super(parameter.getExpressionType(), parameter.getName());
+            this.parameter = parameter;
+            this.names = names;
+            this.index = index;
+        }
+
+        @Override
+        public io.micronaut.data.model.query.builder.QueryParameterBinding bind(BindingContext bindingContext) {
+            io.micronaut.data.model.query.builder.QueryParameterBinding binding = parameter.bind(bindingContext);
+            names[index] = binding.getKey();
+            return binding;
+        }
+    }
+
+    /**
+     * Used to cache the partial updates of the entities.
+     *
+     * @param entityType The entity type
+     * @param properties The indexes of the updated properties
+     */
+    private record PartialUpdateKey(Class<?> entityType, BitSet properties) {
+    }
+
     /**
      * Used to cache queries for entities.
      */
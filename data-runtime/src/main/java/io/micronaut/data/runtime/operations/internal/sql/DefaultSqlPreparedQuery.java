@@ -19,6 +19,7 @@ import io.micronaut.aop.InvocationContext;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.data.annotation.TypeRole;
 import io.micronaut.data.exceptions.DataAccessException;
@@ -29,17 +30,21 @@ import io.micronaut.data.model.Pageable.Cursor;
 import io.micronaut.data.model.Pageable.Mode;
 import io.micronaut.data.model.PersistentEntity;
 import io.micronaut.data.model.PersistentProperty;
+import io.micronaut.data.model.PersistentPropertyPath;
 import io.micronaut.data.model.Sort;
 import io.micronaut.data.model.Sort.Order;
+import io.micronaut.data.model.query.JoinPath;
 import io.micronaut.data.model.query.builder.AbstractSqlLikeQueryBuilder;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder;
 import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder2;
+import io.micronaut.data.model.runtime.DelegatingQueryParameterBinding;
 import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.QueryParameterBinding;
 import io.micronaut.data.model.runtime.QueryResultInfo;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+import io.micronaut.data.model.runtime.StoredQuery;
 import io.micronaut.data.runtime.operations.internal.query.DefaultBindableParametersPreparedQuery;
 import io.micronaut.data.runtime.operations.internal.query.DummyPreparedQuery;
 import io.micronaut.data.runtime.query.internal.DelegatePreparedQuery;
@@ -49,6 +54,7 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -64,30 +70,92 @@ import java.util.Optional;
 @Internal
 public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPreparedQuery<E, R> implements SqlPreparedQuery<E, R>, DelegatePreparedQuery<E, R> {
 
+    private static final String IN_CLAUSE = " IN (";
+    private static final String NOT_IN_CLAUSE = " NOT IN (";
+    private static final String ANY_CLAUSE = " = ANY (";
+    private static final String NOT_ALL_CLAUSE = " <> ALL (";
+    private static final int MAX_PADDED_IN_LIST_SIZE = 1024;
+
     protected List<QueryParameterBinding> cursorQueryBindings;
+    protected List<QueryParameterBinding> paginationQueryBindings;
     protected List<RuntimePersistentProperty<Object>> cursorProperties;
+    protected Map<QueryParameterBinding, InListParameter> inListQueryBindings;
     protected final SqlStoredQuery<E, R> sqlStoredQuery;
+    protected final SqlQueryOptions queryOptions;
     protected String query;
     private final boolean bindPageableOrSort;
+    private int nextParameterIndex = -1;
+    private QueryParameterBinding chunkedInListParameter;
+    private int chunkFrom;
+    private int chunkTo;
 
     public DefaultSqlPreparedQuery(PreparedQuery<E, R> preparedQuery) {
-        this(preparedQuery, (SqlStoredQuery<E, R>) ((DelegateStoredQuery<Object, Object>) preparedQuery).getStoredQueryDelegate());
+        this(preparedQuery, SqlQueryOptions.DEFAULT);
+    }
+
+    /**
+     * @param preparedQuery The prepared query
+     * @param queryOptions  The query options
+     * @since 4.12
+     */
+    public DefaultSqlPreparedQuery(PreparedQuery<E, R> preparedQuery, SqlQueryOptions queryOptions) {
+        this(preparedQuery, (SqlStoredQuery<E, R>) ((DelegateStoredQuery<Object, Object>) preparedQuery).getStoredQueryDelegate(), queryOptions);
     }
 
     public DefaultSqlPreparedQuery(PreparedQuery<E, R> preparedQuery, SqlStoredQuery<E, R> sqlStoredQuery) {
+        this(preparedQuery, sqlStoredQuery, SqlQueryOptions.DEFAULT);
+    }
+
+    /**
+     * @param preparedQuery  The prepared query
+     * @param sqlStoredQuery The SQL stored query
+     * @param queryOptions   The query options
+     * @since 4.12
+     */
+    public DefaultSqlPreparedQuery(PreparedQuery<E, R> preparedQuery, SqlStoredQuery<E, R> sqlStoredQuery, SqlQueryOptions queryOptions) {
         super(preparedQuery);
         this.sqlStoredQuery = sqlStoredQuery;
+        this.queryOptions = queryOptions;
         this.query = sqlStoredQuery.getQuery();
         bindPageableOrSort = getQueryBindings().stream().anyMatch(p -> TypeRole.PAGEABLE.equals(p.getRole()) || TypeRole.SORT.equals(p.getRole()));
     }
 
     public DefaultSqlPreparedQuery(SqlStoredQuery<E, R> sqlStoredQuery) {
+        this(sqlStoredQuery, SqlQueryOptions.DEFAULT);
+    }
+
+    /**
+     * @param sqlStoredQuery The SQL stored query
+     * @param queryOptions   The query options
+     * @since 4.12
+     */
+    public DefaultSqlPreparedQuery(SqlStoredQuery<E, R> sqlStoredQuery, SqlQueryOptions queryOptions) {
         super(new DummyPreparedQuery<>(sqlStoredQuery), null, sqlStoredQuery);
         this.sqlStoredQuery = sqlStoredQuery;
+        this.queryOptions = queryOptions;
         this.query = sqlStoredQuery.getQuery();
         bindPageableOrSort = getQueryBindings().stream().anyMatch(p -> TypeRole.PAGEABLE.equals(p.getRole()) || TypeRole.SORT.equals(p.getRole()));
     }
 
+    /**
+     * Creates the query of a chunk of the IN list parameter.
+     *
+     * @param preparedQuery          The prepared query
+     * @param chunkedInListParameter The IN list parameter
+     * @param chunkFrom              The index of the first value of the chunk
+     * @param chunkTo                The index after the last value of the chunk
+     */
+    private DefaultSqlPreparedQuery(DefaultSqlPreparedQuery<E, R> preparedQuery, QueryParameterBinding chunkedInListParameter, int chunkFrom, int chunkTo) {
+        super(preparedQuery.preparedQuery, preparedQuery.invocationContext, preparedQuery.storedQuery);
+        this.sqlStoredQuery = preparedQuery.sqlStoredQuery;
+        this.queryOptions = preparedQuery.queryOptions;
+        this.query = sqlStoredQuery.getQuery();
+        this.bindPageableOrSort = preparedQuery.bindPageableOrSort;
+        this.chunkedInListParameter = chunkedInListParameter;
+        this.chunkFrom = chunkFrom;
+        this.chunkTo = chunkTo;
+    }
+
     @Override
     public RuntimePersistentEntity<E> getPersistentEntity() {
         return sqlStoredQuery.getPersistentEntity();
@@ -123,6 +191,91 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         return sqlStoredQuery.collectAutoPopulatedPreviousValues(entity);
     }
 
+    @Override
+    public List<SqlPreparedQuery<E, R>> splitInList() {
+        if (!isExpandableQuery() || chunkedInListParameter != null || isOptimisticLock() || !isSplittableInList()) {
+            return List.of();
+        }
+        List<QueryParameterBinding> queryBindings = sqlStoredQuery.getQueryBindings();
+        String[] expandableQueryParts = sqlStoredQuery.getExpandableQueryParts();
+        QueryParameterBinding inListParameter = null;
+        int inListSize = 0;
+        int parameters = 0;
+        for (int i = 0; i < queryBindings.size(); i++) {
+            QueryParameterBinding parameter = queryBindings.get(i);
+            if (!parameter.isExpandable()) {
+                parameters++;
+            } else if (parameter.getRole() == null) {
+                int size = Math.max(1, sizeOf(getParameterValue(parameter)));
+                parameters += size;
+                if (size > inListSize && isRootInList(parameter, expandableQueryParts[i], expandableQueryParts[i + 1])) {
+                    inListParameter = parameter;
+                    inListSize = size;
+                }
+            }
+        }
+        if (inListParameter == null || resolveInListArrayDataType(inListParameter) != null) {
+            return List.of();
+        }
+        int chunkSize = queryOptions.inListChunkSize() > 0 ? queryOptions.inListChunkSize() : Integer.MAX_VALUE;
+        int maxParameters = getDialect().getMaxParameters();
+        if (maxParameters != -1) {
+            chunkSize = Math.min(chunkSize, maxParameters - (parameters - inListSize));
+        }
+        if (chunkSize < 1 || inListSize <= chunkSize) {
+            return List.of();
+        }
+        List<SqlPreparedQuery<E, R>> chunks = new ArrayList<>(inListSize / chunkSize + 1);
+        for (int from = 0; from < inListSize; from += chunkSize) {
+            chunks.add(new DefaultSqlPreparedQuery<>(this, inListParameter, from, Math.min(inListSize, from + chunkSize)));
+        }
+        return chunks;
+    }
+
+    /**
+     * The results of the chunks can be merged if the query is a delete or an entity query without a limit, an offset or an order.
+     * The ordered results are not merged in memory, which would not follow the collation and the null ordering of the database.
+     *
+     * @return true if the query can be split
+     */
+    private boolean isSplittableInList() {
+        StoredQuery.OperationType operationType = getOperationType();
+        if (operationType == StoredQuery.OperationType.DELETE) {
+            return true;
+        }
+        return operationType == StoredQuery.OperationType.QUERY
+            && getResultDataType() == DataType.ENTITY
+            && !isDtoProjection()
+            && getResultType() == getRootEntity()
+            && sqlStoredQuery.getLimit() == -1
+            && sqlStoredQuery.getOffset() <= 0
+            && preparedQuery.getPageable().isUnpaged()
+            && preparedQuery.getPageable().getSort().isUnsorted()
+            && !sqlStoredQuery.getQuery().contains(AbstractSqlLikeQueryBuilder.ORDER_BY_CLAUSE);
+    }
+
+    /**
+     * Checks if the parameter is an IN list of the column of the root entity or its single ended associations,
+     * every result is selected by a single chunk of such list.
+     *
+     * @param parameter     The parameter
+     * @param queryPart     The query part before the parameter
+     * @param nextQueryPart The query part after the parameter
+     * @return true if the parameter is the IN list filtering the root entity
+     */
+    private boolean isRootInList(QueryParameterBinding parameter, String queryPart, String nextQueryPart) {
+        if (!isInList(queryPart, nextQueryPart) || endsWithIgnoreCase(queryPart, NOT_IN_CLAUSE)) {
+            return false;
+        }
+        String[] propertyPath = parameter.getPropertyPath();
+        if (propertyPath == null) {
+            // The native query parameter
+            return getJoinPaths().isEmpty();
+        }
+        PersistentPropertyPath path = getPersistentEntity().getPropertyPath(propertyPath);
+        return path != null && path.getAssociations().stream().allMatch(association -> association.getKind().isSingleEnded());
+    }
+
     /**
      * Check if query need to be modified to expand parameters.
      *
@@ -131,31 +284,77 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
     @Override
     public void prepare(E entity) {
         if (isExpandableQuery()) {
+            paginationQueryBindings = null;
+            DefaultSqlStoredQuery<E, R> cachingStoredQuery = sqlStoredQuery instanceof DefaultSqlStoredQuery<E, R> defaultSqlStoredQuery ? defaultSqlStoredQuery : null;
+            List<Object> shape = cachingStoredQuery == null ? null : resolveExpandedParametersShape();
+            if (shape != null) {
+                DefaultSqlStoredQuery.ExpandedQuery expandedQuery = cachingStoredQuery.findExpandedQuery(shape);
+                if (expandedQuery != null) {
+                    this.query = expandedQuery.query();
+                    this.nextParameterIndex = expandedQuery.nextParameterIndex();
+                    this.inListQueryBindings = expandedQuery.inListParameters();
+                    if (expandedQuery.paginationParameter() != null) {
+                        this.paginationQueryBindings = createPaginationBindings(getPageableParameter(expandedQuery.paginationParameter()), false);
+                    }
+                    return;
+                }
+            }
             SqlQueryBuilder2 queryBuilder = sqlStoredQuery.getQueryBuilder();
             String positionalParameterFormat = queryBuilder.positionalParameterFormat();
-            StringBuilder q = new StringBuilder(sqlStoredQuery.getExpandableQueryParts()[0]);
+            String[] expandableQueryParts = sqlStoredQuery.getExpandableQueryParts();
+            StringBuilder q = new StringBuilder(expandableQueryParts[0]);
             int queryParamIndex = 1;
             int inx = 1;
-            for (QueryParameterBinding parameter : sqlStoredQuery.getQueryBindings()) {
+            inListQueryBindings = null;
+            QueryParameterBinding paginationParameter = null;
+            List<QueryParameterBinding> queryBindings = sqlStoredQuery.getQueryBindings();
+            for (QueryParameterBinding parameter : queryBindings) {
+                boolean closeInListGroup = false;
                 if (!parameter.isExpandable()) {
                     q.append(String.format(positionalParameterFormat, inx++));
                 } else if (parameter.getRole() == null) {
-                    Object parameterValue = getParameterValue(parameter);
-                    int size = Math.max(1, sizeOf(parameterValue));
-                    for (int k = 0; k < size; k++) {
+                    boolean inList = isInList(q, expandableQueryParts[queryParamIndex]);
+                    DataType arrayDataType = inList ? resolveInListArrayDataType(parameter) : null;
+                    if (arrayDataType != null) {
+                        // The whole list is bound as one array: `col IN (?, ?, ...)` becomes `col = ANY (?)`
+                        if (endsWithIgnoreCase(q, NOT_IN_CLAUSE)) {
+                            q.replace(q.length() - NOT_IN_CLAUSE.length(), q.length(), NOT_ALL_CLAUSE);
+                        } else {
+                            q.replace(q.length() - IN_CLAUSE.length(), q.length(), ANY_CLAUSE);
+                        }
                         q.append(String.format(positionalParameterFormat, inx++));
-                        if (k + 1 != size) {
-                            q.append(",");
+                        addInListParameter(parameter, new InListParameter(arrayDataType, 1));
+                    } else {
+                        Object parameterValue = getParameterValue(parameter);
+                        int size = Math.max(1, sizeOf(parameterValue));
+                        if (inList && size > 1) {
+                            size = padInListSize(size, inx, queryBindings.size() - queryParamIndex);
+                            // Registered even if the list is not padded, the query is reused by the smaller lists of the same padded size
+                            addInListParameter(parameter, new InListParameter(null, size));
+                        }
+                        int maxInListSize = getDialect().getMaxInListSize();
+                        if (inList && maxInListSize != -1 && size > maxInListSize) {
+                            inx = appendSplitInList(q, size, maxInListSize, positionalParameterFormat, inx);
+                            closeInListGroup = true;
+                        } else {
+                            for (int k = 0; k < size; k++) {
+                                q.append(String.format(positionalParameterFormat, inx++));
+                                if (k + 1 != size) {
+                                    q.append(",");
+                                }
+                            }
                         }
                     }
-                } else if (TypeRole.PAGEABLE_REQUIRED.equals(parameter.getRole())) {
+                } else if (TypeRole.PAGEABLE_REQUIRED.equals(parameter.getRole()) || TypeRole.PAGEABLE.equals(parameter.getRole())) {
                     Pageable pageable = getPageableParameter(parameter);
-                    if (!pageable.isUnpaged()) {
+                    if (isBindPagination(pageable) && !hasBoundParametersAfter(queryBindings, queryParamIndex)) {
+                        // The pagination bindings are bound after the parameters of the query
+                        appendPaginationParameters(q, pageable, false, parameter.getTableAlias(), inx);
+                        inx += 2;
+                        paginationParameter = parameter;
+                    } else if (!pageable.isUnpaged() || TypeRole.PAGEABLE.equals(parameter.getRole())) {
                         appendPaginationOrOrderQueryPart(q, pageable, false, parameter.getTableAlias(), inx);
                     }
-                } else if (TypeRole.PAGEABLE.equals(parameter.getRole())) {
-                    Pageable pageable = getPageableParameter(parameter);
-                    appendPaginationOrOrderQueryPart(q, pageable, false, parameter.getTableAlias(), inx);
                 } else if (TypeRole.SORT.equals(parameter.getRole())) {
                     Sort sort = getSortParameter(parameter);
                     appendSort(sort, q, sqlStoredQuery.getQueryBuilder(), parameter.getTableAlias());
@@ -166,10 +365,223 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
                         q.append(queryBuilder.buildLimitAndOffset(limit, offset));
                     }
                 }
-                q.append(sqlStoredQuery.getExpandableQueryParts()[queryParamIndex++]);
+                if (closeInListGroup) {
+                    q.append(')');
+                }
+                q.append(expandableQueryParts[queryParamIndex++]);
             }
             this.query = q.toString();
+            this.nextParameterIndex = inx;
+            if (shape != null) {
+                cachingStoredQuery.cacheExpandedQuery(shape, new DefaultSqlStoredQuery.ExpandedQuery(query, inx, inListQueryBindings, paginationParameter));
+            }
+        }
+    }
+
+    /**
+     * Resolves the shape of the expanded parameters: the rendered sizes of the collections and the pageable or the sort.
+     * The same shape always produces the same expanded query, the IN lists padded to the same size share the shape.
+     *
+     * @return The shape or null if the expanded query cannot be reused
+     */
+    @Nullable
+    private List<Object> resolveExpandedParametersShape() {
+        List<QueryParameterBinding> queryBindings = sqlStoredQuery.getQueryBindings();
+        String[] expandableQueryParts = sqlStoredQuery.getExpandableQueryParts();
+        List<Object> shape = new ArrayList<>(queryBindings.size());
+        // The index of the next positional parameter, the padding of an IN list depends on it
+        int inx = 1;
+        for (int i = 0; i < queryBindings.size(); i++) {
+            QueryParameterBinding parameter = queryBindings.get(i);
+            if (!parameter.isExpandable()) {
+                inx++;
+                continue;
+            }
+            String role = parameter.getRole();
+            if (role == null) {
+                boolean inList = isInList(expandableQueryParts[i], expandableQueryParts[i + 1]);
+                if (inList && resolveInListArrayDataType(parameter) != null) {
+                    // The whole list is bound as one array
+                    shape.add(1);
+                    inx++;
+                    continue;
+                }
+                int size = Math.max(1, sizeOf(getParameterValue(parameter)));
+                if (inList && size > 1) {
+                    size = padInListSize(size, inx, queryBindings.size() - (i + 1));
+                }
+                shape.add(size);
+                inx += size;
+            } else if (TypeRole.PAGEABLE.equals(role) || TypeRole.PAGEABLE_REQUIRED.equals(role)) {
+                Pageable pageable = getPageableParameter(parameter);
+                if (pageable.getMode() != Mode.OFFSET) {
+                    // Cursored pagination binds the cursor values
+                    return null;
+                }
+                if (isBindPagination(pageable) && !hasBoundParametersAfter(queryBindings, i + 1)) {
+                    // The limit and the offset are bound, every page produces the same query
+                    shape.add(TypeRole.PAGEABLE);
+                    inx += 2;
+                } else {
+                    shape.add(pageable.getSize());
+                    shape.add(pageable.getOffset());
+                }
+                shape.add(pageable.getSort().getOrderBy());
+            } else if (TypeRole.SORT.equals(role)) {
+                shape.add(getSortParameter(parameter).getOrderBy());
+            }
         }
+        return shape;
+    }
+
+    private void addInListParameter(QueryParameterBinding parameter, InListParameter inListParameter) {
+        if (inListQueryBindings == null) {
+            inListQueryBindings = new IdentityHashMap<>();
+        }
+        inListQueryBindings.put(parameter, inListParameter);
+    }
+
+    /**
+     * Checks if the expandable parameter is the only value of an IN list.
+     *
+     * @param queryPart     The query before the parameter
+     * @param nextQueryPart The query part after the parameter
+     * @return true if the parameter is the IN list
+     */
+    private static boolean isInList(CharSequence queryPart, String nextQueryPart) {
+        return nextQueryPart.startsWith(")") && endsWithIgnoreCase(queryPart, IN_CLAUSE);
+    }
+
+    /**
+     * Resolves the array data type if the IN list parameter can be bound as a single array.
+     *
+     * @param parameter The expandable parameter
+     * @return The array data type or null if the parameter should be expanded
+     */
+    @Nullable
+    private DataType resolveInListArrayDataType(QueryParameterBinding parameter) {
+        Dialect dialect = getDialect();
+        if (!queryOptions.bindInListAsArray()
+            || dialect != Dialect.POSTGRES && dialect != Dialect.H2
+            || parameter.getParameterConverterClass() != null) {
+            return null;
+        }
+        DataType dataType = parameter.getDataType();
+        if (dataType == null) {
+            return null;
+        }
+        return switch (dataType) {
+            case STRING -> DataType.STRING_ARRAY;
+            case LONG -> DataType.LONG_ARRAY;
+            case INTEGER -> DataType.INTEGER_ARRAY;
+            case SHORT -> DataType.SHORT_ARRAY;
+            case DOUBLE -> DataType.DOUBLE_ARRAY;
+            case FLOAT -> DataType.FLOAT_ARRAY;
+            case BOOLEAN -> DataType.BOOLEAN_ARRAY;
+            case CHARACTER -> DataType.CHARACTER_ARRAY;
+            default -> null;
+        };
+    }
+
+    /**
+     * Pads the size of an IN list to the next power of two, the padding values are repeating the last value.
+     * This limits the number of different statements produced by the different sizes of the list.
+     *
+     * @param size                The size of the list
+     * @param parameterIndex      The index of the first parameter of the list
+     * @param remainingParameters The number of the query parameters after the list
+     * @return The padded size
+     */
+    private int padInListSize(int size, int parameterIndex, int remainingParameters) {
+        if (!queryOptions.padInList() || size < 2 || size > MAX_PADDED_IN_LIST_SIZE) {
+            return size;
+        }
+        int paddedSize = Integer.highestOneBit(size - 1) << 1;
+        Dialect dialect = getDialect();
+        int maxInListSize = dialect.getMaxInListSize();
+        if (maxInListSize != -1) {
+            paddedSize = Math.min(paddedSize, Math.max(size, maxInListSize));
+        }
+        int maxParameters = dialect.getMaxParameters();
+        if (maxParameters != -1) {
+            paddedSize = Math.min(paddedSize, Math.max(size, maxParameters - (parameterIndex - 1) - remainingParameters));
+        }
+        return paddedSize;
+    }
+
+    /**
+     * Splits an IN list exceeding the dialect limit: `col IN (?, ...)` becomes `(col IN (?, ...) OR col IN (?, ...))`.
+     * The closing bracket of the group needs to be appended after the closing bracket of the last list.
+     *
+     * @param q                         The query ending with the IN clause
+     * @param size                      The size of the list
+     * @param chunkSize                 The maximum size of a single list
+     * @param positionalParameterFormat The parameter format
+     * @param inx                       The index of the next parameter
+     * @return The index of the next parameter
+     */
+    private static int appendSplitInList(StringBuilder q, int size, int chunkSize, String positionalParameterFormat, int inx) {
+        boolean negated = endsWithIgnoreCase(q, NOT_IN_CLAUSE);
+        String inClause = negated ? NOT_IN_CLAUSE : IN_CLAUSE;
+        String chunkOperator = negated ? " AND " : " OR ";
+        int expressionEnd = q.length() - inClause.length();
+        int expressionStart = findExpressionStart(q, expressionEnd);
+        String expression = q.substring(expressionStart, expressionEnd);
+        q.insert(expressionStart, '(');
+        for (int k = 0; k < size; k++) {
+            if (k > 0) {
+                if (k % chunkSize == 0) {
+                    q.append(')').append(chunkOperator).append(expression).append(inClause);
+                } else {
+                    q.append(",");
+                }
+            }
+            q.append(String.format(positionalParameterFormat, inx++));
+        }
+        return inx;
+    }
+
+    /**
+     * Finds the start of the expression ending at the given position.
+     *
+     * @param q   The query
+     * @param end The end of the expression
+     * @return The start index
+     */
+    private static int findExpressionStart(CharSequence q, int end) {
+        int depth = 0;
+        char quote = 0;
+        for (int i = end - 1; i >= 0; i--) {
+            char c = q.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            switch (c) {
+                case '"', '`', '\'' -> quote = c;
+                case ']' -> quote = '[';
+                case ')' -> depth++;
+                case '(' -> {
+                    if (depth == 0) {
+                        return i + 1;
+                    }
+                    depth--;
+                }
+                default -> {
+                    if (depth == 0 && (Character.isWhitespace(c) || c == ',')) {
+                        return i + 1;
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static boolean endsWithIgnoreCase(CharSequence value, String suffix) {
+        int start = value.length() - suffix.length();
+        return start >= 0 && value.subSequence(start, value.length()).toString().equalsIgnoreCase(suffix);
     }
 
     private Pageable getPageableParameter(QueryParameterBinding parameter) {
@@ -214,9 +626,30 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         } else {
             value = preparedQuery.getParameterArray()[parameterIndex];
         }
+        if (parameter == chunkedInListParameter) {
+            return toList(value).subList(chunkFrom, chunkTo);
+        }
         return value;
     }
 
+    private static List<Object> toList(Object value) {
+        if (value instanceof List<?> list) {
+            return (List<Object>) list;
+        }
+        if (value instanceof Iterable<?> iterable) {
+            return (List<Object>) CollectionUtils.iterableToList(iterable);
+        }
+        if (value != null && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            List<Object> list = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                list.add(Array.get(value, i));
+            }
+            return list;
+        }
+        return Collections.singletonList(value);
+    }
+
     public static Sort enhanceCursoredSort(Sort sort, boolean isBackwards, PersistentEntity persistentEntity) {
         // Create a sort for the cursored pagination. The sort must produce a unique
         // sorting on the rows. Therefore, we make sure id is present in it.
@@ -244,12 +677,24 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
             return;
         }
         StringBuilder builder = new StringBuilder();
-        appendPaginationOrOrderQueryPart(builder, pageable, isSingleResult, null, storedQuery.getQueryBindings().size() + 1);
+        int paramIndex = nextParameterIndex != -1 ? nextParameterIndex : storedQuery.getQueryBindings().size() + 1;
+        if (isBindPagination(pageable)) {
+            appendPaginationParameters(builder, pageable, isSingleResult, null, paramIndex);
+        } else {
+            appendPaginationOrOrderQueryPart(builder, pageable, isSingleResult, null, paramIndex);
+        }
 
         int forUpdateIndex = this.query.lastIndexOf(SqlQueryBuilder.STANDARD_FOR_UPDATE_CLAUSE);
         if (forUpdateIndex == -1) {
             forUpdateIndex = this.query.lastIndexOf(SqlQueryBuilder.SQL_SERVER_FOR_UPDATE_CLAUSE);
         }
+        if (forUpdateIndex == -1 && isDeferredJoin(pageable, isSingleResult)) {
+            String deferredJoinQuery = sqlStoredQuery.getQueryBuilder().buildDeferredJoinQuery(getPersistentEntity(), this.query, builder.toString());
+            if (deferredJoinQuery != null) {
+                this.query = deferredJoinQuery;
+                return;
+            }
+        }
         if (forUpdateIndex > -1) {
             this.query = this.query.substring(0, forUpdateIndex) + builder + this.query.substring(forUpdateIndex);
         } else {
@@ -257,6 +702,26 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         }
     }
 
+    private boolean isDeferredJoin(Pageable pageable, boolean isSingleResult) {
+        long deferredJoinOffset = queryOptions.deferredJoinOffset();
+        if (deferredJoinOffset <= 0
+            || isSingleResult
+            || isNative()
+            || pageable.getMode() != Mode.OFFSET
+            || pageable.isUnpaged()
+            || pageable.getOffset() < deferredJoinOffset
+            || getResultDataType() != DataType.ENTITY && !isDtoProjection()) {
+            return false;
+        }
+        // The joined collections change the number of the rows of the page
+        for (JoinPath joinPath : getJoinPaths()) {
+            if (!joinPath.getAssociation().getKind().isSingleEnded()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void appendPaginationOrOrderQueryPart(StringBuilder query, Pageable pageable,
                                                   boolean isSingleResult,
                                                   String tableAlias,
@@ -276,6 +741,46 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         }
     }
 
+    private boolean isBindPagination(Pageable pageable) {
+        return queryOptions.bindPagination() && pageable.getMode() == Mode.OFFSET && !pageable.isUnpaged();
+    }
+
+    /**
+     * Checks if a parameter following the given query part is bound, the bindings of the pagination are bound after all the parameters.
+     *
+     * @param queryBindings  The query bindings
+     * @param queryPartIndex The index of the query part following the pageable parameter
+     * @return true if a bound parameter follows
+     */
+    private static boolean hasBoundParametersAfter(List<QueryParameterBinding> queryBindings, int queryPartIndex) {
+        for (int i = queryPartIndex; i < queryBindings.size(); i++) {
+            if (queryBindings.get(i).getRole() == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void appendPaginationParameters(StringBuilder query, Pageable pageable, boolean isSingleResult, @Nullable String tableAlias, int paramIndex) {
+        SqlQueryBuilder2 queryBuilder = sqlStoredQuery.getQueryBuilder();
+        appendSort(pageable.getSort(), query, queryBuilder, tableAlias);
+        // The limit and the offset are always bound to produce the same SQL for every page
+        query.append(queryBuilder.buildLimitAndOffsetParameters(paramIndex));
+        paginationQueryBindings = createPaginationBindings(pageable, isSingleResult);
+    }
+
+    private List<QueryParameterBinding> createPaginationBindings(Pageable pageable, boolean isSingleResult) {
+        if (isSingleResult && pageable.getOffset() > 0) {
+            pageable = Pageable.from(pageable.getNumber(), 1);
+        }
+        QueryParameterBinding limitBinding = new RuntimeQueryParameterBinding("limit", DataType.INTEGER, pageable.getSize());
+        QueryParameterBinding offsetBinding = new RuntimeQueryParameterBinding("offset", DataType.LONG, pageable.getOffset());
+        if (sqlStoredQuery.getQueryBuilder().isOffsetParameterFirst()) {
+            return List.of(offsetBinding, limitBinding);
+        }
+        return List.of(limitBinding, offsetBinding);
+    }
+
     private void appendSort(Sort sort, StringBuilder added, SqlQueryBuilder2 queryBuilder, String tableAlias) {
         RuntimePersistentEntity<E> persistentEntity = getPersistentEntity();
         if (sort.isSorted()) {
@@ -320,7 +825,7 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         List<QueryParameterBinding> cursorBindings = new ArrayList<>(orders.size());
         cursorQueryBindings = new ArrayList<>(orders.size() * (orders.size() + 1) / 2);
         for (int i = 0; i < orders.size(); ++i) {
-            cursorBindings.add(new CursoredQueryParameterBinder(
+            cursorBindings.add(new RuntimeQueryParameterBinding(
                 "cursor_" + i, cursorProperties.get(i).getDataType(), cursor.get(i)
             ));
         }
@@ -431,14 +936,31 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         return cursors;
     }
 
+    @Override
+    public void bindParameters(Binder binder, InvocationContext<?, ?> invocationContext, E entity, Map<QueryParameterBinding, Object> previousValues) {
+        super.bindParameters(wrapInListBinder(binder), invocationContext, entity, previousValues);
+    }
+
     @Override
     public void bindParameters(Binder binder, E entity, Map<QueryParameterBinding, Object> previousValues) {
-        super.bindParameters(binder, entity, previousValues);
+        super.bindParameters(wrapInListBinder(binder), entity, previousValues);
         if (cursorQueryBindings != null) {
             for (QueryParameterBinding queryParameterBinding : cursorQueryBindings) {
                 binder.bindOne(queryParameterBinding, queryParameterBinding.getValue());
             }
         }
+        if (paginationQueryBindings != null) {
+            for (QueryParameterBinding queryParameterBinding : paginationQueryBindings) {
+                binder.bindOne(queryParameterBinding, queryParameterBinding.getValue());
+            }
+        }
+    }
+
+    private Binder wrapInListBinder(Binder binder) {
+        if (inListQueryBindings == null && chunkedInListParameter == null || binder instanceof InListBinder) {
+            return binder;
+        }
+        return new InListBinder(binder, inListQueryBindings == null ? Map.of() : inListQueryBindings, chunkedInListParameter, chunkFrom, chunkTo);
     }
 
     @Override
@@ -504,7 +1026,129 @@ public class DefaultSqlPreparedQuery<E, R> extends DefaultBindableParametersPrep
         return 1;
     }
 
-    private record CursoredQueryParameterBinder(
+    /**
+     * The IN list parameter modified by {@link #prepare(Object)}.
+     *
+     * @param arrayDataType The array data type if the values are bound as a single array
+     * @param paddedSize    The number of the bound values
+     */
+    protected record InListParameter(@Nullable DataType arrayDataType, int paddedSize) {
+    }
+
+    /**
+     * The binder binding the values of the IN list parameters modified by {@link #prepare(Object)}.
+     *
+     * @param binder                 The delegate binder
+     * @param inListParameters       The IN list parameters
+     * @param chunkedInListParameter The IN list parameter bound by a chunk of the values or null
+     * @param chunkFrom              The index of the first value of the chunk
+     * @param chunkTo                The index after the last value of the chunk
+     */
+    private record InListBinder(Binder binder,
+                                Map<QueryParameterBinding, InListParameter> inListParameters,
+                                @Nullable QueryParameterBinding chunkedInListParameter,
+                                int chunkFrom,
+                                int chunkTo) implements Binder {
+
+        @Override
+        public Object autoPopulateRuntimeProperty(RuntimePersistentProperty<?> persistentProperty, Object previousValue) {
+            return binder.autoPopulateRuntimeProperty(persistentProperty, previousValue);
+        }
+
+        @Override
+        public Object convert(Object value, RuntimePersistentProperty<?> property) {
+            return binder.convert(value, property);
+        }
+
+        @Override
+        public Object convert(Class<?> converterClass, Object value, Argument<?> argument) {
+            return binder.convert(converterClass, value, argument);
+        }
+
+        @Override
+        public void bindOne(QueryParameterBinding binding, Object value) {
+            InListParameter inListParameter = findInListParameter(binding);
+            if (inListParameter == null || inListParameter.arrayDataType() == null) {
+                binder.bindOne(binding, value);
+            } else {
+                // A single value or an empty list (bound as null)
+                binder.bindOne(new ArrayQueryParameterBinding(binding, inListParameter.arrayDataType()), value == null ? null : List.of(value));
+            }
+        }
+
+        @Override
+        public void bindMany(QueryParameterBinding binding, Collection<Object> values) {
+            if (chunkedInListParameter != null && unwrap(binding) == chunkedInListParameter) {
+                values = new ArrayList<>(values).subList(chunkFrom, chunkTo);
+            }
+            InListParameter inListParameter = findInListParameter(binding);
+            if (inListParameter == null) {
+                binder.bindMany(binding, values);
+            } else if (inListParameter.arrayDataType() != null) {
+                // The collection is converted to the array type by the query statement
+                binder.bindOne(new ArrayQueryParameterBinding(binding, inListParameter.arrayDataType()), values);
+            } else if (values.size() < inListParameter.paddedSize()) {
+                List<Object> paddedValues = new ArrayList<>(inListParameter.paddedSize());
+                paddedValues.addAll(values);
+                Object last = paddedValues.get(paddedValues.size() - 1);
+                while (paddedValues.size() < inListParameter.paddedSize()) {
+                    paddedValues.add(last);
+                }
+                binder.bindMany(binding, paddedValues);
+            } else {
+                binder.bindMany(binding, values);
+            }
+        }
+
+        @Override
+        public int currentIndex() {
+            return binder.currentIndex();
+        }
+
+        private static QueryParameterBinding unwrap(QueryParameterBinding binding) {
+            while (binding instanceof DelegatingQueryParameterBinding delegatingBinding) {
+                binding = delegatingBinding.getDelegate();
+            }
+            return binding;
+        }
+
+        @Nullable
+        private InListParameter findInListParameter(QueryParameterBinding binding) {
+            while (true) {
+                InListParameter inListParameter = inListParameters.get(binding);
+                if (inListParameter != null) {
+                    return inListParameter;
+                }
+                if (binding instanceof DelegatingQueryParameterBinding delegatingBinding) {
+                    binding = delegatingBinding.getDelegate();
+                } else {
+                    return null;
+                }
+            }
+        }
+    }
+
+    private static final class ArrayQueryParameterBinding extends DelegatingQueryParameterBinding {
+
+        private final DataType dataType;
+
+        private ArrayQueryParameterBinding(QueryParameterBinding delegate, DataType dataType) {
+            super(delegate);
+            this.dataType = dataType;
+        }
+
+        @Override
+        public DataType getDataType() {
+            return dataType;
+        }
+
+        @Override
+        public boolean isExpandable() {
+            return false;
+        }
+    }
+
+    private record RuntimeQueryParameterBinding(
         String name,
         DataType dataType,
         Object value
@@ -17,6 +17,7 @@ package io.micronaut.data.runtime.operations.internal.sql;
 
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanWrapper;
 import io.micronaut.core.type.Argument;
 import io.micronaut.data.annotation.QueryResult;
@@ -31,6 +32,8 @@ import io.micronaut.data.runtime.operations.internal.query.DefaultBindableParame
 
 import java.util.AbstractMap;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -47,7 +50,16 @@ import java.util.stream.Collectors;
 @Internal
 public class DefaultSqlStoredQuery<E, R> extends DefaultBindableParametersStoredQuery<E, R> implements SqlStoredQuery<E, R> {
 
+    private static final int MAX_EXPANDED_QUERIES = 256;
+
     private final boolean expandableQuery;
+    private final boolean previousValuesQuery;
+    private final Map<List<Object>, ExpandedQuery> expandedQueries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, ExpandedQuery> eldest) {
+            return size() > MAX_EXPANDED_QUERIES;
+        }
+    });
     private final SqlQueryBuilder2 queryBuilder;
     private final QueryResultInfo queryResultInfo;
 
@@ -64,6 +76,7 @@ public class DefaultSqlStoredQuery<E, R> extends DefaultBindableParametersStored
         String[] expandableQueryParts = storedQuery.getExpandableQueryParts();
         List<QueryParameterBinding> queryParameterBindings = storedQuery.getQueryBindings();
         this.expandableQuery = expandableQueryParts.length > 1 && queryParameterBindings.stream().anyMatch(QueryParameterBinding::isExpandable);
+        this.previousValuesQuery = queryParameterBindings.stream().anyMatch(b -> b.isAutoPopulated() && b.isRequiresPreviousPopulatedValue());
         if (expandableQuery && expandableQueryParts.length != queryParameterBindings.size() + 1) {
             throw new IllegalStateException("Expandable query parts size should be the same as parameters size + 1. " + expandableQueryParts.length + " != 1 + " + queryParameterBindings.size() + " " + storedQuery.getQuery() + " " + Arrays.toString(expandableQueryParts));
         }
@@ -99,12 +112,36 @@ public class DefaultSqlStoredQuery<E, R> extends DefaultBindableParametersStored
         return queryBuilder;
     }
 
+    /**
+     * Find the expanded query rendered for the parameters shape.
+     *
+     * @param shape The shape of the expanded parameters
+     * @return The expanded query or null if not rendered yet
+     * @since 4.12
+     */
+    @Nullable
+    ExpandedQuery findExpandedQuery(List<Object> shape) {
+        return expandedQueries.get(shape);
+    }
+
+    /**
+     * Cache the expanded query rendered for the parameters shape.
+     * The number of the cached shapes is limited, the least recently used shape is evicted.
+     *
+     * @param shape         The shape of the expanded parameters
+     * @param expandedQuery The expanded query
+     * @since 4.12
+     */
+    void cacheExpandedQuery(List<Object> shape, ExpandedQuery expandedQuery) {
+        expandedQueries.putIfAbsent(shape, expandedQuery);
+    }
+
     @Override
     public Map<QueryParameterBinding, Object> collectAutoPopulatedPreviousValues(E entity) {
-        StoredQuery<E, R> storedQuery = getStoredQueryDelegate();
-        if (storedQuery.getQueryBindings().isEmpty()) {
+        if (!previousValuesQuery) {
             return null;
         }
+        StoredQuery<E, R> storedQuery = getStoredQueryDelegate();
         return storedQuery.getQueryBindings().stream()
             .filter(b -> b.isAutoPopulated() && b.isRequiresPreviousPopulatedValue())
             .map(b -> {
@@ -124,4 +161,19 @@ public class DefaultSqlStoredQuery<E, R> extends DefaultBindableParametersStored
             .collect(Collectors.toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
     }
 
+    /**
+     * The query with expanded parameters.
+     *
+     * @param query              The SQL query
+     * @param nextParameterIndex The index of the parameter following the expanded parameters
+     * @param inListParameters   The modified IN list parameters
+     * @param paginationParameter The pageable parameter with the limit and the offset bound as parameters
+     * @since 4.12
+     */
+    record ExpandedQuery(String query,
+                         int nextParameterIndex,
+                         @Nullable Map<QueryParameterBinding, DefaultSqlPreparedQuery.InListParameter> inListParameters,
+                         @Nullable QueryParameterBinding paginationParameter) {
+    }
+
 }
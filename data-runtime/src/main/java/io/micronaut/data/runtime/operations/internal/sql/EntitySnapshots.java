@@ -0,0 +1,327 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.data.annotation.AutoPopulated;
+import io.micronaut.data.model.Association;
+import io.micronaut.data.model.DataType;
+import io.micronaut.data.model.Embedded;
+import io.micronaut.data.model.runtime.RuntimeAssociation;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The snapshots of the values of the updatable properties of the entities read by the repository operations.
+ * The snapshot of an entity is compared with its current values to find the properties to update.
+ * The snapshots are weakly keyed by the entity instance, the least recently used snapshots are evicted.
+ * The snapshots taken in a transaction are kept in the scope of the transaction and dropped when the transaction completes,
+ * the entities written in a transaction lose their snapshots, because the written values are not committed yet.
+ *
+ * @since 4.12
+ */
+@Internal
+public final class EntitySnapshots {
+
+    private final int maxSize;
+    private final SnapshotMap snapshots;
+    private final Map<Object, SnapshotMap> scopes = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxSize The maximum number of the snapshots
+     */
+    public EntitySnapshots(int maxSize) {
+        this.maxSize = maxSize;
+        this.snapshots = new SnapshotMap(maxSize);
+    }
+
+    /**
+     * Finds the properties of the entity updated by the entity update statement.
+     *
+     * @param persistentEntity The persistent entity
+     * @param <E>              The entity type
+     * @return The updatable properties
+     */
+    @NonNull
+    public static <E> List<RuntimePersistentProperty<E>> getUpdatableProperties(@NonNull RuntimePersistentEntity<E> persistentEntity) {
+        return persistentEntity.getPersistentProperties()
+            .stream()
+            .filter(p -> !(p instanceof Association association && association.isForeignKey())
+                && p.getAnnotationMetadata().booleanValue(AutoPopulated.class, "updateable").orElse(true))
+            .toList();
+    }
+
+    /**
+     * Opens the scope of the snapshots taken in a transaction.
+     *
+     * @param scope The scope, the connection of the transaction
+     * @return true if the scope was opened, false if it is already open
+     */
+    public boolean openScope(@NonNull Object scope) {
+        return scopes.putIfAbsent(scope, new SnapshotMap(maxSize)) == null;
+    }
+
+    /**
+     * Drops the snapshots taken in the scope.
+     *
+     * @param scope The scope
+     */
+    public void closeScope(@NonNull Object scope) {
+        scopes.remove(scope);
+    }
+
+    /**
+     * Takes the snapshot of the entity read by a query.
+     *
+     * @param scope            The scope of the transaction or null
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <E>              The entity type
+     */
+    public <E> void track(@Nullable Object scope, @NonNull RuntimePersistentEntity<E> persistentEntity, @Nullable E entity) {
+        Object id = id(persistentEntity, entity);
+        if (id != null) {
+            List<RuntimePersistentProperty<E>> properties = getUpdatableProperties(persistentEntity);
+            Object[] values = new Object[properties.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = snapshotValue(properties.get(i), properties.get(i).getProperty().get(entity));
+            }
+            SnapshotMap scopeSnapshots = scope == null ? null : scopes.get(scope);
+            (scopeSnapshots == null ? snapshots : scopeSnapshots).put(entity, new Snapshot(id, values));
+        }
+    }
+
+    /**
+     * Takes the snapshot of the written entity. In a transaction the written values are not committed yet,
+     * the snapshot of the entity is removed instead.
+     *
+     * @param scope            The scope of the transaction or null
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <E>              The entity type
+     */
+    public <E> void trackWritten(@Nullable Object scope, @NonNull RuntimePersistentEntity<E> persistentEntity, @Nullable E entity) {
+        if (scope != null && scopes.containsKey(scope)) {
+            remove(entity);
+        } else {
+            track(null, persistentEntity, entity);
+        }
+    }
+
+    /**
+     * Removes the snapshots of the entity.
+     *
+     * @param entity The entity
+     */
+    public void remove(@Nullable Object entity) {
+        if (entity != null) {
+            snapshots.remove(entity);
+            for (SnapshotMap scopeSnapshots : scopes.values()) {
+                scopeSnapshots.remove(entity);
+            }
+        }
+    }
+
+    /**
+     * Finds the indexes of the {@link #getUpdatableProperties(RuntimePersistentEntity) updatable properties} changed since the snapshot.
+     * The auto-populated properties and the values that cannot be compared are included if any other property has changed.
+     *
+     * @param scope            The scope of the transaction or null
+     * @param persistentEntity The persistent entity
+     * @param entity           The entity
+     * @param <E>              The entity type
+     * @return The changed properties, empty if nothing has changed or null if the entity has no snapshot
+     */
+    @Nullable
+    public <E> BitSet findChangedProperties(@Nullable Object scope, @NonNull RuntimePersistentEntity<E> persistentEntity, @NonNull E entity) {
+        SnapshotMap scopeSnapshots = scope == null ? null : scopes.get(scope);
+        Snapshot found = scopeSnapshots == null ? null : scopeSnapshots.get(entity);
+        if (found == null) {
+            found = snapshots.get(entity);
+        }
+        Object id = id(persistentEntity, entity);
+        if (found == null || id == null || !id.equals(found.id())) {
+            return null;
+        }
+        Object[] snapshot = found.values();
+        List<RuntimePersistentProperty<E>> properties = getUpdatableProperties(persistentEntity);
+        BitSet changed = new BitSet(properties.size());
+        BitSet alwaysUpdated = new BitSet(properties.size());
+        for (int i = 0; i < snapshot.length; i++) {
+            RuntimePersistentProperty<E> property = properties.get(i);
+            if (property.isAnnotationPresent(AutoPopulated.class)) {
+                alwaysUpdated.set(i);
+            } else if (!isComparable(property)) {
+                changed.set(i);
+            } else if (!Objects.deepEquals(snapshot[i], snapshotValue(property, property.getProperty().get(entity)))) {
+                changed.set(i);
+            }
+        }
+        if (!changed.isEmpty()) {
+            changed.or(alwaysUpdated);
+        }
+        return changed;
+    }
+
+    @Nullable
+    private static <E> Object id(RuntimePersistentEntity<E> persistentEntity, @Nullable E entity) {
+        RuntimePersistentProperty<E> identity = persistentEntity.getIdentity();
+        if (entity == null || identity == null) {
+            return null;
+        }
+        return identity.getProperty().get(entity);
+    }
+
+    /**
+     * The JSON and the object values can be modified in place without changing the reference,
+     * their changes cannot be detected by a snapshot.
+     */
+    private static boolean isComparable(RuntimePersistentProperty<?> property) {
+        if (property instanceof Association) {
+            return true;
+        }
+        DataType dataType = property.getDataType();
+        if (dataType == DataType.JSON) {
+            return property.getType() == String.class;
+        }
+        return dataType != DataType.OBJECT;
+    }
+
+    @Nullable
+    private static Object snapshotValue(RuntimePersistentProperty<?> property, @Nullable Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (property instanceof Embedded embedded) {
+            RuntimePersistentEntity<Object> embeddedEntity = (RuntimePersistentEntity<Object>) embedded.getAssociatedEntity();
+            Collection<RuntimePersistentProperty<Object>> embeddedProperties = embeddedEntity.getPersistentProperties();
+            List<Object> values = new ArrayList<>(embeddedProperties.size());
+            for (RuntimePersistentProperty<Object> embeddedProperty : embeddedProperties) {
+                values.add(snapshotValue(embeddedProperty, embeddedProperty.getProperty().get(value)));
+            }
+            return values;
+        }
+        if (property instanceof RuntimeAssociation<?> association) {
+            RuntimePersistentProperty<Object> identity = (RuntimePersistentProperty<Object>) association.getAssociatedEntity().getIdentity();
+            return identity == null ? value : identity.getProperty().get(value);
+        }
+        if (value instanceof Collection<?> collection) {
+            return new ArrayList<>(collection);
+        }
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return copy;
+        }
+        return value;
+    }
+
+    /**
+     * The snapshot of the values of an entity.
+     *
+     * @param id     The identity of the entity when the snapshot was taken
+     * @param values The values of the updatable properties
+     */
+    private record Snapshot(Object id, Object[] values) {
+    }
+
+    /**
+     * The snapshots weakly keyed by the entity instances, the least recently used snapshots are evicted.
+     */
+    private static final class SnapshotMap {
+
+        private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        private final Map<InstanceKey, Snapshot> snapshots;
+
+        SnapshotMap(int maxSize) {
+            this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<InstanceKey, Snapshot> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        synchronized void put(Object entity, Snapshot snapshot) {
+            expunge();
+            snapshots.put(new InstanceKey(entity, queue), snapshot);
+        }
+
+        @Nullable
+        synchronized Snapshot get(Object entity) {
+            expunge();
+            return snapshots.get(new InstanceKey(entity, null));
+        }
+
+        synchronized void remove(Object entity) {
+            expunge();
+            snapshots.remove(new InstanceKey(entity, null));
+        }
+
+        private void expunge() {
+            Reference<?> reference;
+            while ((reference = queue.poll()) != null) {
+                snapshots.remove(reference);
+            }
+        }
+    }
+
+    /**
+     * The weak reference to an entity instance compared by the identity.
+     */
+    private static final class InstanceKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        InstanceKey(Object entity, @Nullable ReferenceQueue<Object> queue) {
+            super(entity, queue);
+            this.hash = System.identityHashCode(entity);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InstanceKey other) || hash != other.hash) {
+                return false;
+            }
+            Object entity = get();
+            return entity != null && entity == other.get();
+        }
+    }
+}
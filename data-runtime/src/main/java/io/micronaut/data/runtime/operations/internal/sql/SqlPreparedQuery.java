@@ -17,11 +17,14 @@ package io.micronaut.data.runtime.operations.internal.sql;
 
 import io.micronaut.aop.InvocationContext;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.runtime.QueryResultInfo;
 import io.micronaut.data.runtime.operations.internal.query.BindableParametersPreparedQuery;
 
+import java.util.List;
+
 /**
  * SQL version of {@link SqlStoredQuery}.
  * The instance of a prepared query has mutable state compared to a stored query.
@@ -49,6 +52,19 @@ public interface SqlPreparedQuery<E, R> extends BindableParametersPreparedQuery<
      */
     void attachPageable(Pageable pageable, boolean isSingleResult);
 
+    /**
+     * Splits the query into the queries of the chunks of an IN list, when the IN list exceeds the bind parameter limit
+     * of the dialect or the configured chunk size. The IN list needs to filter the root entity or its single ended associations.
+     * Only the delete queries and the entity queries without a limit, an offset or an order are split.
+     *
+     * @return The queries of the chunks or an empty list if the query is not split
+     * @since 4.12
+     */
+    @NonNull
+    default List<SqlPreparedQuery<E, R>> splitInList() {
+        return List.of();
+    }
+
     /**
      * @return the query result info
      * @since 4.0.0
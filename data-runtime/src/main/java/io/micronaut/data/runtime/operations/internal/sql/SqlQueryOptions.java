@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations.internal.sql;
+
+import io.micronaut.core.annotation.Internal;
+
+/**
+ * The runtime options affecting how the SQL of a prepared query is rendered.
+ *
+ * @param bindPagination     Whether the limit and the offset of a pageable are bound as parameters
+ * @param bindInListAsArray  Whether an expandable IN list is bound as a single array parameter, if supported by the dialect
+ * @param padInList          Whether the size of an expanded IN list is padded to the next power of two
+ * @param deferredJoinOffset The minimal offset of the pages selected by a deferred join, {@code 0} or less disables the deferred join
+ * @param inListChunkSize    The maximum size of an IN list executed by a single statement, {@code 0} or less uses the limits of the dialect only
+ * @since 4.12
+ */
+@Internal
+public record SqlQueryOptions(boolean bindPagination, boolean bindInListAsArray, boolean padInList, long deferredJoinOffset,
+                              int inListChunkSize) {
+
+    /**
+     * The default options.
+     */
+    public static final SqlQueryOptions DEFAULT = new SqlQueryOptions(false, false, false, 0, 0);
+
+}
@@ -57,8 +57,9 @@ public interface SqlStoredQuery<E, R> extends BindableParametersStoredQuery<E, R
      * Collect auto-populated property values before pre-actions are triggered and property values are modified.
      *
      * @param entity The entity instance
-     * @return collected values
+     * @return collected values or null if the query doesn't bind any previous value
      */
+    @Nullable
     Map<QueryParameterBinding, Object> collectAutoPopulatedPreviousValues(E entity);
 
     /**
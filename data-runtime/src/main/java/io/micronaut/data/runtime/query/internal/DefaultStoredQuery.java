@@ -86,6 +86,7 @@ public final class DefaultStoredQuery<E, RT> extends DefaultStoredDataOperation<
     private Map<String, Object> queryHints;
     private Set<JoinPath> joinPaths = null;
     private Set<JoinPath> joinFetchPaths = null;
+    private Set<JoinPath> splitJoinPaths = null;
     private final List<QueryParameterBinding> queryParameters;
     private final boolean rawQuery;
     private final boolean jsonEntity;
@@ -330,6 +331,14 @@ public final class DefaultStoredQuery<E, RT> extends DefaultStoredDataOperation<
         return joinPaths;
     }
 
+    @Override
+    public Set<JoinPath> getSplitJoinPaths() {
+        if (splitJoinPaths == null) {
+            splitJoinPaths = Collections.unmodifiableSet(AssociationUtils.getSplitJoinPaths(method));
+        }
+        return splitJoinPaths;
+    }
+
     /**
      * @return The method
      */
@@ -143,6 +143,11 @@ public interface DelegateStoredQuery<E, R> extends StoredQuery<E, R> {
         return getStoredQueryDelegate().getJoinPaths();
     }
 
+    @Override
+    default Set<JoinPath> getSplitJoinPaths() {
+        return getStoredQueryDelegate().getSplitJoinPaths();
+    }
+
     @Override
     default boolean isSingleResult() {
         return getStoredQueryDelegate().isSingleResult();
@@ -18,6 +18,7 @@ package io.micronaut.data.runtime.query.internal;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.reflect.ClassUtils;
+import io.micronaut.data.model.AssociationUtils;
 import io.micronaut.data.model.DataType;
 import io.micronaut.data.model.JsonDataType;
 import io.micronaut.data.model.query.JoinPath;
@@ -44,6 +45,7 @@ public final class QueryResultStoredQuery<E, R> extends BasicStoredQuery<E, R> {
 
     private final QueryResult queryResult;
     private final Set<JoinPath> joinPaths;
+    private Set<JoinPath> splitJoinPaths;
 
     public QueryResultStoredQuery(String name,
                                   AnnotationMetadata annotationMetadata,
@@ -188,6 +190,14 @@ public final class QueryResultStoredQuery<E, R> extends BasicStoredQuery<E, R> {
         return joinPaths;
     }
 
+    @Override
+    public Set<JoinPath> getSplitJoinPaths() {
+        if (splitJoinPaths == null) {
+            splitJoinPaths = AssociationUtils.getSplitJoinPaths(getAnnotationMetadata());
+        }
+        return splitJoinPaths;
+    }
+
     private static class QueryResultParameterBinding implements QueryParameterBinding {
         private final io.micronaut.data.model.query.builder.QueryParameterBinding p;
         private final List<QueryParameterBinding> all;
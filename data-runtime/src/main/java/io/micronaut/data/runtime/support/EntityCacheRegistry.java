@@ -0,0 +1,438 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.support;
+
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+import io.micronaut.data.annotation.CacheQueryResult;
+import io.micronaut.data.annotation.EntityCache;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The caches of the entities annotated with {@link EntityCache}, keyed by the data source, the entity type and the identity,
+ * and the caches of the results of the methods annotated with {@link CacheQueryResult}, keyed by the method and the parameters.
+ * The cached entities are copied when they are cached and when they are returned, the callers can modify the returned instances.
+ * <p>
+ * Every cache has a generation incremented by the invalidations, an entity read before an invalidation is not cached.
+ * The entity types written by a connection are remembered until the connection is completed, the caller bypasses the cache
+ * for these types and the written entities are invalidated again after the completion, when the changes are visible to the other connections.
+ * The results of a query are invalidated when one of the entity types read by the query is written.
+ *
+ * @since 4.12
+ */
+@Internal
+@Singleton
+public final class EntityCacheRegistry {
+
+    private static final Object ALL_IDS = new Object();
+
+    private final ConversionService conversionService;
+    private final Map<RegionKey, Region> regions = new ConcurrentHashMap<>(10);
+    private final Map<Object, QueryRegion> queryRegions = new ConcurrentHashMap<>(10);
+    private final Map<Class<?>, Set<QueryRegion>> entityQueryRegions = new ConcurrentHashMap<>(10);
+    private final Set<Class<?>> queriedEntities = ConcurrentHashMap.newKeySet();
+    private final Map<Object, WrittenEntities> writtenEntities = new ConcurrentHashMap<>(10);
+
+    /**
+     * @param conversionService The conversion service
+     */
+    public EntityCacheRegistry(ConversionService conversionService) {
+        this.conversionService = conversionService;
+    }
+
+    /**
+     * @param persistentEntity The persistent entity
+     * @return true if the entity is annotated with {@link EntityCache}
+     */
+    public boolean isCached(@NonNull RuntimePersistentEntity<?> persistentEntity) {
+        return persistentEntity.hasAnnotation(EntityCache.class) && persistentEntity.getIdentity() != null;
+    }
+
+    /**
+     * @param persistentEntity The persistent entity
+     * @return true if the entity type is read by a cached query
+     */
+    public boolean isQueried(@NonNull RuntimePersistentEntity<?> persistentEntity) {
+        return queriedEntities.contains(persistentEntity.getIntrospection().getBeanType());
+    }
+
+    /**
+     * Registers the entities read by a method annotated with {@link CacheQueryResult}, the writes of the entities are tracked
+     * before the first execution of the method.
+     *
+     * @param annotationMetadata The annotation metadata of the method
+     */
+    public void registerQueriedEntities(@NonNull AnnotationMetadata annotationMetadata) {
+        queriedEntities.addAll(List.of(annotationMetadata.classValues(CacheQueryResult.class, "entities")));
+    }
+
+    /**
+     * @param persistentEntity The persistent entity
+     * @return true if the writes of the entity type should be remembered by {@link #markWritten(String, Object, RuntimePersistentEntity, Collection)}
+     */
+    public boolean isTracked(@NonNull RuntimePersistentEntity<?> persistentEntity) {
+        return isCached(persistentEntity) || isQueried(persistentEntity);
+    }
+
+    /**
+     * The generation of the cache should be taken before the entity is read and provided to {@link #put(String, RuntimePersistentEntity, Object, Object, long)}.
+     *
+     * @param dataSource       The data source name
+     * @param persistentEntity The persistent entity
+     * @return The current generation of the cache
+     */
+    public long getGeneration(@NonNull String dataSource, @NonNull RuntimePersistentEntity<?> persistentEntity) {
+        return region(dataSource, persistentEntity).getGeneration();
+    }
+
+    /**
+     * Finds the cached entity.
+     *
+     * @param dataSource       The data source name
+     * @param persistentEntity The persistent entity
+     * @param id               The identity
+     * @param <E>              The entity type
+     * @return The copy of the entity or null if not cached or expired
+     */
+    @Nullable
+    public <E> E get(@NonNull String dataSource, @NonNull RuntimePersistentEntity<E> persistentEntity, @NonNull Object id) {
+        E entity = (E) region(dataSource, persistentEntity).get(id);
+        return entity == null ? null : copy(persistentEntity, entity);
+    }
+
+    /**
+     * Caches the copy of the entity unless the cache was invalidated since the generation was taken.
+     *
+     * @param dataSource       The data source name
+     * @param persistentEntity The persistent entity
+     * @param id               The identity
+     * @param entity           The entity
+     * @param generation       The generation taken before the entity was read
+     * @param <E>              The entity type
+     */
+    public <E> void put(@NonNull String dataSource, @NonNull RuntimePersistentEntity<E> persistentEntity, @NonNull Object id, @NonNull E entity, long generation) {
+        Region region = region(dataSource, persistentEntity);
+        if (region.getGeneration() == generation) {
+            region.put(id, copy(persistentEntity, entity), generation);
+        }
+    }
+
+    /**
+     * Removes the entity from the cache of the data source.
+     *
+     * @param dataSource       The data source name
+     * @param persistentEntity The persistent entity
+     * @param id               The identity or null to remove all the entities of the type
+     */
+    public void invalidate(@NonNull String dataSource, @NonNull RuntimePersistentEntity<?> persistentEntity, @Nullable Object id) {
+        region(dataSource, persistentEntity).invalidate(id);
+    }
+
+    /**
+     * Removes the entity from the caches of all the data sources.
+     *
+     * @param persistentEntity The persistent entity
+     * @param id               The identity or null to remove all the entities of the type
+     */
+    public void invalidate(@NonNull RuntimePersistentEntity<?> persistentEntity, @Nullable Object id) {
+        Class<?> beanType = persistentEntity.getIntrospection().getBeanType();
+        regions.forEach((key, region) -> {
+            if (key.entity == beanType) {
+                region.invalidate(id);
+            }
+        });
+    }
+
+    /**
+     * Finds or registers the cache of the query results of a method annotated with {@link CacheQueryResult}.
+     *
+     * @param queryKey           The key of the query
+     * @param annotationMetadata The annotation metadata of the method
+     * @param rootEntity         The root entity of the query
+     * @return The query cache
+     */
+    @NonNull
+    public QueryRegion getQueryRegion(@NonNull Object queryKey, @NonNull AnnotationMetadata annotationMetadata, @NonNull Class<?> rootEntity) {
+        QueryRegion queryRegion = queryRegions.get(queryKey);
+        if (queryRegion != null) {
+            return queryRegion;
+        }
+        return queryRegions.computeIfAbsent(queryKey, ignore -> {
+            int maxSize = annotationMetadata.intValue(CacheQueryResult.class, "maxSize").orElse(1000);
+            Duration ttl = annotationMetadata.stringValue(CacheQueryResult.class, "ttl")
+                .filter(value -> !value.isEmpty())
+                .map(value -> conversionService.convertRequired(value, Duration.class))
+                .orElse(null);
+            Set<Class<?>> entities = new HashSet<>();
+            entities.add(rootEntity);
+            entities.addAll(List.of(annotationMetadata.classValues(CacheQueryResult.class, "entities")));
+            QueryRegion newQueryRegion = new QueryRegion(new Region(maxSize, ttl == null ? 0 : ttl.toNanos()), Set.copyOf(entities));
+            queriedEntities.addAll(entities);
+            for (Class<?> entity : entities) {
+                entityQueryRegions.computeIfAbsent(entity, e -> ConcurrentHashMap.newKeySet()).add(newQueryRegion);
+            }
+            return newQueryRegion;
+        });
+    }
+
+    /**
+     * Removes the results of the queries reading the entity type.
+     *
+     * @param persistentEntity The persistent entity
+     */
+    public void invalidateQueries(@NonNull RuntimePersistentEntity<?> persistentEntity) {
+        Set<QueryRegion> regions = entityQueryRegions.get(persistentEntity.getIntrospection().getBeanType());
+        if (regions != null) {
+            for (QueryRegion queryRegion : regions) {
+                queryRegion.region.invalidate(null);
+            }
+        }
+    }
+
+    /**
+     * Remembers the entity type and the identities of the entities written by the connection.
+     *
+     * @param dataSource       The data source name of the connection
+     * @param connection       The connection
+     * @param persistentEntity The persistent entity
+     * @param ids              The identities of the written entities or null if all the entities of the type can be written
+     * @return true if it's the first entity type written by the connection and the caller should call {@link #completed(Object)}
+     * once the connection is completed
+     */
+    public boolean markWritten(@NonNull String dataSource,
+                               @NonNull Object connection,
+                               @NonNull RuntimePersistentEntity<?> persistentEntity,
+                               @Nullable Collection<?> ids) {
+        boolean[] first = new boolean[1];
+        Set<Object> writtenIds = writtenEntities.computeIfAbsent(connection, ignore -> {
+            first[0] = true;
+            return new WrittenEntities(dataSource, new ConcurrentHashMap<>(5));
+        }).ids.computeIfAbsent(persistentEntity, ignore -> ConcurrentHashMap.newKeySet());
+        if (ids == null) {
+            writtenIds.add(ALL_IDS);
+        } else {
+            writtenIds.addAll(ids);
+        }
+        return first[0];
+    }
+
+    /**
+     * @param connection       The connection
+     * @param persistentEntity The persistent entity
+     * @return true if the entity type was written by the connection
+     */
+    public boolean isWritten(@NonNull Object connection, @NonNull RuntimePersistentEntity<?> persistentEntity) {
+        WrittenEntities written = writtenEntities.get(connection);
+        return written != null && written.ids.containsKey(persistentEntity);
+    }
+
+    /**
+     * @param connection  The connection
+     * @param queryRegion The query cache
+     * @return true if one of the entity types read by the query was written by the connection
+     */
+    public boolean isWritten(@NonNull Object connection, @NonNull QueryRegion queryRegion) {
+        WrittenEntities written = writtenEntities.get(connection);
+        if (written != null) {
+            for (RuntimePersistentEntity<?> persistentEntity : written.ids.keySet()) {
+                if (queryRegion.entities.contains(persistentEntity.getIntrospection().getBeanType())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Invalidates the entities written by the completed connection and the results of the queries reading the written entity types.
+     *
+     * @param connection The connection
+     */
+    public void completed(@NonNull Object connection) {
+        WrittenEntities written = writtenEntities.remove(connection);
+        if (written != null) {
+            written.ids.forEach((persistentEntity, ids) -> {
+                if (isCached(persistentEntity)) {
+                    Region region = region(written.dataSource, persistentEntity);
+                    if (ids.contains(ALL_IDS)) {
+                        region.invalidate(null);
+                    } else {
+                        for (Object id : ids) {
+                            region.invalidate(id);
+                        }
+                    }
+                }
+                invalidateQueries(persistentEntity);
+            });
+        }
+    }
+
+    /**
+     * A shallow copy of the entity made by its constructor and its writable properties, the associated entities and the embedded values are shared.
+     */
+    private static <E> E copy(RuntimePersistentEntity<E> persistentEntity, E entity) {
+        BeanIntrospection<E> introspection = persistentEntity.getIntrospection();
+        Argument<?>[] constructorArguments = introspection.getConstructorArguments();
+        Object[] values = new Object[constructorArguments.length];
+        for (int i = 0; i < constructorArguments.length; i++) {
+            BeanProperty<E, Object> property = introspection.getProperty(constructorArguments[i].getName()).orElse(null);
+            values[i] = property == null ? null : property.get(entity);
+        }
+        E copy = introspection.instantiate(false, values);
+        for (BeanProperty<E, Object> property : introspection.getBeanProperties()) {
+            if (!property.isReadOnly()) {
+                property.set(copy, property.get(entity));
+            }
+        }
+        return copy;
+    }
+
+    private Region region(String dataSource, RuntimePersistentEntity<?> persistentEntity) {
+        return regions.computeIfAbsent(new RegionKey(dataSource, persistentEntity.getIntrospection().getBeanType()), ignore -> {
+            int maxSize = persistentEntity.intValue(EntityCache.class, "maxSize").orElse(1000);
+            Duration expireAfterWrite = persistentEntity.stringValue(EntityCache.class, "expireAfterWrite")
+                .filter(value -> !value.isEmpty())
+                .map(value -> conversionService.convertRequired(value, Duration.class))
+                .orElse(null);
+            return new Region(maxSize, expireAfterWrite == null ? 0 : expireAfterWrite.toNanos());
+        });
+    }
+
+    /**
+     * The cache of the results of a query method.
+     */
+    public static final class QueryRegion {
+
+        private final Region region;
+        private final Set<Class<?>> entities;
+
+        private QueryRegion(Region region, Set<Class<?>> entities) {
+            this.region = region;
+            this.entities = entities;
+        }
+
+        /**
+         * The generation of the cache should be taken before the result is read and provided to {@link #put(Object, Object, long)}.
+         *
+         * @return The current generation of the cache
+         */
+        public long getGeneration() {
+            return region.getGeneration();
+        }
+
+        /**
+         * @param key The key of the parameters
+         * @return The cached result or null if not cached or expired
+         */
+        @Nullable
+        public Object get(@NonNull Object key) {
+            return region.get(key);
+        }
+
+        /**
+         * Caches the result unless the cache was invalidated since the generation was taken.
+         *
+         * @param key        The key of the parameters
+         * @param result     The result
+         * @param generation The generation taken before the result was read
+         */
+        public void put(@NonNull Object key, @NonNull Object result, long generation) {
+            region.put(key, result, generation);
+        }
+    }
+
+    /**
+     * The cache of an entity type or a query method.
+     */
+    private static final class Region {
+
+        private final long expireAfterWriteNanos;
+        private final Map<Object, CachedValue> values;
+        private long generation;
+
+        Region(int maxSize, long expireAfterWriteNanos) {
+            this.expireAfterWriteNanos = expireAfterWriteNanos;
+            this.values = new LinkedHashMap<Object, CachedValue>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Object, CachedValue> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        synchronized long getGeneration() {
+            return generation;
+        }
+
+        synchronized Object get(Object key) {
+            CachedValue cachedValue = values.get(key);
+            if (cachedValue == null) {
+                return null;
+            }
+            if (expireAfterWriteNanos != 0 && System.nanoTime() - cachedValue.writtenAt >= expireAfterWriteNanos) {
+                values.remove(key);
+                return null;
+            }
+            return cachedValue.value;
+        }
+
+        synchronized void put(Object key, Object value, long generation) {
+            if (this.generation == generation) {
+                values.put(key, new CachedValue(value, System.nanoTime()));
+            }
+        }
+
+        synchronized void invalidate(@Nullable Object key) {
+            generation++;
+            if (key == null) {
+                values.clear();
+            } else {
+                values.remove(key);
+            }
+        }
+    }
+
+    private record CachedValue(Object value, long writtenAt) {
+    }
+
+    private record RegionKey(String dataSource, Class<?> entity) {
+    }
+
+    /**
+     * The entities written by a connection.
+     *
+     * @param dataSource The data source name of the connection
+     * @param ids        The identities of the written entities by the entity type, {@link #ALL_IDS} if all the entities of the type can be written
+     */
+    private record WrittenEntities(String dataSource, Map<RuntimePersistentEntity<?>, Set<Object>> ids) {
+    }
+}
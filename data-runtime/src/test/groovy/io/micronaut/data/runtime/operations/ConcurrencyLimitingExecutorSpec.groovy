@@ -0,0 +1,51 @@
+package io.micronaut.data.runtime.operations
+
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+class ConcurrencyLimitingExecutorSpec extends Specification {
+
+    void "test the queued tasks don't occupy the threads of the delegate"() {
+        given:
+            def delegate = (ThreadPoolExecutor) Executors.newFixedThreadPool(4)
+            def executor = new ConcurrencyLimitingExecutor(delegate, 2)
+            def release = new CountDownLatch(1)
+            def completed = new CountDownLatch(10)
+            def conditions = new PollingConditions(timeout: 5)
+
+        when:
+            10.times {
+                executor.execute {
+                    release.await()
+                    completed.countDown()
+                }
+            }
+
+        then:
+            conditions.eventually {
+                assert executor.activeCount == 2
+                assert delegate.activeCount == 2
+            }
+            executor.queueDepth == 8
+
+        when:
+            release.countDown()
+
+        then:
+            completed.await(5, TimeUnit.SECONDS)
+            conditions.eventually {
+                assert executor.activeCount == 0
+            }
+            executor.queueDepth == 0
+            executor.executedCount == 10
+            executor.peakActiveCount == 2
+
+        cleanup:
+            delegate.shutdownNow()
+    }
+}
@@ -33,6 +33,22 @@ abstract class AbstractPageSpec extends Specification {
 
     abstract void init()
 
+    /**
+     * Starts recording the count queries executed by the implementation.
+     *
+     * @return false if the implementation cannot record the executed queries
+     */
+    boolean resetCountQueries() {
+        return false
+    }
+
+    /**
+     * @return The number of the count queries executed since {@link #resetCountQueries()}
+     */
+    long getExecutedCountQueries() {
+        return 0
+    }
+
     def setup() {
         init()
 
@@ -196,6 +212,64 @@ abstract class AbstractPageSpec extends Specification {
 
     }
 
+    void "test slice knows if there is a next slice"() {
+        when: "The first slice is retrieved"
+        Slice<Person> slice = personRepository.queryByNameLike("A%", Pageable.from(0, 10))
+
+        then: "The extra row is not returned"
+        slice.size == 10
+        slice.numberOfElements == 10
+        slice.hasNext()
+
+        when: "The last full slice is retrieved"
+        slice = personRepository.queryByNameLike("A%", Pageable.from(4, 10))
+
+        then: "There is no next slice"
+        slice.offset == 40
+        slice.numberOfElements == 10
+        !slice.hasNext()
+
+        when: "A slice past the results is retrieved"
+        slice = personRepository.queryByNameLike("A%", Pageable.from(5, 10))
+
+        then: "It is empty"
+        slice.empty
+        !slice.hasNext()
+    }
+
+    void "test total size of a page not requiring the count query"() {
+        given:
+        boolean recording = resetCountQueries()
+
+        when: "The last page is retrieved"
+        Page<Person> page = personRepository.findByNameLike("A%", Pageable.from(4, 12))
+
+        then: "The total size is resolved from the results"
+        page.offset == 48
+        page.numberOfElements == 2
+        page.totalSize == 50
+        page.totalPages == 5
+        !page.hasNext()
+        !recording || executedCountQueries == 0
+
+        when: "A page past the results is retrieved"
+        page = personRepository.findByNameLike("A%", Pageable.from(10, 12))
+
+        then: "The total size is counted"
+        page.empty
+        page.totalSize == 50
+        !recording || executedCountQueries == 1
+
+        when: "A full page is retrieved"
+        page = personRepository.findByNameLike("A%", Pageable.from(0, 50))
+
+        then: "The total size is counted"
+        page.numberOfElements == 50
+        page.totalSize == 50
+        !page.hasNext()
+        !recording || executedCountQueries == 2
+    }
+
     void "test total size of find with left join"() {
         given:
         def books = bookRepository.saveAll([
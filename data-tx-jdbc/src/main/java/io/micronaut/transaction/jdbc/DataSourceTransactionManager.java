@@ -22,8 +22,10 @@ import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.annotation.TypeHint;
+import io.micronaut.data.connection.ConnectionDefinition;
 import io.micronaut.data.connection.ConnectionOperations;
 import io.micronaut.data.connection.ConnectionSynchronization;
+import io.micronaut.data.connection.DefaultConnectionDefinition;
 import io.micronaut.data.connection.SynchronousConnectionManager;
 import io.micronaut.data.connection.jdbc.advice.DelegatingDataSource;
 import io.micronaut.data.connection.support.JdbcConnectionUtils;
@@ -122,6 +124,22 @@ public final class DataSourceTransactionManager extends AbstractDefaultTransacti
         return this.enforceReadOnly;
     }
 
+    @Override
+    protected ConnectionDefinition getConnectionDefinition(TransactionDefinition transactionDefinition) {
+        ConnectionDefinition connectionDefinition = super.getConnectionDefinition(transactionDefinition);
+        if (transactionDefinition.isReadOnly().orElse(false) && !connectionDefinition.isReadOnly().orElse(false)) {
+            // The read-only connection can be opened by a read replica
+            return new DefaultConnectionDefinition(
+                connectionDefinition.getName(),
+                connectionDefinition.getPropagationBehavior(),
+                connectionDefinition.getTimeout().orElse(null),
+                true,
+                connectionDefinition.getAnnotationMetadata()
+            );
+        }
+        return connectionDefinition;
+    }
+
     @Override
     protected void doBegin(DefaultTransactionStatus<Connection> status) {
         TransactionDefinition definition = status.getTransactionDefinition();
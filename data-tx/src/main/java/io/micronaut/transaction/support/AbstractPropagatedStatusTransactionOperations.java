@@ -23,6 +23,7 @@ import io.micronaut.transaction.TransactionDefinition;
 import io.micronaut.transaction.TransactionOperations;
 import io.micronaut.transaction.TransactionStatus;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -52,6 +53,22 @@ public abstract class AbstractPropagatedStatusTransactionOperations<T extends Tr
             .map(status -> (T) status);
     }
 
+    /**
+     * Removes the transactions of all the transaction operations from the propagated context.
+     *
+     * @param propagatedContext The propagated context
+     * @return The propagated context without the transactions
+     * @since 4.12
+     */
+    @NonNull
+    public static PropagatedContext withoutTransactions(@NonNull PropagatedContext propagatedContext) {
+        List<PropagatedTransactionStatusElement> elements = propagatedContext.findAll(PropagatedTransactionStatusElement.class).toList();
+        for (PropagatedTransactionStatusElement<?> element : elements) {
+            propagatedContext = propagatedContext.minus(element);
+        }
+        return propagatedContext;
+    }
+
     private Optional<PropagatedTransactionStatusElement> findTransactionPropagatedContextElement() {
         return PropagatedContext.getOrEmpty()
             .findAll(PropagatedTransactionStatusElement.class)